@@ -26,6 +26,7 @@ import dev.thomashanson.wizards.game.manager.MapManager;
 import dev.thomashanson.wizards.game.manager.PlayerStatsManager;
 import dev.thomashanson.wizards.game.manager.WandManager;
 import dev.thomashanson.wizards.game.potion.PotionManager;
+import dev.thomashanson.wizards.game.scheduler.TickStagger;
 import dev.thomashanson.wizards.game.spell.SpellManager;
 import dev.thomashanson.wizards.game.state.types.SetupState;
 import dev.thomashanson.wizards.hologram.HologramManager;
@@ -52,6 +53,7 @@ public class WizardsPlugin extends JavaPlugin {
     private ProjectileManager projectileManager;
     private HologramManager hologramManager;
     private PlayerStatsManager statsManager;
+    private TickStagger tickStagger;
 
     private Location lobbySpawnLocation;
 
@@ -67,6 +69,8 @@ public class WizardsPlugin extends JavaPlugin {
         loadLobbyLocation();
 
         // --- Initialize All Managers ---
+        this.tickStagger = new TickStagger();
+
         String host = getConfig().getString("database.host");
         int port = getConfig().getInt("database.port");
         String database = getConfig().getString("database.database");
@@ -79,7 +83,7 @@ public class WizardsPlugin extends JavaPlugin {
         this.damageManager = new DamageManager(this);
         this.projectileManager = new ProjectileManager(this);
 
-        this.hologramManager = new HologramManager(this);
+        this.hologramManager = new HologramManager(this, tickStagger);
         this.hologramManager.initialize();
 
         this.spellManager = new SpellManager(this);
@@ -116,6 +120,7 @@ public class WizardsPlugin extends JavaPlugin {
                 }
                 activeMap.unload();
             }
+            mapManager.shutdown();
         }
 
         if (gameManager != null) gameManager.handleListeners();
@@ -210,6 +215,7 @@ public class WizardsPlugin extends JavaPlugin {
     public DamageManager getDamageManager() { return damageManager; }
     public ProjectileManager getProjectileManager() { return projectileManager; }
     public HologramManager getHologramManager() { return hologramManager; }
+    public TickStagger getTickStagger() { return tickStagger; }
     public PlayerStatsManager getStatsManager() { return this.statsManager; }
     public SpellManager getSpellManager() { return spellManager; }
     public PotionManager getPotionManager() { return potionManager; }
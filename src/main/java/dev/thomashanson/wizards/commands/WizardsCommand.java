@@ -7,7 +7,9 @@ import org.bukkit.entity.Player;
 import dev.jorel.commandapi.CommandTree;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.commands.attributes.AttributesCommand;
+import dev.thomashanson.wizards.commands.game.BenchmarkCommand;
 import dev.thomashanson.wizards.commands.game.OvertimeCommand;
+import dev.thomashanson.wizards.commands.game.TimingsCommand;
 import dev.thomashanson.wizards.commands.give.GiveCommand;
 import dev.thomashanson.wizards.commands.map.MapCommand;
 import dev.thomashanson.wizards.commands.stats.StatsCommand;
@@ -28,6 +30,8 @@ public class WizardsCommand {
             .then(new MapCommand(this).getCommand(plugin))
             .then(new OvertimeCommand(this).getCommand(plugin))
             .then(new StatsCommand(this).getCommand(plugin))
+            .then(new TimingsCommand(this).getCommand(plugin))
+            .then(new BenchmarkCommand(this).getCommand(plugin))
         .register();
     }
 
@@ -0,0 +1,122 @@
+package dev.thomashanson.wizards.commands.game;
+
+import java.util.List;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+
+import dev.jorel.commandapi.arguments.Argument;
+import dev.jorel.commandapi.arguments.IntegerArgument;
+import dev.jorel.commandapi.arguments.LiteralArgument;
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.commands.WizardsCommand;
+import dev.thomashanson.wizards.game.Wizards;
+import dev.thomashanson.wizards.game.loot.LootBenchmark;
+import dev.thomashanson.wizards.game.mode.WizardsMode;
+import dev.thomashanson.wizards.projectile.ProjectileBenchmark;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Handles the `/wizards benchmark` admin command, which runs micro-benchmarks
+ * of the plugin's hot paths on the live server.
+ */
+public class BenchmarkCommand {
+
+    private static final int DEFAULT_PROJECTILE_TRIALS = 10_000;
+    private static final int MAX_PROJECTILE_TRIALS = 100_000;
+    private static final int DEFAULT_LOOT_CHESTS = 500;
+    private static final int MAX_LOOT_CHESTS = 2_000;
+
+    /**
+     * Creates a new instance of the benchmark command handler.
+     *
+     * @param command The parent {@link WizardsCommand} helper.
+     */
+    public BenchmarkCommand(WizardsCommand command) {}
+
+    /**
+     * Builds the CommandAPI argument tree for the `/wizards benchmark projectiles [trials]` and
+     * `/wizards benchmark loot [chests]` commands.
+     *
+     * @param plugin The main plugin instance.
+     * @return The configured {@link Argument} for this command branch.
+     */
+    public Argument<String> getCommand(WizardsPlugin plugin) {
+        return new LiteralArgument("benchmark")
+            .withPermission("wizards.admin.benchmark")
+
+            // /wizards benchmark projectiles [trials]
+            .then(new LiteralArgument("projectiles")
+                .executes((sender, args) -> {
+                    benchmarkProjectiles(plugin, sender, DEFAULT_PROJECTILE_TRIALS);
+                })
+                .then(new IntegerArgument("trials", 1, MAX_PROJECTILE_TRIALS)
+                    .executes((sender, args) -> {
+                        benchmarkProjectiles(plugin, sender, (int) args.get("trials"));
+                    })
+                )
+            )
+
+            // /wizards benchmark loot [chests]
+            .then(new LiteralArgument("loot")
+                .executes((sender, args) -> {
+                    benchmarkLoot(plugin, sender, DEFAULT_LOOT_CHESTS);
+                })
+                .then(new IntegerArgument("chests", 1, MAX_LOOT_CHESTS)
+                    .executes((sender, args) -> {
+                        benchmarkLoot(plugin, sender, (int) args.get("chests"));
+                    })
+                )
+            );
+    }
+
+    private void benchmarkProjectiles(WizardsPlugin plugin, CommandSender sender, int trials) {
+        sender.sendMessage(Component.text(String.format("Running %d shots per speed in the background...", trials), NamedTextColor.GRAY));
+
+        // Pure maths, so it runs off the main thread and only the results come back to it
+        long seed = System.nanoTime();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<ProjectileBenchmark.Result> results = ProjectileBenchmark.run(ProjectileBenchmark.DEFAULT_SPEEDS, trials, seed);
+
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> sendProjectileResults(sender, trials, results));
+            }
+        });
+    }
+
+    private void sendProjectileResults(CommandSender sender, int trials, List<ProjectileBenchmark.Result> results) {
+        sender.sendMessage(Component.text(String.format("--- Projectile Collision (%d shots per speed) ---", trials), NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("speed: hits found sampled/swept of true, mean impact error, time", NamedTextColor.GRAY));
+
+        for (ProjectileBenchmark.Result result : results) {
+            sender.sendMessage(Component.text(String.format("%.1f b/t: ", result.speed()), NamedTextColor.YELLOW)
+                    .append(Component.text(String.format("%d/%d of %d", result.sampledHits(), result.sweptHits(), result.trueHits()), NamedTextColor.WHITE))
+                    .append(Component.text(String.format(", error %.2f/%.3f blocks", result.sampledError(), result.sweptError()), NamedTextColor.WHITE))
+                    .append(Component.text(String.format(", %.2f/%.2f ms", result.sampledNanos() / 1e6, result.sweptNanos() / 1e6), NamedTextColor.GRAY)));
+        }
+    }
+
+    private void benchmarkLoot(WizardsPlugin plugin, CommandSender sender, int chests) {
+        Wizards game = plugin.getGameManager().getActiveGame();
+        WizardsMode mode = game != null ? game.getCurrentMode() : plugin.getGameManager().getNextGameMode();
+
+        boolean started = LootBenchmark.start(plugin, plugin.getLootManager(), mode, chests, System.nanoTime(),
+                result -> sendLootResults(sender, chests, mode, result));
+
+        if (!started) {
+            sender.sendMessage(Component.text("There is no master_pool loot table to benchmark.", NamedTextColor.RED));
+            return;
+        }
+        sender.sendMessage(Component.text(String.format("Filling %d chests per round, one round per tick...", chests), NamedTextColor.GRAY));
+    }
+
+    private void sendLootResults(CommandSender sender, int chests, WizardsMode mode, LootBenchmark.Result result) {
+        sender.sendMessage(Component.text(String.format("--- Chest Loot (%d chests, %s, mean of %d rounds) ---", chests, mode, result.rounds()), NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("Fill all: ", NamedTextColor.YELLOW)
+                .append(Component.text(String.format("%.2f ms (best %.2f ms)", result.fillNanos() / 1e6, result.bestFillNanos() / 1e6), NamedTextColor.WHITE))
+                .append(Component.text(String.format(", %.1f µs per chest, %d items", result.fillNanos() / 1e3 / chests, result.items()), NamedTextColor.GRAY)));
+        sender.sendMessage(Component.text(String.format("%d draws from %d items: ", result.draws(), result.tableSize()), NamedTextColor.YELLOW)
+                .append(Component.text(String.format("alias %.2f ms, linear %.2f ms", result.aliasNanos() / 1e6, result.linearNanos() / 1e6), NamedTextColor.WHITE)));
+    }
+}
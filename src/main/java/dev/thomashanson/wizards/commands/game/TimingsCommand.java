@@ -0,0 +1,167 @@
+package dev.thomashanson.wizards.commands.game;
+
+import org.bukkit.command.CommandSender;
+
+import dev.jorel.commandapi.arguments.Argument;
+import dev.jorel.commandapi.arguments.LiteralArgument;
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.commands.WizardsCommand;
+import dev.thomashanson.wizards.damage.ArmorProtectionCache;
+import dev.thomashanson.wizards.game.Wizards;
+import dev.thomashanson.wizards.game.manager.DatabaseManager;
+import dev.thomashanson.wizards.game.scheduler.TickPhase;
+import dev.thomashanson.wizards.game.scheduler.TickScheduler;
+import dev.thomashanson.wizards.game.scheduler.TickScheduler.ScheduledTickable;
+import dev.thomashanson.wizards.game.scheduler.TickTimings;
+import dev.thomashanson.wizards.game.spatial.EntitySpatialHash;
+import dev.thomashanson.wizards.game.spell.SpellEffectRuntime.SpellGroup;
+import dev.thomashanson.wizards.map.ChunkPreloader;
+import dev.thomashanson.wizards.map.MapCatalog;
+import dev.thomashanson.wizards.map.MapInstancePool;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Handles the `/wizards timings` admin command, which reports how long each
+ * phase and component of the game loop is taking.
+ */
+public class TimingsCommand {
+
+    private final WizardsPlugin plugin = WizardsPlugin.getInstance();
+
+    /**
+     * Creates a new instance of the timings command handler.
+     *
+     * @param command The parent {@link WizardsCommand} helper.
+     */
+    public TimingsCommand(WizardsCommand command) {}
+
+    /**
+     * Builds the CommandAPI argument tree for the `/wizards timings [reset]` command.
+     *
+     * @param plugin The main plugin instance.
+     * @return The configured {@link Argument} for this command branch.
+     */
+    public Argument<String> getCommand(WizardsPlugin plugin) {
+        return new LiteralArgument("timings")
+            .withPermission("wizards.admin.timings")
+            .executes((sender, args) -> {
+                sendReport(sender);
+            })
+
+            // /wizards timings reset
+            .then(new LiteralArgument("reset")
+                .executes((sender, args) -> {
+                    plugin.getGameManager().getTickScheduler().resetTimings();
+                    plugin.getDatabaseManager().getFlushTimings().reset();
+                    sender.sendMessage(Component.text("Game loop timings have been reset.", NamedTextColor.GREEN));
+                })
+            );
+    }
+
+    private void sendReport(CommandSender sender) {
+        TickScheduler scheduler = plugin.getGameManager().getTickScheduler();
+        TickTimings tick = scheduler.getTickTimings();
+
+        sender.sendMessage(Component.text("--- Game Loop Timings ---", NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("Tick: ", NamedTextColor.YELLOW)
+                .append(describe(tick, scheduler.getTickBudgetNanos())));
+        sender.sendMessage(Component.text("Live spell instances: ", NamedTextColor.YELLOW)
+                .append(Component.text(plugin.getSpellManager().getActiveInstanceCount(), NamedTextColor.WHITE)));
+
+        DatabaseManager database = plugin.getDatabaseManager();
+        sender.sendMessage(Component.text("Database flush: ", NamedTextColor.YELLOW)
+                .append(describe(database.getFlushTimings(), 0L))
+                .append(Component.text(String.format(" queued=%d flushed=%d retries=%d failed=%d rejected=%d",
+                        database.getQueuedBatches(), database.getFlushedBatches(), database.getFlushRetries(),
+                        database.getFailedBatches(), database.getRejectedBatches()), NamedTextColor.GRAY)));
+
+        for (TickPhase phase : TickPhase.values()) {
+            sender.sendMessage(Component.text(String.format("Phase %s: ", phase.getConfigKey()), NamedTextColor.YELLOW)
+                    .append(describe(scheduler.getPhaseTimings(phase), scheduler.getPhaseBudgetNanos(phase))));
+
+            for (ScheduledTickable entry : scheduler.getEntries(phase)) {
+                TickTimings timings = entry.getTimings();
+                Component line = Component.text(String.format("  %s [every %d, +%d]: ", entry.getName(), entry.getInterval(), entry.getOffset()), NamedTextColor.GRAY)
+                        .append(describe(timings, entry.getBudgetNanos()));
+
+                if (entry.isDeferrable()) {
+                    line = line.append(Component.text(String.format(" deferred=%d", timings.getDeferrals()), NamedTextColor.DARK_AQUA));
+                }
+                sender.sendMessage(line);
+            }
+        }
+
+        MapInstancePool mapPool = plugin.getMapManager().getInstancePool();
+        sender.sendMessage(Component.text("Map staging: ", NamedTextColor.YELLOW)
+                .append(describe(mapPool.getStagingTimings(), 0L))
+                .append(Component.text(String.format(" hit rate %.0f%% (hits=%d waits=%d misses=%d), %d pooled, %d/%d MB, deferred=%d",
+                        mapPool.getHitRate() * 100, mapPool.getHits(), mapPool.getWaits(), mapPool.getMisses(), mapPool.getPooledCopies(),
+                        mapPool.getDiskBytes() / (1024 * 1024), mapPool.getMaxDiskBytes() / (1024 * 1024), mapPool.getDeferredRefills()),
+                        NamedTextColor.GRAY)));
+
+        ChunkPreloader preloader = plugin.getMapManager().getChunkPreloader();
+        sender.sendMessage(Component.text("Chunk preload: ", NamedTextColor.YELLOW)
+                .append(describe(preloader.getLoadTimings(), 0L))
+                .append(Component.text(String.format(" %d/%d chunks, %d skipped, %dms%s", preloader.getLoadedChunks(),
+                        preloader.getTotalChunks(), preloader.getSkippedChunks(), preloader.getElapsedNanos() / 1_000_000,
+                        preloader.isDone() ? "" : preloader.isHolding() ? " (loading)" : " (released)"), NamedTextColor.GRAY)));
+
+        MapCatalog catalog = plugin.getMapManager().getCatalog();
+        if (catalog != null) {
+            sender.sendMessage(Component.text("Map catalog: ", NamedTextColor.YELLOW)
+                    .append(Component.text(String.format("%d maps, %d re-indexed on startup in %dms", catalog.getEntries().size(),
+                            catalog.getRebuilt(), catalog.getBuildMillis()), NamedTextColor.WHITE)));
+        }
+
+        ArmorProtectionCache protectionCache = plugin.getDamageManager().getProtectionCache();
+        sender.sendMessage(Component.text("Armor cache: ", NamedTextColor.YELLOW)
+                .append(Component.text(String.format("%d entities, %d hits, %d misses", protectionCache.getCachedEntities(),
+                        protectionCache.getHits(), protectionCache.getMisses()), NamedTextColor.WHITE))
+                .append(Component.text(protectionCache.isVerifying() ? String.format(" stale=%d", protectionCache.getStaleLookups()) : "",
+                        NamedTextColor.DARK_AQUA)));
+
+        Wizards game = plugin.getGameManager().getActiveGame();
+        if (game == null) return;
+
+        EntitySpatialHash entityIndex = game.getEntityIndex();
+        sender.sendMessage(Component.text("Entity index: ", NamedTextColor.YELLOW)
+                .append(Component.text(String.format("%d entities, %d rebuilds, %d queries", entityIndex.getEntityCount(),
+                        entityIndex.getRebuilds(), entityIndex.getQueries()), NamedTextColor.WHITE))
+                .append(Component.text(entityIndex.isVerifying() ? String.format(" stale=%d", entityIndex.getStaleQueries()) : "",
+                        NamedTextColor.DARK_AQUA)));
+
+        sender.sendMessage(Component.text("Spell effects:", NamedTextColor.YELLOW));
+        for (SpellGroup group : game.getSpellEffects().getGroups()) {
+            sender.sendMessage(Component.text(String.format("  %s [%d live, every %d]: ",
+                            group.getSpell().getKey(), group.getCount(), group.getInterval()), NamedTextColor.GRAY)
+                    .append(describe(group.getTimings(), 0L)));
+        }
+    }
+
+    private Component describe(TickTimings timings, long budgetNanos) {
+        String text = String.format("avg %s, p95 %s, p99 %s, max %s",
+                formatNanos(timings.getAverageNanos()),
+                formatNanos(timings.getPercentileNanos(0.95)),
+                formatNanos(timings.getPercentileNanos(0.99)),
+                formatNanos(timings.getMaxNanos()));
+
+        text += budgetNanos > 0
+                ? String.format(" (budget %s, n=%d)", formatNanos(budgetNanos), timings.getSamples())
+                : String.format(" (n=%d)", timings.getSamples());
+
+        Component component = Component.text(text, NamedTextColor.WHITE);
+
+        if (timings.getOverruns() > 0) {
+            component = component.append(Component.text(String.format(" overruns=%d", timings.getOverruns()), NamedTextColor.RED));
+        }
+        if (timings.getDeferrals() > 0 && budgetNanos == 0) {
+            component = component.append(Component.text(String.format(" deferred=%d", timings.getDeferrals()), NamedTextColor.DARK_AQUA));
+        }
+        return component;
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+}
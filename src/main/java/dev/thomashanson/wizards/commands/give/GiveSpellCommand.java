@@ -111,7 +111,7 @@ public class GiveSpellCommand {
      * @param level  The target level to reach.
      */
     private void giveSingleSpell(Player target, Wizard wizard, Wizards game, Spell spell, int level) {
-        int currentLevel = wizard.getLevel(spell.getKey());
+        int currentLevel = wizard.getLevel(spell);
 
         if (level > currentLevel) {
             int levelsToGive = level - currentLevel;
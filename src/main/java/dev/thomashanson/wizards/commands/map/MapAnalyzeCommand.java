@@ -1,29 +1,42 @@
 package dev.thomashanson.wizards.commands.map;
 
+import java.io.File;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldBorder;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.BoundingBox;
 
 import dev.jorel.commandapi.arguments.Argument;
+import dev.jorel.commandapi.arguments.IntegerArgument;
 import dev.jorel.commandapi.arguments.LiteralArgument;
 import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.map.MapAnalyzer;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 
 /**
- * Handles the logic for the `/wizards map analyze` sub-command.
+ * Handles the logic for the `/wizards map analyze [radius]` sub-command.
  * <p>
- * This command performs an asynchronous scan of the world around the player
- * to find the minimum and maximum coordinates of all non-air blocks within a
- * fixed radius. It then displays a client-side {@link WorldBorder} to the
- * player that visualizes this bounding box, allowing map creators to
- * easily find the corners for their `data.yml` configuration.
+ * This command runs a {@link MapAnalyzer} over the area around the player, reporting
+ * progress as it goes. While it runs, a client-side {@link WorldBorder} shows the player
+ * the bounding box of every non-air block found so far, allowing map creators to easily
+ * find the corners for their `data.yml` configuration. The full report, with a block
+ * histogram, chest and spawner positions and a height profile, is saved to the plugin's
+ * {@code analysis} folder.
  */
 public class MapAnalyzeCommand {
 
+    private static final int DEFAULT_RADIUS = 512;
+
+    /** Only one analysis runs at a time; each one already uses every spare core. */
+    private MapAnalyzer analyzer;
+
     /**
      * Builds the CommandAPI argument tree for the "map analyze" sub-command.
      *
@@ -34,115 +47,85 @@ public class MapAnalyzeCommand {
         return new LiteralArgument("analyze")
                 .withPermission("wizards.command.map.analyze")
                 .executesPlayer((player, args) -> {
+                    analyze(plugin, player, DEFAULT_RADIUS);
+                })
+                .then(new IntegerArgument("radius", 16, 2048)
+                    .executesPlayer((player, args) -> {
+                        analyze(plugin, player, (int) args.get("radius"));
+                    })
+                );
+    }
 
-                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <white>Analyze command initiated by <player_name>.</white>", Placeholder.unparsed("player_name", player.getName())));
-
-                    final World world = player.getWorld();
-                    final Location playerLocation = player.getLocation();
-
-                    player.sendMessage(MiniMessage.miniMessage().deserialize("<yellow>Starting map analysis... This may take a moment."));
-                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <white>Running analysis in world: <world_name>", Placeholder.unparsed("world_name", world.getName())));
-
-                    /**
-                     * This {@link BukkitRunnable} performs the heavy block scanning
-                     * asynchronously to avoid lagging the server. It periodically
-                     * schedules synchronous tasks back to the main thread to
-                     * update the player's world border and send progress messages.
-                     */
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            Location min = null;
-                            Location max = null;
-
-                            int searchRadius = 512;
-                            int scanCenterX = playerLocation.getBlockX();
-                            int scanCenterZ = playerLocation.getBlockZ();
-
-                            player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <white>Search radius set to <radius> blocks.", Placeholder.unparsed("radius", String.valueOf(searchRadius))));
-                            player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <white>Scanning around center point: <x>, <z>", Placeholder.unparsed("x", String.valueOf(scanCenterX)), Placeholder.unparsed("z", String.valueOf(scanCenterZ))));
-
-                            // Create a temporary world border for the player
-                            final WorldBorder playerBorder = Bukkit.createWorldBorder();
-                            Bukkit.getScheduler().runTask(plugin, () -> player.setWorldBorder(playerBorder));
-
-                            long lastUpdateTime = System.currentTimeMillis();
-
-                            for (int x = scanCenterX - searchRadius; x <= scanCenterX + searchRadius; x++) {
-
-                                // Send a progress update every 2 seconds to show it's not stuck
-                                if (System.currentTimeMillis() - lastUpdateTime > 2000) {
-                                    final int currentX = x;
-                                    Bukkit.getScheduler().runTask(plugin, () -> {
-                                        player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <gray>Scanning... (X=<x>)", Placeholder.unparsed("x", String.valueOf(currentX))));
-                                    });
-                                    lastUpdateTime = System.currentTimeMillis();
-                                }
-
-                                for (int z = scanCenterZ - searchRadius; z <= scanCenterZ + searchRadius; z++) {
-                                    for (int y = world.getMinHeight(); y < world.getMaxHeight(); y++) {
-                                        if (!world.getBlockAt(x, y, z).getType().isAir()) {
-
-                                            boolean needsUpdate = false;
-
-                                            if (min == null) {
-                                                min = new Location(world, x, y, z);
-                                                max = new Location(world, x, y, z);
-                                                needsUpdate = true;
-
-                                                final Location firstBlockLoc = min.clone();
-                                                Bukkit.getScheduler().runTask(plugin, () -> {
-                                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gold>[Debug] <white>Found first solid block at: <loc>", Placeholder.unparsed("loc", formatLocation(firstBlockLoc))));
-                                                });
-
-                                            } else {
-                                                // This explicit check will satisfy the static analyzer.
-                                                if (max == null) continue;
-
-                                                if (x < min.getX()) { min.setX(x); needsUpdate = true; }
-                                                if (y < min.getY()) { min.setY(y); needsUpdate = true; }
-                                                if (z < min.getZ()) { min.setZ(z); needsUpdate = true; }
-                                                
-                                                if (x > max.getX()) { max.setX(x); needsUpdate = true; }
-                                                if (y > max.getY()) { max.setY(y); needsUpdate = true; }
-                                                if (z > max.getZ()) { max.setZ(z); needsUpdate = true; }
-                                            }
-
-                                            if (needsUpdate) {
-                                                final Location currentMin = min.clone();
-                                                final Location currentMax = max.clone();
-
-                                                // Schedule the world border update back on the main server thread
-                                                Bukkit.getScheduler().runTask(plugin, () -> {
-                                                    updatePlayerBorder(player, playerBorder, currentMin, currentMax);
-                                                });
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-
-                            if (min != null && max != null) {
-                                final Location finalMin = min.clone();
-                                final Location finalMax = max.clone();
-
-                                // Final update and messages must be on the main thread
-                                Bukkit.getScheduler().runTask(plugin, () -> {
-                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<green>✔ Analysis complete!"));
-                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Final Min corner: <loc>", Placeholder.unparsed("loc", formatLocation(finalMin))));
-                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Final Max corner: <loc>", Placeholder.unparsed("loc", formatLocation(finalMax))));
-                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<aqua>You can now save these values. Run the command again to hide the border."));
-                                });
-
-                            } else {
-                                Bukkit.getScheduler().runTask(plugin, () -> {
-                                    player.sendMessage(MiniMessage.miniMessage().deserialize("<red>No blocks found within a <radius>-block radius of your location.", Placeholder.unparsed("radius", String.valueOf(searchRadius))));
-                                    player.setWorldBorder(world.getWorldBorder()); // Reset border
-                                });
-                            }
-                        }
-                    }.runTaskAsynchronously(plugin);
-                });
+    private void analyze(WizardsPlugin plugin, Player player, int radius) {
+        if (analyzer != null && analyzer.isRunning()) {
+            player.sendMessage(MiniMessage.miniMessage().deserialize("<red>A map analysis is already running. Please wait for it to finish."));
+            return;
+        }
+
+        final World world = player.getWorld();
+        final Location playerLocation = player.getLocation();
+
+        player.sendMessage(MiniMessage.miniMessage().deserialize("<yellow>Starting map analysis of <world_name> within <radius> blocks of <x>, <z>...",
+                Placeholder.unparsed("world_name", world.getName()),
+                Placeholder.unparsed("radius", String.valueOf(radius)),
+                Placeholder.unparsed("x", String.valueOf(playerLocation.getBlockX())),
+                Placeholder.unparsed("z", String.valueOf(playerLocation.getBlockZ()))));
+
+        // Create a temporary world border for the player
+        final WorldBorder playerBorder = Bukkit.createWorldBorder();
+        player.setWorldBorder(playerBorder);
+
+        analyzer = new MapAnalyzer(plugin, world, playerLocation.getBlockX(), playerLocation.getBlockZ(), radius);
+        analyzer.start(new MapAnalyzer.ProgressListener() {
+            @Override
+            public void onProgress(int scanned, int total, BoundingBox bounds) {
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Analyzed <scanned>/<total> chunks (<percent>%)",
+                        Placeholder.unparsed("scanned", String.valueOf(scanned)),
+                        Placeholder.unparsed("total", String.valueOf(total)),
+                        Placeholder.unparsed("percent", String.valueOf(scanned * 100 / Math.max(1, total)))));
+
+                if (bounds != null) {
+                    updatePlayerBorder(player, playerBorder, bounds.getMin().toLocation(world), bounds.getMax().toLocation(world));
+                }
+            }
+
+            @Override
+            public void onComplete(MapAnalyzer.Report report, File reportFile) {
+                BoundingBox bounds = report.getBounds();
+
+                if (bounds == null) {
+                    player.sendMessage(MiniMessage.miniMessage().deserialize("<red>No blocks found within a <radius>-block radius of your location.", Placeholder.unparsed("radius", String.valueOf(radius))));
+                    player.setWorldBorder(world.getWorldBorder()); // Reset border
+                    return;
+                }
+
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<green>✔ Analysis complete in <time>s!", Placeholder.unparsed("time", String.format("%.1f", report.getElapsedNanos() / 1e9))));
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Final Min corner: <loc>", Placeholder.unparsed("loc", formatLocation(bounds.getMin().toLocation(world)))));
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Final Max corner: <loc>", Placeholder.unparsed("loc", formatLocation(bounds.getMax().toLocation(world)))));
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<gray><blocks> blocks, <chests> chests, <spawners> spawners; <empty> of <sections> sections were empty.",
+                        Placeholder.unparsed("blocks", String.valueOf(report.getTotalBlocks())),
+                        Placeholder.unparsed("chests", String.valueOf(report.getChests().size())),
+                        Placeholder.unparsed("spawners", String.valueOf(report.getSpawners().size())),
+                        Placeholder.unparsed("empty", String.valueOf(report.getEmptySections())),
+                        Placeholder.unparsed("sections", String.valueOf(report.getEmptySections() + report.getScannedSections()))));
+
+                if (reportFile != null) {
+                    player.sendMessage(MiniMessage.miniMessage().deserialize("<gray>Full report saved to <file>.", Placeholder.unparsed("file", reportFile.getName())));
+                }
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<aqua>You can now save these values. Run the command again to hide the border."));
+            }
+        }).exceptionally(error -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (!(cause instanceof CancellationException)) {
+                plugin.getLogger().log(Level.SEVERE, String.format("Map analysis of '%s' failed.", world.getName()), cause);
+            }
+
+            if (plugin.isEnabled() && player.isOnline()) {
+                player.sendMessage(MiniMessage.miniMessage().deserialize("<red>The map analysis stopped before it finished. See the console for details."));
+                player.setWorldBorder(world.getWorldBorder()); // Reset border
+            }
+            return null;
+        });
     }
 
     /**
@@ -0,0 +1,141 @@
+package dev.thomashanson.wizards.damage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Caches the Enchantment Protection Factor (EPF) of each entity's armor, per damage category.
+ * <p>
+ * Armor changes far less often than players get hit, so the armor contents are only
+ * walked the first time an entity is hit after its armor may have changed. Entries are
+ * dropped by {@link dev.thomashanson.wizards.game.listener.ArmorListener} whenever armor
+ * is equipped or removed, an inventory is clicked or dragged in, or a dispenser equips it.
+ * <p>
+ * With {@code damage.armor-cache.verify} enabled, every cached lookup is also computed
+ * from the live armor, and any mismatch is logged and counted.
+ */
+public final class ArmorProtectionCache {
+
+    /**
+     * The groups of damage that each protection enchantment reduces.
+     */
+    public enum ProtectionCategory {
+        GENERAL, FIRE, EXPLOSION, PROJECTILE, FALL;
+
+        private static final ProtectionCategory[] VALUES = values();
+
+        /**
+         * @param cause The cause of the damage.
+         * @return The category whose specific protection applies, or {@link #GENERAL}.
+         */
+        public static ProtectionCategory of(DamageCause cause) {
+            return switch (cause) {
+                case FIRE, FIRE_TICK, LAVA, HOT_FLOOR -> FIRE;
+                case BLOCK_EXPLOSION, ENTITY_EXPLOSION -> EXPLOSION;
+                case PROJECTILE -> PROJECTILE;
+                case FALL -> FALL;
+                default -> GENERAL;
+            };
+        }
+    }
+
+    private final Logger logger;
+    private final boolean verify;
+
+    private final Map<UUID, int[]> protection = new HashMap<>();
+    private long hits, misses, staleLookups;
+
+    /**
+     * @param logger Where verification mismatches are reported.
+     * @param verify Whether to check every cached lookup against the live armor.
+     */
+    public ArmorProtectionCache(Logger logger, boolean verify) {
+        this.logger = logger;
+        this.verify = verify;
+    }
+
+    /**
+     * Gets the EPF that applies to a hit on an entity: the general protection of its armor
+     * plus any protection specific to the hit's category. Vanilla caps the result at 20
+     * when it is applied.
+     *
+     * @param entity The entity being hit.
+     * @param cause  The cause of the hit.
+     * @return The total EPF.
+     */
+    public int getEPF(LivingEntity entity, DamageCause cause) {
+        int[] values = protection.get(entity.getUniqueId());
+
+        if (values == null) {
+            values = compute(entity.getEquipment());
+            protection.put(entity.getUniqueId(), values);
+            misses++;
+        } else {
+            hits++;
+
+            if (verify) {
+                int[] fresh = compute(entity.getEquipment());
+                if (!Arrays.equals(values, fresh)) {
+                    staleLookups++;
+                    logger.warning(String.format("Stale armor protection for %s: cached %s, actual %s",
+                            entity.getName(), Arrays.toString(values), Arrays.toString(fresh)));
+                    values = fresh;
+                    protection.put(entity.getUniqueId(), values);
+                }
+            }
+        }
+
+        ProtectionCategory category = ProtectionCategory.of(cause);
+        int epf = values[ProtectionCategory.GENERAL.ordinal()];
+        return category == ProtectionCategory.GENERAL ? epf : epf + values[category.ordinal()];
+    }
+
+    /**
+     * Forgets an entity's cached protection, so it is recomputed on its next hit.
+     */
+    public void invalidate(UUID entityId) {
+        protection.remove(entityId);
+    }
+
+    public void clear() {
+        protection.clear();
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public int getCachedEntities() { return protection.size(); }
+
+    /** @return The number of verified lookups whose cached value differed from the live armor. */
+    public long getStaleLookups() { return staleLookups; }
+    public boolean isVerifying() { return verify; }
+
+    /**
+     * Walks an entity's armor and totals the EPF each enchantment gives, using the vanilla
+     * weights: 1 per level of Protection, 2 per level of Fire, Blast and Projectile
+     * Protection, and 3 per level of Feather Falling.
+     */
+    private static int[] compute(EntityEquipment equipment) {
+        int[] values = new int[ProtectionCategory.VALUES.length];
+        if (equipment == null) return values;
+
+        for (ItemStack armorPiece : equipment.getArmorContents()) {
+            if (armorPiece == null || armorPiece.getEnchantments().isEmpty()) continue;
+
+            values[ProtectionCategory.GENERAL.ordinal()] += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_ENVIRONMENTAL);
+            values[ProtectionCategory.FIRE.ordinal()] += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_FIRE) * 2;
+            values[ProtectionCategory.EXPLOSION.ordinal()] += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_EXPLOSIONS) * 2;
+            values[ProtectionCategory.PROJECTILE.ordinal()] += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_PROJECTILE) * 2;
+            values[ProtectionCategory.FALL.ordinal()] += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_FALL) * 3;
+        }
+        return values;
+    }
+}
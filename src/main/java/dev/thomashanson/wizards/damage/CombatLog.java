@@ -0,0 +1,357 @@
+package dev.thomashanson.wizards.damage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.damage.types.MonsterDamageTick;
+import dev.thomashanson.wizards.damage.types.PlayerDamageTick;
+
+/**
+ * The recent damage history of a single victim, kept in a fixed-capacity ring buffer.
+ * <p>
+ * Each entry is stored as primitives in parallel arrays: the attacker's UUID as two
+ * longs, the server tick of the latest hit, the accumulated damage and an interned
+ * reason id. The {@link DamageTick} of the latest hit is kept alongside purely so death
+ * messages and summaries can be rendered from it.
+ * <p>
+ * Entries are always ordered from the oldest hit to the newest. A hit that merges into an
+ * existing entry moves that entry to the newest slot by shifting the entries after it
+ * down by one, so the log never has to be sorted, and expiry only ever has to look at the
+ * oldest entry. When the log is full, a new entry overwrites the oldest one.
+ * <p>
+ * Alongside the entries, the log keeps a running damage total for every player who
+ * appears in it, updated as hits are recorded and as entries expire or are overwritten.
+ * Kill assists are worked out from these totals without walking the entries.
+ * <p>
+ * Entries are read in place by index, from {@code 0} (oldest) to {@code size() - 1}
+ * (newest), and attacker totals by index from {@code 0} to {@code getAttackerCount() - 1}.
+ * The log is only valid until the next hit is logged, so readers should not hold on to it.
+ */
+public final class CombatLog {
+
+    /** Reason strings are interned to ids on first use. Only touched from the main thread. */
+    private static final Map<String, Integer> REASON_IDS = new HashMap<>();
+
+    private final long[] attackerMost;
+    private final long[] attackerLeast;
+    private final int[] ticks;
+    private final double[] damage;
+    private final int[] reasons;
+    private final boolean[] playerHits;
+    private final DamageTick[] sources;
+
+    private int head;
+    private int size;
+
+    // Running totals of player damage, one slot per attacker, in no particular order
+    private final long[] totalMost;
+    private final long[] totalLeast;
+    private final double[] totals;
+    private final int[] totalEntries;
+    private int attackerCount;
+
+    /**
+     * @param capacity The maximum number of distinct entries the log keeps.
+     */
+    public CombatLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Combat log capacity must be at least 1");
+        }
+
+        this.attackerMost = new long[capacity];
+        this.attackerLeast = new long[capacity];
+        this.ticks = new int[capacity];
+        this.damage = new double[capacity];
+        this.reasons = new int[capacity];
+        this.playerHits = new boolean[capacity];
+        this.sources = new DamageTick[capacity];
+
+        this.totalMost = new long[capacity];
+        this.totalLeast = new long[capacity];
+        this.totals = new double[capacity];
+        this.totalEntries = new int[capacity];
+    }
+
+    /**
+     * Logs a hit, merging it into an existing entry with the same attacker and reason.
+     *
+     * @param tick        The damage that was dealt.
+     * @param amount      The amount of damage to record.
+     * @param currentTick The current server tick.
+     */
+    public void record(DamageTick tick, double amount, int currentTick) {
+        long most = 0, least = 0;
+        if (tick instanceof MonsterDamageTick monsterTick) {
+            UUID attackerId = monsterTick.getAttackerId();
+            most = attackerId.getMostSignificantBits();
+            least = attackerId.getLeastSignificantBits();
+        }
+        int reason = reasonId(tick.getReason());
+        boolean playerHit = tick instanceof PlayerDamageTick;
+
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = slot(i);
+
+            // Compare the primitives first; matches() has the final say on subtypes
+            if (reasons[slot] != reason || attackerMost[slot] != most || attackerLeast[slot] != least) continue;
+            if (!sources[slot].matches(tick)) continue;
+
+            double total = damage[slot] + amount;
+            if (playerHits[slot]) {
+                credit(most, least, amount, 0);
+            }
+            moveToNewest(i);
+
+            int newest = slot(size - 1);
+            damage[newest] = total;
+            ticks[newest] = currentTick;
+            sources[newest] = tick;
+            return;
+        }
+
+        int slot;
+        if (size == attackerMost.length) {
+            // Full: the oldest entry makes way
+            slot = head;
+            head = slot(1);
+            dropEntry(slot);
+        } else {
+            slot = slot(size++);
+        }
+
+        attackerMost[slot] = most;
+        attackerLeast[slot] = least;
+        ticks[slot] = currentTick;
+        damage[slot] = amount;
+        reasons[slot] = reason;
+        playerHits[slot] = playerHit;
+        sources[slot] = tick;
+
+        if (playerHit) {
+            credit(most, least, amount, 1);
+        }
+    }
+
+    /**
+     * Drops every entry whose latest hit is older than the timeout.
+     *
+     * @param currentTick  The current server tick.
+     * @param timeoutTicks How many ticks an entry is kept after its latest hit.
+     */
+    public void expire(int currentTick, int timeoutTicks) {
+        while (size > 0 && currentTick - ticks[head] > timeoutTicks) {
+            dropEntry(head);
+            sources[head] = null;
+            head = slot(1);
+            size--;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            sources[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        attackerCount = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index The entry index, from {@code 0} (oldest) to {@code size() - 1} (newest).
+     * @return The latest hit logged for the entry.
+     */
+    public DamageTick getSource(int index) {
+        return sources[checkedSlot(index)];
+    }
+
+    /**
+     * @return The total damage logged for the entry.
+     */
+    public double getDamage(int index) {
+        return damage[checkedSlot(index)];
+    }
+
+    /**
+     * @return The server tick of the entry's latest hit.
+     */
+    public int getTick(int index) {
+        return ticks[checkedSlot(index)];
+    }
+
+    /**
+     * @return The id of the entry's reason, as interned by {@link #reasonId(String)}.
+     */
+    public int getReason(int index) {
+        return reasons[checkedSlot(index)];
+    }
+
+    /**
+     * @return Whether the entry has an attacker, i.e. whether {@link #isAttacker} can match it.
+     */
+    public boolean hasAttacker(int index) {
+        int slot = checkedSlot(index);
+        return attackerMost[slot] != 0 || attackerLeast[slot] != 0;
+    }
+
+    /**
+     * Compares the entry's attacker without building a {@link UUID}.
+     */
+    public boolean isAttacker(int index, UUID attackerId) {
+        int slot = checkedSlot(index);
+        return attackerMost[slot] == attackerId.getMostSignificantBits()
+                && attackerLeast[slot] == attackerId.getLeastSignificantBits();
+    }
+
+    /**
+     * @return The entry's attacker, or {@code null} if it has none.
+     */
+    @Nullable
+    public UUID getAttackerId(int index) {
+        return hasAttacker(index) ? new UUID(attackerMost[slot(index)], attackerLeast[slot(index)]) : null;
+    }
+
+    /**
+     * @return The latest hit in the log, or {@code null} if it is empty.
+     */
+    @Nullable
+    public DamageTick getNewest() {
+        return size == 0 ? null : sources[slot(size - 1)];
+    }
+
+    /**
+     * @return How many players currently have damage in the log.
+     */
+    public int getAttackerCount() {
+        return attackerCount;
+    }
+
+    /**
+     * @param index The attacker index, from {@code 0} to {@code getAttackerCount() - 1}.
+     * @return The total damage the attacker has logged, over all of their entries.
+     */
+    public double getAttackerDamage(int index) {
+        return totals[checkedAttacker(index)];
+    }
+
+    /**
+     * @return The attacker's UUID.
+     */
+    public UUID getAttacker(int index) {
+        int checked = checkedAttacker(index);
+        return new UUID(totalMost[checked], totalLeast[checked]);
+    }
+
+    /**
+     * Compares the attacker at an index without building a {@link UUID}.
+     */
+    public boolean isAttackerTotal(int index, @Nullable UUID attackerId) {
+        int checked = checkedAttacker(index);
+        return attackerId != null
+                && totalMost[checked] == attackerId.getMostSignificantBits()
+                && totalLeast[checked] == attackerId.getLeastSignificantBits();
+    }
+
+    /**
+     * Interns a reason string to a small integer id.
+     *
+     * @param reason The damage reason.
+     * @return The id shared by every reason equal to it.
+     */
+    public static int reasonId(String reason) {
+        return REASON_IDS.computeIfAbsent(reason, key -> REASON_IDS.size());
+    }
+
+    /**
+     * Takes an entry that is about to be dropped off the attacker totals.
+     */
+    private void dropEntry(int slot) {
+        if (playerHits[slot]) {
+            credit(attackerMost[slot], attackerLeast[slot], -damage[slot], -1);
+        }
+    }
+
+    /**
+     * Adjusts an attacker's running total, adding them if they are new and removing them
+     * once none of their entries are left.
+     */
+    private void credit(long most, long least, double amount, int entries) {
+        for (int i = 0; i < attackerCount; i++) {
+            if (totalMost[i] != most || totalLeast[i] != least) continue;
+
+            totals[i] += amount;
+            totalEntries[i] += entries;
+
+            if (totalEntries[i] <= 0) {
+                // Swap the last attacker into the freed slot
+                int last = --attackerCount;
+                totalMost[i] = totalMost[last];
+                totalLeast[i] = totalLeast[last];
+                totals[i] = totals[last];
+                totalEntries[i] = totalEntries[last];
+            }
+            return;
+        }
+
+        if (entries <= 0) return;
+
+        // There can never be more attackers than entries, so this always fits
+        int slot = attackerCount++;
+        totalMost[slot] = most;
+        totalLeast[slot] = least;
+        totals[slot] = amount;
+        totalEntries[slot] = entries;
+    }
+
+    private void moveToNewest(int index) {
+        int from = slot(index);
+        long most = attackerMost[from], least = attackerLeast[from];
+        int reason = reasons[from];
+        boolean playerHit = playerHits[from];
+
+        for (int i = index; i < size - 1; i++) {
+            int to = slot(i), next = slot(i + 1);
+            attackerMost[to] = attackerMost[next];
+            attackerLeast[to] = attackerLeast[next];
+            ticks[to] = ticks[next];
+            damage[to] = damage[next];
+            reasons[to] = reasons[next];
+            playerHits[to] = playerHits[next];
+            sources[to] = sources[next];
+        }
+
+        int newest = slot(size - 1);
+        attackerMost[newest] = most;
+        attackerLeast[newest] = least;
+        reasons[newest] = reason;
+        playerHits[newest] = playerHit;
+    }
+
+    private int checkedSlot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for combat log of size %d", index, size));
+        }
+        return slot(index);
+    }
+
+    private int checkedAttacker(int index) {
+        if (index < 0 || index >= attackerCount) {
+            throw new IndexOutOfBoundsException(String.format("Attacker index %d out of bounds for %d attackers", index, attackerCount));
+        }
+        return index;
+    }
+
+    private int slot(int index) {
+        return (head + index) % attackerMost.length;
+    }
+}
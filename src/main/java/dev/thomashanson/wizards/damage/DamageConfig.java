@@ -11,13 +11,23 @@ import org.bukkit.Sound;
  */
 public record DamageConfig(
     long logTimeoutMillis,
+    int logCapacity,
     int assistThresholdPercentage,
     long justNowThresholdMillis,
     double meleeRangeThreshold,
+    AggregationConfig aggregation,
     Map<String, SoundConfig> armorHitSounds,
     DeathMessageConfig deathMessages
 ) {
 
+    /**
+     * Settings for combining several hits on one victim within a tick.
+     *
+     * @param enabled      Whether hits queued for aggregation are combined at all.
+     * @param knockbackCap The maximum speed, in blocks per tick, of a combined hit's knockback.
+     */
+    public record AggregationConfig(boolean enabled, double knockbackCap) {}
+
     public record SoundConfig(Sound sound, float volume, float pitch) {}
 
     public record DeathMessageConfig(
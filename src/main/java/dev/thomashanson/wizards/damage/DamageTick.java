@@ -61,6 +61,13 @@ public abstract class DamageTick implements Comparable<DamageTick> {
         return damage * damageModifiers.values().stream().reduce(1.0, (a, b) -> a * b);
     }
 
+    /**
+     * @return The damage before any modifiers are applied.
+     */
+    public double getBaseDamage() {
+        return damage;
+    }
+
     public void setDamage(double damage) {
         this.damage = damage;
     }
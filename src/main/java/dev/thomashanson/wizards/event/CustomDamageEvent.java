@@ -29,12 +29,23 @@ public class CustomDamageEvent extends Event implements Cancellable {
 
     private final LivingEntity victim;
     private final DamageTick damageTick;
+    private final int hitCount;
 
     private boolean cancelled;
 
     public CustomDamageEvent(LivingEntity victim, DamageTick damageTick) {
+        this(victim, damageTick, 1);
+    }
+
+    /**
+     * @param victim     The entity being damaged.
+     * @param damageTick The damage being dealt.
+     * @param hitCount   How many same-tick hits were combined into this one.
+     */
+    public CustomDamageEvent(LivingEntity victim, DamageTick damageTick, int hitCount) {
         this.victim = victim;
         this.damageTick = damageTick;
+        this.hitCount = hitCount;
     }
 
     @Override
@@ -54,6 +65,14 @@ public class CustomDamageEvent extends Event implements Cancellable {
         return damageTick;
     }
 
+    /**
+     * @return How many hits from the same attacker and source, landed in the same tick,
+     * were combined into this event. {@code 1} for an ordinary hit.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
     public double getDamage() {
         return damageTick.getFinalDamage();
     }
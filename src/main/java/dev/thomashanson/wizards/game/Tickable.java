@@ -1,5 +1,8 @@
 package dev.thomashanson.wizards.game;
 
+import dev.thomashanson.wizards.game.scheduler.TickPhase;
+import dev.thomashanson.wizards.game.scheduler.TickScheduler;
+
 /**
  * Represents a component that can be updated by the master game loop.
  * This provides a standardized way for various game components to perform actions
@@ -30,12 +33,67 @@ public interface Tickable {
      * <li>Returning {@code 20}: Updates once per second. Ideal for block-melting logic.</li>
      * </ul>
      * The master loop handles the interval check, so the {@link #tick(long)} method can focus
-     * purely on its own logic.
+     * purely on its own logic. Components with an interval above 1 are also given an
+     * automatic phase offset, so two components with an interval of 20 will usually run
+     * on different ticks rather than together. The interval is read once, at registration.
      *
      * @return The desired update interval in server ticks. Defaults to 1.
      */
     default int getTickInterval() {
         return 1;
     }
-}
 
+    /**
+     * Defines which phase of the game tick this component runs in.
+     * <p>
+     * The {@link TickScheduler} runs phases in order
+     * ({@link TickPhase#INPUT}, {@link TickPhase#SIMULATION}, {@link TickPhase#EFFECTS},
+     * {@link TickPhase#HUD}), so a component can rely on everything in earlier phases
+     * having already been updated this tick.
+     *
+     * @return The phase this component belongs to. Defaults to {@link TickPhase#SIMULATION}.
+     */
+    default TickPhase getTickPhase() {
+        return TickPhase.SIMULATION;
+    }
+
+    /**
+     * Whether the scheduler may push this component to the next tick when the
+     * current tick or phase is over its time budget. Only purely visual work
+     * (HUD updates, cosmetic particles) should ever return {@code true}.
+     *
+     * @return {@code true} if this component can be deferred. Defaults to the phase's setting.
+     */
+    default boolean isDeferrable() {
+        return getTickPhase().isDeferrable();
+    }
+
+    /**
+     * The time budget, in nanoseconds, for a single call to {@link #tick(long)}.
+     * Exceeding it does not interrupt the component; it is recorded as an overrun
+     * in the component's timings.
+     *
+     * @return The budget in nanoseconds, or {@code 0} to use the configured default.
+     */
+    default long getTickBudgetNanos() {
+        return 0L;
+    }
+
+    /**
+     * Whether this component currently has nothing to do. An idle component is
+     * unregistered by the scheduler right after its tick and is expected to register
+     * itself again once it has work (see {@code SpellEffectRuntime#start}).
+     *
+     * @return {@code true} to drop out of the game loop. Defaults to {@code false}.
+     */
+    default boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * @return A human-readable name used in timing reports and error logs.
+     */
+    default String getTickName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -2,9 +2,8 @@ package dev.thomashanson.wizards.game;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -20,9 +19,9 @@ import com.google.common.base.Function;
 import dev.thomashanson.wizards.game.manager.WizardManager;
 import dev.thomashanson.wizards.game.overtime.types.DisasterLightning;
 import dev.thomashanson.wizards.game.potion.PotionType;
+import dev.thomashanson.wizards.game.scheduler.TimingWheel;
 import dev.thomashanson.wizards.game.spell.Spell;
 import dev.thomashanson.wizards.game.spell.SpellManager;
-import dev.thomashanson.wizards.game.spell.types.SpellSpite;
 import dev.thomashanson.wizards.util.MathUtil;
 
 /**
@@ -33,6 +32,9 @@ import dev.thomashanson.wizards.util.MathUtil;
  * and active potion effects. It is created when a player enters a game and
  * destroyed when they are eliminated or the game ends.
  * <p>
+ * Timed state (cooldowns, Spite and potions) is stored as the game tick it ends on,
+ * with a timer on the game's {@link TimingWheel} to apply the expiry on that tick.
+ * <p>
  * It provides the core API for interacting with a player's in-game status,
  * separate from their persistent Bukkit {@link Player} entity.
  *
@@ -84,9 +86,14 @@ public class Wizard {
     private float manaPerTick = 2.5F / 20F;
     private int wandsOwned, soulStars;
 
-    private final Map<String, Instant> cooldowns = new HashMap<>();
-    private final Map<String, Integer> knownSpells = new HashMap<>();
-    private String[] assignedWands;
+    // Per-spell state, indexed by Spell#getId()
+    private final int[] levels;
+    private final long[] cooldownReadyTick;
+    private final TimingWheel.Timer[] cooldownTimers;
+    /** Spell id held by each wand slot, or {@link #NO_SPELL}. */
+    private int[] assignedWands;
+
+    private static final int NO_SPELL = -1;
 
     private float baseManaMultiplier = 1, baseCooldownMultiplier = 1;
     private float baseManaRegenMultiplier = 1;
@@ -95,11 +102,18 @@ public class Wizard {
 
     private BossBar manaBar, potionStatusBar;
     private PotionType activePotion;
+    private long potionExpiryTick;
+    private TimingWheel.Timer potionTimer;
     private int hitSpells, missedSpells;
     private final Set<Location> chestsLooted = new HashSet<>();
 
-    private String disabledSpellBySpite;
-    private Instant disabledSpellSpiteUsableTime;
+    private int disabledSpellBySpite = NO_SPELL;
+    private long disabledSpellSpiteUsableTick;
+    private TimingWheel.Timer spiteDisableTimer;
+
+    /** Extra mana cost from live Spite debuffs, and how many of them are live. */
+    private double spiteManaCost;
+    private int spiteDebuffs;
 
     private boolean spellBookOpen = false;
 
@@ -108,6 +122,11 @@ public class Wizard {
         this.spellManager = game.getPlugin().getSpellManager();
         this.uniqueId = uniqueId;
         this.maxMana = maxMana;
+
+        int spellCount = spellManager.getSpellCount();
+        this.levels = new int[spellCount];
+        this.cooldownReadyTick = new long[spellCount];
+        this.cooldownTimers = new TimingWheel.Timer[spellCount];
         setMaxWands(maxWands);
     }
     
@@ -127,42 +146,72 @@ public class Wizard {
         tempManaRegenMultiplier = 1;
     }
 
+    public int getLevel(Spell spell) {
+        int id = spell.getId();
+        return (id >= 0 && id < levels.length) ? levels[id] : 0;
+    }
+
     public int getLevel(String spellKey) {
-        return knownSpells.getOrDefault(spellKey.toUpperCase(), 0);
+        Spell spell = spellManager.getSpell(spellKey);
+        return (spell != null) ? getLevel(spell) : 0;
     }
 
     public float getManaCost(Spell spell) {
-        int level = getLevel(spell.getKey());
+        int level = getLevel(spell);
         float cost = spell.getManaCost(level); // The base mana cost from the Spell object
         cost *= getManaMultiplier(); // Apply any general mana multipliers the wizard has
+        cost += getSpiteManaCost(); // Penalty from any Spite debuffs on this wizard
+        return Math.max(0, cost);
+    }
 
-        // Get the single instance of the Spite spell from the SpellManager
-        Spell spiteSpell = spellManager.getSpell("SPITE");
+    /**
+     * Puts a spell on cooldown for the given number of game ticks. A zero or negative
+     * duration clears the cooldown. When the cooldown ends, the {@link WizardManager}
+     * is told so it can refresh the wand straight away.
+     */
+    public void setCooldown(Spell spell, long durationTicks) {
+        int id = spell.getId();
+        if (id < 0 || id >= cooldownReadyTick.length) return;
 
-        // Check if the loaded spell is actually the SpellSpite class
-        if (spiteSpell instanceof SpellSpite) {
-            // Cast it and call the new public method to get the mana penalty for this specific player
-            cost += ((SpellSpite) spiteSpell).getManaCostModifier(getPlayer());
+        if (cooldownTimers[id] != null) {
+            cooldownTimers[id].cancel();
+            cooldownTimers[id] = null;
         }
 
-        return Math.max(0, cost);
+        if (durationTicks <= 0) {
+            cooldownReadyTick[id] = 0L;
+            return;
+        }
+
+        cooldownReadyTick[id] = game.getGameTick() + durationTicks;
+        cooldownTimers[id] = game.getTimers().schedule(durationTicks, () -> {
+            cooldownTimers[id] = null;
+            game.getWizardManager().onCooldownReady(this, spell);
+        });
+    }
+
+    /**
+     * @return Game ticks until the spell comes off cooldown, or {@code 0} if it is ready.
+     */
+    public long getCooldownRemainingTicks(Spell spell) {
+        int id = spell.getId();
+        if (id < 0 || id >= cooldownReadyTick.length) return 0L;
+        return Math.max(0L, cooldownReadyTick[id] - game.getGameTick());
     }
 
     public void setCooldown(String spellKey, Duration duration) {
-        if (duration.isZero() || duration.isNegative()) {
-            cooldowns.remove(spellKey.toUpperCase());
-        } else {
-            cooldowns.put(spellKey.toUpperCase(), Instant.now().plus(duration));
-        }
+        Spell spell = spellManager.getSpell(spellKey);
+        if (spell != null) setCooldown(spell, toTicks(duration.toMillis()));
     }
 
     public Instant getCooldown(String spellKey) {
-        Instant expiry = cooldowns.get(spellKey.toUpperCase());
-        return (expiry != null && expiry.isAfter(Instant.now())) ? expiry : Instant.now();
+        Spell spell = spellManager.getSpell(spellKey);
+        long remaining = (spell != null) ? getCooldownRemainingTicks(spell) : 0L;
+        return Instant.now().plusMillis(remaining * 50L);
     }
 
     public double getSpellCooldown(Spell spell) {
-        int level = getLevel(spell.getKey());
+        int level = getLevel(spell);
         double cooldownTicks = spell.getCooldown(level);
         cooldownTicks *= getCooldownMultiplier();
 
@@ -188,19 +237,22 @@ public class Wizard {
     }
 
     public void learnSpell(Spell spell) {
-        String key = spell.getKey().toUpperCase();
-        knownSpells.put(key, getLevel(key) + 1);
+        int id = spell.getId();
+        if (id >= 0 && id < levels.length) levels[id]++;
     }
 
     public Spell getSpell(int slot) {
         if (slot < 0 || assignedWands == null || slot >= assignedWands.length) return null;
-        String spellKey = assignedWands[slot];
-        return (spellKey != null) ? spellManager.getSpell(spellKey) : null;
+        return spellManager.getSpell(assignedWands[slot]);
     }
 
-    public void setSpell(int slot, String spellKey) {
+    public void setSpell(int slot, Spell spell) {
         if (slot < 0 || assignedWands == null || slot >= assignedWands.length) return;
-        assignedWands[slot] = (spellKey != null) ? spellKey.toUpperCase() : null;
+        assignedWands[slot] = (spell != null) ? spell.getId() : NO_SPELL;
+    }
+
+    public void setSpell(int slot, String spellKey) {
+        setSpell(slot, (spellKey != null) ? spellManager.getSpell(spellKey) : null);
     }
 
     public void addAccuracy(boolean hit) {
@@ -220,7 +272,14 @@ public class Wizard {
     }
 
     public Set<String> getKnownSpellKeys() {
-        return new HashSet<>(knownSpells.keySet());
+        Set<String> keys = new HashSet<>();
+        for (int id = 0; id < levels.length; id++) {
+            if (levels[id] > 0) {
+                Spell spell = spellManager.getSpell(id);
+                if (spell != null) keys.add(spell.getKey().toUpperCase());
+            }
+        }
+        return keys;
     }
 
     public void addUnlockedKit(int kitId) {
@@ -236,7 +295,8 @@ public class Wizard {
     }
 
     public void setMaxWands(int newMaxWands) {
-        String[] newWandsArray = new String[newMaxWands];
+        int[] newWandsArray = new int[newMaxWands];
+        Arrays.fill(newWandsArray, NO_SPELL);
         if (this.assignedWands != null) {
             System.arraycopy(this.assignedWands, 0, newWandsArray, 0, Math.min(this.assignedWands.length, newMaxWands));
         }
@@ -244,26 +304,125 @@ public class Wizard {
         this.maxWands = newMaxWands;
     }
 
+    /**
+     * @return The spell currently disabled by Spite, or {@code null} if none.
+     */
+    public Spell getSpellDisabledBySpite() {
+        return spellManager.getSpell(disabledSpellBySpite);
+    }
+
     public String getDisabledSpellBySpite() {
-        if (disabledSpellBySpite != null && disabledSpellSpiteUsableTime != null && Instant.now().isAfter(disabledSpellSpiteUsableTime)) {
-            disabledSpellBySpite = null;
-            disabledSpellSpiteUsableTime = null;
+        Spell spell = getSpellDisabledBySpite();
+        return (spell != null) ? spell.getKey().toUpperCase() : null;
+    }
+
+    /**
+     * Disables a spell for the given number of game ticks, replacing any spell
+     * already disabled by Spite. A negative duration keeps it disabled until cleared.
+     *
+     * @param spell         The spell to disable, or {@code null} to clear.
+     * @param durationTicks How long the spell stays disabled.
+     */
+    public void setDisabledSpellBySpite(Spell spell, long durationTicks) {
+        if (spiteDisableTimer != null) {
+            spiteDisableTimer.cancel();
+            spiteDisableTimer = null;
+        }
+
+        this.disabledSpellBySpite = (spell != null) ? spell.getId() : NO_SPELL;
+        if (spell == null || durationTicks < 0) {
+            this.disabledSpellSpiteUsableTick = Long.MAX_VALUE;
+            return;
         }
-        return disabledSpellBySpite;
+
+        this.disabledSpellSpiteUsableTick = game.getGameTick() + durationTicks;
+        this.spiteDisableTimer = game.getTimers().schedule(durationTicks, () -> {
+            spiteDisableTimer = null;
+            disabledSpellBySpite = NO_SPELL;
+            game.getWizardManager().onSpiteLifted(this);
+        });
     }
 
     public void setDisabledSpellBySpite(String spellKey, Instant usableTime) {
-        this.disabledSpellBySpite = (spellKey != null) ? spellKey.toUpperCase() : null;
-        this.disabledSpellSpiteUsableTime = usableTime;
+        Spell spell = (spellKey != null) ? spellManager.getSpell(spellKey) : null;
+        // No usable time means it stays disabled until cleared
+        long durationTicks = (usableTime != null) ? toTicks(usableTime.toEpochMilli() - System.currentTimeMillis()) : -1L;
+        setDisabledSpellBySpite(spell, durationTicks);
     }
 
     public Instant getDisabledSpellSpiteUsableTime() {
-        return this.disabledSpellSpiteUsableTime;
+        if (disabledSpellBySpite == NO_SPELL || disabledSpellSpiteUsableTick == Long.MAX_VALUE) return null;
+        return Instant.now().plusMillis(getSpiteRemainingTicks() * 50L);
+    }
+
+    /**
+     * @return Game ticks until the Spite-disabled spell is usable again, or {@code 0} if none is disabled.
+     */
+    public long getSpiteRemainingTicks() {
+        if (disabledSpellBySpite == NO_SPELL) return 0L;
+        return Math.max(0L, disabledSpellSpiteUsableTick - game.getGameTick());
+    }
+
+    public boolean isSpellDisabledBySpite(Spell spell) {
+        return spell != null && disabledSpellBySpite != NO_SPELL && spell.getId() == disabledSpellBySpite;
     }
 
     public boolean isSpellDisabledBySpite(String spellKey) {
-        String disabledKey = getDisabledSpellBySpite();
-        return disabledKey != null && disabledKey.equalsIgnoreCase(spellKey);
+        return isSpellDisabledBySpite(spellManager.getSpell(spellKey));
+    }
+
+    /**
+     * Raises this wizard's mana costs for the given number of game ticks. Debuffs stack,
+     * and each one is lifted on its own when its time runs out.
+     *
+     * @param extraCost     The extra mana every spell costs while the debuff lasts.
+     * @param durationTicks How long the debuff lasts.
+     */
+    public void addSpiteDebuff(double extraCost, long durationTicks) {
+        spiteManaCost += extraCost;
+        spiteDebuffs++;
+
+        game.getTimers().schedule(durationTicks, () -> {
+            // Reset exactly once the last one ends so rounding can't leave a residue
+            spiteManaCost = (--spiteDebuffs > 0) ? spiteManaCost - extraCost : 0;
+            game.getWizardManager().onSpiteLifted(this);
+        });
+    }
+
+    /**
+     * @return The extra mana cost from every live Spite debuff on this wizard.
+     */
+    public double getSpiteManaCost() {
+        return spiteManaCost;
+    }
+
+    /**
+     * Makes a potion this wizard's active potion for the given number of game ticks,
+     * replacing the timer of any potion already active.
+     *
+     * @param potion        The potion consumed.
+     * @param durationTicks How long its effect lasts.
+     * @param onExpire      Run on the tick the potion runs out, unless it is cleared first.
+     */
+    public void startPotion(PotionType potion, long durationTicks, Runnable onExpire) {
+        setActivePotion(potion);
+        this.potionExpiryTick = game.getGameTick() + durationTicks;
+        this.potionTimer = game.getTimers().schedule(durationTicks, () -> {
+            potionTimer = null;
+            onExpire.run();
+        });
+    }
+
+    /**
+     * @return Game ticks until the active potion runs out, or {@code 0} if there is none.
+     */
+    public long getPotionRemainingTicks() {
+        if (activePotion == null) return 0L;
+        return Math.max(0L, potionExpiryTick - game.getGameTick());
+    }
+
+    private static long toTicks(long millis) {
+        return (millis <= 0) ? 0L : (millis + 49L) / 50L;
     }
     
     public String getManaBarTitle() {
@@ -272,10 +431,7 @@ public class Wizard {
 
     public String getPotionBarTitle() {
         if (activePotion != null) {
-            Duration potionDuration = game.getWizardManager().getPotionDuration(getPlayer(), activePotion);
-            if (potionDuration != null) {
-                return String.format("%s §7| §e%s", activePotion.getPotionName(), MathUtil.formatTime(potionDuration.toMillis()));
-            }
+            return String.format("%s §7| §e%s", activePotion.getPotionName(), MathUtil.formatTime(getPotionRemainingTicks() * 50L));
         }
         return "";
     }
@@ -292,8 +448,8 @@ public class Wizard {
     public int getWandsOwned() { return wandsOwned; }
     public void setWandsOwned(int wandsOwned) { this.wandsOwned = wandsOwned; }
     public String getSpellKey(int slot) {
-        if (slot < 0 || assignedWands == null || slot >= assignedWands.length) return null;
-        return assignedWands[slot];
+        Spell spell = getSpell(slot);
+        return (spell != null) ? spell.getKey().toUpperCase() : null;
     }
     public float getManaMultiplier() { return baseManaMultiplier * tempManaMultiplier; }
     public void setManaPerSecond(float manaPerSecond) { this.manaPerTick = manaPerSecond / 20F; }
@@ -307,7 +463,13 @@ public class Wizard {
     public BossBar getPotionStatusBar() { return potionStatusBar; }
     public void setPotionStatusBar(BossBar potionStatusBar) { this.potionStatusBar = potionStatusBar; }
     public PotionType getActivePotion() { return activePotion; }
-    public void setActivePotion(PotionType activePotion) { this.activePotion = activePotion; }
+    public void setActivePotion(PotionType activePotion) {
+        if (potionTimer != null) {
+            potionTimer.cancel();
+            potionTimer = null;
+        }
+        this.activePotion = activePotion;
+    }
     public Set<Location> getChestsLooted() { return chestsLooted; }
     public boolean hasSpellBookOpen() { return spellBookOpen; }
     public void setSpellBookOpen(boolean spellBookOpen) { this.spellBookOpen = spellBookOpen; }
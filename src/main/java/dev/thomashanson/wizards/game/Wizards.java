@@ -75,8 +75,13 @@ import dev.thomashanson.wizards.game.overtime.types.DisasterManaStorm;
 import dev.thomashanson.wizards.game.overtime.types.DisasterMeteors;
 import dev.thomashanson.wizards.game.potion.Potion;
 import dev.thomashanson.wizards.game.potion.PotionType;
+import dev.thomashanson.wizards.game.scheduler.PeriodicTask;
+import dev.thomashanson.wizards.game.scheduler.TickPhase;
+import dev.thomashanson.wizards.game.scheduler.TimingWheel;
+import dev.thomashanson.wizards.game.spatial.EntitySpatialHash;
 import dev.thomashanson.wizards.game.spell.Spell;
 import dev.thomashanson.wizards.game.spell.SpellBook;
+import dev.thomashanson.wizards.game.spell.SpellEffectRuntime;
 import dev.thomashanson.wizards.game.spell.SpellManager;
 import dev.thomashanson.wizards.game.state.GameState;
 import dev.thomashanson.wizards.game.state.types.ActiveState;
@@ -119,6 +124,12 @@ public class Wizards implements Listener, Tickable {
     private final LootManager lootManager;
     private final TeamManager teamManager;
     private final WandManager wandManager;
+    private final SpellEffectRuntime spellEffects;
+    private final TimingWheel timers;
+    private final EntitySpatialHash entityIndex;
+
+    /** Seeds everything random about the game's loot, so a game can be replayed. */
+    private final long seed = ThreadLocalRandom.current().nextLong();
 
     private WizardsMode currentMode = WizardsMode.SOLO_NORMAL;
     private MapBorder mapBorder;
@@ -137,6 +148,8 @@ public class Wizards implements Listener, Tickable {
 
     private PacketListener packetListener;
 
+    private final List<Tickable> tickables = createTickables();
+
     private final Map<PotionType, Potion> potions = new HashMap<>();
 
     // Tracks SpellData for spells that might be cancelled on wand swap
@@ -169,6 +182,9 @@ public class Wizards implements Listener, Tickable {
         this.lootManager = plugin.getLootManager();
         this.wandManager = plugin.getWandManager();
         this.teamManager = new TeamManager(this);
+        this.spellEffects = new SpellEffectRuntime(plugin);
+        this.timers = new TimingWheel(plugin);
+        this.entityIndex = new EntitySpatialHash(plugin);
 
         this.kitSelectMenu = new KitSelectMenu(plugin);
         this.spellBook = new SpellBook(this, this.spellManager);
@@ -219,13 +235,13 @@ public class Wizards implements Listener, Tickable {
                         modified = true;
                         final float manaFromDuplicate = spell.getRarity().getManaGain();
 
-                        item.setAmount((int) (wizard.getLevel(spell.getKey()) < getMaxLevel(player, spell) ? 
-                            wizard.getLevel(spell.getKey()) + 1 : manaFromDuplicate));
+                        item.setAmount((int) (wizard.getLevel(spell) < getMaxLevel(player, spell) ? 
+                            wizard.getLevel(spell) + 1 : manaFromDuplicate));
                         
                         ItemMeta meta = item.getItemMeta();
 
                         if (meta == null) continue;
-                        boolean canLevelUp = wizard.getLevel(spell.getKey()) < getMaxLevel(player, spell);
+                        boolean canLevelUp = wizard.getLevel(spell) < getMaxLevel(player, spell);
                         String loreKey = canLevelUp ? "wizards.packet.chest.levelUp" : "wizards.packet.chest.convertToMana";
                         
                         meta.lore(Arrays.asList(
@@ -323,6 +339,14 @@ public class Wizards implements Listener, Tickable {
             disaster = null;
         }
 
+        // Cancel every live spell effect (shields, summons, temporary blocks, ...)
+        spellEffects.cancelAll();
+
+        // Drop pending cooldown, potion and Spite expiries; their wizards are gone
+        timers.clear();
+        entityIndex.clear();
+        plugin.getDamageManager().getProtectionCache().clear();
+        lootManager.clearChests();
 
         // --- 3. Clean Up Game Entities & Holograms ---
         for (Item item : droppedGameItems) {
@@ -380,40 +404,49 @@ public class Wizards implements Listener, Tickable {
 
     public HashMap.SimpleEntry<Double, Wizard.DisplayType> getUsableTime(Wizard wizard, Spell spell) {
         // This important method remains in Wizards.java as it uses wizard data and game context.
-        double usableTimeInSeconds = 0;
-        Wizard.DisplayType displayType = Wizard.DisplayType.AVAILABLE;
+        if (wizard.isSpellDisabledBySpite(spell)) {
+            return new HashMap.SimpleEntry<>(getUsableSeconds(wizard, spell), Wizard.DisplayType.DISABLED_BY_SPITE);
+        }
 
-        String spellKey = spell.getKey();
+        double manaTimeInSeconds = getManaWaitSeconds(wizard, spell);
+        double cooldownTimeInSeconds = wizard.getCooldownRemainingTicks(spell) / 20.0;
+        Wizard.DisplayType displayType = Wizard.DisplayType.AVAILABLE;
 
-        // Spite Check
-        if (wizard.isSpellDisabledBySpite(spellKey)) {
-            usableTimeInSeconds = Duration.between(Instant.now(), wizard.getDisabledSpellSpiteUsableTime()).toMillis() / 1000.0;
-            displayType = Wizard.DisplayType.DISABLED_BY_SPITE; // Assuming this enum value exists
-            return new HashMap.SimpleEntry<>(Math.max(0, usableTimeInSeconds), displayType);
+        // Whichever wait is longer is the one shown
+        if (manaTimeInSeconds > 0 && manaTimeInSeconds >= cooldownTimeInSeconds) {
+            displayType = Wizard.DisplayType.NOT_ENOUGH_MANA;
+        } else if (cooldownTimeInSeconds > 0) {
+            displayType = Wizard.DisplayType.SPELL_COOLDOWN;
         }
+        return new HashMap.SimpleEntry<>(Math.max(manaTimeInSeconds, cooldownTimeInSeconds), displayType);
+    }
 
-        // Mana Check
-        if (wizard.getMana() < wizard.getManaCost(spell)) {
-            if (wizard.getManaPerTick() > 0) { // Avoid division by zero if mana regen is zero
-                usableTimeInSeconds = (wizard.getManaCost(spell) - wizard.getMana()) / (wizard.getManaPerTick() * 20.0);
-            } else {
-                usableTimeInSeconds = Double.POSITIVE_INFINITY; // Effectively infinite time if no mana regen
-            }
-            displayType = Wizard.DisplayType.NOT_ENOUGH_MANA;
+    /**
+     * The allocation-free form of {@link #getUsableTime(Wizard, Spell)} used by the per-tick HUD.
+     *
+     * @return Seconds until the wizard can cast the spell, or {@code 0} if it is castable now.
+     */
+    public double getUsableSeconds(Wizard wizard, Spell spell) {
+        // Spite overrides both mana and cooldown
+        if (wizard.isSpellDisabledBySpite(spell)) {
+            return wizard.getSpiteRemainingTicks() / 20.0;
         }
 
-        // Cooldown Check
-        if (wizard.getCooldown(spellKey).isAfter(Instant.now())) {
-            double cooldownTimeInSeconds = Duration.between(Instant.now(), wizard.getCooldown(spellKey)).toMillis() / 1000.0;
-            if (cooldownTimeInSeconds > usableTimeInSeconds) { // If cooldown is the limiting factor
-                usableTimeInSeconds = cooldownTimeInSeconds;
-                displayType = Wizard.DisplayType.SPELL_COOLDOWN;
-            } else if (displayType == Wizard.DisplayType.AVAILABLE) { // Only override if it was previously 'AVAILABLE'
-                usableTimeInSeconds = cooldownTimeInSeconds;
-                displayType = Wizard.DisplayType.SPELL_COOLDOWN;
-            }
+        double cooldownTimeInSeconds = wizard.getCooldownRemainingTicks(spell) / 20.0;
+        return Math.max(getManaWaitSeconds(wizard, spell), cooldownTimeInSeconds);
+    }
+
+    /**
+     * @return Seconds until the wizard has regenerated enough mana for the spell, or {@code 0} if they have it now.
+     */
+    private double getManaWaitSeconds(Wizard wizard, Spell spell) {
+        float manaCost = wizard.getManaCost(spell);
+        if (wizard.getMana() >= manaCost) return 0;
+
+        if (wizard.getManaPerTick() > 0) { // Avoid division by zero if mana regen is zero
+            return (manaCost - wizard.getMana()) / (wizard.getManaPerTick() * 20.0);
         }
-        return new HashMap.SimpleEntry<>(Math.max(0, usableTimeInSeconds), displayType);
+        return Double.POSITIVE_INFINITY; // Effectively infinite time if no mana regen
     }
 
     /**
@@ -456,8 +489,8 @@ public class Wizards implements Listener, Tickable {
                     Spell spellInHotbarSlot = wizard.getSpell(hotbarButtonPressed);
 
                     // Perform the actual swap in the Wizard's data
-                    wizard.setSpell(clickedSlotInPlayerInv, spellInHotbarSlot.getKey());
-                    wizard.setSpell(hotbarButtonPressed, spellInClickedSlot.getKey());
+                    wizard.setSpell(clickedSlotInPlayerInv, spellInHotbarSlot);
+                    wizard.setSpell(hotbarButtonPressed, spellInClickedSlot);
 
                     player.sendMessage(lang.getTranslated(player, "wizards.game.wand.swapped",
                         Placeholder.unparsed("slot_1", String.valueOf(clickedSlotInPlayerInv + 1)),
@@ -537,7 +570,7 @@ public class Wizards implements Listener, Tickable {
 
         LanguageManager lang = getPlugin().getLanguageManager();
 
-        int currentLevel = wizard.getLevel(spell.getKey());
+        int currentLevel = wizard.getLevel(spell);
         int maxLevel = getMaxLevel(player, spell);
 
         if (currentLevel < maxLevel) {
@@ -555,35 +588,63 @@ public class Wizards implements Listener, Tickable {
 
     /**
      * This single method replaces the entire old `updateGame` method.
-     * It's called every server tick by the master loop in GameManager.
+     * It's called every server tick by the master loop in GameManager,
+     * during the {@link TickPhase#SIMULATION} phase.
+     * <p>
+     * Lower-frequency work (scoreboard, border, timers) is registered as separate
+     * {@link PeriodicTask}s, see {@link #getTickables()}, so the scheduler can
+     * stagger them across ticks.
      */
     @Override
     public void tick(long gameTick) {
         if (!isLive()) return;
 
         // --- Every Tick (High Frequency) ---
-        // Player-specific updates like mana regen, cooldown visuals, etc.
+        // Player-specific simulation like mana regen, cooldown and potion expiry.
         for (Wizard wizard : wizardManager.getActiveWizards()) {
             wizardManager.updatePlayerTick(wizard.getPlayer(), gameTick);
         }
+    }
 
-        // --- Every 4 Ticks (5 times per second) ---
-        // Good for less critical updates like scoreboard.
-        if (gameTick % 4 == 0) {
-            getGameManager().getScoreboard().updateAllScoreboards();
-        }
-        
-        // --- Every 15 Ticks ---
-        // Border damage checks don't need to happen 20 times a second.
-        if (gameTick % 15 == 0) {
-            checkBorderDamage();
-        }
+    /**
+     * @return Every {@link Tickable} that makes up this game, including the game
+     * itself, to be registered with the master loop when the game starts.
+     */
+    public List<Tickable> getTickables() {
+        return tickables;
+    }
 
-        // --- Every 20 Ticks (Once per second) ---
-        // Good for checking game state timers that don't need sub-second precision.
-        if (gameTick % 20 == 0) {
-            checkGameTimers();
-        }
+    private List<Tickable> createTickables() {
+        return List.of(
+            this,
+
+            // --- Every Tick, after effects ---
+            // Boss bars, wand cooldown visuals and the action bar.
+            new PeriodicTask("Wizards HUD", TickPhase.HUD, 1, gameTick -> {
+                if (!isLive()) return;
+                for (Wizard wizard : wizardManager.getActiveWizards()) {
+                    wizardManager.updatePlayerHud(wizard.getPlayer());
+                }
+            }),
+
+            // --- Every 4 Ticks (5 times per second) ---
+            // Good for less critical updates like scoreboard.
+            new PeriodicTask("Wizards scoreboard", TickPhase.HUD, 4, gameTick -> {
+                if (isLive()) getGameManager().getScoreboard().updateAllScoreboards();
+            }),
+
+            // --- Every 15 Ticks ---
+            // Border damage checks don't need to happen 20 times a second.
+            new PeriodicTask("Wizards border", TickPhase.SIMULATION, 15, gameTick -> {
+                if (isLive()) checkBorderDamage();
+            }),
+
+            // --- Every 20 Ticks (Once per second) ---
+            // Good for checking game state timers that don't need sub-second precision.
+            new PeriodicTask("Wizards timers", TickPhase.SIMULATION, 20, gameTick -> {
+                if (isLive()) checkGameTimers();
+            })
+        );
     }
 
     private void checkGameTimers() {
@@ -675,7 +736,7 @@ public class Wizards implements Listener, Tickable {
      */
     public void castSpell(Player player, Wizard wizard, Spell spell, Object interacted, boolean quickcast) {
 
-        int spellLevel = wizard.getLevel(spell.getKey());
+        int spellLevel = wizard.getLevel(spell);
         if (spellLevel <= 0) return;
 
         LanguageManager lang = plugin.getLanguageManager();
@@ -683,14 +744,15 @@ public class Wizards implements Listener, Tickable {
         // --- 1. Prerequisite Checks ---
 
         // Check for Spite effect
-        if (wizard.isSpellDisabledBySpite(spell.getKey())) {
+        if (wizard.isSpellDisabledBySpite(spell)) {
             player.sendMessage(lang.getTranslated(player, "wizards.game.spell.disabledBySpite"));
             return;
         }
 
         // Check for Cooldown
-        if (wizard.getCooldown(spell.getKey()).isAfter(Instant.now())) {
-            double timeLeft = Duration.between(Instant.now(), wizard.getCooldown(spell.getKey())).toMillis() / 1000.0;
+        long cooldownTicksLeft = wizard.getCooldownRemainingTicks(spell);
+        if (cooldownTicksLeft > 0) {
+            double timeLeft = cooldownTicksLeft / 20.0;
             Component spellName = Component.text(spell.getName(), NamedTextColor.GOLD, TextDecoration.BOLD);
             player.sendMessage(lang.getTranslated(player, "wizards.notRecharged",
                 Placeholder.component("spell_name", spellName),
@@ -729,7 +791,7 @@ public class Wizards implements Listener, Tickable {
         if (cooldownTicks > 0) {
             // Apply cooldown modifiers (e.g., from kits or potions) here if you have them
             // cooldownTicks *= wizard.getCooldownModifier();
-            wizard.setCooldown(spell.getKey(), Duration.ofMillis((long) (cooldownTicks * 50)));
+            wizard.setCooldown(spell, (long) Math.ceil(cooldownTicks));
         }
 
         // --- 4. Post-Cast Housekeeping ---
@@ -954,7 +1016,7 @@ public class Wizards implements Listener, Tickable {
 
     public int getLevel(Player player, Spell spell) { // Takes Spell
         Wizard w = getWizard(player);
-        return w != null ? w.getLevel(spell.getKey()) : 0;
+        return w != null ? w.getLevel(spell) : 0;
     }
 
     public int getMaxLevel(Player player, Spell spell) { // Takes Spell
@@ -993,14 +1055,8 @@ public class Wizards implements Listener, Tickable {
             return false;
         }
 
-        int grace = 20;
-
-        // The BoundingBox object makes this check much cleaner and more reliable.
-        // We get the map's bounds and expand it by the grace amount.
-        BoundingBox mapBounds = getActiveMap().getBounds().clone().expand(grace);
-
-        // Then, we simply check if the location is contained within the expanded box.
-        return mapBounds.contains(location.toVector());
+        // The expanded bounds are worked out once, when the map's data is parsed
+        return getActiveMap().getMetadata().isInsideGrace(location.getX(), location.getY(), location.getZ());
     }
     /**
      * Checks if the game has a winner and transitions to the WinnerState if so.
@@ -1126,6 +1182,19 @@ public class Wizards implements Listener, Tickable {
         return spellManager.getAllSpells();
     }
     public Map<PotionType, Potion> getPotions() { return potions; }
+    public SpellEffectRuntime getSpellEffects() { return spellEffects; }
+    public TimingWheel getTimers() { return timers; }
+    public EntitySpatialHash getEntityIndex() { return entityIndex; }
+
+    /** @return The seed every chest's loot is derived from. */
+    public long getSeed() { return seed; }
+
+    /**
+     * @return The current game tick, the clock every {@link TimingWheel} deadline is measured in.
+     */
+    public long getGameTick() {
+        return getGameManager().getGameTick();
+    }
     public void setGameStartTime(Instant time) {
         this.gameStartTime = time;
     }
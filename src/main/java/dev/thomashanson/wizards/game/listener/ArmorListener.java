@@ -1,17 +1,40 @@
 package dev.thomashanson.wizards.game.listener;
 
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+
+import dev.thomashanson.wizards.damage.ArmorProtectionCache;
 import dev.thomashanson.wizards.event.ArmorEquipEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockDispenseArmorEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Fires {@link ArmorEquipEvent} for dispenser equips, and keeps the
+ * {@link ArmorProtectionCache} in step with armor changes.
+ * <p>
+ * Invalidation only marks an entity's protection as stale; it is recomputed on the next
+ * hit, after the click or equip has gone through.
+ */
+public class ArmorListener implements Listener {
 
-class ArmorListener implements Listener {
+    private final ArmorProtectionCache protectionCache;
+
+    public ArmorListener(ArmorProtectionCache protectionCache) {
+        this.protectionCache = protectionCache;
+    }
 
     @EventHandler
     public void onDispenseArmor(BlockDispenseArmorEvent event) {
 
+        protectionCache.invalidate(event.getTargetEntity().getUniqueId());
+
         if (!(event.getTargetEntity() instanceof Player))
             return;
 
@@ -23,4 +46,35 @@ class ArmorListener implements Listener {
         if (armorEquipEvent.isCancelled())
             event.setCancelled(true);
     }
-}
\ No newline at end of file
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onArmorEquip(ArmorEquipEvent event) {
+        protectionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        // Catches armor set by code, such as kits and resets
+        protectionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        protectionCache.invalidate(event.getWhoClicked().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        protectionCache.invalidate(event.getWhoClicked().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        protectionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        protectionCache.invalidate(event.getPlayer().getUniqueId());
+    }
+}
@@ -22,6 +22,8 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.inventory.ItemStack;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+
 import dev.thomashanson.wizards.damage.DamageConfig;
 import dev.thomashanson.wizards.damage.DamageTick;
 import dev.thomashanson.wizards.damage.types.BlockDamageTick;
@@ -51,6 +53,12 @@ public class DamageListener implements Listener {
         this.config = damageManager.getConfig();
     }
 
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        // Same-tick hits queued by multi-hit spells are applied together here
+        damageManager.flushPendingHits();
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onEntityDamage(EntityDamageEvent event) {
         if (!(event.getEntity() instanceof Player victim)) {
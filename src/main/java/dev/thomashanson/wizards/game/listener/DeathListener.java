@@ -1,6 +1,7 @@
 package dev.thomashanson.wizards.game.listener;
 
 import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.damage.CombatLog;
 import dev.thomashanson.wizards.damage.DamageTick;
 import dev.thomashanson.wizards.damage.KillAssist;
 import dev.thomashanson.wizards.damage.types.PlayerDamageTick;
@@ -19,9 +20,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class DeathListener implements Listener {
 
@@ -39,16 +38,16 @@ public class DeathListener implements Listener {
         LanguageManager lang = plugin.getLanguageManager();
 
         getStatsManager().incrementStat(player, PlayerStatsManager.StatType.DEATHS, 1);
-        List<DamageTick> allTicks = damageManager.getLoggedTicks(player.getUniqueId());
+        CombatLog log = damageManager.getCombatLog(player.getUniqueId());
 
-        if (allTicks.isEmpty()) {
+        if (log == null || log.isEmpty()) {
             player.sendMessage(lang.getTranslated(player, "wizards.death.summary.noDamage"));
             event.deathMessage(null); // Use modern Paper API
             damageManager.dump(player.getUniqueId());
             return;
         }
 
-        DamageTick lastTick = allTicks.get(allTicks.size() - 1);
+        DamageTick lastTick = log.getNewest();
 
         if (lastTick instanceof PlayerDamageTick pdt) {
             Player killer = pdt.getPlayer();
@@ -57,14 +56,9 @@ public class DeathListener implements Listener {
             }
         }
         
-        List<KillAssist> assists = damageManager.getPossibleAssists(player.getUniqueId(), allTicks);
-        if (!assists.isEmpty()) {
-            for (KillAssist assist : assists) {
-                Player assister = assist.getAttacker();
-                if (assister != null) {
-                    getStatsManager().incrementStat(assister, PlayerStatsManager.StatType.ASSISTS, 1);
-                }
-            }
+        List<KillAssist> assists = damageManager.getPossibleAssists(player.getUniqueId(), log);
+        for (KillAssist assist : assists) {
+            getStatsManager().incrementStat(assist.getAttacker(), PlayerStatsManager.StatType.ASSISTS, 1);
         }
         
         Component deathMessage = lastTick.getDeathMessage(player, lang, damageManager);
@@ -73,7 +67,7 @@ public class DeathListener implements Listener {
         // Modern Paper API to set death message
         event.deathMessage(deathMessage);
 
-        sendDeathSummary(player, allTicks, lang);
+        sendDeathSummary(player, log, lang);
 
         Bukkit.getServer().getPluginManager().callEvent(new CustomDeathEvent(player, lastTick));
         damageManager.dump(player.getUniqueId());
@@ -84,9 +78,10 @@ public class DeathListener implements Listener {
             return deathMessage.append(Component.text("."));
         }
         
-        List<Component> assisterNames = assists.stream()
-            .map(assist -> Component.text(assist.getAttacker().getName(), NamedTextColor.RED))
-            .collect(Collectors.toList());
+        List<Component> assisterNames = new ArrayList<>(assists.size());
+        for (KillAssist assist : assists) {
+            assisterNames.add(Component.text(assist.getAttacker().getName(), NamedTextColor.RED));
+        }
 
         JoinConfiguration joinConfig = JoinConfiguration.builder()
             .separator(lang.getTranslated(viewer, "wizards.death.assist.separator"))
@@ -99,11 +94,8 @@ public class DeathListener implements Listener {
             .append(Component.text("."));
     }
 
-    private void sendDeathSummary(Player player, List<DamageTick> allTicks, LanguageManager lang) {
-        List<DamageTick> displayOrderTicks = new ArrayList<>(allTicks);
-        Collections.reverse(displayOrderTicks);
-        
-        List<Component> summaryComponents = damageManager.getDamageSummary(player, displayOrderTicks);
+    private void sendDeathSummary(Player player, CombatLog log, LanguageManager lang) {
+        List<Component> summaryComponents = damageManager.getDamageSummary(player, log);
         
         player.sendMessage(lang.getTranslated(player, "wizards.death.summary.header"));
         summaryComponents.forEach(player::sendMessage);
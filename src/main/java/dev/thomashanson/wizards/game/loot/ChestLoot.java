@@ -3,6 +3,7 @@ package dev.thomashanson.wizards.game.loot;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -11,12 +12,22 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a loot table for a chest, using a weighted random selection.
+ * <p>
+ * Draws go through an alias table (Vose's method), so picking an item takes one
+ * random column and one coin flip, however many items the table holds. The alias table
+ * is compiled by {@link #compile()} once the table is fully loaded, and is rebuilt on
+ * the next draw if items are added after that.
  */
 public class ChestLoot {
 
     private final List<LootItem> lootItems = new ArrayList<>();
     private int totalWeight = 0;
 
+    // The compiled alias table; null until compiled, and again after every change
+    private LootItem[] columns;
+    private double[] probabilities;
+    private int[] aliases;
+
     /**
      * Selects one weighted-random item from the loot table.
      *
@@ -24,21 +35,124 @@ public class ChestLoot {
      */
     @Nullable
     public ItemStack getLoot() {
+        return getLoot(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Selects one weighted-random item from the loot table, drawing only from the given
+     * source, so a seeded source always gives the same item.
+     *
+     * @param random The source of randomness.
+     * @return A new ItemStack instance, or null if the loot table is empty.
+     */
+    @Nullable
+    public ItemStack getLoot(@NotNull RandomGenerator random) {
+        LootItem item = sample(random);
+        return item != null ? item.createItemStack(random) : null;
+    }
+
+    /**
+     * Selects one weighted-random item like {@link #getLoot(RandomGenerator)}, but returns
+     * the item's shared prototype instead of a copy. It must never be modified; it is meant
+     * to be handed straight to {@link org.bukkit.inventory.Inventory#setItem}, which copies it.
+     *
+     * @param random The source of randomness.
+     * @return The shared stack, or null if the loot table is empty.
+     */
+    @Nullable
+    ItemStack getSharedLoot(@NotNull RandomGenerator random) {
+        LootItem item = sample(random);
+        return item != null ? item.getSharedStack(random) : null;
+    }
+
+    /**
+     * Picks an item in constant time from the alias table.
+     */
+    @Nullable
+    LootItem sample(@NotNull RandomGenerator random) {
         if (totalWeight <= 0) {
             return null; // Return null if the loot table is empty
         }
+        if (columns == null) {
+            compile();
+        }
+
+        int column = random.nextInt(columns.length);
+        return random.nextDouble() < probabilities[column] ? columns[column] : columns[aliases[column]];
+    }
+
+    /**
+     * Picks an item with a cumulative-weight scan, the way every draw used to work.
+     * Only kept as the baseline for {@link LootBenchmark}.
+     */
+    @Nullable
+    LootItem sampleLinear(@NotNull RandomGenerator random) {
+        if (totalWeight <= 0) {
+            return null;
+        }
 
-        int random = ThreadLocalRandom.current().nextInt(totalWeight);
+        int roll = random.nextInt(totalWeight);
 
         for (LootItem item : lootItems) {
-            random -= item.getWeight();
-            if (random < 0) {
-                return item.createItemStack();
+            roll -= item.getWeight();
+            if (roll < 0) {
+                return item;
             }
         }
         return null; // Should be unreachable if totalWeight > 0, but is a safe fallback
     }
 
+    /**
+     * Builds the alias table with Vose's method. Each column holds its own item with some
+     * probability and an alias for the rest, so every column carries the same total weight.
+     */
+    public void compile() {
+        int size = lootItems.size();
+        LootItem[] compiledColumns = lootItems.toArray(new LootItem[0]);
+        double[] compiledProbabilities = new double[size];
+        int[] compiledAliases = new int[size];
+
+        // Scale the weights so the average column holds exactly 1
+        double[] scaled = new double[size];
+        int[] small = new int[size], large = new int[size];
+        int smallCount = 0, largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (double) compiledColumns[i].getWeight() * size / Math.max(1, totalWeight);
+            compiledAliases[i] = i;
+
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            compiledProbabilities[less] = scaled[less];
+            compiledAliases[less] = more;
+
+            // The larger item gives up what it topped the smaller column up with
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is full, give or take rounding
+        while (largeCount > 0) compiledProbabilities[large[--largeCount]] = 1;
+        while (smallCount > 0) compiledProbabilities[small[--smallCount]] = 1;
+
+        this.probabilities = compiledProbabilities;
+        this.aliases = compiledAliases;
+        this.columns = compiledColumns;
+    }
+
     public void addLoot(@NotNull Material material, int weight, int minAmount, int maxAmount) {
         addLoot(new ItemStack(material), weight, minAmount, maxAmount);
     }
@@ -56,32 +170,40 @@ public class ChestLoot {
     /**
      * Adds an item to the loot table with a specified weight and stack size range.
      *
-     * @param item The item to add. Its current stack size is ignored.
+     * @param item The item to add. Its current stack size is ignored, and later changes to it have no effect.
      * @param weight The chance for this item to be chosen. Higher is more common.
      * @param minAmount The minimum stack size to generate.
      * @param maxAmount The maximum stack size to generate.
      */
     public void addLoot(@NotNull ItemStack item, int weight, int minAmount, int maxAmount) {
         if (weight <= 0) return; // Do not add items with no chance of dropping
-        
+
         LootItem lootItem = new LootItem(item, weight, minAmount, maxAmount);
         this.lootItems.add(lootItem);
         this.totalWeight += lootItem.getWeight();
+        this.columns = null;
     }
 
     /**
      * Adds all items from another ChestLoot instance into this one.
      * This is used for the TABLE_INCLUDE functionality.
+     * <p>
+     * The other table's items are already flat, since its own includes were resolved when
+     * it was loaded, so including a table never nests. The items are shared, not copied;
+     * they never change once created.
      *
      * @param otherLoot The loot table to include.
      * @param weight    This parameter is currently unused but kept for signature consistency.
      * The individual weights of the included items are preserved.
      */
     public void addLoot(@NotNull ChestLoot otherLoot, int weight) {
-        for (LootItem lootItem : otherLoot.lootItems) {
-            // Add a clone of each LootItem from the other table to this one
-            this.lootItems.add(lootItem);
-            this.totalWeight += lootItem.getWeight();
-        }
+        this.lootItems.addAll(otherLoot.lootItems);
+        this.totalWeight += otherLoot.totalWeight;
+        this.columns = null;
+    }
+
+    /** @return The number of items in the table, counting included ones. */
+    public int size() {
+        return lootItems.size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,181 @@
+package dev.thomashanson.wizards.game.loot;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+
+import dev.thomashanson.wizards.game.mode.WizardsMode;
+import dev.thomashanson.wizards.map.LocalGameMap;
+
+/**
+ * Knows which chests of the active map still hold their loot, and fills each one the
+ * first time it is opened or broken.
+ * <p>
+ * Chests are indexed when the map is loaded: from the {@code locations.chests} list if
+ * the map has one, otherwise from the tile entities of each chunk inside the map bounds
+ * as it loads. Chests placed during the game are never indexed, so they are never filled.
+ * <p>
+ * Each chest draws its loot from its own random source. That source is seeded from the
+ * game seed and the chest's position, so a game can be replayed with the same loot in
+ * every chest, whatever order the chests are opened in.
+ */
+class ChestLootIndex implements Listener {
+
+    private final LootManager lootManager;
+    private final World world;
+    private final BoundingBox bounds;
+    private final long gameSeed;
+    private WizardsMode mode;
+
+    /** Block keys of chests that have not been filled yet. */
+    private final Set<Long> pending = new HashSet<>();
+
+    /** Chunk keys of chunks already indexed, so a reloaded chunk never brings a chest back. */
+    private final Set<Long> indexedChunks = new HashSet<>();
+    private final boolean listed;
+
+    private int indexed, filled;
+
+    ChestLootIndex(LootManager lootManager, LocalGameMap map, WizardsMode mode, long gameSeed) {
+        this.lootManager = lootManager;
+        this.world = map.getWorld();
+        this.bounds = map.getBounds();
+        this.mode = mode;
+        this.gameSeed = gameSeed;
+
+        List<Vector> chestHints = map.getMetadata().chestHints();
+        this.listed = !chestHints.isEmpty();
+
+        if (listed) {
+            for (Vector hint : chestHints) {
+                add(hint.getBlockX(), hint.getBlockY(), hint.getBlockZ());
+            }
+        } else {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                indexChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * Adds a chest placed for the game, such as a randomly spawned one.
+     */
+    void add(Block block) {
+        add(block.getX(), block.getY(), block.getZ());
+    }
+
+    void setMode(WizardsMode mode) {
+        this.mode = mode;
+    }
+
+    /** @return How many chests have been indexed. */
+    int getIndexed() { return indexed; }
+
+    /** @return How many indexed chests have been opened or broken, and so filled. */
+    int getFilled() { return filled; }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (!listed && event.getWorld().equals(world)) {
+            indexChunk(event.getChunk());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+
+        if (holder instanceof DoubleChest doubleChest) {
+            fillHolder(doubleChest.getLeftSide());
+            fillHolder(doubleChest.getRightSide());
+        } else {
+            fillHolder(holder);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        // Filled before the block goes, so the loot drops with it
+        fill(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        event.blockList().forEach(this::fill);
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        event.blockList().forEach(this::fill);
+    }
+
+    private void indexChunk(Chunk chunk) {
+        if (!indexedChunks.add(chunkKey(chunk.getX(), chunk.getZ()))) return;
+
+        for (BlockState tileEntity : chunk.getTileEntities()) {
+            if (tileEntity instanceof Chest && tileEntity.getLocation().toVector().isInAABB(bounds.getMin(), bounds.getMax())) {
+                add(tileEntity.getX(), tileEntity.getY(), tileEntity.getZ());
+            }
+        }
+    }
+
+    private void add(int x, int y, int z) {
+        if (pending.add(blockKey(x, y, z))) {
+            indexed++;
+        }
+    }
+
+    private void fill(Block block) {
+        if (!block.getWorld().equals(world) || !pending.contains(blockKey(block.getX(), block.getY(), block.getZ()))) return;
+        fillHolder(block.getState());
+    }
+
+    private void fillHolder(Object holder) {
+        if (!(holder instanceof Chest chest) || !chest.getWorld().equals(world)) return;
+
+        int x = chest.getX(), y = chest.getY(), z = chest.getZ();
+        if (!pending.remove(blockKey(x, y, z))) return;
+
+        lootManager.fillChest(chest.getBlockInventory(), mode, new SplittableRandom(chestSeed(x, y, z)));
+        filled++;
+    }
+
+    /**
+     * Mixes the game seed with a chest's position, so neighbouring chests get unrelated loot.
+     */
+    private long chestSeed(int x, int y, int z) {
+        long seed = gameSeed ^ (blockKey(x, y, z) * 0x9E3779B97F4A7C15L);
+
+        // SplitMix64 finalizer
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
+
+    private static long blockKey(int x, int y, int z) {
+        return ((long) x & 0x7FFFFFF) | (((long) z & 0x7FFFFFF) << 27) | ((long) y << 54);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+}
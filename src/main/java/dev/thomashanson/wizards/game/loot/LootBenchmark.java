@@ -0,0 +1,147 @@
+package dev.thomashanson.wizards.game.loot;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import dev.thomashanson.wizards.game.mode.WizardsMode;
+
+/**
+ * Times chest filling the way a game does it, in the style of a JMH benchmark: a few warmup
+ * rounds that are thrown away, then measured rounds that each fill a batch of chests.
+ * <p>
+ * Every chest is a fresh 27-slot inventory filled through {@link LootManager#fillChest} from
+ * its own seeded random source, as {@link ChestLootIndex} does on first open. The master pool
+ * is also timed on its own, drawing with the alias table against the old cumulative-weight
+ * scan, from the same seed.
+ * <p>
+ * Inventories belong to the main thread, so it runs there, one round per tick so no single
+ * tick has to fill more than one batch.
+ */
+public final class LootBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int DRAWS_PER_CHEST = 20;
+
+    /** Keeps the JIT from discarding work whose result is never used. */
+    private static int sink;
+
+    private LootBenchmark() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts the benchmark. Must be called from the main thread.
+     *
+     * @param plugin      The plugin to schedule the rounds for.
+     * @param lootManager The loaded loot manager.
+     * @param mode        The mode whose loot settings are used.
+     * @param chests      The number of chests filled in each round.
+     * @param seed        The random seed, so runs can be repeated.
+     * @param callback    Receives the timings on the main thread once every round has run.
+     * @return Whether the benchmark started; false if there is no master pool to draw from.
+     */
+    public static boolean start(Plugin plugin, LootManager lootManager, WizardsMode mode, int chests, long seed, Consumer<Result> callback) {
+        ChestLoot masterPool = lootManager.getTable("master_pool");
+        if (masterPool == null) return false;
+
+        Inventory[] inventories = new Inventory[chests];
+        for (int i = 0; i < chests; i++) {
+            inventories[i] = Bukkit.createInventory(null, 27);
+        }
+        int draws = chests * DRAWS_PER_CHEST;
+
+        new BukkitRunnable() {
+            private int round;
+            private long fillNanos, bestFillNanos = Long.MAX_VALUE, aliasNanos, linearNanos;
+
+            @Override
+            public void run() {
+                long roundSeed = seed + round;
+
+                if (round < WARMUP_ROUNDS) {
+                    fillAll(lootManager, mode, inventories, roundSeed);
+                    drawAlias(masterPool, draws, roundSeed);
+                    drawLinear(masterPool, draws, roundSeed);
+
+                } else {
+                    long begin = System.nanoTime();
+                    fillAll(lootManager, mode, inventories, roundSeed);
+                    long elapsed = System.nanoTime() - begin;
+                    fillNanos += elapsed;
+                    bestFillNanos = Math.min(bestFillNanos, elapsed);
+
+                    begin = System.nanoTime();
+                    drawAlias(masterPool, draws, roundSeed);
+                    aliasNanos += System.nanoTime() - begin;
+
+                    begin = System.nanoTime();
+                    drawLinear(masterPool, draws, roundSeed);
+                    linearNanos += System.nanoTime() - begin;
+                }
+
+                if (++round < WARMUP_ROUNDS + MEASURED_ROUNDS) return;
+                cancel();
+
+                int items = 0;
+                for (Inventory inventory : inventories) {
+                    for (ItemStack item : inventory.getContents()) {
+                        if (item != null) items++;
+                    }
+                }
+
+                callback.accept(new Result(chests, MEASURED_ROUNDS, items, masterPool.size(), draws,
+                        fillNanos / MEASURED_ROUNDS, bestFillNanos, aliasNanos / MEASURED_ROUNDS, linearNanos / MEASURED_ROUNDS));
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+
+        return true;
+    }
+
+    private static void fillAll(LootManager lootManager, WizardsMode mode, Inventory[] inventories, long seed) {
+        for (int i = 0; i < inventories.length; i++) {
+            lootManager.fillChest(inventories[i], mode, new SplittableRandom(seed * 31 + i));
+        }
+    }
+
+    private static void drawAlias(ChestLoot table, int draws, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int hash = 0;
+        for (int i = 0; i < draws; i++) {
+            hash += System.identityHashCode(table.sample(random));
+        }
+        sink += hash;
+    }
+
+    private static void drawLinear(ChestLoot table, int draws, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int hash = 0;
+        for (int i = 0; i < draws; i++) {
+            hash += System.identityHashCode(table.sampleLinear(random));
+        }
+        sink += hash;
+    }
+
+    /**
+     * The outcome of a benchmark run. Every time is the mean of the measured rounds unless
+     * stated otherwise.
+     *
+     * @param chests        The number of chests filled in each round.
+     * @param rounds        The number of measured rounds.
+     * @param items         The items in the chests after the last round.
+     * @param tableSize     The number of items in the master pool, counting included tables.
+     * @param draws         The number of master pool draws timed in each round.
+     * @param fillNanos     Time to fill every chest once.
+     * @param bestFillNanos The fastest round to fill every chest.
+     * @param aliasNanos    Time for the draws with the alias table.
+     * @param linearNanos   Time for the draws with the cumulative-weight scan.
+     */
+    public record Result(int chests, int rounds, int items, int tableSize, int draws,
+                         long fillNanos, long bestFillNanos, long aliasNanos, long linearNanos) {}
+}
@@ -1,6 +1,7 @@
 package dev.thomashanson.wizards.game.loot;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -8,25 +9,32 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Represents a single, weighted item within a loot table.
  * This class is an immutable data container.
+ * <p>
+ * The prototype is copied once when the item is created, with one stack per possible
+ * amount, so drawing an item never clones anything. Those stacks are shared and must never
+ * be modified.
  */
 class LootItem {
 
-    private final ItemStack itemPrototype;
+    private final ItemStack[] stacks;
     private final int weight;
-    private final int minAmount;
-    private final int maxAmount;
 
     /**
-     * @param itemPrototype The ItemStack to use as a template. Its amount is ignored.
+     * @param itemPrototype The ItemStack to use as a template. Its amount is ignored, and it is copied,
+     * so later changes to it have no effect.
      * @param weight The chance for this item to be chosen. Higher is more common.
      * @param minAmount The minimum stack size to generate.
      * @param maxAmount The maximum stack size to generate.
      */
     LootItem(@NotNull ItemStack itemPrototype, int weight, int minAmount, int maxAmount) {
-        this.itemPrototype = itemPrototype;
         this.weight = weight;
-        this.minAmount = minAmount;
-        this.maxAmount = maxAmount;
+        this.stacks = new ItemStack[Math.max(minAmount, maxAmount) - minAmount + 1];
+
+        for (int i = 0; i < stacks.length; i++) {
+            ItemStack stack = itemPrototype.clone();
+            stack.setAmount(minAmount + i);
+            stacks[i] = stack;
+        }
     }
 
     /**
@@ -36,19 +44,32 @@ class LootItem {
      * @return A new ItemStack with a randomized amount.
      */
     public ItemStack createItemStack() {
-        ItemStack newItem = itemPrototype.clone();
-        
-        if (minAmount >= maxAmount) {
-            newItem.setAmount(minAmount);
-        } else {
-            int amount = ThreadLocalRandom.current().nextInt(minAmount, maxAmount + 1);
-            newItem.setAmount(amount);
-        }
-        
-        return newItem;
+        return createItemStack(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a new ItemStack like {@link #createItemStack()}, drawing its amount from the
+     * given source.
+     *
+     * @param random The source of randomness.
+     * @return A new ItemStack with a randomized amount.
+     */
+    public ItemStack createItemStack(RandomGenerator random) {
+        return getSharedStack(random).clone();
+    }
+
+    /**
+     * Picks one of the shared stacks, with a randomized amount. Never modify the result;
+     * {@link org.bukkit.inventory.Inventory#setItem} copies it on its own.
+     *
+     * @param random The source of randomness.
+     * @return The shared stack for the drawn amount.
+     */
+    ItemStack getSharedStack(RandomGenerator random) {
+        return stacks.length == 1 ? stacks[0] : stacks[random.nextInt(stacks.length)];
     }
 
     public int getWeight() {
         return weight;
     }
-}
\ No newline at end of file
+}
@@ -8,20 +8,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
-import org.bukkit.Chunk;
 import org.bukkit.HeightMap;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.block.BlockState;
-import org.bukkit.block.Chest;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.event.HandlerList;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.BoundingBox;
@@ -48,8 +48,9 @@ import net.kyori.adventure.text.Component;
  * <li>Loading and parsing all loot tables from {@code loot.yml} on startup.</li>
  * <li>Caching spells by rarity for weighted random selection.</li>
  * <li>Registering custom item suppliers (e.g., for wands).</li>
- * <li>Populating all pre-placed chests in a map with loot.</li>
- * <li>Spawning and populating new, randomized chests in a map.</li>
+ * <li>Indexing every chest in a map when it loads, and filling each one the first time
+ * it is opened or broken, from a seed derived from the game seed.</li>
+ * <li>Spawning new, randomized chests in a map.</li>
  * </ul>
  * It uses a system of "guarantees" and a "master pool" to ensure a balanced
  * loot distribution as defined in the configuration.
@@ -96,6 +97,10 @@ public class LootManager {
     /** A set of materials (like leaves and air) to ignore when spawning random chests. */
     private Set<Material> nonGroundMaterials;
 
+    /** The chests of the current game that are still waiting to be filled, if a game has a map. */
+    private ChestLootIndex chestIndex;
+    private long chestIndexSeed;
+
     /**
      * Creates a new LootManager.
      *
@@ -147,50 +152,54 @@ public class LootManager {
     }
 
     /**
-     * The main entry point to populate a game map with all loot.
-     * This method fills both pre-placed chests and spawns new random chests.
+     * Indexes every chest on a newly loaded map, ready to be filled on first open.
+     * Replaces the index of any previous game. No loot is generated here.
+     *
+     * @param gameMap  The map that has just been loaded.
+     * @param mode     The current {@link WizardsMode}, used to determine loot settings.
+     * @param gameSeed The game's seed, from which every chest's loot is derived.
+     */
+    public void indexChests(@NotNull LocalGameMap gameMap, @NotNull WizardsMode mode, long gameSeed) {
+        clearChests();
+
+        this.chestIndex = new ChestLootIndex(this, gameMap, mode, gameSeed);
+        this.chestIndexSeed = gameSeed;
+        plugin.getServer().getPluginManager().registerEvents(chestIndex, plugin);
+    }
+
+    /**
+     * Spawns the game's random chests. Like every other chest, they are only filled when
+     * first opened or broken.
      *
      * @param gameMap The map to populate.
      * @param mode    The current {@link WizardsMode}, used to determine loot settings.
      */
     public void populateMapWithLoot(@NotNull LocalGameMap gameMap, @NotNull WizardsMode mode) {
+        if (chestIndex == null) {
+            logger.warning("[Loot] Chests were not indexed when the map loaded; indexing them now.");
+            indexChests(gameMap, mode, ThreadLocalRandom.current().nextLong());
+        }
+        chestIndex.setMode(mode);
+
         final LootSettings settings = getSettings(mode);
-        fillPrePlacedChests(gameMap, mode);
         spawnRandomChests(gameMap, mode, settings.randomChestsToSpawn());
+        logger.info("[Loot] Indexed %d chests for %s mode, to be filled on first open.".formatted(chestIndex.getIndexed(), mode.name()));
     }
 
     /**
-     * Scans the active map's chunks for all pre-existing chests and
-     * fills them with loot according to the game mode's settings.
-     *
-     * @param gameMap The map to scan.
-     * @param mode    The current {@link WizardsMode}.
+     * Stops filling the current game's chests. Called when the game is reset.
      */
-    private void fillPrePlacedChests(@NotNull LocalGameMap gameMap, @NotNull WizardsMode mode) {
-        World world = gameMap.getWorld();
-        BoundingBox bounds = gameMap.getBounds();
-        int chestCount = 0;
-        int minChunkX = (int) bounds.getMinX() >> 4;
-        int maxChunkX = (int) bounds.getMaxX() >> 4;
-        int minChunkZ = (int) bounds.getMinZ() >> 4;
-        int maxChunkZ = (int) bounds.getMaxZ() >> 4;
-        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
-            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
-                Chunk chunk = world.getChunkAt(cx, cz);
-                for (BlockState tileEntity : chunk.getTileEntities()) {
-                    if (tileEntity.getBlock().getLocation().toVector().isInAABB(bounds.getMin(), bounds.getMax()) && tileEntity instanceof Chest) {
-                        fillChest(tileEntity.getBlock(), mode);
-                        chestCount++;
-                    }
-                }
-            }
-        }
-        logger.info("[Loot] Filled %d pre-placed chests for %s mode.".formatted(chestCount, mode.name()));
+    public void clearChests() {
+        if (chestIndex == null) return;
+
+        HandlerList.unregisterAll(chestIndex);
+        logger.info("[Loot] %d of %d chests were opened.".formatted(chestIndex.getFilled(), chestIndex.getIndexed()));
+        chestIndex = null;
     }
-    
+
     /**
-     * Spawns a configured number of new chests at random, valid locations on the map
-     * and fills them with loot.
+     * Spawns a configured number of new chests at random, valid locations on the map.
+     * Their positions are drawn from the game seed, so a replayed game places them the same way.
      *
      * @param gameMap    The map to spawn chests on.
      * @param mode       The current {@link WizardsMode}.
@@ -200,35 +209,24 @@ public class LootManager {
         if (chestCount <= 0) return;
         World world = gameMap.getWorld();
         BoundingBox bounds = gameMap.getBounds();
+        SplittableRandom random = new SplittableRandom(chestIndexSeed);
         int chestsSpawned = 0;
         for (int i = 0; i < chestCount * 3 && chestsSpawned < chestCount; i++) {
-            int randomX = ThreadLocalRandom.current().nextInt((int) bounds.getMinX(), (int) bounds.getMaxX() + 1);
-            int randomZ = ThreadLocalRandom.current().nextInt((int) bounds.getMinZ(), (int) bounds.getMaxZ() + 1);
+            int randomX = random.nextInt((int) bounds.getMinX(), (int) bounds.getMaxX() + 1);
+            int randomZ = random.nextInt((int) bounds.getMinZ(), (int) bounds.getMaxZ() + 1);
             Block groundBlock = world.getHighestBlockAt(randomX, randomZ, HeightMap.MOTION_BLOCKING_NO_LEAVES);
             if (nonGroundMaterials.contains(groundBlock.getType())) continue;
             
             Block chestBlock = groundBlock.getRelative(BlockFace.UP);
             if (chestBlock.getY() < bounds.getMaxY() && chestBlock.getType().isAir()) {
                 chestBlock.setType(Material.CHEST);
-                fillChest(chestBlock, mode);
+                chestIndex.add(chestBlock);
                 chestsSpawned++;
             }
         }
         logger.info("[Loot] Spawned %d/%d randomized chests for %s mode.".formatted(chestsSpawned, chestCount, mode.name()));
     }
 
-    /**
-     * A convenience wrapper to fill a chest's inventory from its {@link Block} state.
-     *
-     * @param block The chest block.
-     * @param mode  The current {@link WizardsMode}.
-     */
-    private void fillChest(@NotNull Block block, @NotNull WizardsMode mode) {
-        if (block.getState() instanceof Chest chest) {
-            fillChest(chest.getBlockInventory(), mode);
-        }
-    }
-
     /**
      * The core loot generation logic.
      * This method fills a given inventory by first processing all "guarantees"
@@ -237,12 +235,12 @@ public class LootManager {
      *
      * @param inventory The chest inventory to fill.
      * @param mode      The current {@link WizardsMode} to get settings for.
+     * @param random    The source of every random choice, so a seeded source always gives the same chest.
      */
-    private void fillChest(@NotNull Inventory inventory, @NotNull WizardsMode mode) {
+    void fillChest(@NotNull Inventory inventory, @NotNull WizardsMode mode, @NotNull RandomGenerator random) {
         inventory.clear();
 
         final LootSettings settings = getSettings(mode);
-        final ThreadLocalRandom random = ThreadLocalRandom.current();
         
         // Get the master loot table for random items.
         ChestLoot masterLootTable = lootTables.get("master_pool");
@@ -267,7 +265,7 @@ public class LootManager {
             }
             for (int i = 0; i < guarantee.amount(); i++) {
                 if (availableSlots.isEmpty()) break;
-                placeItemInRandomSlot(inventory, availableSlots, guaranteeTable.getLoot());
+                placeItemInRandomSlot(inventory, availableSlots, guaranteeTable.getSharedLoot(random));
             }
         }
 
@@ -279,7 +277,7 @@ public class LootManager {
         // 3. Fill the rest of the slots with random items from the master pool.
         for (int i = 0; i < remainingItemsToPlace; i++) {
             if (availableSlots.isEmpty()) break;
-            placeItemInRandomSlot(inventory, availableSlots, masterLootTable.getLoot());
+            placeItemInRandomSlot(inventory, availableSlots, masterLootTable.getSharedLoot(random));
         }
     }
 
@@ -289,17 +287,24 @@ public class LootManager {
      *
      * @param inventory      The chest inventory.
      * @param availableSlots A mutable list of available slot indices.
-     * @param item           The {@link ItemStack} to place.
+     * @param item           The shared loot prototype to place; the inventory stores its own copy.
      */
     private void placeItemInRandomSlot(Inventory inventory, List<Integer> availableSlots, ItemStack item) {
         if (availableSlots.isEmpty() || item == null) return;
-        if (spellManager.getSpell(item) != null) {
-            item = ItemBuilder.from(item).glow().build();
-        }
         int slot = availableSlots.remove(0);
         inventory.setItem(slot, item);
     }
     
+    /**
+     * Gets a loot table by its name in {@code loot.yml}.
+     *
+     * @param name The table's key, such as "master_pool".
+     * @return The table, or null if there is none by that name.
+     */
+    ChestLoot getTable(String name) {
+        return lootTables.get(name);
+    }
+
     /**
      * Selects a random {@link Spell} from the cache based on the given rarity.
      *
@@ -335,7 +340,8 @@ public class LootManager {
     /**
      * Loads and parses all item definitions from the "tables" section of {@code loot.yml}.
      * This method handles different item types (ITEM, SPELL_BY_RARITY, CUSTOM_ITEM, etc.)
-     * and resolves TABLE_INCLUDE directives.
+     * and resolves TABLE_INCLUDE directives. Every table is compiled for constant-time draws
+     * once all of them are loaded.
      *
      * @param tablesConfig The "tables" {@link ConfigurationSection}.
      */
@@ -383,6 +389,11 @@ public class LootManager {
                     }
                 };
                 if (prototype != null) {
+                    // Spells glow in chests; done once here rather than for every chest
+                    if (spellManager.getSpell(prototype) != null) {
+                        prototype = ItemBuilder.from(prototype).glow().build();
+                    }
+
                     Object rawAmount = itemData.get("amount");
                     if (rawAmount == null) rawAmount = "1";
                     String amountRange = String.valueOf(rawAmount);
@@ -394,6 +405,9 @@ public class LootManager {
             }
             lootTables.put(key, chestLoot);
         }
+
+        // Build every alias table now, so no chest pays for it
+        lootTables.values().forEach(ChestLoot::compile);
     }
 
     /**
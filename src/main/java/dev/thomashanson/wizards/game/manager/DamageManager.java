@@ -1,12 +1,10 @@
 package dev.thomashanson.wizards.game.manager;
 
 import java.text.DecimalFormat;
-import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,13 +24,18 @@ import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
 import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.damage.ArmorProtectionCache;
+import dev.thomashanson.wizards.damage.CombatLog;
 import dev.thomashanson.wizards.damage.DamageConfig;
 import dev.thomashanson.wizards.damage.DamageTick;
 import dev.thomashanson.wizards.damage.KillAssist;
+import dev.thomashanson.wizards.damage.types.MonsterDamageTick;
 import dev.thomashanson.wizards.damage.types.PlayerDamageTick;
 import dev.thomashanson.wizards.event.CustomDamageEvent;
+import dev.thomashanson.wizards.game.listener.ArmorListener;
 import dev.thomashanson.wizards.game.listener.DamageListener;
 import dev.thomashanson.wizards.game.listener.DeathListener;
 import dev.thomashanson.wizards.game.manager.PlayerStatsManager.StatType;
@@ -69,19 +72,31 @@ public class DamageManager {
 
     private final DamageListener damageListener;
     private final DeathListener deathListener;
+    private final ArmorListener armorListener;
+
+    private final ArmorProtectionCache protectionCache;
 
     private static final DecimalFormat DAMAGE_FORMAT = new DecimalFormat("#.#");
-    private final Map<UUID, List<DamageTick>> damageTicks = new HashMap<>();
+    private final Map<UUID, CombatLog> combatLogs = new HashMap<>();
+    private final Map<HitKey, PendingHits> pendingHits = new LinkedHashMap<>();
+    private boolean flushingHits;
+    private final int logTimeoutTicks;
 
     public DamageManager(WizardsPlugin plugin) {
         this.plugin = plugin;
         this.config = loadDamageConfig();
+        this.logTimeoutTicks = (int) (config.logTimeoutMillis() / 50);
 
         this.damageListener = new DamageListener(this);
         this.deathListener = new DeathListener(this);
 
+        this.protectionCache = new ArmorProtectionCache(plugin.getLogger(),
+                plugin.getConfig().getBoolean("damage.armor-cache.verify", false));
+        this.armorListener = new ArmorListener(protectionCache);
+
         plugin.getServer().getPluginManager().registerEvents(damageListener, plugin);
         plugin.getServer().getPluginManager().registerEvents(deathListener, plugin);
+        plugin.getServer().getPluginManager().registerEvents(armorListener, plugin);
     }
 
     private DamageConfig loadDamageConfig() {
@@ -93,9 +108,14 @@ public class DamageManager {
 
         // Load main settings
         long logTimeoutMillis = TimeUnit.SECONDS.toMillis(damageSection.getLong("log-timeout-seconds", 10));
+        int logCapacity = Math.max(1, damageSection.getInt("log-capacity", 16));
         int assistThreshold = damageSection.getInt("assist-threshold-percentage", 20);
         long justNowMillis = (long) (damageSection.getDouble("just-now-threshold-seconds", 1.5) * 1000);
         double meleeRange = damageSection.getDouble("melee-range-threshold", 4.5);
+        DamageConfig.AggregationConfig aggregation = new DamageConfig.AggregationConfig(
+                damageSection.getBoolean("aggregation.enabled", true),
+                damageSection.getDouble("aggregation.knockback-cap", 1.5)
+        );
 
         // Load armor hit sounds
         Map<String, DamageConfig.SoundConfig> armorSounds = new HashMap<>();
@@ -178,7 +198,7 @@ public class DamageManager {
                 finalMsgSection.getString("default", "wizards.death.default")
         );
 
-        return new DamageConfig(logTimeoutMillis, assistThreshold, justNowMillis, meleeRange, armorSounds, deathMessageConfig);
+        return new DamageConfig(logTimeoutMillis, logCapacity, assistThreshold, justNowMillis, meleeRange, aggregation, armorSounds, deathMessageConfig);
     }
 
     public void damage(LivingEntity entity, DamageTick damageTick) {
@@ -194,6 +214,84 @@ public class DamageManager {
         }
 
         double rawDamageForCalc = damageTick.getFinalDamage();
+        applyDamage(entity, damageTick, rawDamageForCalc, getKnockback(entity, damageTick, rawDamageForCalc));
+    }
+
+    /**
+     * Queues a hit to be combined with any other hits the same attacker lands on the same
+     * victim, for the same reason, during this tick. Each group is applied once at the end
+     * of the tick as a single hit carrying the summed damage, so the damage event, armor
+     * calculation, log entry and stat tracking run once per group rather than once per hit.
+     * Knockback from the group is summed and capped at {@code damage.aggregation.knockback-cap}.
+     * <p>
+     * Meant for spells that can hit one victim several times in a tick. Falls back to
+     * {@link #damage(LivingEntity, DamageTick)} when aggregation is disabled.
+     *
+     * @param entity     The entity to damage.
+     * @param damageTick The hit to queue. The first hit queued in a group is the one applied.
+     */
+    public void damageAggregated(LivingEntity entity, DamageTick damageTick) {
+        if (!config.aggregation().enabled() || flushingHits) {
+            damage(entity, damageTick);
+            return;
+        }
+
+        if (entity == null || entity.isDead()) {
+            return;
+        }
+
+        UUID attackerId = damageTick instanceof MonsterDamageTick monsterTick ? monsterTick.getAttackerId() : null;
+        HitKey key = new HitKey(entity.getUniqueId(), attackerId, damageTick.getReason());
+
+        pendingHits.computeIfAbsent(key, k -> new PendingHits(entity, damageTick))
+                .add(damageTick, getKnockback(entity, damageTick, damageTick.getFinalDamage()));
+    }
+
+    /**
+     * Applies every group of hits queued by {@link #damageAggregated} this tick.
+     * Called at the end of each server tick.
+     */
+    public void flushPendingHits() {
+        if (pendingHits.isEmpty()) {
+            return;
+        }
+
+        flushingHits = true;
+        try {
+            for (PendingHits group : pendingHits.values()) {
+                LivingEntity victim = group.victim;
+                if (!victim.isValid() || victim.isDead()) continue;
+
+                if (group.hits == 1) {
+                    damage(victim, group.tick);
+                    continue;
+                }
+
+                group.tick.setDamage(group.baseDamage);
+
+                CustomDamageEvent event = new CustomDamageEvent(victim, group.tick, group.hits);
+                Bukkit.getPluginManager().callEvent(event);
+
+                if (event.isCancelled()) continue;
+
+                Vector knockback = null;
+                if (group.knockback != null) {
+                    knockback = group.knockback;
+                    double cap = config.aggregation().knockbackCap();
+                    if (knockback.lengthSquared() > cap * cap) {
+                        knockback.normalize().multiply(cap);
+                    }
+                }
+
+                applyDamage(victim, group.tick, group.tick.getFinalDamage(), knockback);
+            }
+        } finally {
+            pendingHits.clear();
+            flushingHits = false;
+        }
+    }
+
+    private void applyDamage(LivingEntity entity, DamageTick damageTick, double rawDamageForCalc, @Nullable Vector knockback) {
         logTick(entity, damageTick);
 
         double finalDamageToApply = rawDamageForCalc;
@@ -202,10 +300,12 @@ public class DamageManager {
             if (victimPlayer.getGameMode() == GameMode.CREATIVE) {
                 return;
             }
-            finalDamageToApply = calculatePlayerDamage(victimPlayer, rawDamageForCalc);
+            finalDamageToApply = calculatePlayerDamage(victimPlayer, damageTick, rawDamageForCalc);
         }
 
-        applyKnockback(entity, damageTick, rawDamageForCalc);
+        if (knockback != null) {
+            applyKnockback(entity, knockback);
+        }
 
         if (finalDamageToApply > 0) {
             entity.playEffect(EntityEffect.HURT);
@@ -215,7 +315,7 @@ public class DamageManager {
         entity.setHealth(Math.max(0, entity.getHealth() - finalDamageToApply));
     }
 
-    private double calculatePlayerDamage(Player victimPlayer, double rawDamage) {
+    private double calculatePlayerDamage(Player victimPlayer, DamageTick damageTick, double rawDamage) {
         // Get attributes and effects
         AttributeInstance armorAttribute = victimPlayer.getAttribute(Attribute.GENERIC_ARMOR);
         AttributeInstance toughnessAttribute = victimPlayer.getAttribute(Attribute.GENERIC_ARMOR_TOUGHNESS);
@@ -223,7 +323,7 @@ public class DamageManager {
 
         double armorPoints = (armorAttribute != null) ? armorAttribute.getValue() : 0;
         double armorToughness = (toughnessAttribute != null) ? toughnessAttribute.getValue() : 0;
-        int epf = EntityUtil.getEPF(victimPlayer.getInventory());
+        int epf = protectionCache.getEPF(victimPlayer, damageTick.getCause());
 
         // Step 1: Calculate damage after armor and enchantments using the updated utility method.
         double damageAfterArmor = EntityUtil.calculateDamage(rawDamage, armorPoints, armorToughness, epf);
@@ -241,9 +341,15 @@ public class DamageManager {
         return damageAfterArmor;
     }
     
-    private void applyKnockback(LivingEntity entity, DamageTick tick, double rawDamage) {
+    /**
+     * Works out the knockback a hit gives its victim.
+     *
+     * @return The velocity to give the victim, or {@code null} if the hit has no knockback.
+     */
+    @Nullable
+    private Vector getKnockback(LivingEntity entity, DamageTick tick, double rawDamage) {
         if (tick.getKnockbackOrigin() == null && !(tick instanceof PlayerDamageTick) && tick.getKnockbackModifiers().isEmpty()) {
-            return;
+            return null;
         }
 
         double kbStrength = Math.log10(Math.max(2, rawDamage));
@@ -259,7 +365,7 @@ public class DamageManager {
 
         // Prevent NaN vectors if origin and entity location are identical.
         if (Double.isNaN(direction.getX()) || Double.isNaN(direction.getZ())) {
-            return;
+            return null;
         }
         
         // Step 2: Calculate the final velocity strength based on your original formula.
@@ -270,8 +376,19 @@ public class DamageManager {
         double yAdd = Math.abs(0.2 * kbStrength);
         double yMax = 0.4 + (0.04 * kbStrength);
 
-        // Step 4: Call the new applyVelocity method with the separated direction and strength.
-        MathUtil.applyVelocity(entity, direction, strength, 0, yAdd, yMax);
+        // Step 4: Scale the direction and add the capped vertical component.
+        return direction.multiply(strength).setY(Math.min(yAdd, yMax));
+    }
+
+    private void applyKnockback(LivingEntity entity, Vector knockback) {
+        Vector velocity = knockback.clone();
+
+        if (entity.isOnGround()) {
+            velocity.setY(velocity.getY() + 0.2); // Small ground boost
+        }
+
+        entity.setFallDistance(0F);
+        entity.setVelocity(velocity);
     }
     
     private void trackStats(LivingEntity victim, DamageTick tick, double finalDamage) {
@@ -288,82 +405,67 @@ public class DamageManager {
     }
 
     public void logTick(LivingEntity entity, DamageTick newTickToLog) {
-        UUID uuid = entity.getUniqueId();
-        List<DamageTick> playerSpecificTicks = damageTicks.computeIfAbsent(uuid, k -> new ArrayList<>());
-
-        cleanupListInPlace(playerSpecificTicks);
+        int currentTick = Bukkit.getCurrentTick();
+        CombatLog log = combatLogs.computeIfAbsent(entity.getUniqueId(), k -> new CombatLog(config.logCapacity()));
 
-        Optional<DamageTick> existingTickToMerge = playerSpecificTicks.stream()
-                .filter(existingTick -> existingTick.matches(newTickToLog))
-                .findFirst();
-
-        if (existingTickToMerge.isPresent()) {
-            DamageTick foundTick = existingTickToMerge.get();
-            foundTick.setDamage(foundTick.getFinalDamage() + newTickToLog.getFinalDamage());
-            foundTick.setTimestamp(Instant.now());
-        } else {
-            playerSpecificTicks.add(newTickToLog);
-        }
-        playerSpecificTicks.sort(Comparator.naturalOrder());
-    }
-
-    private void cleanupListInPlace(List<DamageTick> ticksToClean) {
-        if (ticksToClean == null) return;
-        ticksToClean.removeIf(tick -> Duration.between(tick.getTimestamp(), Instant.now()).toMillis() > config.logTimeoutMillis());
+        log.expire(currentTick, logTimeoutTicks);
+        log.record(newTickToLog, newTickToLog.getFinalDamage(), currentTick);
     }
 
-    public List<KillAssist> getPossibleAssists(UUID victimUUID, List<DamageTick> allTicks) {
-        if (allTicks.isEmpty()) {
+    /**
+     * Works out who assisted in a kill from the running damage totals in the victim's log.
+     * The killer and the victim themselves are left out, and each remaining player needs at
+     * least {@code damage.assist-threshold-percentage} of the rest of the player damage.
+     */
+    public List<KillAssist> getPossibleAssists(UUID victimUUID, CombatLog log) {
+        if (log.getAttackerCount() == 0) {
             return Collections.emptyList();
         }
 
         UUID killerId = null;
-        if (allTicks.get(allTicks.size() - 1) instanceof PlayerDamageTick killingTick) {
+        if (log.getNewest() instanceof PlayerDamageTick killingTick) {
             killerId = killingTick.getAttackerId();
         }
 
-        final UUID finalKillerId = killerId;
-        Map<UUID, Double> damageByPlayer = new HashMap<>();
-
-        allTicks.stream()
-                .filter(PlayerDamageTick.class::isInstance)
-                .map(PlayerDamageTick.class::cast)
-                .filter(pdt -> !pdt.getAttackerId().equals(victimUUID) && !pdt.getAttackerId().equals(finalKillerId))
-                .forEach(pdt -> damageByPlayer.merge(pdt.getAttackerId(), pdt.getFinalDamage(), Double::sum));
-
-        if (damageByPlayer.isEmpty()) {
-            return Collections.emptyList();
+        double totalAssistDamage = 0;
+        for (int i = 0; i < log.getAttackerCount(); i++) {
+            if (log.isAttackerTotal(i, victimUUID) || log.isAttackerTotal(i, killerId)) continue;
+            totalAssistDamage += log.getAttackerDamage(i);
         }
 
-        double totalAssistDamage = damageByPlayer.values().stream().mapToDouble(Double::doubleValue).sum();
-        if (totalAssistDamage == 0) {
+        if (totalAssistDamage <= 0) {
             return Collections.emptyList();
         }
 
         List<KillAssist> assists = new ArrayList<>();
-        for (Map.Entry<UUID, Double> entry : damageByPlayer.entrySet()) {
-            Player attacker = Bukkit.getPlayer(entry.getKey());
-            if (attacker == null) continue;
+        for (int i = 0; i < log.getAttackerCount(); i++) {
+            if (log.isAttackerTotal(i, victimUUID) || log.isAttackerTotal(i, killerId)) continue;
 
-            double damageDealt = entry.getValue();
+            double damageDealt = log.getAttackerDamage(i);
             int percentage = (int) ((damageDealt / totalAssistDamage) * 100);
+            if (percentage < config.assistThresholdPercentage()) continue;
 
-            if (percentage >= config.assistThresholdPercentage()) {
-                assists.add(new KillAssist(attacker, damageDealt, percentage));
-            }
+            Player attacker = Bukkit.getPlayer(log.getAttacker(i));
+            if (attacker == null) continue;
+
+            assists.add(new KillAssist(attacker, damageDealt, percentage));
         }
 
         assists.sort(Collections.reverseOrder());
         return assists;
     }
     
-    public List<Component> getDamageSummary(Player viewer, List<DamageTick> ticksToSummarize) {
+    /**
+     * Builds the death summary lines for a log, newest entry first.
+     */
+    public List<Component> getDamageSummary(Player viewer, CombatLog log) {
         LanguageManager lang = plugin.getLanguageManager();
-        List<Component> components = new ArrayList<>();
+        List<Component> components = new ArrayList<>(log.size());
         
-        for (DamageTick tick : ticksToSummarize) {
+        for (int i = log.size() - 1; i >= 0; i--) {
+            DamageTick tick = log.getSource(i);
             Component summaryComponent = tick.getSingleLineSummary(viewer, lang, this);
-            String damageStr = DAMAGE_FORMAT.format(tick.getFinalDamage());
+            String damageStr = DAMAGE_FORMAT.format(log.getDamage(i));
             Component timeDiffComponent = tick.getTimeDifferenceComponent(viewer, lang, this);
 
             components.add(
@@ -378,25 +480,59 @@ public class DamageManager {
     }
 
     public DamageTick getLastLoggedTick(UUID uuid) {
-        List<DamageTick> cleanedDamageTicks = getLoggedTicks(uuid);
-        // Correctly get the last element from the cleaned list
-        return cleanedDamageTicks.isEmpty() ? null : cleanedDamageTicks.get(cleanedDamageTicks.size() - 1);
+        CombatLog log = getCombatLog(uuid);
+        return log == null ? null : log.getNewest();
     }
 
-    public List<DamageTick> getLoggedTicks(UUID uuid) {
-        List<DamageTick> actualTicks = damageTicks.get(uuid);
-        if (actualTicks != null && !actualTicks.isEmpty()) {
-            List<DamageTick> ticksCopy = new ArrayList<>(actualTicks);
-            cleanupListInPlace(ticksCopy);
-            return ticksCopy;
+    /**
+     * Gets a victim's combat log with expired entries dropped. The log is returned as-is,
+     * not copied, so it should be read straight away and not kept.
+     *
+     * @param uuid The victim's UUID.
+     * @return The live log, or {@code null} if nothing has been logged for the victim.
+     */
+    @Nullable
+    public CombatLog getCombatLog(UUID uuid) {
+        CombatLog log = combatLogs.get(uuid);
+        if (log != null) {
+            log.expire(Bukkit.getCurrentTick(), logTimeoutTicks);
         }
-        return Collections.emptyList();
+        return log;
     }
 
     public void dump(UUID uuid) {
-        damageTicks.remove(uuid);
+        combatLogs.remove(uuid);
     }
     
     public WizardsPlugin getPlugin() { return plugin; }
     public DamageConfig getConfig() { return config; }
-}
\ No newline at end of file
+    public ArmorProtectionCache getProtectionCache() { return protectionCache; }
+
+    /** Identifies the hits that are combined: same victim, attacker and reason. */
+    private record HitKey(UUID victimId, @Nullable UUID attackerId, String reason) {}
+
+    /** The hits queued for one {@link HitKey} during the current tick. */
+    private static final class PendingHits {
+
+        private final LivingEntity victim;
+        private final DamageTick tick;
+
+        private double baseDamage;
+        private int hits;
+        private Vector knockback;
+
+        private PendingHits(LivingEntity victim, DamageTick tick) {
+            this.victim = victim;
+            this.tick = tick;
+        }
+
+        private void add(DamageTick hit, @Nullable Vector hitKnockback) {
+            baseDamage += hit.getBaseDamage();
+            hits++;
+
+            if (hitKnockback != null) {
+                knockback = knockback == null ? hitKnockback : knockback.add(hitKnockback);
+            }
+        }
+    }
+}
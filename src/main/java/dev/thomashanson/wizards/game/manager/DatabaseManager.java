@@ -7,9 +7,15 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -17,18 +23,47 @@ import org.bukkit.plugin.java.JavaPlugin;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
+import dev.thomashanson.wizards.game.scheduler.TickTimings;
+
 /**
  * Manages the connection pool and executes asynchronous database queries.
  * <p>
  * This class uses a {@link HikariDataSource} for high-performance connection pooling.
  * It provides methods for executing updates (INSERT, UPDATE) and queries (SELECT)
  * on a separate thread, returning results to the main server thread via a callback.
+ * <p>
+ * Bulk writes, such as the stats and rewards at the end of a game, go through a
+ * write-behind queue instead: they are collected into a {@link WriteBatch} and
+ * {@link #submit(WriteBatch) submitted} as one unit, which a single writer thread
+ * flushes as JDBC batches inside one transaction. A failed flush is rolled back and
+ * retried with exponential backoff. The queue is bounded, and a batch which would
+ * overflow it is rejected and logged rather than piling up in memory.
  */
 public class DatabaseManager {
 
+    /** The most batches that may be waiting for the writer at once. */
+    private static final int MAX_QUEUED_BATCHES = 32;
+
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 500L;
+
+    /** How long {@link #disconnect()} waits for queued batches to be written. */
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_SECONDS = 15L;
+
     private final JavaPlugin plugin;
     private final HikariDataSource dataSource;
 
+    private final BlockingQueue<WriteBatch> writeQueue = new ArrayBlockingQueue<>(MAX_QUEUED_BATCHES);
+    private final Thread writerThread;
+    private volatile boolean acceptingWrites = true;
+
+    /** Flush latency of each batch, from submission to commit. Only touched on the main thread. */
+    private final TickTimings flushTimings = new TickTimings();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong rejectedBatches = new AtomicLong();
+    private final AtomicLong flushRetries = new AtomicLong();
+
     /**
      * Creates a new DatabaseManager and initializes the Hikari connection pool.
      *
@@ -51,21 +86,215 @@ public class DatabaseManager {
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        // Lets the driver send a JDBC batch of upserts as one multi-row statement
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
         config.setMaximumPoolSize(10); // Max number of connections
         config.setConnectionTimeout(30000); // 30 seconds
 
         this.dataSource = new HikariDataSource(config);
+
+        this.writerThread = new Thread(this::runWriter, "Wizards-DB-Writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
     }
 
     /**
-     * Closes the database connection pool.
+     * Writes out any queued batches, then closes the database connection pool.
      */
     public void disconnect() {
+        // Not interrupted: that could abort a write in progress. The writer notices
+        // within a second, drains the queue and exits on its own.
+        acceptingWrites = false;
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_FLUSH_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!writeQueue.isEmpty()) {
+            plugin.getLogger().severe(String.format("%d database write batch(es) could not be written before shutdown.", writeQueue.size()));
+        }
+
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
     }
 
+    /**
+     * Starts a new batch of writes to be submitted together.
+     *
+     * @param name A short description of the batch, used in logs (e.g. "end of game stats").
+     * @return The new, empty batch.
+     */
+    public WriteBatch newBatch(String name) {
+        return new WriteBatch(name);
+    }
+
+    /**
+     * Queues a batch for the write-behind writer. Every statement in the batch is written
+     * in a single transaction; statements sharing the same SQL are sent as one JDBC batch.
+     *
+     * @param batch The batch to write. Empty batches are ignored.
+     * @return {@code true} if the batch was queued, {@code false} if it was rejected
+     * because the queue is full or the manager is shutting down.
+     */
+    public boolean submit(WriteBatch batch) {
+        if (batch.isEmpty()) return true;
+
+        batch.submittedAt = System.nanoTime();
+
+        if (!acceptingWrites || !writeQueue.offer(batch)) {
+            rejectedBatches.incrementAndGet();
+            plugin.getLogger().severe(String.format("Database write queue is full (%d batches); dropping '%s' with %d row(s).",
+                    MAX_QUEUED_BATCHES, batch.name, batch.size()));
+            return false;
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        while (true) {
+            WriteBatch batch;
+            try {
+                batch = writeQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                batch = null;
+            }
+
+            if (batch != null) {
+                flush(batch, acceptingWrites);
+            } else if (!acceptingWrites) {
+                break;
+            }
+        }
+
+        // Shutting down; each remaining batch gets a single attempt.
+        WriteBatch batch;
+        while ((batch = writeQueue.poll()) != null) {
+            flush(batch, false);
+        }
+    }
+
+    private void flush(WriteBatch batch, boolean retry) {
+        long delay = INITIAL_RETRY_DELAY_MILLIS;
+
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                write(batch);
+                flushedBatches.incrementAndGet();
+                recordFlush(System.nanoTime() - batch.submittedAt);
+                return;
+
+            } catch (SQLException e) {
+                if (!retry || attempt == MAX_FLUSH_ATTEMPTS) {
+                    failedBatches.incrementAndGet();
+                    plugin.getLogger().log(Level.SEVERE, String.format("Could not write database batch '%s' (%d row(s)) after %d attempt(s).",
+                            batch.name, batch.size(), attempt), e);
+                    return;
+                }
+
+                flushRetries.incrementAndGet();
+                plugin.getLogger().warning(String.format("Database batch '%s' failed (attempt %d/%d), retrying in %dms: %s",
+                        batch.name, attempt, MAX_FLUSH_ATTEMPTS, delay, e.getMessage()));
+
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    retry = false;
+                }
+                // Shutdown was requested in the meantime; make one last attempt.
+                if (!acceptingWrites) {
+                    retry = false;
+                }
+                delay *= 2;
+            }
+        }
+    }
+
+    private void write(WriteBatch batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                for (Map.Entry<String, List<Object[]>> entry : batch.statements.entrySet()) {
+                    try (PreparedStatement statement = connection.prepareStatement(entry.getKey())) {
+                        for (Object[] params : entry.getValue()) {
+                            for (int i = 0; i < params.length; i++) {
+                                statement.setObject(i + 1, params[i]);
+                            }
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                    }
+                }
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void recordFlush(long nanos) {
+        // The timings are main-thread only, like every other TickTimings
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> flushTimings.record(nanos));
+        }
+    }
+
+    /** @return How long queued batches took from submission to commit. */
+    public TickTimings getFlushTimings() { return flushTimings; }
+    public int getQueuedBatches() { return writeQueue.size(); }
+    public long getFlushedBatches() { return flushedBatches.get(); }
+    public long getFailedBatches() { return failedBatches.get(); }
+    public long getRejectedBatches() { return rejectedBatches.get(); }
+    public long getFlushRetries() { return flushRetries.get(); }
+
+    /**
+     * A set of writes to be flushed together in one transaction. Built on the main
+     * thread and handed to the writer by {@link #submit(WriteBatch)}; it must not be
+     * changed after that.
+     */
+    public static final class WriteBatch {
+
+        private final String name;
+        /** Parameter rows grouped by statement, in the order each statement was first added. */
+        private final Map<String, List<Object[]>> statements = new LinkedHashMap<>();
+        private int size;
+        private long submittedAt;
+
+        private WriteBatch(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds one execution of a statement to the batch.
+         *
+         * @param sql    The SQL statement with '?' placeholders.
+         * @param params The parameters to be safely inserted into the query.
+         * @return This batch, for chaining.
+         */
+        public WriteBatch add(String sql, Object... params) {
+            statements.computeIfAbsent(sql, key -> new ArrayList<>()).add(params);
+            size++;
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** @return The number of rows in the batch. */
+        public int size() {
+            return size;
+        }
+    }
+
     /**
      * Executes an update query (INSERT, UPDATE, DELETE) asynchronously
      * on a separate thread.
@@ -6,7 +6,6 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
@@ -25,6 +24,7 @@ import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.Wizards;
 import dev.thomashanson.wizards.game.manager.PlayerStatsManager.StatType;
 import dev.thomashanson.wizards.game.mode.WizardsMode;
+import dev.thomashanson.wizards.game.scheduler.TickScheduler;
 import dev.thomashanson.wizards.game.state.GameState;
 import dev.thomashanson.wizards.game.state.listener.GameListener;
 import dev.thomashanson.wizards.scoreboard.ScoreboardOptions;
@@ -62,10 +62,11 @@ public class GameManager implements Listener {
     private long gameTickCounter = 0;
 
     /**
-     * A thread-safe list of all components that need to be updated by the master loop.
-     * This includes the active game instance itself, disasters, and any ticking spells.
+     * Runs all components that need to be updated by the master loop, phase by phase
+     * and within the configured time budget. This includes the active game instance
+     * itself, its HUD, disasters, and any ticking spells.
      */
-    private final List<Tickable> tickableComponents = new CopyOnWriteArrayList<>();
+    private final TickScheduler tickScheduler;
 
     private GameState state;
     private WizardsMode nextGameMode;
@@ -79,6 +80,7 @@ public class GameManager implements Listener {
     public GameManager(WizardsPlugin plugin) {
         this.plugin = plugin;
         this.kitManager = new KitManager(plugin);
+        this.tickScheduler = new TickScheduler(plugin);
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
 
         String defaultModeStr = plugin.getConfig().getString("mode", "SOLO_NORMAL");
@@ -161,32 +163,26 @@ public class GameManager implements Listener {
             return;
         }
       
-        // The active game instance itself is the first tickable component.
-        // We will move the logic from Wizards#updateGame into Wizards#tick.
-        registerTickable(activeGame);
-
-        // Now, find and register all spells that are tickable
-        for (dev.thomashanson.wizards.game.spell.Spell spell : plugin.getSpellManager().getAllSpells().values()) {
-            if (spell instanceof Tickable) {
-                registerTickable((Tickable) spell);
-                plugin.getLogger().info(String.format("Registered tickable spell: ", spell.getKey()));
-            }
+        // The active game instance itself is the first tickable component,
+        // followed by its staggered periodic jobs and HUD.
+        activeGame.getTickables().forEach(this::registerTickable);
+
+        // Spell effects are not registered up front. The game's effect runtime registers
+        // itself when the first effect starts and drops out again once the last one
+        // finishes; it is only added here if effects were started before the loop ran.
+        // The game's timing wheel works the same way for pending timers.
+        if (!activeGame.getSpellEffects().isIdle()) {
+            registerTickable(activeGame.getSpellEffects());
+        }
+        if (!activeGame.getTimers().isIdle()) {
+            registerTickable(activeGame.getTimers());
         }
 
+        tickScheduler.resetTimings();
+
         masterTickTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            // Iterate through all registered components and tick them.
-            for (Tickable component : tickableComponents) {
-                if (gameTickCounter % component.getTickInterval() == 0) {
-                    try {
-                        component.tick(gameTickCounter);
-                    } catch (Exception e) {
-                        // Catching exceptions here prevents one faulty component
-                        // (e.g., a broken spell) from crashing the entire game loop.
-                        plugin.getLogger().severe(String.format("Error while ticking component: %s", component.getClass().getSimpleName()));
-                        e.printStackTrace();
-                    }
-                }
-            }
+            // Run every registered component, phase by phase.
+            tickScheduler.tick(gameTickCounter);
             gameTickCounter++;
         }, 0L, 1L);
     }
@@ -197,7 +193,7 @@ public class GameManager implements Listener {
             masterTickTask = null;
         }
         // Clear all tickable components to prepare for the next game
-        tickableComponents.clear();
+        tickScheduler.clear();
         gameTickCounter = 0;
     }
 
@@ -207,7 +203,7 @@ public class GameManager implements Listener {
      */
     public void registerTickable(Tickable component) {
         Objects.requireNonNull(component, "Tickable component cannot be null");
-        tickableComponents.add(component);
+        tickScheduler.register(component);
     }
 
     /**
@@ -215,7 +211,7 @@ public class GameManager implements Listener {
      * @param component The Tickable component to remove.
      */
     public void unregisterTickable(Tickable component) {
-        tickableComponents.remove(component);
+        tickScheduler.unregister(component);
     }
 
     public void handleListeners() {
@@ -434,4 +430,16 @@ public class GameManager implements Listener {
     public KitManager getKitManager() {
         return this.kitManager;
     }
+
+    public TickScheduler getTickScheduler() {
+        return this.tickScheduler;
+    }
+
+    public boolean isGameLoopRunning() {
+        return this.masterTickTask != null;
+    }
+
+    public long getGameTick() {
+        return this.gameTickCounter;
+    }
 }
\ No newline at end of file
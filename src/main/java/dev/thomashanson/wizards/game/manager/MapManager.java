@@ -1,9 +1,11 @@
 package dev.thomashanson.wizards.game.manager;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Bukkit;
 import org.bukkit.event.HandlerList;
@@ -11,16 +13,24 @@ import org.bukkit.event.HandlerList;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.game.listener.WorldListener;
 import dev.thomashanson.wizards.game.mode.WizardsMode;
+import dev.thomashanson.wizards.map.ChunkPreloader;
 import dev.thomashanson.wizards.map.LocalGameMap;
+import dev.thomashanson.wizards.map.MapCatalog;
+import dev.thomashanson.wizards.map.MapInstancePool;
 
 /**
  * Manages the loading, selection, and lifecycle of all {@link LocalGameMap}s.
  * <p>
  * This manager is responsible for:
  * <ul>
- * <li>Loading all map configurations from the {@code /maps/} directory on startup.</li>
+ * <li>Loading all maps from the {@code /maps/} directory on startup, through the
+ * {@link MapCatalog}, so only maps that changed since the last start have their data parsed.</li>
  * <li>Tracking the currently active {@link LocalGameMap} for the game.</li>
  * <li>Handling the loading (copying) and unloading (deleting) of active map worlds.</li>
+ * <li>Choosing the next map early and staging its copy in the background through the
+ * {@link MapInstancePool}, so starting the next game only has to create the world.</li>
+ * <li>Preloading the active map's chunks during the lobby countdown and holding them
+ * until the game is reset, through the {@link ChunkPreloader}.</li>
  * <li>Registering and unregistering global {@link WorldListener}s.</li>
  * </ul>
  */
@@ -41,6 +51,19 @@ public class MapManager {
     /** The listener for global, non-game-specific world events (e.g., block burn, leaf decay). */
     private WorldListener worldListener;
 
+    /** The index of every map folder, read on startup. */
+    private MapCatalog catalog;
+
+    /** Ready-to-load copies of the maps, staged and deleted in the background. */
+    private final MapInstancePool instancePool;
+
+    /** Loads and holds the active map's chunks. */
+    private final ChunkPreloader chunkPreloader;
+
+    /** The map chosen for the next game, which is being or has been staged. */
+    private LocalGameMap nextMap;
+    private WizardsMode nextMapMode;
+
     /**
      * Creates a new MapManager.
      *
@@ -49,6 +72,8 @@ public class MapManager {
     public MapManager(WizardsPlugin plugin) {
         this.plugin = plugin;
         this.mapEditingManager = new MapEditingManager();
+        this.instancePool = new MapInstancePool(plugin);
+        this.chunkPreloader = new ChunkPreloader(plugin);
     }
 
     /**
@@ -66,6 +91,26 @@ public class MapManager {
         HandlerList.unregisterAll(worldListener);
     }
 
+    /**
+     * Finds every map in a folder through the {@link MapCatalog}, adding each one without
+     * reading its {@code data.yml}. Called once, on startup.
+     *
+     * @param mapsFolder The folder holding one sub-folder per map.
+     * @return The number of maps added.
+     */
+    public int loadMaps(File mapsFolder) {
+        this.catalog = new MapCatalog(mapsFolder, plugin.getLogger());
+
+        List<MapCatalog.Entry> entries = catalog.refresh();
+        for (MapCatalog.Entry entry : entries) {
+            addMap(new LocalGameMap(plugin, mapsFolder, entry.folder(), entry));
+        }
+
+        plugin.getLogger().info(String.format("Map catalog: %d maps, %d re-indexed, in %dms.",
+                entries.size(), catalog.getRebuilt(), catalog.getBuildMillis()));
+        return entries.size();
+    }
+
     /**
      * Adds a newly discovered {@link LocalGameMap} to the manager's list
      * and sorts it into the mode-specific cache.
@@ -109,16 +154,8 @@ public class MapManager {
      * @return A list of compatible maps.
      */
     public List<LocalGameMap> getAllMaps(WizardsMode mode) {
-
-        List<LocalGameMap> modeSpecific = new ArrayList<>();
-
-        for (LocalGameMap map : allMaps) {
-
-            if (map.getModes().contains(mode))
-                modeSpecific.add(map);
-        }
-
-        return modeSpecific;
+        // A copy, since callers are free to filter it
+        return new ArrayList<>(modeMapsCache.getOrDefault(mode, List.of()));
     }
 
     /**
@@ -134,8 +171,14 @@ public class MapManager {
             return;
         }
 
+        if (newActiveMap != null && newActiveMap.equals(nextMap)) {
+            // Chosen by hand ahead of the next game
+            nextMap = null;
+        }
+
         // Unload the old map first, if it exists.
         if (this.activeMap != null) {
+            chunkPreloader.release();
             this.activeMap.unload();
         }
 
@@ -145,7 +188,86 @@ public class MapManager {
         if (this.activeMap != null) {
             this.activeMap.load(); // The map is now loaded here.
             Bukkit.getLogger().info(String.format("%s selected as active map.", this.activeMap.getName()));
+
+            if (this.activeMap.isLoaded()) {
+                chunkPreloader.start(this.activeMap);
+            }
+        }
+    }
+
+    /**
+     * Chooses the map for the next game in a mode and starts staging a copy of it in the
+     * background. Meant to be called while the current game is still running. A map
+     * already chosen for the same mode is kept.
+     *
+     * @param mode The mode of the next game.
+     */
+    public void prepareNextMap(WizardsMode mode) {
+        if (nextMap != null && nextMapMode == mode) {
+            return;
+        }
+
+        List<LocalGameMap> candidates = getAllMaps(mode);
+        if (candidates.size() > 1) {
+            // Prefer a different map from the one being played
+            candidates.remove(activeMap);
+        }
+        if (candidates.isEmpty()) {
+            nextMap = null;
+            return;
+        }
+
+        nextMap = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        nextMapMode = mode;
+        instancePool.fill(nextMap);
+    }
+
+    /**
+     * Picks the map for a new game: the one prepared by {@link #prepareNextMap} if it was
+     * prepared for the same mode, or a random compatible map otherwise.
+     *
+     * @param mode The mode of the new game.
+     * @return The chosen map, or {@code null} if no map supports the mode.
+     */
+    public LocalGameMap chooseNextMap(WizardsMode mode) {
+        LocalGameMap prepared = nextMap;
+        nextMap = null;
+
+        if (prepared != null && nextMapMode == mode) {
+            return prepared;
         }
+
+        List<LocalGameMap> maps = getAllMaps(mode);
+        return maps.isEmpty() ? null : maps.get(ThreadLocalRandom.current().nextInt(maps.size()));
+    }
+
+    /**
+     * @return The map catalog, or {@code null} before the maps have been loaded.
+     */
+    public MapCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * @return The preloader holding the active map's chunks.
+     */
+    public ChunkPreloader getChunkPreloader() {
+        return chunkPreloader;
+    }
+
+    /**
+     * @return The pool of staged map copies.
+     */
+    public MapInstancePool getInstancePool() {
+        return instancePool;
+    }
+
+    /**
+     * Deletes the staged map copies and waits for outstanding copies and deletions.
+     * Called once, when the plugin is disabled, after the active map has been unloaded.
+     */
+    public void shutdown() {
+        instancePool.shutdown();
     }
 
     /**
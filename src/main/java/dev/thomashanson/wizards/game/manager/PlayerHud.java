@@ -0,0 +1,109 @@
+package dev.thomashanson.wizards.game.manager;
+
+import org.bukkit.Material;
+
+import dev.thomashanson.wizards.game.potion.PotionType;
+import dev.thomashanson.wizards.game.spell.Spell;
+
+/**
+ * The last HUD state sent to a single player, used by {@link WizardManager} so the
+ * per-tick HUD update only sends a boss bar, action bar or cooldown packet when the
+ * value the player would see has actually changed.
+ * <p>
+ * Values are kept in the form they are rendered in (whole mana, tenths of a second,
+ * quantized bar progress) rather than as raw floats, so that regeneration ticking
+ * mana up by a fraction does not count as a change.
+ */
+final class PlayerHud {
+
+    /** Boss bar progress is quantized to this many steps, well below what a client can display. */
+    static final int PROGRESS_STEPS = 200;
+
+    /**
+     * The client fades an action bar message out after about three seconds, so an unchanged
+     * message is still re-sent at this interval to keep it on screen.
+     */
+    static final int ACTION_BAR_REFRESH_TICKS = 40;
+
+    /** How far the held wand's cooldown may drift from the last one sent before it is re-sent. */
+    static final int COOLDOWN_TOLERANCE_TICKS = 2;
+
+    static final int ACTION_BAR_EMPTY = 0;
+    static final int ACTION_BAR_WAND = 1;
+    static final int ACTION_BAR_COOLDOWN = 2;
+    static final int ACTION_BAR_READY = 3;
+
+    // Mana boss bar
+    int manaShown;
+    int maxManaShown;
+    int manaRegenTenths;
+    int manaProgress;
+
+    // Potion boss bar
+    PotionType potionShown;
+    long potionTitleKey;
+    int potionProgress;
+
+    // Action bar
+    int actionBarMode;
+    Spell actionBarSpell;
+    int actionBarValue;
+    int actionBarSentTick;
+
+    // Held wand cooldown
+    int cooldownSlot;
+    Material cooldownMaterial;
+    int cooldownEndTick;
+
+    PlayerHud() {
+        invalidate();
+    }
+
+    /**
+     * Forgets everything that was sent so the next update re-sends the full HUD.
+     */
+    void invalidate() {
+        manaShown = -1;
+        maxManaShown = -1;
+        manaRegenTenths = Integer.MIN_VALUE;
+        manaProgress = -1;
+
+        potionShown = null;
+        potionTitleKey = Long.MIN_VALUE;
+        potionProgress = -1;
+
+        actionBarMode = -1;
+        actionBarSpell = null;
+        actionBarValue = Integer.MIN_VALUE;
+        actionBarSentTick = Integer.MIN_VALUE;
+
+        cooldownSlot = -1;
+        cooldownMaterial = null;
+        cooldownEndTick = 0;
+    }
+
+    /**
+     * Records the action bar about to be sent.
+     *
+     * @return {@code true} if it differs from the last one sent, or the last one is about to fade.
+     */
+    boolean updateActionBar(int mode, Spell spell, int value, int currentTick) {
+        if (mode == actionBarMode && spell == actionBarSpell && value == actionBarValue
+                && currentTick - actionBarSentTick < ACTION_BAR_REFRESH_TICKS) {
+            return false;
+        }
+        actionBarMode = mode;
+        actionBarSpell = spell;
+        actionBarValue = value;
+        actionBarSentTick = currentTick;
+        return true;
+    }
+
+    static int quantize(double progress) {
+        return (int) Math.round(Math.min(1.0, Math.max(0.0, progress)) * PROGRESS_STEPS);
+    }
+
+    static double dequantize(int steps) {
+        return steps / (double) PROGRESS_STEPS;
+    }
+}
@@ -5,7 +5,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -57,9 +56,52 @@ public class PlayerStatsManager {
      * In-memory cache for all stats accumulated *during the current game session*.
      * This map is cleared after {@link #saveAllPlayerStats(WizardsMode)} is called.
      * <p>
-     * Format: {@literal Map<PlayerUUID, Map<StatKey, Value>>}
+     * Session stats are only ever written from the main server thread (mana regen alone
+     * updates every wizard on every tick), so they are kept in a plain map of primitive
+     * arrays without any locking. Anything leaving the main thread, such as the end-of-game
+     * database write, works on a snapshot instead.
      */
-    private final Map<UUID, Map<String, Double>> playerStats = new ConcurrentHashMap<>();
+    private final Map<UUID, SessionStats> playerStats = new HashMap<>();
+
+    private static final StatType[] STAT_TYPES = StatType.values();
+
+    private static final String UPSERT_STAT_SQL =
+            "INSERT INTO player_stats (player_uuid, game_mode, stat_key, stat_value) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "stat_value = stat_value + VALUES(stat_value);";
+
+    /**
+     * One player's session stats, indexed by {@link StatType#ordinal()}.
+     */
+    private static final class SessionStats {
+
+        final double[] values = new double[STAT_TYPES.length];
+
+        /** Bit {@code i} is set once stat {@code i} has been recorded, even if its value is 0. */
+        long recorded;
+
+        SessionStats copy() {
+            SessionStats copy = new SessionStats();
+            System.arraycopy(values, 0, copy.values, 0, values.length);
+            copy.recorded = recorded;
+            return copy;
+        }
+
+        boolean isRecorded(StatType stat) {
+            return (recorded & (1L << stat.ordinal())) != 0;
+        }
+
+        Map<String, Double> toMap() {
+            Map<String, Double> map = new HashMap<>();
+            for (StatType stat : STAT_TYPES) {
+                if (isRecorded(stat)) {
+                    map.put(stat.getKey(), values[stat.ordinal()]);
+                }
+            }
+            return map;
+        }
+    }
 
     /**
      * Defines all valid, trackable statistics.
@@ -143,10 +185,9 @@ public class PlayerStatsManager {
         if (playerUuid == null || stat == null) {
             return;
         }
-        // computeIfAbsent ensures the player has an entry in the outer map.
-        // merge updates the specific stat, summing the new value with any existing value.
-        playerStats.computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
-                   .merge(stat.getKey(), value, Double::sum);
+        SessionStats stats = getOrCreate(playerUuid);
+        stats.values[stat.ordinal()] += value;
+        stats.recorded |= 1L << stat.ordinal();
     }
 
     /**
@@ -174,8 +215,18 @@ public class PlayerStatsManager {
         if (playerUuid == null || stat == null) {
             return;
         }
-        playerStats.computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
-                   .put(stat.getKey(), value);
+        SessionStats stats = getOrCreate(playerUuid);
+        stats.values[stat.ordinal()] = value;
+        stats.recorded |= 1L << stat.ordinal();
+    }
+
+    private SessionStats getOrCreate(UUID playerUuid) {
+        SessionStats stats = playerStats.get(playerUuid);
+        if (stats == null) {
+            stats = new SessionStats();
+            playerStats.put(playerUuid, stats);
+        }
+        return stats;
     }
 
 
@@ -204,8 +255,8 @@ public class PlayerStatsManager {
         if (playerUuid == null || stat == null) {
             return 0.0;
         }
-        return playerStats.getOrDefault(playerUuid, Collections.emptyMap())
-                          .getOrDefault(stat.getKey(), 0.0);
+        SessionStats stats = playerStats.get(playerUuid);
+        return stats != null ? stats.values[stat.ordinal()] : 0.0;
     }
 
     /**
@@ -233,12 +284,12 @@ public class PlayerStatsManager {
         if (playerUuid == null) {
             return Collections.emptyMap();
         }
-        Map<String, Double> stats = playerStats.get(playerUuid);
+        SessionStats stats = playerStats.get(playerUuid);
         if (stats == null) {
             return Collections.emptyMap();
         }
-        // Return a copy to prevent external modification of the internal map
-        return new HashMap<>(stats);
+        // Return a copy to prevent external modification of the stored stats
+        return stats.toMap();
     }
 
     /**
@@ -282,33 +333,45 @@ public class PlayerStatsManager {
      * @param mode The {@link WizardsMode} that was just played.
      */
     public void saveAllPlayerStats(WizardsMode mode) {
+        DatabaseManager.WriteBatch batch = plugin.getDatabaseManager().newBatch("session stats");
+        saveAllPlayerStats(mode, batch);
+        plugin.getDatabaseManager().submit(batch);
+    }
+
+    /**
+     * Adds the upserts for all accumulated session stats to a write batch, so they are
+     * written in the same transaction as the rest of the batch, then clears the
+     * session stats.
+     *
+     * @param mode  The {@link WizardsMode} that was just played.
+     * @param batch The batch to add the stat rows to. The caller submits it.
+     */
+    private void saveAllPlayerStats(WizardsMode mode, DatabaseManager.WriteBatch batch) {
         String gameModeName = mode.name();
 
-        // Loop through each player's UUID in the session stats map
-        playerStats.forEach((uuid, sessionStats) -> {
+        // Take the snapshot once, up front; the live stats are cleared below.
+        Map<UUID, SessionStats> snapshot = snapshotAllPlayerStats();
+
+        // Loop through each player's UUID in the session stats snapshot
+        snapshot.forEach((uuid, sessionStats) -> {
             
             String playerUUID = uuid.toString();
 
             // Loop through this player's individual stats for the session
-            for (Map.Entry<String, Double> entry : sessionStats.entrySet()) {
+            for (StatType stat : STAT_TYPES) {
                 
-                String statKey = entry.getKey();
-                double statValue = entry.getValue();
+                String statKey = stat.getKey();
+                double statValue = sessionStats.values[stat.ordinal()];
 
                 if (statValue == 0) continue;
 
-                String sql = "INSERT INTO player_stats (player_uuid, game_mode, stat_key, stat_value) " +
-                             "VALUES (?, ?, ?, ?) " +
-                             "ON DUPLICATE KEY UPDATE " +
-                             "stat_value = stat_value + VALUES(stat_value);";
-
-                plugin.getDatabaseManager().executeUpdateAsync(sql, playerUUID, gameModeName, statKey, statValue);
+                batch.add(UPSERT_STAT_SQL, playerUUID, gameModeName, statKey, statValue);
             }
         });
 
-        // After sending all save requests to the database, clear the in-memory map.
+        // The stats now live in the batch, so the in-memory map can be cleared.
         clearAllGameStats();
-        plugin.getLogger().info("All player session stats have been sent to the database and the cache has been cleared.");
+        plugin.getLogger().info(String.format("Queued %d database write(s) for the session stats and cleared the cache.", batch.size()));
     }
 
     /**
@@ -320,6 +383,10 @@ public class PlayerStatsManager {
      * @param finalRankings The ordered list of teams, from 1st place down.
      */
     public void processEndGameRewards(Wizards game, List<GameTeam> finalRankings) {
+        // Everything written for this game is flushed together, in one transaction.
+        DatabaseManager.WriteBatch batch = plugin.getDatabaseManager().newBatch("end of game");
+        String gameModeName = game.getCurrentMode().name();
+
         for (int i = 0; i < finalRankings.size(); i++) {
             GameTeam team = finalRankings.get(i);
             int placement = i + 1;
@@ -332,13 +399,13 @@ public class PlayerStatsManager {
                     String sql = "INSERT INTO player_stats (player_uuid, game_mode, stat_key, stat_value) " +
                                 "VALUES (?, ?, 'win_streak', 1) " +
                                 "ON DUPLICATE KEY UPDATE stat_value = stat_value + 1;";
-                    plugin.getDatabaseManager().executeUpdateAsync(sql, uuid.toString(), game.getCurrentMode().name());
+                    batch.add(sql, uuid.toString(), gameModeName);
 
                 } else {
                     String sql = "INSERT INTO player_stats (player_uuid, game_mode, stat_key, stat_value) " +
                                 "VALUES (?, ?, 'win_streak', 0) " +
                                 "ON DUPLICATE KEY UPDATE stat_value = 0;";
-                    plugin.getDatabaseManager().executeUpdateAsync(sql, uuid.toString(), game.getCurrentMode().name());
+                    batch.add(sql, uuid.toString(), gameModeName);
                 }
 
                 incrementStat(uuid, StatType.GAMES_WON, isWinner ? 1 : 0);
@@ -379,7 +446,7 @@ public class PlayerStatsManager {
 
                 if (summary.hasEarnedCoins()) {
                     String sql = "UPDATE players SET coins = coins + ? WHERE uuid = ?";
-                    plugin.getDatabaseManager().executeUpdateAsync(sql, summary.getTotalCoins(), uuid.toString());
+                    batch.add(sql, summary.getTotalCoins(), uuid.toString());
 
                     Player teamMember = Bukkit.getPlayer(uuid);
 
@@ -391,7 +458,8 @@ public class PlayerStatsManager {
         }
 
         // After all rewards are processed, save stats and clear the session cache.
-        saveAllPlayerStats(game.getCurrentMode());
+        saveAllPlayerStats(game.getCurrentMode(), batch);
+        plugin.getDatabaseManager().submit(batch);
     }
 
     /**
@@ -401,10 +469,21 @@ public class PlayerStatsManager {
      */
     public Map<UUID, Map<String, Double>> exportAllPlayerStats() {
         Map<UUID, Map<String, Double>> defensiveCopy = new HashMap<>();
-        playerStats.forEach((uuid, statsMap) -> defensiveCopy.put(uuid, new HashMap<>(statsMap)));
+        playerStats.forEach((uuid, stats) -> defensiveCopy.put(uuid, stats.toMap()));
         return defensiveCopy;
     }
 
+    /**
+     * Copies every player's session stats, so they can be handed off the main thread.
+     *
+     * @return A new map of independent copies of the session stats.
+     */
+    private Map<UUID, SessionStats> snapshotAllPlayerStats() {
+        Map<UUID, SessionStats> snapshot = new HashMap<>(playerStats.size());
+        playerStats.forEach((uuid, stats) -> snapshot.put(uuid, stats.copy()));
+        return snapshot;
+    }
+
     /**
      * Clears all recorded session stats for a specific player from memory.
      *
@@ -178,8 +178,8 @@ public class WandManager {
         Spell spellInSourceSlot = wizard.getSpell(sourceSlot);
         Spell spellInTargetSlot = wizard.getSpell(targetSlot);
 
-        wizard.setSpell(sourceSlot, (spellInTargetSlot != null) ? spellInTargetSlot.getKey() : null);
-        wizard.setSpell(targetSlot, (spellInSourceSlot != null) ? spellInSourceSlot.getKey() : null);
+        wizard.setSpell(sourceSlot, spellInTargetSlot);
+        wizard.setSpell(targetSlot, spellInSourceSlot);
 
         player.sendMessage(lang.getTranslated(player, "wizards.game.wand.swapped",
                 net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.unparsed("slot_1", String.valueOf(sourceSlot + 1)),
@@ -227,7 +227,7 @@ public class WandManager {
         // --- 2. GATHER DATA ---
         double usableTime = 0;
         if (spell != null && activeGame != null && activeGame.isLive()) {
-            usableTime = activeGame.getUsableTime(wizard, spell).getKey();
+            usableTime = activeGame.getUsableSeconds(wizard, spell);
         }
 
         // --- 3. ICON & BUKKIT COOLDOWN ---
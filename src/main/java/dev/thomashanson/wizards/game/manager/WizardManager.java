@@ -31,7 +31,6 @@ import dev.thomashanson.wizards.game.kit.WizardsKit;
 import dev.thomashanson.wizards.game.manager.PlayerStatsManager.StatType;
 import dev.thomashanson.wizards.game.potion.PotionType;
 import dev.thomashanson.wizards.game.spell.Spell;
-import dev.thomashanson.wizards.game.spell.types.SpellSpite;
 import dev.thomashanson.wizards.util.EntityUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -48,7 +47,8 @@ import net.kyori.adventure.text.format.TextDecoration;
  * <li>Creating, storing, and retrieving {@link Wizard} instances for players.</li>
  * <li>Handling player eliminations (death or quit) and managing their transition.</li>
  * <li>Orchestrating the per-player {@code updatePlayerTick} loop, which handles
- * mana regeneration, cooldowns, potion effects, and action bar updates.</li>
+ * mana regeneration, cooldowns and potion effects, and the {@code updatePlayerHud}
+ * loop, which handles boss bars, wand cooldown visuals and action bar updates.</li>
  * <li>Acting as the central hub for game-wide events like power surges.</li>
  * </ul>
  *
@@ -66,8 +66,8 @@ public class WizardManager implements Listener {
     /** Tracks the timestamp of the last global power surge. */
     private Instant lastSurge = Instant.now();
 
-    /** Tracks active custom potion effects and their start times. */
-    private final Map<UUID, Map<PotionType, Instant>> activePotionTimes = new HashMap<>();
+    /** The last HUD state sent to each player, so unchanged values are not re-sent. */
+    private final Map<UUID, PlayerHud> huds = new HashMap<>();
 
     /**
      * Creates a new WizardManager for a specific game instance.
@@ -98,7 +98,7 @@ public class WizardManager implements Listener {
 
         // --- 3. Clear all collections ---
         wizards.clear();
-        activePotionTimes.clear();
+        huds.clear();
 
         // --- 4. Reset state variables ---
         lastSurge = Instant.now();
@@ -123,7 +123,7 @@ public class WizardManager implements Listener {
      * @param death  True if the player died, false if they quit.
      */
     public void handleDeathOrQuit(Player player, boolean death) {
-        activePotionTimes.remove(player.getUniqueId());
+        huds.remove(player.getUniqueId());
         Wizard wizard = wizards.get(player.getUniqueId());
 
         if (wizard != null) {
@@ -242,6 +242,7 @@ public class WizardManager implements Listener {
         wizard.setManaBar(Bukkit.createBossBar(wizard.getManaBarTitle(), BarColor.BLUE, BarStyle.SOLID));
         wizard.getManaBar().addPlayer(player);
         wizard.setPotionStatusBar(Bukkit.createBossBar(wizard.getPotionBarTitle(), BarColor.WHITE, BarStyle.SOLID));
+        invalidateHud(player);
 
         game.getWandManager().issueInitialWands(player);
     }
@@ -263,9 +264,12 @@ public class WizardManager implements Listener {
     }
 
     /**
-     * The main per-player update loop, called by {@link Wizards#tick(long)}.
-     * This method orchestrates all per-tick updates for a single wizard,
-     * such as mana, cooldowns, potions, and UI.
+     * The main per-player simulation update, called by {@link Wizards#tick(long)}.
+     * This method orchestrates the per-tick game state for a single wizard, which
+     * is now just mana regeneration. Cooldowns, Spite and potions end on timers in the
+     * game's {@link dev.thomashanson.wizards.game.scheduler.TimingWheel TimingWheel}
+     * instead of being polled here. Everything that only affects what the player sees
+     * is handled separately by {@link #updatePlayerHud(Player)}.
      *
      * @param player           The player to update.
      * @param gameTickCounter  The current game tick (unused in this implementation).
@@ -276,54 +280,155 @@ public class WizardManager implements Listener {
             return;
         }
         updateMana(wizard);
-        updateWizardInternalCooldownStates(wizard);
-        updatePlayerCooldownVisuals(wizard);
-        updatePotions(wizard);
-        updateActionBar(wizard);
     }
 
     /**
-     * Updates a wizard's mana regeneration and BossBar display.
+     * The per-player HUD update, run in the {@link dev.thomashanson.wizards.game.scheduler.TickPhase#HUD HUD}
+     * phase after the simulation. Refreshes the mana and potion boss bars, wand
+     * cooldown visuals and the action bar, sending each only when what the player
+     * would see has changed since the last update.
+     *
+     * @param player The player to update.
+     */
+    public void updatePlayerHud(Player player) {
+        Wizard wizard = getWizard(player);
+        if (wizard == null || !game.isLive() || player.getGameMode() != GameMode.SURVIVAL) {
+            return;
+        }
+        PlayerHud hud = getHud(player);
+        updateManaBar(wizard, hud);
+        updatePlayerCooldownVisuals(wizard, hud);
+        updatePotionBar(wizard, hud);
+        updateActionBar(wizard, hud);
+    }
+
+    /**
+     * Forces the next HUD update to re-send everything to the player, e.g. after
+     * something outside this manager has redrawn their wands or boss bars.
+     *
+     * @param player The player whose HUD should be re-sent.
+     */
+    public void invalidateHud(Player player) {
+        PlayerHud hud = huds.get(player.getUniqueId());
+        if (hud != null) hud.invalidate();
+    }
+
+    private PlayerHud getHud(Player player) {
+        return huds.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerHud());
+    }
+
+    /**
+     * Updates a wizard's mana regeneration.
      *
      * @param wizard The wizard to update.
      */
     private void updateMana(Wizard wizard) {
         if (wizard.getMana() < wizard.getMaxMana()) {
             wizard.addMana(wizard.getManaPerTick());
-            game.incrementStat(wizard.getPlayer(), StatType.MANA_GAINED, wizard.getManaPerTick());
+            plugin.getStatsManager().incrementStat(wizard.getUniqueId(), StatType.MANA_GAINED, wizard.getManaPerTick());
         }
+    }
 
-        float percentage = Math.min(Math.max(0f, wizard.getMana() / wizard.getMaxMana()), 1f);
-        if (wizard.getManaBar() != null) {
+    /**
+     * Updates a wizard's mana BossBar display.
+     *
+     * @param wizard The wizard to update.
+     */
+    private void updateManaBar(Wizard wizard, PlayerHud hud) {
+        if (wizard.getManaBar() == null) return;
+
+        // Compare in the units the title renders, so fractional regen is not a change
+        int mana = (int) Math.round(Math.max(0, wizard.getMana()));
+        int maxMana = Math.round(wizard.getMaxMana());
+        int regenTenths = (int) Math.round(wizard.getManaPerTick() * 20 * 10);
+
+        if (mana != hud.manaShown || maxMana != hud.maxManaShown || regenTenths != hud.manaRegenTenths) {
             wizard.getManaBar().setTitle(wizard.getManaBarTitle());
-            wizard.getManaBar().setProgress(percentage);
+            hud.manaShown = mana;
+            hud.maxManaShown = maxMana;
+            hud.manaRegenTenths = regenTenths;
+        }
+
+        int progress = PlayerHud.quantize(wizard.getMana() / wizard.getMaxMana());
+        if (progress != hud.manaProgress) {
+            wizard.getManaBar().setProgress(PlayerHud.dequantize(progress));
+            hud.manaProgress = progress;
         }
     }
 
     /**
-     * Updates a wizard's internal cooldown states, such as checking
-     * if a {@link SpellSpite} spell / debuff has expired.
+     * Called by a wizard's cooldown timer on the tick one of their spells is ready again.
+     * Refreshes the wand and action bar straight away rather than waiting on the next
+     * HUD update to notice.
+     *
+     * @param wizard The wizard whose cooldown ended.
+     * @param spell  The spell that is ready.
+     */
+    public void onCooldownReady(Wizard wizard, Spell spell) {
+        Player player = wizard.getPlayer();
+        if (player == null || !game.isLive() || getWizard(player) != wizard) return;
+
+        updatePlayerCooldownVisuals(wizard);
+        updateActionBar(wizard);
+    }
+
+    /**
+     * Called by a wizard's Spite timer when a disabled spell or a mana cost debuff
+     * is lifted, since either changes when their spells can be cast.
+     *
+     * @param wizard The wizard whose debuff ended.
+     */
+    public void onSpiteLifted(Wizard wizard) {
+        Player player = wizard.getPlayer();
+        if (player == null || !game.isLive() || getWizard(player) != wizard) return;
+
+        updatePlayerCooldownVisuals(wizard);
+        updateActionBar(wizard);
+    }
+
+    /**
+     * Brings a player's wand cooldown visuals up to date straight away, e.g. right
+     * after a cast, instead of waiting for the next HUD update.
      *
      * @param wizard The wizard to update.
      */
-    public void updateWizardInternalCooldownStates(Wizard wizard) {
-        if (!game.isLive()) return;
-        // This is handled inside wizard.getDisabledSpellBySpite() now
-        wizard.getDisabledSpellBySpite();
+    public void updatePlayerCooldownVisuals(Wizard wizard) {
+        Player player = wizard.getPlayer();
+        if (player != null) updatePlayerCooldownVisuals(wizard, getHud(player));
     }
 
     /**
      * Updates all visual cooldown indicators for a player, including
      * the Bukkit cooldown graphic on the held item and the item count
      * (as a timer) on non-held wand slots.
+     * <p>
+     * The held wand's cooldown is only re-sent when the held slot, its material or
+     * the cooldown's end tick changes, since the client animates it on its own. Item
+     * counts are compared against the stack itself, which is the displayed value even
+     * after {@link WandManager} rebuilds a wand.
      *
      * @param wizard The wizard to update.
+     * @param hud    The player's last sent HUD state.
      */
-    public void updatePlayerCooldownVisuals(Wizard wizard) {
+    private void updatePlayerCooldownVisuals(Wizard wizard, PlayerHud hud) {
         Player player = wizard.getPlayer();
         if (player == null || !player.isOnline() || !game.isLive()) return;
 
+        int currentTick = Bukkit.getCurrentTick();
         int heldSlot = player.getInventory().getHeldItemSlot();
+        ItemStack heldItem = player.getInventory().getItem(heldSlot);
+        Material heldMaterial = heldItem != null ? heldItem.getType() : null;
+
+        if (hud.cooldownSlot != heldSlot || hud.cooldownMaterial != heldMaterial) {
+            // Switched wands: the old cooldown belongs to a different item now
+            if (hud.cooldownMaterial != null && hud.cooldownMaterial != heldMaterial && player.hasCooldown(hud.cooldownMaterial)) {
+                player.setCooldown(hud.cooldownMaterial, 0);
+            }
+            hud.cooldownSlot = heldSlot;
+            hud.cooldownMaterial = heldMaterial;
+            hud.cooldownEndTick = Integer.MIN_VALUE;
+        }
+
         for (int i = 0; i < wizard.getMaxWands(); i++) {
             Spell spell = wizard.getSpell(i); // This now returns a Spell object
             ItemStack itemInSlot = player.getInventory().getItem(i);
@@ -331,25 +436,33 @@ public class WizardManager implements Listener {
             if (itemInSlot == null || itemInSlot.getType() == Material.AIR) continue;
 
             if (spell == null) {
-                if (player.hasCooldown(itemInSlot.getType())) {
+                if (i != heldSlot && itemInSlot.getType() != heldMaterial && player.hasCooldown(itemInSlot.getType())) {
                     player.setCooldown(itemInSlot.getType(), 0);
                 }
                 continue;
             }
 
-            double usableTimeInSeconds = game.getUsableTime(wizard, spell).getKey();
-            int bukkitCooldownTicks = (int) Math.ceil(usableTimeInSeconds * 20.0);
+            double usableTimeInSeconds = game.getUsableSeconds(wizard, spell);
+            int bukkitCooldownTicks = (int) Math.min(Integer.MAX_VALUE / 2, Math.ceil(usableTimeInSeconds * 20.0));
 
             if (i == heldSlot) {
                 if (bukkitCooldownTicks > 0) {
-                    player.setCooldown(itemInSlot.getType(), bukkitCooldownTicks);
-                } else if (player.hasCooldown(itemInSlot.getType())) {
+                    int endTick = currentTick + bukkitCooldownTicks;
+                    if (Math.abs(endTick - hud.cooldownEndTick) > PlayerHud.COOLDOWN_TOLERANCE_TICKS) {
+                        player.setCooldown(itemInSlot.getType(), bukkitCooldownTicks);
+                        hud.cooldownEndTick = endTick;
+                    }
+                } else if (hud.cooldownEndTick > currentTick || player.hasCooldown(itemInSlot.getType())) {
                     player.setCooldown(itemInSlot.getType(), 0);
+                    hud.cooldownEndTick = currentTick;
                 }
             } else {
-                int displayAmount = (int) Math.ceil(usableTimeInSeconds);
-                itemInSlot.setAmount(Math.max(1, Math.min(64, displayAmount)));
-                if (player.hasCooldown(itemInSlot.getType())) {
+                int displayAmount = Math.max(1, Math.min(64, (int) Math.ceil(usableTimeInSeconds)));
+                if (itemInSlot.getAmount() != displayAmount) {
+                    itemInSlot.setAmount(displayAmount);
+                }
+                // Wands that share the held wand's material share its cooldown, so leave it alone
+                if (itemInSlot.getType() != heldMaterial && player.hasCooldown(itemInSlot.getType())) {
                     player.setCooldown(itemInSlot.getType(), 0);
                 }
             }
@@ -357,77 +470,93 @@ public class WizardManager implements Listener {
     }
 
     /**
-     * Updates a wizard's active potion effect, checking its duration
-     * and deactivating it if it has expired.
+     * Called by a wizard's potion timer on the tick their active potion runs out.
+     *
+     * @param wizard     The wizard whose potion ended.
+     * @param potionType The potion that ended.
+     */
+    private void onPotionExpired(Wizard wizard, PotionType potionType) {
+        Player player = wizard.getPlayer();
+        if (player == null || getWizard(player) != wizard || wizard.getActivePotion() != potionType) return;
+
+        dev.thomashanson.wizards.game.potion.Potion potionInstance = game.getPotions().get(potionType);
+        if (potionInstance != null) {
+            potionInstance.deactivate(wizard);
+        }
+        playerPotionEffectCancelled(player, potionType);
+        player.playSound(player.getLocation(), Sound.BLOCK_BREWING_STAND_BREW, 0.8f, 0.8f);
+    }
+
+    /**
+     * Updates a wizard's potion BossBar to reflect the remaining duration
+     * of their active potion, or hides it if none is active.
      *
      * @param wizard The wizard to update.
      */
-    private void updatePotions(Wizard wizard) {
+    private void updatePotionBar(Wizard wizard, PlayerHud hud) {
         Player player = wizard.getPlayer();
-        if (player == null || !game.isLive()) return;
+        if (player == null || wizard.getPotionStatusBar() == null) return;
 
         PotionType activePotionType = wizard.getActivePotion();
         if (activePotionType == null) {
             if (wizard.getPotionStatusBar().getPlayers().contains(player)) {
                 wizard.getPotionStatusBar().removePlayer(player);
             }
+            hud.potionShown = null;
+            hud.potionProgress = -1;
             return;
         }
 
-        Duration timeRemaining = getPotionDuration(player, activePotionType);
-        if (timeRemaining == null || timeRemaining.isNegative() || timeRemaining.isZero()) {
-            dev.thomashanson.wizards.game.potion.Potion potionInstance = game.getPotions().get(activePotionType);
-            if (potionInstance != null) {
-                potionInstance.deactivate(wizard);
-            }
-            playerPotionEffectCancelled(player, activePotionType);
-            player.playSound(player.getLocation(), Sound.BLOCK_BREWING_STAND_BREW, 0.8f, 0.8f);
-
-        } else if (wizard.getPotionStatusBar() != null) {
+        long remainingMillis = wizard.getPotionRemainingTicks() * 50L;
+        // The title counts down in whole seconds, so only rebuild it when that changes
+        long titleKey = (remainingMillis >= 1000) ? remainingMillis / 1000 : -remainingMillis;
+        if (activePotionType != hud.potionShown || titleKey != hud.potionTitleKey) {
             wizard.getPotionStatusBar().setTitle(wizard.getPotionBarTitle());
-            double totalDuration = activePotionType.getDuration().toMillis();
-            if (totalDuration == 0) totalDuration = 1;
-            wizard.getPotionStatusBar().setProgress(Math.max(0.0, timeRemaining.toMillis() / totalDuration));
-            if (!wizard.getPotionStatusBar().getPlayers().contains(player)) {
-                wizard.getPotionStatusBar().addPlayer(player);
-            }
+            hud.potionShown = activePotionType;
+            hud.potionTitleKey = titleKey;
+        }
+
+        double totalDuration = activePotionType.getDuration().toMillis();
+        if (totalDuration == 0) totalDuration = 1;
+        int progress = PlayerHud.quantize(remainingMillis / totalDuration);
+        if (progress != hud.potionProgress) {
+            wizard.getPotionStatusBar().setProgress(PlayerHud.dequantize(progress));
+            hud.potionProgress = progress;
+        }
+        if (!wizard.getPotionStatusBar().getPlayers().contains(player)) {
+            wizard.getPotionStatusBar().addPlayer(player);
         }
     }
 
     /**
      * Registers that a player has consumed a custom potion, setting it
-     * as their active potion and tracking its start time.
+     * as their active potion and scheduling its expiry.
      *
      * @param player       The player.
      * @param potionType   The potion they consumed.
      * @param consumedAt   The {@link Instant} of consumption.
      */
     public void playerConsumedPotion(Player player, PotionType potionType, Instant consumedAt) {
-        activePotionTimes.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>()).put(potionType, consumedAt);
         Wizard wizard = getWizard(player);
-        if (wizard != null) {
-            wizard.setActivePotion(potionType);
-            if (!wizard.getPotionStatusBar().getPlayers().contains(player)) {
-                wizard.getPotionStatusBar().addPlayer(player);
-            }
+        if (wizard == null) return;
+
+        long elapsedMillis = Math.max(0L, Duration.between(consumedAt, Instant.now()).toMillis());
+        long durationTicks = Math.max(0L, (potionType.getDuration().toMillis() - elapsedMillis) / 50L);
+
+        wizard.startPotion(potionType, durationTicks, () -> onPotionExpired(wizard, potionType));
+        if (!wizard.getPotionStatusBar().getPlayers().contains(player)) {
+            wizard.getPotionStatusBar().addPlayer(player);
         }
     }
     
     /**
-     * Clears an active potion effect from a player, removing it from
-     * the tracking map and their {@link Wizard} object.
+     * Clears an active potion effect from a player, cancelling its
+     * expiry timer and removing it from their {@link Wizard} object.
      *
      * @param player     The player.
      * @param potionType The potion effect to remove.
      */
     public void playerPotionEffectCancelled(Player player, PotionType potionType) {
-        Map<PotionType, Instant> playerTimes = activePotionTimes.get(player.getUniqueId());
-        if (playerTimes != null) {
-            playerTimes.remove(potionType);
-            if (playerTimes.isEmpty()) {
-                activePotionTimes.remove(player.getUniqueId());
-            }
-        }
         Wizard wizard = getWizard(player);
         if (wizard != null && wizard.getActivePotion() == potionType) {
             wizard.setActivePotion(null);
@@ -438,36 +567,62 @@ public class WizardManager implements Listener {
     }
 
     /**
-     * Updates the player's action bar to display information about their
-     * currently held spell, including its name and cooldown status.
+     * Brings a player's action bar up to date straight away, e.g. right after a
+     * cast, instead of waiting for the next HUD update.
      *
      * @param wizard The wizard to update.
      */
     public void updateActionBar(Wizard wizard) {
+        Player player = wizard.getPlayer();
+        if (player != null) updateActionBar(wizard, getHud(player));
+    }
+
+    /**
+     * Updates the player's action bar to display information about their
+     * currently held spell, including its name and cooldown status. The
+     * component is only rebuilt and sent when its text changes, or
+     * periodically to stop the client from fading it out.
+     *
+     * @param wizard The wizard to update.
+     * @param hud    The player's last sent HUD state.
+     */
+    private void updateActionBar(Wizard wizard, PlayerHud hud) {
         Player player = wizard.getPlayer();
         if (player == null || !player.isOnline()) return;
 
+        int currentTick = Bukkit.getCurrentTick();
         int currentSlot = player.getInventory().getHeldItemSlot();
         if (currentSlot < 0 || currentSlot >= wizard.getWandsOwned()) {
-            player.sendActionBar(Component.empty());
+            if (hud.updateActionBar(PlayerHud.ACTION_BAR_EMPTY, null, 0, currentTick)) {
+                player.sendActionBar(Component.empty());
+            }
             return;
         }
 
         Spell spell = wizard.getSpell(currentSlot);
         if (spell == null) {
-            player.sendActionBar(Component.text("Spell Wand", NamedTextColor.AQUA));
+            if (hud.updateActionBar(PlayerHud.ACTION_BAR_WAND, null, 0, currentTick)) {
+                player.sendActionBar(Component.text("Spell Wand", NamedTextColor.AQUA));
+            }
             return;
         }
 
-        double usableTime = game.getUsableTime(wizard, spell).getKey();
+        double usableTime = game.getUsableSeconds(wizard, spell);
         if (usableTime > 0) {
+            // Rendered with one decimal place, so only a change in tenths is visible
+            int tenths = (int) Math.min(Integer.MAX_VALUE, Math.round(usableTime * 10));
+            if (!hud.updateActionBar(PlayerHud.ACTION_BAR_COOLDOWN, spell, tenths, currentTick)) return;
+
             player.sendActionBar(Component.text()
                     .append(Component.text(spell.getName(), NamedTextColor.RED))
                     .append(Component.space())
                     .append(Component.text(String.format("%.1fs", usableTime), NamedTextColor.YELLOW))
                     .build());
         } else {
-            player.sendActionBar(Component.text(spell.getName() + " [" + wizard.getLevel(spell.getKey()) + "]",
+            int level = wizard.getLevel(spell);
+            if (!hud.updateActionBar(PlayerHud.ACTION_BAR_READY, spell, level, currentTick)) return;
+
+            player.sendActionBar(Component.text(spell.getName() + " [" + level + "]",
                     Style.style(NamedTextColor.GREEN, TextDecoration.BOLD)));
         }
     }
@@ -481,15 +636,11 @@ public class WizardManager implements Listener {
      * @return The remaining duration, or {@link Duration#ZERO} if not active or expired.
      */
     public Duration getPotionDuration(Player player, PotionType type) {
-        Map<PotionType, Instant> playerTimes = activePotionTimes.get(player.getUniqueId());
-        if (playerTimes == null || !playerTimes.containsKey(type)) {
-            return Duration.ZERO;
-        }
-        Instant consumedAtWithDuration = playerTimes.get(type).plus(type.getDuration());
-        if (consumedAtWithDuration.isBefore(Instant.now())) {
+        Wizard wizard = getWizard(player);
+        if (wizard == null || wizard.getActivePotion() != type) {
             return Duration.ZERO;
         }
-        return Duration.between(Instant.now(), consumedAtWithDuration);
+        return Duration.ofMillis(wizard.getPotionRemainingTicks() * 50L);
     }
 
     /**
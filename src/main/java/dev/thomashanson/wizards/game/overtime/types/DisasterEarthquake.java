@@ -140,7 +140,7 @@ public class DisasterEarthquake extends Disaster {
             public void run() {
                 if (strikeLocation.getWorld() == null) return; // World might have changed
                 
-                strikeLocation.getWorld().getNearbyEntities(strikeLocation, PLAYER_DAMAGE_RADIUS, PLAYER_DAMAGE_RADIUS, PLAYER_DAMAGE_RADIUS).forEach(entity -> {
+                getGame().getEntityIndex().getNearby(strikeLocation, PLAYER_DAMAGE_RADIUS).forEach(entity -> {
                     if (entity instanceof Player && getGame().getPlayers(true).contains((Player) entity)) {
                         Player player = (Player) entity;
                         // Ensure player is within the current game bounds
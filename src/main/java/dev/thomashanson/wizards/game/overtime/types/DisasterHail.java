@@ -181,7 +181,7 @@ public class DisasterHail extends Disaster {
         }
 
         // --- Damage Players on Ice/Packed Ice in the Area ---
-        world.getNearbyEntities(impactLocation, ICE_CONVERSION_RADIUS, ICE_CONVERSION_RADIUS, ICE_CONVERSION_RADIUS).forEach(entity -> {
+        getGame().getEntityIndex().getNearby(impactLocation, ICE_CONVERSION_RADIUS).forEach(entity -> {
             if (entity instanceof Player player && getGame().getPlayers(true).contains(entity)) {
                 // Ensure player is within current game bounds
                 Location playerLoc = player.getLocation();
@@ -146,7 +146,7 @@ public class DisasterManaStorm extends Disaster {
 
 
         // --- Refill Mana for Nearby Wizards ---
-        world.getNearbyEntities(impactLocation, MANA_REFILL_RADIUS, MANA_REFILL_RADIUS, MANA_REFILL_RADIUS).forEach(entity -> {
+        getGame().getEntityIndex().getNearby(impactLocation, MANA_REFILL_RADIUS).forEach(entity -> {
             if (entity instanceof Player && getGame().getPlayers(true).contains(entity)) {
                 Player player = (Player) entity;
 
@@ -0,0 +1,52 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import java.util.function.LongConsumer;
+
+import dev.thomashanson.wizards.game.Tickable;
+
+/**
+ * A small {@link Tickable} wrapping a single periodic job, so that independent
+ * jobs with their own interval (a scoreboard refresh, a border check, ...) can be
+ * registered separately and staggered by the {@link TickScheduler} instead of
+ * being bundled behind {@code gameTick % n} checks inside one component.
+ */
+public final class PeriodicTask implements Tickable {
+
+    private final String name;
+    private final TickPhase phase;
+    private final int interval;
+    private final LongConsumer action;
+
+    /**
+     * @param name     The name shown in timing reports.
+     * @param phase    The phase the job runs in.
+     * @param interval How often, in ticks, the job runs.
+     * @param action   The job itself; receives the current game tick.
+     */
+    public PeriodicTask(String name, TickPhase phase, int interval, LongConsumer action) {
+        this.name = name;
+        this.phase = phase;
+        this.interval = Math.max(1, interval);
+        this.action = action;
+    }
+
+    @Override
+    public void tick(long gameTick) {
+        action.accept(gameTick);
+    }
+
+    @Override
+    public int getTickInterval() {
+        return interval;
+    }
+
+    @Override
+    public TickPhase getTickPhase() {
+        return phase;
+    }
+
+    @Override
+    public String getTickName() {
+        return name;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+/**
+ * The ordered phases of a single game tick.
+ * <p>
+ * Every {@link dev.thomashanson.wizards.game.Tickable} belongs to exactly one phase,
+ * and the {@link TickScheduler} runs the phases strictly in declaration order. This
+ * guarantees, for example, that spell effects always see the results of this tick's
+ * simulation, and that the HUD always displays the state produced by everything before it.
+ */
+public enum TickPhase {
+
+    /** Processing of buffered player input and other state that must be read first. */
+    INPUT("input", false),
+
+    /** Core game rules: mana regeneration, timers, border checks, potion expiry. */
+    SIMULATION("simulation", false),
+
+    /** Active spell instances, projectiles and other world-affecting effects. */
+    EFFECTS("effects", false),
+
+    /**
+     * Purely presentational updates such as boss bars, action bars, item cooldown
+     * overlays and scoreboards. Components in this phase may be pushed to the next
+     * tick when the server is over budget.
+     */
+    HUD("hud", true);
+
+    private final String configKey;
+    private final boolean deferrable;
+
+    TickPhase(String configKey, boolean deferrable) {
+        this.configKey = configKey;
+        this.deferrable = deferrable;
+    }
+
+    /**
+     * @return The key used for this phase in the {@code scheduler.phase-budget-ms} config section.
+     */
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * @return {@code true} if components in this phase may be deferred by default.
+     */
+    public boolean isDeferrable() {
+        return deferrable;
+    }
+}
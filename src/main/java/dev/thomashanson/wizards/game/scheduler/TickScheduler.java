@@ -0,0 +1,345 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.Tickable;
+
+/**
+ * Runs every registered {@link Tickable} once per server tick, phase by phase,
+ * while keeping the game loop inside a configurable time budget.
+ * <p>
+ * Components are grouped by their {@link TickPhase} and executed in phase order
+ * ({@code INPUT -> SIMULATION -> EFFECTS -> HUD}). Each component, each phase and the
+ * tick as a whole have a nanosecond budget loaded from the {@code scheduler} section
+ * of {@code config.yml}. When the tick or the current phase has already used up its
+ * budget, deferrable components (HUD and cosmetics) are skipped for this tick and run
+ * on the next one instead, so a spike in spell activity degrades the scoreboard
+ * refresh rate rather than the server TPS.
+ * <p>
+ * Components with an interval above one tick are given a phase offset by the
+ * shared {@link TickStagger} when they are registered, so periodic jobs are spread
+ * across ticks instead of all running together on every common multiple of their
+ * intervals. Offsets are resolved against {@link Bukkit#getCurrentTick()}, the same
+ * clock used for staggered Bukkit tasks outside the game loop.
+ * <p>
+ * Components report {@link Tickable#isIdle()} once they have no more work, at which
+ * point they are dropped until they register again. This is how spells with no live
+ * instances stay out of the loop entirely.
+ * <p>
+ * Every component and phase keeps a {@link TickTimings} histogram which can be
+ * inspected in game with {@code /wizards timings}.
+ */
+public class TickScheduler {
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    /** Minimum number of ticks between two "tick over budget" console warnings. */
+    private static final long OVERRUN_WARNING_COOLDOWN_TICKS = 600L;
+
+    private final WizardsPlugin plugin;
+    private final TickStagger stagger;
+
+    private final Map<TickPhase, List<ScheduledTickable>> phases = new EnumMap<>(TickPhase.class);
+    private final Map<Tickable, ScheduledTickable> entries = new ConcurrentHashMap<>();
+
+    private final TickTimings[] phaseTimings = new TickTimings[PHASES.length];
+    private final TickTimings tickTimings = new TickTimings();
+
+    private final long[] phaseBudgetNanos = new long[PHASES.length];
+    private long tickBudgetNanos;
+    private long componentBudgetNanos;
+    private int maxDeferredTicks;
+
+    private long lastOverrunWarningTick = -OVERRUN_WARNING_COOLDOWN_TICKS;
+    private long currentTickStart;
+
+    public TickScheduler(WizardsPlugin plugin) {
+        this.plugin = plugin;
+        this.stagger = plugin.getTickStagger();
+
+        for (TickPhase phase : PHASES) {
+            phases.put(phase, new CopyOnWriteArrayList<>());
+            phaseTimings[phase.ordinal()] = new TickTimings();
+        }
+
+        loadBudgets(plugin.getConfig().getConfigurationSection("scheduler"));
+    }
+
+    /**
+     * Loads the tick, phase and component budgets. Missing values fall back to
+     * defaults which comfortably fit inside a 50ms server tick.
+     *
+     * @param config The {@code scheduler} configuration section, may be {@code null}.
+     */
+    public void loadBudgets(ConfigurationSection config) {
+        this.tickBudgetNanos = millisToNanos(config != null ? config.getDouble("tick-budget-ms", 25.0) : 25.0);
+        this.componentBudgetNanos = millisToNanos(config != null ? config.getDouble("component-budget-ms", 2.0) : 2.0);
+        this.maxDeferredTicks = Math.max(0, config != null ? config.getInt("max-deferred-ticks", 10) : 10);
+
+        ConfigurationSection phaseConfig = config != null ? config.getConfigurationSection("phase-budget-ms") : null;
+
+        for (TickPhase phase : PHASES) {
+            double fallback = phase == TickPhase.HUD || phase == TickPhase.INPUT ? 3.0 : 10.0;
+            double millis = phaseConfig != null ? phaseConfig.getDouble(phase.getConfigKey(), fallback) : fallback;
+            phaseBudgetNanos[phase.ordinal()] = millisToNanos(millis);
+        }
+
+        for (ScheduledTickable entry : entries.values()) {
+            entry.budgetNanos = resolveBudget(entry.tickable);
+        }
+    }
+
+    /**
+     * Adds a component to the phase it declares. Registering the same
+     * component twice has no effect.
+     * <p>
+     * The component's {@link Tickable#getTickInterval()} is read once, here, and
+     * a phase offset is reserved for it.
+     *
+     * @param tickable The component to run every tick.
+     */
+    public void register(Tickable tickable) {
+        entries.computeIfAbsent(tickable, key -> {
+            int interval = Math.max(1, key.getTickInterval());
+            ScheduledTickable entry = new ScheduledTickable(key, interval, stagger.reserve(interval), resolveBudget(key));
+            phases.get(entry.phase).add(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * Removes a component from the scheduler.
+     *
+     * @param tickable The component to remove.
+     */
+    public void unregister(Tickable tickable) {
+        ScheduledTickable entry = entries.remove(tickable);
+        if (entry != null) {
+            phases.get(entry.phase).remove(entry);
+            stagger.release(entry.interval, entry.offset);
+        }
+    }
+
+    /**
+     * @param tickable The component to look up.
+     * @return {@code true} if the component is currently scheduled.
+     */
+    public boolean isRegistered(Tickable tickable) {
+        return entries.containsKey(tickable);
+    }
+
+    /**
+     * Removes every registered component. Phase and tick timings are kept so
+     * the last game can still be inspected after it ends.
+     */
+    public void clear() {
+        entries.values().forEach(entry -> stagger.release(entry.interval, entry.offset));
+        entries.clear();
+        phases.values().forEach(List::clear);
+    }
+
+    /** Clears every recorded timing, including those of registered components. */
+    public void resetTimings() {
+        tickTimings.reset();
+        for (TickTimings timings : phaseTimings) timings.reset();
+        for (ScheduledTickable entry : entries.values()) entry.timings.reset();
+    }
+
+    /**
+     * Runs one full tick of every due component, phase by phase.
+     *
+     * @param gameTick The current game tick.
+     */
+    public void tick(long gameTick) {
+        long tickStart = System.nanoTime();
+        long clock = Bukkit.getCurrentTick();
+        currentTickStart = tickStart;
+
+        for (TickPhase phase : PHASES) {
+            long phaseStart = System.nanoTime();
+            long phaseBudget = phaseBudgetNanos[phase.ordinal()];
+
+            for (ScheduledTickable entry : phases.get(phase)) {
+                if (!entry.isDue(clock)) continue;
+
+                if (entry.deferrable && entry.consecutiveDeferrals < maxDeferredTicks) {
+                    long now = System.nanoTime();
+
+                    if (now - phaseStart > phaseBudget || now - tickStart > tickBudgetNanos) {
+                        entry.deferred = true;
+                        entry.consecutiveDeferrals++;
+                        entry.timings.recordDeferral();
+                        continue;
+                    }
+                }
+                run(entry, gameTick);
+            }
+
+            long phaseElapsed = System.nanoTime() - phaseStart;
+            TickTimings timings = phaseTimings[phase.ordinal()];
+            timings.record(phaseElapsed);
+
+            if (phaseElapsed > phaseBudget) {
+                timings.recordOverrun();
+            }
+        }
+
+        long tickElapsed = System.nanoTime() - tickStart;
+        tickTimings.record(tickElapsed);
+
+        if (tickElapsed > tickBudgetNanos) {
+            tickTimings.recordOverrun();
+
+            if (gameTick - lastOverrunWarningTick >= OVERRUN_WARNING_COOLDOWN_TICKS) {
+                lastOverrunWarningTick = gameTick;
+                plugin.getLogger().warning(String.format("Game tick %d took %.2fms (budget %.2fms). Use /wizards timings for details.",
+                        gameTick, tickElapsed / 1_000_000.0, tickBudgetNanos / 1_000_000.0));
+            }
+        }
+    }
+
+    /**
+     * Lets a component that batches work of its own (such as the spell effect runtime)
+     * skip cosmetic work when the tick in progress has already used up its budget.
+     *
+     * @return {@code true} if the tick currently being run is over its total budget.
+     */
+    public boolean isOverBudget() {
+        return System.nanoTime() - currentTickStart > tickBudgetNanos;
+    }
+
+    private void run(ScheduledTickable entry, long gameTick) {
+        long start = System.nanoTime();
+
+        try {
+            entry.tickable.tick(gameTick);
+        } catch (Exception e) {
+            // Catching exceptions here prevents one faulty component
+            // (e.g., a broken spell) from crashing the entire game loop.
+            plugin.getLogger().log(Level.SEVERE, String.format("Error while ticking component: %s", entry.name), e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        entry.timings.record(elapsed);
+
+        if (elapsed > entry.budgetNanos) {
+            entry.timings.recordOverrun();
+        }
+
+        entry.deferred = false;
+        entry.consecutiveDeferrals = 0;
+
+        // Components with nothing left to do leave the loop until they re-register.
+        if (entry.tickable.isIdle()) {
+            unregister(entry.tickable);
+        }
+    }
+
+    private long resolveBudget(Tickable tickable) {
+        long budget = tickable.getTickBudgetNanos();
+        return budget > 0 ? budget : componentBudgetNanos;
+    }
+
+    private static long millisToNanos(double millis) {
+        return (long) (Math.max(0.0, millis) * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @param phase The phase to list.
+     * @return An unmodifiable view of the components scheduled in that phase, in run order.
+     */
+    public List<ScheduledTickable> getEntries(TickPhase phase) {
+        return Collections.unmodifiableList(phases.get(phase));
+    }
+
+    public TickTimings getPhaseTimings(TickPhase phase) {
+        return phaseTimings[phase.ordinal()];
+    }
+
+    public TickTimings getTickTimings() {
+        return tickTimings;
+    }
+
+    public long getPhaseBudgetNanos(TickPhase phase) {
+        return phaseBudgetNanos[phase.ordinal()];
+    }
+
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    /**
+     * Bookkeeping for a single registered {@link Tickable}.
+     */
+    public static final class ScheduledTickable {
+
+        private final Tickable tickable;
+        private final TickPhase phase;
+        private final String name;
+        private final boolean deferrable;
+        private final int interval;
+        private final int offset;
+        private final TickTimings timings = new TickTimings();
+
+        private long budgetNanos;
+        private boolean deferred;
+        private int consecutiveDeferrals;
+
+        private ScheduledTickable(Tickable tickable, int interval, int offset, long budgetNanos) {
+            this.tickable = tickable;
+            this.interval = interval;
+            this.offset = offset;
+            this.phase = tickable.getTickPhase() != null ? tickable.getTickPhase() : TickPhase.SIMULATION;
+            this.name = tickable.getTickName();
+            this.deferrable = tickable.isDeferrable();
+            this.budgetNanos = budgetNanos;
+        }
+
+        private boolean isDue(long clock) {
+            return deferred || TickStagger.isDue(clock, interval, offset);
+        }
+
+        public Tickable getTickable() {
+            return tickable;
+        }
+
+        public TickPhase getPhase() {
+            return phase;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isDeferrable() {
+            return deferrable;
+        }
+
+        public int getInterval() {
+            return interval;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public long getBudgetNanos() {
+            return budgetNanos;
+        }
+
+        public TickTimings getTimings() {
+            return timings;
+        }
+    }
+}
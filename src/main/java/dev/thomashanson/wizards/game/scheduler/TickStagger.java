@@ -0,0 +1,105 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import org.bukkit.Bukkit;
+
+/**
+ * Spreads periodic work across server ticks so that jobs with different
+ * intervals do not all land on the same tick.
+ * <p>
+ * Without staggering, a job every 4 ticks, one every 15 and one every 20 all run
+ * together on tick 60, 120, ... and produce a periodic MSPT spike. This class keeps
+ * a load table over a fixed window of ticks and hands out, for each new job, the
+ * phase offset whose slots are currently the least loaded. A job with interval
+ * {@code n} and offset {@code o} then runs on every server tick where
+ * {@code tick % n == o}.
+ * <p>
+ * Offsets are expressed against {@link Bukkit#getCurrentTick()}, which makes them
+ * shared between the game loop's {@link TickScheduler} and plain Bukkit repeating
+ * tasks (see {@link #getInitialDelay(int, int)}).
+ */
+public final class TickStagger {
+
+    /**
+     * The window the load table covers. 240 is divisible by every interval in use
+     * (2, 4, 10, 15, 20, ...), so slot loads repeat exactly.
+     */
+    public static final int WINDOW = 240;
+
+    private final int[] slotLoad = new int[WINDOW];
+
+    /**
+     * Reserves the least-loaded phase offset for a job of the given interval.
+     *
+     * @param interval The job's interval in ticks.
+     * @return The assigned offset, in {@code [0, interval)}. Always {@code 0} for every-tick jobs.
+     */
+    public synchronized int reserve(int interval) {
+        if (interval <= 1) return 0;
+
+        int bestOffset = 0;
+        int bestPeak = Integer.MAX_VALUE;
+        long bestTotal = Long.MAX_VALUE;
+
+        for (int offset = 0; offset < interval; offset++) {
+            int peak = 0;
+            long total = 0;
+
+            for (int slot = offset % WINDOW; slot < WINDOW; slot += interval) {
+                peak = Math.max(peak, slotLoad[slot]);
+                total += slotLoad[slot];
+                if (interval >= WINDOW) break;
+            }
+
+            if (peak < bestPeak || (peak == bestPeak && total < bestTotal)) {
+                bestOffset = offset;
+                bestPeak = peak;
+                bestTotal = total;
+            }
+        }
+
+        adjust(interval, bestOffset, 1);
+        return bestOffset;
+    }
+
+    /**
+     * Returns a previously reserved offset to the pool.
+     *
+     * @param interval The job's interval in ticks.
+     * @param offset   The offset returned by {@link #reserve(int)}.
+     */
+    public synchronized void release(int interval, int offset) {
+        if (interval <= 1) return;
+        adjust(interval, offset, -1);
+    }
+
+    private void adjust(int interval, int offset, int delta) {
+        for (int slot = offset % WINDOW; slot < WINDOW; slot += interval) {
+            slotLoad[slot] = Math.max(0, slotLoad[slot] + delta);
+            if (interval >= WINDOW) break;
+        }
+    }
+
+    /**
+     * Computes the initial delay for a Bukkit repeating task so that its first
+     * run, and every run after it, lands on the reserved offset.
+     *
+     * @param interval The task's period in ticks.
+     * @param offset   The offset returned by {@link #reserve(int)}.
+     * @return A delay in ticks, never less than 1.
+     */
+    public long getInitialDelay(int interval, int offset) {
+        if (interval <= 1) return 1L;
+        int delay = Math.floorMod(offset - Bukkit.getCurrentTick(), interval);
+        return delay == 0 ? interval : delay;
+    }
+
+    /**
+     * @param tick     The current server tick.
+     * @param interval The job's interval in ticks.
+     * @param offset   The job's reserved offset.
+     * @return {@code true} if the job should run on this tick.
+     */
+    public static boolean isDue(long tick, int interval, int offset) {
+        return interval <= 1 || Math.floorMod(tick - offset, (long) interval) == 0;
+    }
+}
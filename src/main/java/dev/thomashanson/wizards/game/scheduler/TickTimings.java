@@ -0,0 +1,117 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size, allocation-free histogram of tick durations.
+ * <p>
+ * Samples are recorded in nanoseconds into power-of-two buckets, so bucket {@code i}
+ * holds every sample in {@code [2^i, 2^(i+1))} ns. This gives a resolution that is
+ * good enough to tell a 50&micro;s component from a 2ms one while keeping recording
+ * to a handful of arithmetic operations. Percentiles are reported as the upper bound
+ * of the bucket they fall into.
+ * <p>
+ * Instances are only ever touched from the main server thread.
+ */
+public final class TickTimings {
+
+    /** 2^31 ns is roughly 2.1 seconds, far beyond anything a healthy tick will see. */
+    private static final int BUCKET_COUNT = 32;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+
+    private long samples;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+    private long overruns;
+    private long deferrals;
+
+    /**
+     * Records a single measured duration.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+
+        int bucket = 63 - Long.numberOfLeadingZeros(Math.max(1L, nanos));
+        buckets[Math.min(bucket, BUCKET_COUNT - 1)]++;
+
+        samples++;
+        totalNanos += nanos;
+        lastNanos = nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    /** Records that the measured section exceeded its budget. */
+    public void recordOverrun() {
+        overruns++;
+    }
+
+    /** Records that the measured section was pushed to a later tick. */
+    public void recordDeferral() {
+        deferrals++;
+    }
+
+    /**
+     * Returns an upper bound for the given percentile of recorded samples.
+     *
+     * @param percentile A value between 0 and 1 (e.g. {@code 0.95}).
+     * @return The percentile in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (samples == 0) return 0L;
+
+        long target = (long) Math.ceil(samples * Math.min(1.0, Math.max(0.0, percentile)));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= target && buckets[i] > 0) {
+                // Never report more than the largest sample we actually saw.
+                return Math.min((1L << (i + 1)) - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /** Clears every recorded sample and counter. */
+    public void reset() {
+        Arrays.fill(buckets, 0L);
+        samples = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lastNanos = 0;
+        overruns = 0;
+        deferrals = 0;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getAverageNanos() {
+        return samples == 0 ? 0L : totalNanos / samples;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getDeferrals() {
+        return deferrals;
+    }
+}
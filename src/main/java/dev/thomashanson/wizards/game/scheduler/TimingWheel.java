@@ -0,0 +1,289 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.Tickable;
+import dev.thomashanson.wizards.game.manager.GameManager;
+
+/**
+ * A hierarchical timing wheel of game-tick deadlines, owned by a single
+ * {@link dev.thomashanson.wizards.game.Wizards} game.
+ * <p>
+ * Timed wizard state (spell cooldowns, Spite debuffs, potion durations) is stored as
+ * the game tick it ends on, and a {@link Timer} is scheduled here to fire a callback
+ * on that tick. Nothing has to poll a deadline to notice it has passed, so visuals and
+ * effects are only refreshed on the tick something actually changes.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. Level 0 holds timers
+ * due within the next {@value #SLOTS} ticks, one slot per tick; each level above covers
+ * {@value #SLOTS} times the range of the one below, and its slots are cascaded down a
+ * level whenever the level below wraps around. Scheduling and cancelling are O(1), and
+ * an idle tick only looks at one empty slot. Deadlines beyond the top level's range
+ * (several days of game time) are parked in the top level and re-cascaded until due.
+ * <p>
+ * Like the spell effect runtime, the wheel registers itself with the game loop when its
+ * first timer is scheduled and reports itself {@link #isIdle() idle} once none are left.
+ * <p>
+ * This class is only ever used from the main server thread.
+ */
+public class TimingWheel implements Tickable {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Deadlines further out than this many ticks are clamped into the top level. */
+    private static final long MAX_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /** Returned by the clock when there is no game loop to read the tick from. */
+    static final long NO_CLOCK = Long.MIN_VALUE;
+
+    private final Logger logger;
+    private final LongSupplier clock;
+    private final Consumer<TimingWheel> onScheduled;
+
+    /** Head of the doubly-linked list of timers in each slot. */
+    private final Timer[][] wheel = new Timer[LEVELS][SLOTS];
+
+    /** The next tick the wheel will process; every timer due before it has fired. */
+    private long currentTick;
+    private int pending;
+
+    public TimingWheel(WizardsPlugin plugin) {
+        this(plugin.getLogger(), () -> {
+            GameManager gameManager = plugin.getGameManager();
+            return gameManager != null ? gameManager.getGameTick() : NO_CLOCK;
+        }, wheel -> {
+            GameManager gameManager = plugin.getGameManager();
+            if (gameManager != null && gameManager.isGameLoopRunning()) {
+                gameManager.registerTickable(wheel);
+            }
+        });
+    }
+
+    /**
+     * @param logger      Where errors thrown by callbacks are logged.
+     * @param clock       The current game tick, or {@link #NO_CLOCK} if there is none.
+     * @param onScheduled Called whenever a timer is scheduled, to put the wheel in the game loop.
+     */
+    TimingWheel(Logger logger, LongSupplier clock, Consumer<TimingWheel> onScheduled) {
+        this.logger = logger;
+        this.clock = clock;
+        this.onScheduled = onScheduled;
+    }
+
+    /**
+     * Schedules a callback to run after the given number of game ticks.
+     *
+     * @param delayTicks How many ticks from now the callback should run; {@code 0} or
+     *                   less runs it on the next tick the wheel processes.
+     * @param callback   The callback to run on the main thread.
+     * @return A handle which can be used to cancel the timer.
+     */
+    public Timer schedule(long delayTicks, Runnable callback) {
+        return scheduleAt(now() + Math.max(0L, delayTicks), callback);
+    }
+
+    /**
+     * Schedules a callback to run on the given game tick.
+     *
+     * @param deadlineTick The game tick to run the callback on.
+     * @param callback     The callback to run on the main thread.
+     * @return A handle which can be used to cancel the timer.
+     */
+    public Timer scheduleAt(long deadlineTick, Runnable callback) {
+        if (pending == 0) {
+            // Nothing is waiting, so the wheel can jump straight to the present.
+            currentTick = Math.max(currentTick, now());
+        }
+
+        Timer timer = new Timer(deadlineTick, callback);
+        insert(timer);
+        pending++;
+
+        onScheduled.accept(this);
+        return timer;
+    }
+
+    /**
+     * Fires every timer due up to and including the given tick, in deadline order.
+     */
+    @Override
+    public void tick(long gameTick) {
+        while (currentTick <= gameTick) {
+            if (pending == 0) {
+                currentTick = gameTick + 1;
+                return;
+            }
+
+            int index = (int) (currentTick & SLOT_MASK);
+
+            // Level 0 wrapped around: pull the next block of timers down from the levels above.
+            if (index == 0) {
+                for (int level = 1; level < LEVELS; level++) {
+                    int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                    cascade(level, slot);
+                    if (slot != 0) break;
+                }
+            }
+
+            currentTick++;
+
+            // Each timer stays linked, and so cancellable, until it is taken to run. Timers
+            // scheduled by these callbacks land in later slots, never in this one.
+            Timer due;
+            while ((due = wheel[0][index]) != null) {
+                unlink(due);
+                fire(due);
+            }
+        }
+    }
+
+    /**
+     * Drops every pending timer without running it, e.g. when the game resets.
+     */
+    public void clear() {
+        for (Timer[] level : wheel) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer timer = level[slot];
+                while (timer != null) {
+                    Timer next = timer.next;
+                    timer.prev = timer.next = null;
+                    timer.level = -1;
+                    timer = next;
+                }
+                level[slot] = null;
+            }
+        }
+        pending = 0;
+    }
+
+    /**
+     * @return The number of timers waiting to fire.
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    @Override
+    public TickPhase getTickPhase() {
+        // Expiries are applied before the effects and HUD read wizard state.
+        return TickPhase.SIMULATION;
+    }
+
+    @Override
+    public boolean isIdle() {
+        return pending == 0;
+    }
+
+    @Override
+    public String getTickName() {
+        return "Timing wheel";
+    }
+
+    private long now() {
+        long tick = clock.getAsLong();
+        return tick != NO_CLOCK ? tick : currentTick;
+    }
+
+    private void fire(Timer timer) {
+        try {
+            timer.callback.run();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, String.format("Error while running timer due on tick %d", timer.deadline), e);
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Timer timer = wheel[level][slot];
+        wheel[level][slot] = null;
+
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        // Anything already overdue goes in the slot processed next.
+        long deadline = Math.max(timer.deadline, currentTick);
+        long delta = Math.min(deadline - currentTick, MAX_SPAN);
+        deadline = currentTick + delta;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Timer head = wheel[level][slot];
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        wheel[level][slot] = timer;
+        timer.level = level;
+        timer.slot = slot;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            wheel[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) timer.next.prev = timer.prev;
+
+        timer.prev = timer.next = null;
+        timer.level = -1;
+        pending--;
+    }
+
+    /**
+     * A single scheduled callback.
+     */
+    public final class Timer {
+
+        private final long deadline;
+        private final Runnable callback;
+
+        private Timer prev, next;
+        private int level = -1;
+        private int slot;
+
+        private Timer(long deadline, Runnable callback) {
+            this.deadline = deadline;
+            this.callback = callback;
+        }
+
+        /**
+         * Cancels the timer if it has not fired yet.
+         *
+         * @return {@code true} if the timer was pending and is now cancelled.
+         */
+        public boolean cancel() {
+            if (level < 0) return false;
+            unlink(this);
+            return true;
+        }
+
+        /**
+         * @return {@code true} if the timer has neither fired nor been cancelled.
+         */
+        public boolean isPending() {
+            return level >= 0;
+        }
+
+        /**
+         * @return The game tick this timer is due on.
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
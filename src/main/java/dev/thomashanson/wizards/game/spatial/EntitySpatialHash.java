@@ -0,0 +1,401 @@
+package dev.thomashanson.wizards.game.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.map.LocalGameMap;
+import dev.thomashanson.wizards.projectile.SweptCollision;
+
+/**
+ * A per-tick spatial index of the living entities in the arena, owned by a single
+ * {@link dev.thomashanson.wizards.game.Wizards} game.
+ * <p>
+ * Spells, projectiles and disasters all ask "who is near here?" many times a tick, and
+ * each Bukkit world query walks the chunk entity sections around it. Instead, the index
+ * snapshots every living entity's bounding box once per server tick, the first time it
+ * is queried, and buckets them into a hash of {@value #CELL_SIZE}-block columns held in
+ * flat arrays. A query then only looks at the few cells it overlaps.
+ * <p>
+ * Box queries match {@link World#getNearbyEntities(BoundingBox)}: an entity is returned
+ * if its bounding box intersects the query box. Sphere queries return entities whose box
+ * is within the radius of the centre, and segment queries those whose box the segment
+ * crosses. Queries in any other world fall back to a Bukkit world query.
+ * <p>
+ * Positions are those at the start of the tick, so an entity that moved or spawned
+ * since then is seen where it was (or not at all) until the next tick. With
+ * {@code spatial-index.verify} enabled, every box query is repeated against the live
+ * world and mismatches are counted, to measure how often that matters.
+ * <p>
+ * This class is only ever used from the main server thread.
+ */
+public class EntitySpatialHash {
+
+    private static final int CELL_SHIFT = 2;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+    private static final int MIN_TABLE_SIZE = 64;
+
+    private final WizardsPlugin plugin;
+    private final boolean verify;
+
+    private World world;
+    private int builtTick = Integer.MIN_VALUE;
+
+    // Entity snapshot, as parallel arrays
+    private LivingEntity[] entities = new LivingEntity[64];
+    private double[] bounds = new double[64 * 6];
+    private int[] visited = new int[64];
+    private int entityCount;
+    private int visitStamp;
+
+    // Open-addressed hash of cell (x, z) -> a run of entity indices in cellEntries
+    private long[] cellKeys = new long[MIN_TABLE_SIZE];
+    private int[] cellBuild = new int[MIN_TABLE_SIZE];
+    private int[] cellStart = new int[MIN_TABLE_SIZE];
+    private int[] cellSize = new int[MIN_TABLE_SIZE];
+    private int[] cellFill = new int[MIN_TABLE_SIZE];
+    private int[] cellEntries = new int[256];
+    private int tableBits = Integer.numberOfTrailingZeros(MIN_TABLE_SIZE);
+
+    /** Marks which slots belong to the current build, so the table never needs clearing. */
+    private int buildId;
+
+    private long rebuilds, queries, staleQueries;
+
+    public EntitySpatialHash(WizardsPlugin plugin) {
+        this.plugin = plugin;
+        this.verify = plugin.getConfig().getBoolean("spatial-index.verify", false);
+    }
+
+    /**
+     * Finds the living entities whose bounding box intersects a box around a point,
+     * the same as {@link World#getNearbyLivingEntities(Location, double, double, double, Predicate)}.
+     *
+     * @param center  The centre of the box.
+     * @param xRadius Half the box's size along X.
+     * @param yRadius Half the box's size along Y.
+     * @param zRadius Half the box's size along Z.
+     * @param filter  An optional filter on the results.
+     * @return A new list of matching entities.
+     */
+    public List<LivingEntity> getNearby(Location center, double xRadius, double yRadius, double zRadius, @Nullable Predicate<LivingEntity> filter) {
+        return getNearby(center.getWorld(), BoundingBox.of(center, xRadius, yRadius, zRadius), filter);
+    }
+
+    /**
+     * Finds the living entities whose bounding box intersects a cube around a point,
+     * the same as {@link World#getNearbyLivingEntities(Location, double)}.
+     */
+    public List<LivingEntity> getNearby(Location center, double radius) {
+        return getNearby(center, radius, radius, radius, null);
+    }
+
+    /**
+     * @see #getNearby(Location, double)
+     */
+    public List<LivingEntity> getNearby(Location center, double radius, @Nullable Predicate<LivingEntity> filter) {
+        return getNearby(center, radius, radius, radius, filter);
+    }
+
+    /**
+     * Finds the living entities whose bounding box intersects a box.
+     *
+     * @param world  The world to search.
+     * @param box    The box to search. It is not modified.
+     * @param filter An optional filter on the results.
+     * @return A new list of matching entities.
+     */
+    public List<LivingEntity> getNearby(World world, BoundingBox box, @Nullable Predicate<LivingEntity> filter) {
+        List<LivingEntity> result = new ArrayList<>();
+
+        if (!ensureCurrent(world)) {
+            return new ArrayList<>(world.getNearbyLivingEntities(box.getCenter().toLocation(world),
+                    box.getWidthX() / 2, box.getHeight() / 2, box.getWidthZ() / 2, filter == null ? entity -> true : filter));
+        }
+
+        queries++;
+        collect(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ(), filter, result);
+
+        if (verify) {
+            verify(box, filter, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the living entities whose bounding box comes within a radius of a point.
+     *
+     * @param center The centre of the sphere.
+     * @param radius The radius of the sphere.
+     * @param filter An optional filter on the results.
+     * @return A new list of matching entities.
+     */
+    public List<LivingEntity> getInSphere(Location center, double radius, @Nullable Predicate<LivingEntity> filter) {
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radiusSquared = radius * radius;
+
+        return getNearby(center, radius, radius, radius, entity -> {
+            BoundingBox box = entity.getBoundingBox();
+            double dx = x - Math.max(box.getMinX(), Math.min(x, box.getMaxX()));
+            double dy = y - Math.max(box.getMinY(), Math.min(y, box.getMaxY()));
+            double dz = z - Math.max(box.getMinZ(), Math.min(z, box.getMaxZ()));
+            return dx * dx + dy * dy + dz * dz <= radiusSquared && (filter == null || filter.test(entity));
+        });
+    }
+
+    /**
+     * Finds the living entities whose bounding box, grown by a margin, is crossed by a
+     * line segment.
+     *
+     * @param world  The world to search.
+     * @param start  The start of the segment.
+     * @param end    The end of the segment.
+     * @param margin How much to grow each entity's box by, e.g. a projectile's half-width.
+     * @param filter An optional filter on the results.
+     * @return A new list of matching entities, in no particular order.
+     */
+    public List<LivingEntity> getAlongSegment(World world, Vector start, Vector end, double margin, @Nullable Predicate<LivingEntity> filter) {
+        double sx = start.getX(), sy = start.getY(), sz = start.getZ();
+        double dx = end.getX() - sx, dy = end.getY() - sy, dz = end.getZ() - sz;
+
+        return getNearby(world, BoundingBox.of(start, end).expand(margin), entity ->
+                SweptCollision.intersect(entity.getBoundingBox().expand(margin), sx, sy, sz, dx, dy, dz) >= 0
+                        && (filter == null || filter.test(entity)));
+    }
+
+    /**
+     * Drops the current snapshot, so the next query rebuilds it, e.g. after teleporting
+     * every player at the start of a game.
+     */
+    public void invalidate() {
+        builtTick = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Forgets every entity, e.g. when the game resets.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, entityCount, null);
+        entityCount = 0;
+        world = null;
+        invalidate();
+    }
+
+    public int getEntityCount() { return entityCount; }
+    public long getRebuilds() { return rebuilds; }
+    public long getQueries() { return queries; }
+
+    /** @return The number of verified queries whose result differed from the live world. */
+    public long getStaleQueries() { return staleQueries; }
+    public boolean isVerifying() { return verify; }
+
+    /**
+     * Makes sure the snapshot is from this tick and covers the given world.
+     *
+     * @return {@code false} if the world is not the arena, and the caller must fall back.
+     */
+    private boolean ensureCurrent(World queryWorld) {
+        LocalGameMap map = plugin.getMapManager().getActiveMap();
+        World arena = map != null ? map.getWorld() : null;
+
+        if (arena == null || !arena.equals(queryWorld)) {
+            return false;
+        }
+
+        int tick = Bukkit.getCurrentTick();
+        if (tick != builtTick || arena != world) {
+            rebuild(arena);
+            builtTick = tick;
+        }
+        return true;
+    }
+
+    private void rebuild(World arena) {
+        rebuilds++;
+        Arrays.fill(entities, 0, entityCount, null);
+        world = arena;
+        entityCount = 0;
+
+        for (LivingEntity entity : arena.getLivingEntities()) {
+            if (!entity.isValid()) continue;
+
+            if (entityCount == entities.length) {
+                int capacity = entities.length * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                bounds = Arrays.copyOf(bounds, capacity * 6);
+                visited = Arrays.copyOf(visited, capacity);
+            }
+
+            BoundingBox box = entity.getBoundingBox();
+            int base = entityCount * 6;
+            bounds[base] = box.getMinX();
+            bounds[base + 1] = box.getMinY();
+            bounds[base + 2] = box.getMinZ();
+            bounds[base + 3] = box.getMaxX();
+            bounds[base + 4] = box.getMaxY();
+            bounds[base + 5] = box.getMaxZ();
+            entities[entityCount++] = entity;
+        }
+
+        // Most entities sit in one to four cells; keep the table at most half full.
+        int tableSize = Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, entityCount * 8) - 1) << 1);
+        if (tableSize != cellKeys.length) {
+            cellKeys = new long[tableSize];
+            cellBuild = new int[tableSize];
+            cellStart = new int[tableSize];
+            cellSize = new int[tableSize];
+            cellFill = new int[tableSize];
+            tableBits = Integer.numberOfTrailingZeros(tableSize);
+            buildId = 0;
+        }
+        if (++buildId == 0) {
+            Arrays.fill(cellBuild, 0);
+            buildId = 1;
+        }
+
+        // First pass: count the entities in each cell
+        int entryCount = 0;
+        for (int i = 0; i < entityCount; i++) {
+            int base = i * 6;
+            for (int cx = cell(bounds[base]); cx <= cell(bounds[base + 3]); cx++) {
+                for (int cz = cell(bounds[base + 2]); cz <= cell(bounds[base + 5]); cz++) {
+                    cellSize[insertSlot(key(cx, cz))]++;
+                    entryCount++;
+                }
+            }
+        }
+
+        // Lay the cells out one after another in cellEntries
+        if (cellEntries.length < entryCount) {
+            cellEntries = new int[Integer.highestOneBit(entryCount) << 1];
+        }
+        int offset = 0;
+        for (int slot = 0; slot < cellKeys.length; slot++) {
+            if (cellBuild[slot] != buildId) continue;
+            cellStart[slot] = offset;
+            cellFill[slot] = offset;
+            offset += cellSize[slot];
+        }
+
+        // Second pass: fill them in
+        for (int i = 0; i < entityCount; i++) {
+            int base = i * 6;
+            for (int cx = cell(bounds[base]); cx <= cell(bounds[base + 3]); cx++) {
+                for (int cz = cell(bounds[base + 2]); cz <= cell(bounds[base + 5]); cz++) {
+                    int slot = findSlot(key(cx, cz));
+                    cellEntries[cellFill[slot]++] = i;
+                }
+            }
+        }
+    }
+
+    private void collect(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                         @Nullable Predicate<LivingEntity> filter, List<LivingEntity> result) {
+
+        if (++visitStamp == 0) {
+            Arrays.fill(visited, 0);
+            visitStamp = 1;
+        }
+
+        int cellMinX = cell(minX), cellMaxX = cell(maxX);
+        int cellMinZ = cell(minZ), cellMaxZ = cell(maxZ);
+        long cellsCovered = (long) (cellMaxX - cellMinX + 1) * (cellMaxZ - cellMinZ + 1);
+
+        // A query covering more cells than there are entities is cheaper as a plain scan.
+        if (cellsCovered > entityCount) {
+            for (int i = 0; i < entityCount; i++) {
+                test(i, minX, minY, minZ, maxX, maxY, maxZ, filter, result);
+            }
+            return;
+        }
+
+        for (int cx = cellMinX; cx <= cellMaxX; cx++) {
+            for (int cz = cellMinZ; cz <= cellMaxZ; cz++) {
+                int slot = findSlot(key(cx, cz));
+                if (slot < 0) continue;
+
+                int end = cellStart[slot] + cellSize[slot];
+                for (int entry = cellStart[slot]; entry < end; entry++) {
+                    int i = cellEntries[entry];
+                    if (visited[i] == visitStamp) continue;
+                    visited[i] = visitStamp;
+                    test(i, minX, minY, minZ, maxX, maxY, maxZ, filter, result);
+                }
+            }
+        }
+    }
+
+    private void test(int i, double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                      @Nullable Predicate<LivingEntity> filter, List<LivingEntity> result) {
+
+        int base = i * 6;
+        if (bounds[base] > maxX || bounds[base + 3] < minX
+                || bounds[base + 1] > maxY || bounds[base + 4] < minY
+                || bounds[base + 2] > maxZ || bounds[base + 5] < minZ) {
+            return;
+        }
+
+        LivingEntity entity = entities[i];
+        if (entity.isValid() && (filter == null || filter.test(entity))) {
+            result.add(entity);
+        }
+    }
+
+    private void verify(BoundingBox box, @Nullable Predicate<LivingEntity> filter, List<LivingEntity> result) {
+        Collection<LivingEntity> live = world.getNearbyLivingEntities(box.getCenter().toLocation(world),
+                box.getWidthX() / 2, box.getHeight() / 2, box.getWidthZ() / 2, filter == null ? entity -> true : filter);
+
+        if (live.size() != result.size() || !new HashSet<>(result).containsAll(live)) {
+            staleQueries++;
+        }
+    }
+
+    private static int cell(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - tableBits));
+    }
+
+    /** @return The slot holding the key, claiming an empty one if it is not in the table yet. */
+    private int insertSlot(long key) {
+        int mask = cellKeys.length - 1;
+        int slot = hash(key);
+        while (cellBuild[slot] == buildId) {
+            if (cellKeys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        cellBuild[slot] = buildId;
+        cellKeys[slot] = key;
+        cellSize[slot] = 0;
+        return slot;
+    }
+
+    /** @return The slot holding the key, or -1 if no entity is in that cell. */
+    private int findSlot(long key) {
+        int mask = cellKeys.length - 1;
+        int slot = hash(key);
+        while (cellBuild[slot] == buildId) {
+            if (cellKeys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -11,7 +11,8 @@ import org.jetbrains.annotations.NotNull;
  * <p>
  * This class provides a set of powerful, data-driven formulas that read their parameters
  * directly from a spell's configuration section in {@code spells.yml}. This allows for
- * complex spell balancing and design without changing any Java code.
+ * complex spell balancing and design without changing any Java code. Parameters are
+ * read once, when the formula is compiled for a {@link SpellStat}.
  * <p>
  * Formulas are retrieved by their constant string key (e.g., {@link #STATIC}, {@link #LEVEL_SCALING}).
  *
@@ -82,24 +83,30 @@ public final class FormulaRegistry {
         // Default formula if none is specified.
         // Formula: value
         // Config: { value: 5.0 }
-        DEFAULT_FORMULA = (context, config) -> config.getDouble("value", 0.0);
+        DEFAULT_FORMULA = config -> {
+            double value = config.getDouble("value", 0.0);
+            return (StatEvaluator.LevelOnly) level -> value;
+        };
         formulas.put(STATIC, DEFAULT_FORMULA);
 
         // A flexible linear scaling formula based on spell level.
         // Formula: (SL * multiplier) + base
         // Config: { base: 5.0, multiplier: 1.5 }
-        formulas.put(LEVEL_SCALING, (context, config) ->
-                // System calculates level as 1-based, so we adjust for the formula (level - 1)
-                config.getDouble("base", 0.0) + (config.getDouble("multiplier", 1.0) * (context.spellLevel() - 1))
-        );
+        formulas.put(LEVEL_SCALING, config -> {
+            double base = config.getDouble("base", 0.0);
+            double multiplier = config.getDouble("multiplier", 1.0);
+
+            // System calculates level as 1-based, so we adjust for the formula (level - 1)
+            return (StatEvaluator.LevelOnly) level -> base + (multiplier * (level - 1));
+        });
 
         // The configurable distance and level scaling formula.
         // Formula: base + (distance * distanceMultiplier) / (divisor - (SL * levelMultiplier))
         // Config: { base: 6.0, bonus: 3.0, distanceMultiplier: 1.0, divisor: 7.0, levelMultiplier: 1.0, maxLevel: 6 }
-        formulas.put(DISTANCE_SCALING, (context, config) -> {
+        formulas.put(DISTANCE_SCALING, config -> {
             // Cap the effective level for the calculation if specified
-            int maxEffectiveLevel = config.getInt("maxLevel", context.spellLevel());
-            int effectiveLevel = Math.min(context.spellLevel(), maxEffectiveLevel);
+            boolean capped = config.contains("maxLevel");
+            int maxEffectiveLevel = config.getInt("maxLevel", Integer.MAX_VALUE);
 
             double base = config.getDouble("base", 0.0);
             double bonus = config.getDouble("bonus", 0.0); // An extra flat value to add at the end
@@ -107,48 +114,57 @@ public final class FormulaRegistry {
 
             double divisor = config.getDouble("divisor", 1.0);
             double levelMultiplier = config.getDouble("levelMultiplier", 1.0);
+            double maxValue = config.getDouble("maxValue", 20.0);
+
+            return (level, distance) -> {
+                int effectiveLevel = capped ? Math.min(level, maxEffectiveLevel) : level;
 
-            // The core calculation for the denominator
-            double denominator = divisor - (effectiveLevel * levelMultiplier);
+                // The core calculation for the denominator
+                double denominator = divisor - (effectiveLevel * levelMultiplier);
 
-            // Prevent division by zero or negative denominators, which would invert the damage scaling
-            if (denominator <= 0) {
-                // If the denominator is invalid, use the defined max value.
-                return config.getDouble("maxValue", 20.0);
-            }
+                // Prevent division by zero or negative denominators, which would invert the damage scaling
+                if (denominator <= 0) {
+                    // If the denominator is invalid, use the defined max value.
+                    return maxValue;
+                }
 
-            double distanceComponent = (context.distance() * distanceMultiplier) / denominator;
+                double distanceComponent = (distance * distanceMultiplier) / denominator;
 
-            return base + distanceComponent + bonus;
+                return base + distanceComponent + bonus;
+            };
         });
 
         // A formula that calculates a base damage, then reduces it by a percentage
         // over a specified distance range.
-        formulas.put(PERCENT_DISTANCE_SCALING, (context, config) -> {
-            // 1. Calculate the initial damage before any falloff
-            double baseDamage = config.getDouble("base", 0.0) + (config.getDouble("multiplier", 1.0) * (context.spellLevel() - 1));
+        formulas.put(PERCENT_DISTANCE_SCALING, config -> {
+            double base = config.getDouble("base", 0.0);
+            double multiplier = config.getDouble("multiplier", 1.0);
 
-            // 2. Get the falloff parameters from the config
             double falloffStart = config.getDouble("falloff-start-distance", 0.0);
             double falloffEnd = config.getDouble("falloff-end-distance", 80.0);
             // Convert hearts to health points for internal calculation
-            double minDamage = config.getDouble("min-damage-hearts", 0.5) * 2; 
+            double minDamage = config.getDouble("min-damage-hearts", 0.5) * 2;
+            double falloffRange = falloffEnd - falloffStart;
 
-            // 3. If the target is within the no-falloff zone, return full damage
-            if (context.distance() <= falloffStart) {
-                return baseDamage;
-            }
+            return (level, distance) -> {
+                // 1. Calculate the initial damage before any falloff
+                double baseDamage = base + (multiplier * (level - 1));
 
-            // 4. Calculate the percentage of damage to remove
-            double falloffRange = falloffEnd - falloffStart;
-            if (falloffRange <= 0) return baseDamage; // Avoid division by zero
+                // 2. If the target is within the no-falloff zone, return full damage
+                if (distance <= falloffStart) {
+                    return baseDamage;
+                }
+
+                // 3. Calculate the percentage of damage to remove
+                if (falloffRange <= 0) return baseDamage; // Avoid division by zero
 
-            double distanceIntoFalloff = context.distance() - falloffStart;
-            double reductionPercent = Math.max(0, Math.min(1, distanceIntoFalloff / falloffRange));
+                double distanceIntoFalloff = distance - falloffStart;
+                double reductionPercent = Math.max(0, Math.min(1, distanceIntoFalloff / falloffRange));
 
-            // 5. Apply the reduction and ensure it doesn't go below the minimum
-            double finalDamage = baseDamage * (1 - reductionPercent);
-            return Math.max(minDamage, finalDamage);
+                // 4. Apply the reduction and ensure it doesn't go below the minimum
+                double finalDamage = baseDamage * (1 - reductionPercent);
+                return Math.max(minDamage, finalDamage);
+            };
         });
 
         FORMULAS = Collections.unmodifiableMap(formulas);
@@ -10,12 +10,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.LivingEntity;
@@ -24,12 +28,12 @@ import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.DamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.Wizard;
 import dev.thomashanson.wizards.game.Wizards;
 import dev.thomashanson.wizards.game.manager.DamageManager;
@@ -57,10 +61,11 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  * <p>
  * Implementations must override the {@link #cast(Player, int)} method
  * to define the spell's unique behavior. If a spell requires per-tick logic
- * (e.g., projectiles, charging), it should also implement {@link Tickable}.
+ * (e.g., projectiles, charging), it should start a {@link SpellEffect} with
+ * {@link #startEffect(SpellEffect)}, which the game's {@link SpellEffectRuntime} ticks.
  *
  * @see SpellManager
- * @see Tickable
+ * @see SpellEffectRuntime
  * @see Spell.SpellBlock
  */
 public abstract class Spell implements Listener {
@@ -103,6 +108,7 @@ public abstract class Spell implements Listener {
     private final Map<String, SpellStat> stats; // Now private
 
     // --- Runtime State ---
+    private int id = -1;
     private int guiSlot = -1;
     private boolean cancelOnSwap = false;
     private final DecimalFormat cooldownFormat = new DecimalFormat("0.#");
@@ -135,7 +141,7 @@ public abstract class Spell implements Listener {
             for (final String statKey : statsSection.getKeys(false)) {
                 final ConfigurationSection statConfig = statsSection.getConfigurationSection(statKey);
                 if (statConfig != null) {
-                    loadedStats.put(statKey, new SpellStat(statConfig));
+                    loadedStats.put(statKey, new SpellStat(statConfig, maxLevel));
                 }
             }
         }
@@ -159,11 +165,13 @@ public abstract class Spell implements Listener {
     /**
      * Called when the game ends or the server shuts down.
      * <p>
-     * Implement this method to clean up any persistent state, such as removing
-     * active {@link BukkitRunnable} tasks, clearing static maps, or
-     * removing summoned entities to prevent memory leaks.
+     * By default this cancels every live {@link SpellEffect} of this spell. Override it
+     * (and call {@code super.cleanup()}) to clean up any other persistent state, such as
+     * active {@link BukkitRunnable} tasks or lookup maps kept outside the effects.
      */
-    public void cleanup() {}
+    public void cleanup() {
+        getGame().ifPresent(game -> game.getSpellEffects().cancelAll(this));
+    }
 
     public ItemStack createItemStack(@Nullable Player viewer, int spellLevel, int model) {
         plugin.getLogger().info(String.format("Building lore for spell: %s", this.key));
@@ -249,6 +257,16 @@ public abstract class Spell implements Listener {
         damageManager.damage(entity, tick);
     }
 
+    /**
+     * Damages an entity, combining the hit with any others this spell's caster lands on
+     * it during the same tick.
+     *
+     * @see DamageManager#damageAggregated(LivingEntity, DamageTick)
+     */
+    protected void damageAggregated(LivingEntity entity, DamageTick tick) {
+        damageManager.damageAggregated(entity, tick);
+    }
+
     private static <T extends Enum<T>> T safeEnumParse(String name, T defaultValue) {
         if (name == null || name.isEmpty()) return defaultValue;
         try {
@@ -287,28 +305,127 @@ public abstract class Spell implements Listener {
      * @return The calculated stat value or the default value.
      */
     public double getStat(String key, StatContext context, double defaultValue) {
-        SpellStat stat = getStats().get(key);
+        return getStat(key, context.spellLevel(), context.distance(), defaultValue);
+    }
+
+    /**
+     * Overloaded version of getStat which takes the level and distance directly.
+     */
+    protected double getStat(String key, int level, double distance, double defaultValue) {
+        SpellStat stat = stats.get(key);
         if (stat == null) {
-            plugin.getLogger().log(Level.WARNING, "Spell ''{0}'' is missing required stat ''{1}'' in spells.yml. Using default value of {2}.", new Object[]{this.key, key, defaultValue});
+            warnMissingStat(key, defaultValue);
             return defaultValue;
         }
-        Bukkit.broadcast(Component.text(String.format("%s has value: %s for stat: %s", this.key, stat.calculate(context), key)));
-        return stat.calculate(context);
+        return stat.calculate(level, distance);
     }
     
     /**
      * Overloaded version of getStat for when distance is not a factor.
      */
     protected double getStat(String key, int level, double defaultValue) {
-        return getStat(key, StatContext.of(level), defaultValue);
+        return getStat(key, level, 0, defaultValue);
     }
 
     protected double getStat(String key, int level) {
-        return getStat(key, StatContext.of(level), -1);
+        return getStat(key, level, 0, -1);
+    }
+
+    /**
+     * Resolves a stat once so it can be calculated later without a lookup by name.
+     * Spells should use this for stats read on every tick or every hit, and keep the
+     * returned handle in a field. If the stat is not defined in spells.yml, a warning is
+     * logged once and the handle always returns the default value.
+     *
+     * @param key          The case-insensitive name of the stat.
+     * @param defaultValue The value to use if the stat is missing.
+     * @return The stat handle.
+     */
+    protected SpellStat resolveStat(String key, double defaultValue) {
+        SpellStat stat = stats.get(key);
+        if (stat == null) {
+            warnMissingStat(key, defaultValue);
+            return SpellStat.constant(defaultValue);
+        }
+        return stat;
+    }
+
+    private void warnMissingStat(String statKey, double defaultValue) {
+        plugin.getLogger().log(Level.WARNING, "Spell ''{0}'' is missing required stat ''{1}'' in spells.yml. Using default value of {2}.", new Object[]{this.key, statKey, defaultValue});
     }
 
     public Map<String, SpellStat> getStats() { return stats; } // Public getter for the now-private map
     public int getTickInterval() { return tickInterval; }
+
+    /**
+     * Whether this spell's effects are purely cosmetic and may be pushed to the next
+     * tick when the game loop is over budget.
+     */
+    public boolean isDeferrable() { return false; }
+
+    /**
+     * @return The number of live effects of this spell in the active game.
+     */
+    public int getActiveInstanceCount() {
+        Wizards game = plugin.getGameManager().getActiveGame();
+        return (game != null) ? game.getSpellEffects().getCount(this) : 0;
+    }
+
+    /**
+     * Starts a live effect of this spell in the active game's {@link SpellEffectRuntime},
+     * which ticks it at this spell's {@code tick-interval} until it finishes. If there is
+     * no active game, the effect is cancelled straight away.
+     *
+     * @param effect The effect to start.
+     */
+    protected void startEffect(SpellEffect effect) {
+        Optional<Wizards> game = getGame();
+        if (game.isPresent()) {
+            game.get().getSpellEffects().start(this, effect);
+        } else {
+            effect.cancel();
+        }
+    }
+
+    /**
+     * @return The live effect of this spell with the given type owned by a player, if any.
+     */
+    protected <T extends SpellEffect> Optional<T> findEffect(Class<T> type, UUID owner) {
+        return getGame().flatMap(game -> game.getSpellEffects().findByOwner(this, type, owner));
+    }
+
+    /**
+     * @return The first live effect of this spell with the given type matching the filter, if any.
+     */
+    protected <T extends SpellEffect> Optional<T> findEffect(Class<T> type, Predicate<? super T> filter) {
+        return getGame().flatMap(game -> game.getSpellEffects().find(this, type, filter));
+    }
+
+    /**
+     * Runs an action for every live effect of this spell with the given type.
+     */
+    protected <T extends SpellEffect> void forEachEffect(Class<T> type, Consumer<? super T> action) {
+        getGame().ifPresent(game -> game.getSpellEffects().forEach(this, type, action));
+    }
+
+    /**
+     * Cancels every live effect of this spell owned by the given player.
+     *
+     * @return {@code true} if any effect was cancelled.
+     */
+    protected boolean cancelEffects(UUID owner) {
+        return getGame().map(game -> game.getSpellEffects().cancel(this, effect -> owner.equals(effect.getOwner())) > 0).orElse(false);
+    }
+
+    /**
+     * Cancels a single live effect of this spell.
+     *
+     * @return {@code true} if the effect was still live and has been cancelled.
+     */
+    protected boolean cancelEffect(SpellEffect effect) {
+        return getGame().map(game -> game.getSpellEffects().cancel(this, live -> live == effect) > 0).orElse(false);
+    }
+
     public boolean isCancelOnSwap() { return cancelOnSwap; }
     protected void setCancelOnSwap(boolean cancelOnSwap) { this.cancelOnSwap = cancelOnSwap; }
     
@@ -319,7 +436,61 @@ public abstract class Spell implements Listener {
     protected Optional<Wizard> getWizard(Player player) {
         return getGame().flatMap(game -> Optional.ofNullable(game.getWizard(player)));
     }
+
+    /**
+     * Finds the living entities whose bounding box intersects a box around a location.
+     * During a game this is answered by the game's per-tick entity index instead of
+     * a world query.
+     *
+     * @param center  The centre of the box.
+     * @param xRadius Half the box's size along X.
+     * @param yRadius Half the box's size along Y.
+     * @param zRadius Half the box's size along Z.
+     * @param filter  An optional filter on the results.
+     * @return The matching entities.
+     */
+    protected List<LivingEntity> getNearbyEntities(Location center, double xRadius, double yRadius, double zRadius, @Nullable Predicate<LivingEntity> filter) {
+        Wizards game = plugin.getGameManager().getActiveGame();
+        if (game != null) {
+            return game.getEntityIndex().getNearby(center, xRadius, yRadius, zRadius, filter);
+        }
+        return new ArrayList<>(center.getWorld().getNearbyLivingEntities(center, xRadius, yRadius, zRadius, filter == null ? entity -> true : filter));
+    }
+
+    /**
+     * Finds the living entities whose bounding box intersects a box, using the game's
+     * entity index when a game is running.
+     *
+     * @see #getNearbyEntities(Location, double, double, double, Predicate)
+     */
+    protected List<LivingEntity> getNearbyEntities(World world, BoundingBox box, @Nullable Predicate<LivingEntity> filter) {
+        Wizards game = plugin.getGameManager().getActiveGame();
+        if (game != null) {
+            return game.getEntityIndex().getNearby(world, box, filter);
+        }
+        return getNearbyEntities(box.getCenter().toLocation(world), box.getWidthX() / 2, box.getHeight() / 2, box.getWidthZ() / 2, filter);
+    }
+
+    /**
+     * @see #getNearbyEntities(Location, double, double, double, Predicate)
+     */
+    protected List<LivingEntity> getNearbyEntities(Location center, double radius) {
+        return getNearbyEntities(center, radius, radius, radius, null);
+    }
+
+    /**
+     * @see #getNearbyEntities(Location, double, double, double, Predicate)
+     */
+    protected List<LivingEntity> getNearbyEntities(Location center, double radius, @Nullable Predicate<LivingEntity> filter) {
+        return getNearbyEntities(center, radius, radius, radius, filter);
+    }
     
     public int getGuiSlot() { return this.guiSlot; }
     void setGuiSlot(int slot) { this.guiSlot = slot; }
+
+    /**
+     * @return The dense id assigned by {@link SpellManager#loadSpells()}, used to index per-wizard arrays.
+     */
+    public int getId() { return this.id; }
+    void setId(int id) { this.id = id; }
 }
\ No newline at end of file
@@ -145,7 +145,7 @@ public class SpellBook {
             if (spellColumns.contains(i % 9)) {
                 if (spell != null) {
                     if (wizard != null) {
-                        int spellLevel = wizard.getLevel(spell.getKey());
+                        int spellLevel = wizard.getLevel(spell);
                         if (spellLevel > 0) {
                             ItemStack spellItem = spell.createItemStack(player, spellLevel, 1);
                             List<Component> finalLore = new ArrayList<>(spellItem.lore());
@@ -211,7 +211,7 @@ public class SpellBook {
 
         if (event.getClick().isLeftClick()) {
             int wandSlot = player.getInventory().getHeldItemSlot();
-            wizard.setSpell(wandSlot, spell.getKey());
+            wizard.setSpell(wandSlot, spell);
             
             player.sendMessage(lang.getTranslated(player, "wizards.boundSpell",
                 Placeholder.unparsed("spell_name", spell.getName())
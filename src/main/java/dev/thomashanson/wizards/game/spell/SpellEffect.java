@@ -0,0 +1,38 @@
+package dev.thomashanson.wizards.game.spell;
+
+import java.util.UUID;
+
+/**
+ * A single live instance of a spell in the world: a volley being fired, a shield
+ * following its owner, a set of ice blocks waiting to melt, a summoned wolf, ...
+ * <p>
+ * Effects are started with {@link Spell#startEffect(SpellEffect)} and are owned by
+ * the active game's {@link SpellEffectRuntime}, which ticks them and cancels any that
+ * are still alive when the game resets.
+ */
+public interface SpellEffect {
+
+    /**
+     * Advances this effect by one update.
+     *
+     * @param gameTick The current game tick.
+     * @return {@code true} once the effect has finished and should be removed. An effect
+     * that returns {@code true} is responsible for having cleaned up after itself.
+     */
+    boolean tick(long gameTick);
+
+    /**
+     * Called when the effect is removed before it finished on its own, e.g. because
+     * its owner left, the spell was re-cast or the game ended. Implementations should
+     * remove any entities, blocks or other state they still hold.
+     */
+    default void cancel() {}
+
+    /**
+     * @return The player who owns this effect, used for lookups and cancellation,
+     * or {@code null} if the effect is not tied to a player.
+     */
+    default UUID getOwner() {
+        return null;
+    }
+}
@@ -0,0 +1,379 @@
+package dev.thomashanson.wizards.game.spell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.Tickable;
+import dev.thomashanson.wizards.game.manager.GameManager;
+import dev.thomashanson.wizards.game.scheduler.TickPhase;
+import dev.thomashanson.wizards.game.scheduler.TickStagger;
+import dev.thomashanson.wizards.game.scheduler.TickTimings;
+
+/**
+ * Owns every live {@link SpellEffect} of a single {@link dev.thomashanson.wizards.game.Wizards} game.
+ * <p>
+ * Effects from all spells are kept in one pair of parallel arrays (effect and the
+ * group of the spell that started it) and are ticked in a single pass, compacting the
+ * arrays as finished effects are dropped. Each spell gets a {@link SpellGroup} which
+ * tracks its live instance count, its tick interval and staggered offset (from
+ * {@code tick-interval} in spells.yml) and a {@link TickTimings} histogram of how long
+ * its effects take per tick.
+ * <p>
+ * The runtime registers itself with the game loop when its first effect starts and
+ * reports itself {@link #isIdle() idle} once the last one finishes, so a game with no
+ * live spells pays nothing for them. {@link #cancelAll()} is called on
+ * {@link dev.thomashanson.wizards.game.Wizards#reset()} so no effect can outlive its game.
+ * <p>
+ * This class is only ever used from the main server thread.
+ */
+public class SpellEffectRuntime implements Tickable {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final WizardsPlugin plugin;
+
+    private SpellEffect[] effects = new SpellEffect[INITIAL_CAPACITY];
+    private SpellGroup[] owners = new SpellGroup[INITIAL_CAPACITY];
+    private int size;
+    private int liveCount;
+
+    /** Whether {@link #tick(long)} is currently iterating; removals are deferred to the compaction pass. */
+    private boolean ticking;
+
+    private final Map<Spell, SpellGroup> groups = new IdentityHashMap<>();
+
+    public SpellEffectRuntime(WizardsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts a new effect for the given spell.
+     *
+     * @param spell  The spell the effect belongs to.
+     * @param effect The effect to tick until it finishes.
+     */
+    public void start(Spell spell, SpellEffect effect) {
+        SpellGroup group = groups.computeIfAbsent(spell, SpellGroup::new);
+
+        if (size == effects.length) {
+            int capacity = effects.length * 2;
+            effects = Arrays.copyOf(effects, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+        }
+
+        effects[size] = effect;
+        owners[size] = group;
+        size++;
+        liveCount++;
+        group.count++;
+
+        GameManager gameManager = plugin.getGameManager();
+        if (gameManager != null && gameManager.isGameLoopRunning()) {
+            gameManager.registerTickable(this);
+        }
+    }
+
+    /**
+     * Ticks every live effect whose spell is due this tick, in one pass.
+     * Effects started during the pass are kept but not ticked until the next one.
+     */
+    @Override
+    public void tick(long gameTick) {
+        if (size == 0) return;
+
+        long clock = Bukkit.getCurrentTick();
+        boolean overBudget = plugin.getGameManager().getTickScheduler().isOverBudget();
+
+        for (SpellGroup group : groups.values()) {
+            group.due = group.count > 0 && (group.deferred || TickStagger.isDue(clock, group.interval, group.offset));
+
+            if (group.due && group.deferrable && overBudget && !group.deferred) {
+                // Purely cosmetic spells give way when the tick is already over budget.
+                group.due = false;
+                group.deferred = true;
+                group.timings.recordDeferral();
+            } else if (group.due) {
+                group.deferred = false;
+            }
+            group.elapsedNanos = 0L;
+        }
+
+        int end = size;
+        ticking = true;
+
+        try {
+            for (int i = 0; i < end; i++) {
+                SpellEffect effect = effects[i];
+                SpellGroup group = owners[i];
+                if (effect == null || !group.due) continue;
+
+                long start = System.nanoTime();
+                boolean finished;
+
+                try {
+                    finished = effect.tick(gameTick);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, String.format("Error while ticking effect of spell: %s", group.spell.getKey()), e);
+                    safeCancel(effect, group);
+                    finished = true;
+                }
+                group.elapsedNanos += System.nanoTime() - start;
+
+                if (finished && effects[i] != null) {
+                    release(i);
+                }
+            }
+        } finally {
+            ticking = false;
+            compact();
+        }
+
+        for (SpellGroup group : groups.values()) {
+            if (group.due) group.timings.record(group.elapsedNanos);
+        }
+    }
+
+    /**
+     * Cancels and removes every effect of the given spell that matches the filter.
+     *
+     * @param spell  The spell whose effects to check.
+     * @param filter Which effects to cancel.
+     * @return The number of effects cancelled.
+     */
+    public int cancel(Spell spell, Predicate<? super SpellEffect> filter) {
+        SpellGroup group = groups.get(spell);
+        if (group == null || group.count == 0) return 0;
+
+        int cancelled = 0;
+        for (int i = 0; i < size; i++) {
+            SpellEffect effect = effects[i];
+            if (effect != null && owners[i] == group && filter.test(effect)) {
+                release(i);
+                safeCancel(effect, group);
+                cancelled++;
+            }
+        }
+
+        if (!ticking) compact();
+        return cancelled;
+    }
+
+    /**
+     * Cancels and removes every effect of the given spell.
+     *
+     * @param spell The spell whose effects to cancel.
+     */
+    public void cancelAll(Spell spell) {
+        cancel(spell, effect -> true);
+    }
+
+    /**
+     * Cancels every live effect of every spell and releases all bookkeeping.
+     * Called when the game is reset.
+     */
+    public void cancelAll() {
+        for (int i = 0; i < size; i++) {
+            SpellEffect effect = effects[i];
+            if (effect == null) continue;
+
+            SpellGroup group = owners[i];
+            release(i);
+            safeCancel(effect, group);
+        }
+
+        Arrays.fill(effects, 0, size, null);
+        Arrays.fill(owners, 0, size, null);
+        size = 0;
+        liveCount = 0;
+
+        groups.values().forEach(SpellGroup::releaseOffset);
+        groups.clear();
+
+        GameManager gameManager = plugin.getGameManager();
+        if (gameManager != null) {
+            gameManager.unregisterTickable(this);
+        }
+    }
+
+    /**
+     * Finds the first live effect of a spell that has the given type and matches the filter.
+     *
+     * @param spell  The spell whose effects to search.
+     * @param type   The effect implementation to look for.
+     * @param filter An additional condition the effect must meet.
+     * @return The matching effect, if any.
+     */
+    public <T extends SpellEffect> Optional<T> find(Spell spell, Class<T> type, Predicate<? super T> filter) {
+        SpellGroup group = groups.get(spell);
+        if (group == null || group.count == 0) return Optional.empty();
+
+        for (int i = 0; i < size; i++) {
+            SpellEffect effect = effects[i];
+            if (effect != null && owners[i] == group && type.isInstance(effect)) {
+                T typed = type.cast(effect);
+                if (filter.test(typed)) return Optional.of(typed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the live effect of a spell owned by the given player.
+     *
+     * @param spell The spell whose effects to search.
+     * @param type  The effect implementation to look for.
+     * @param owner The owner's UUID.
+     * @return The matching effect, if any.
+     */
+    public <T extends SpellEffect> Optional<T> findByOwner(Spell spell, Class<T> type, UUID owner) {
+        return find(spell, type, effect -> owner.equals(effect.getOwner()));
+    }
+
+    /**
+     * Runs an action for every live effect of a spell with the given type. Effects
+     * started or cancelled by the action are handled safely.
+     *
+     * @param spell  The spell whose effects to visit.
+     * @param type   The effect implementation to look for.
+     * @param action The action to run.
+     */
+    public <T extends SpellEffect> void forEach(Spell spell, Class<T> type, Consumer<? super T> action) {
+        SpellGroup group = groups.get(spell);
+        if (group == null || group.count == 0) return;
+
+        int end = size;
+        for (int i = 0; i < end; i++) {
+            SpellEffect effect = effects[i];
+            if (effect != null && owners[i] == group && type.isInstance(effect)) {
+                action.accept(type.cast(effect));
+            }
+        }
+    }
+
+    /**
+     * @param spell The spell to count.
+     * @return The number of live effects of that spell.
+     */
+    public int getCount(Spell spell) {
+        SpellGroup group = groups.get(spell);
+        return group != null ? group.count : 0;
+    }
+
+    /**
+     * @return The number of live effects across all spells.
+     */
+    public int getCount() {
+        return liveCount;
+    }
+
+    /**
+     * @return A snapshot of every spell that has started an effect this game,
+     * with its live count and timings.
+     */
+    public List<SpellGroup> getGroups() {
+        return Collections.unmodifiableList(new ArrayList<>(groups.values()));
+    }
+
+    @Override
+    public boolean isIdle() {
+        return liveCount == 0;
+    }
+
+    @Override
+    public TickPhase getTickPhase() {
+        return TickPhase.EFFECTS;
+    }
+
+    @Override
+    public String getTickName() {
+        return "Spell effects";
+    }
+
+    /** Marks slot {@code i} as free. The slot itself is reclaimed by {@link #compact()}. */
+    private void release(int i) {
+        SpellGroup group = owners[i];
+        effects[i] = null;
+        group.count--;
+        liveCount--;
+    }
+
+    /** Squeezes out freed slots, preserving the order of the remaining effects. */
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (effects[read] == null) continue;
+            if (write != read) {
+                effects[write] = effects[read];
+                owners[write] = owners[read];
+            }
+            write++;
+        }
+        Arrays.fill(effects, write, size, null);
+        Arrays.fill(owners, write, size, null);
+        size = write;
+    }
+
+    private void safeCancel(SpellEffect effect, SpellGroup group) {
+        try {
+            effect.cancel();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, String.format("Error while cancelling effect of spell: %s", group.spell.getKey()), e);
+        }
+    }
+
+    /**
+     * Per-spell bookkeeping: live instance count, tick interval and offset, and timings.
+     */
+    public final class SpellGroup {
+
+        private final Spell spell;
+        private final int interval;
+        private final int offset;
+        private final boolean deferrable;
+        private final TickTimings timings = new TickTimings();
+
+        private int count;
+        private boolean due;
+        private boolean deferred;
+        private long elapsedNanos;
+
+        private SpellGroup(Spell spell) {
+            this.spell = spell;
+            this.interval = Math.max(1, spell.getTickInterval());
+            this.offset = plugin.getTickStagger().reserve(interval);
+            this.deferrable = spell.isDeferrable();
+        }
+
+        private void releaseOffset() {
+            plugin.getTickStagger().release(interval, offset);
+        }
+
+        public Spell getSpell() {
+            return spell;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getInterval() {
+            return interval;
+        }
+
+        public TickTimings getTimings() {
+            return timings;
+        }
+    }
+}
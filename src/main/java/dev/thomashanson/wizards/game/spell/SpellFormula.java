@@ -1,19 +1,24 @@
 package dev.thomashanson.wizards.game.spell;
 
-import java.util.function.BiFunction;
-
 import org.bukkit.configuration.ConfigurationSection;
 
 /**
  * A functional interface that defines a mathematical formula for calculating a spell stat.
  * <p>
- * This allows for flexible, data-driven stat calculation by passing the
- * current {@link StatContext} (level, distance) and the spell's configuration
- * into a lambda or method reference.
+ * A formula reads its parameters from the stat's configuration once and compiles them
+ * into a {@link StatEvaluator}, which the {@link SpellStat} keeps for every later
+ * calculation. Formulas which only depend on the level should return a
+ * {@link StatEvaluator.LevelOnly}.
  *
  * @see FormulaRegistry
  * @see SpellStat
  */
 @FunctionalInterface
-public interface SpellFormula extends BiFunction<StatContext, ConfigurationSection, Double> {
-}
\ No newline at end of file
+public interface SpellFormula {
+
+    /**
+     * @param config The stat's configuration section.
+     * @return The evaluator for this stat.
+     */
+    StatEvaluator compile(ConfigurationSection config);
+}
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.Nullable;
 import com.google.common.base.Preconditions;
 
 import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.Wizards;
 
 /**
  * Manages the loading, storing, and retrieval of all {@link Spell} definitions.
@@ -45,6 +46,9 @@ public class SpellManager {
     private final WizardsPlugin plugin;
     private final Map<String, Spell> spells = new HashMap<>();
 
+    /** Loaded spells indexed by {@link Spell#getId()}, for array-backed per-wizard state. */
+    private Spell[] spellsById = new Spell[0];
+
     /**
      * Creates a new SpellManager.
      *
@@ -58,9 +62,13 @@ public class SpellManager {
      * Loads all spell definitions from {@code spells.yml}.
      * This method clears any existing spells, reads the config, and uses
      * reflection to instantiate and register each spell and its listeners.
+     * <p>
+     * Every loaded spell is given a dense int id, in the order it appears in
+     * {@code spells.yml}, which stays the same until the spells are reloaded.
      */
     public void loadSpells() {
         spells.clear();
+        spellsById = new Spell[0];
         File spellsFile = new File(plugin.getDataFolder(), "spells.yml");
         if (!spellsFile.exists()) {
             plugin.saveResource("spells.yml", false);
@@ -93,6 +101,7 @@ public class SpellManager {
                 Constructor<? extends Spell> constructor = spellClass.getConstructor(WizardsPlugin.class, String.class, ConfigurationSection.class);
 
                 Spell spell = constructor.newInstance(plugin, key, config);
+                spell.setId(spells.size());
                 spells.put(key.toUpperCase(), spell);
                 plugin.getServer().getPluginManager().registerEvents(spell, plugin);
 
@@ -108,6 +117,11 @@ public class SpellManager {
         
         // FIX 5: Use parameterized logging here as well.
         plugin.getLogger().log(Level.INFO, "Successfully loaded {0} spells.", spells.size());
+
+        spellsById = new Spell[spells.size()];
+        for (Spell spell : spells.values()) {
+            spellsById[spell.getId()] = spell;
+        }
         assignGuiSlots();
     }
 
@@ -122,6 +136,24 @@ public class SpellManager {
         return spells.get(key.toUpperCase());
     }
 
+    /**
+     * Retrieves a {@link Spell} instance by its int id.
+     *
+     * @param id The id assigned when the spell was loaded.
+     * @return The {@link Spell} object, or {@code null} if the id is out of range.
+     */
+    @Nullable
+    public Spell getSpell(int id) {
+        return (id >= 0 && id < spellsById.length) ? spellsById[id] : null;
+    }
+
+    /**
+     * @return The number of loaded spells; every spell id is below this.
+     */
+    public int getSpellCount() {
+        return spellsById.length;
+    }
+
     /**
      * Retrieves a {@link Spell} instance from an {@link ItemStack}
      * by reading its {@link PersistentDataContainer}.
@@ -152,6 +184,17 @@ public class SpellManager {
         return Collections.unmodifiableMap(spells);
     }
     
+    /**
+     * Returns the total number of live spell effects in the active game's
+     * {@link SpellEffectRuntime}, across all spells. Intended for monitoring.
+     *
+     * @return The number of live spell instances.
+     */
+    public int getActiveInstanceCount() {
+        Wizards game = plugin.getGameManager().getActiveGame();
+        return game != null ? game.getSpellEffects().getCount() : 0;
+    }
+
     /**
      * Assigns GUI slot indices to all loaded spells based on their
      * {@link SpellElement}, rarity, and name. This ensures a consistent
@@ -4,29 +4,86 @@ import org.bukkit.configuration.ConfigurationSection;
 
 /**
  * Represents a single configurable stat for a spell (e.g., "damage", "range").
- * This class holds the {@link SpellFormula} used to calculate the stat's value
- * and the display format for rendering it in item lore.
+ * This class holds the compiled {@link StatEvaluator} used to calculate the stat's
+ * value and the display format for rendering it in item lore.
+ * <p>
+ * Stats are compiled once, when the spell is loaded. A stat whose formula only depends
+ * on the spell level is tabulated for every level up to the spell's max level, so a
+ * lookup is a single array read. Spells which read a stat often (every tick, or on
+ * every hit) should resolve it once with {@link Spell#resolveStat(String, double)} and
+ * keep the handle instead of looking it up by name each time.
  *
  * @see Spell
  * @see FormulaRegistry
  */
-public class SpellStat {
+public final class SpellStat {
 
     private final String displayFormat;
-    private final SpellFormula formula;
-    private final ConfigurationSection config;
+    private final StatEvaluator evaluator;
+
+    /** Values by level for level-only formulas, or {@code null} if the stat depends on distance. */
+    private final double[] byLevel;
 
     /**
-     * Creates a new SpellStat by parsing its configuration section from {@code spells.yml}.
+     * Creates a new SpellStat by compiling its configuration section from {@code spells.yml}.
      *
-     * @param config The {@link ConfigurationSection} for this specific stat.
+     * @param config   The {@link ConfigurationSection} for this specific stat.
+     * @param maxLevel The spell's max level, the highest level tabulated.
      */
-    public SpellStat(ConfigurationSection config) {
+    public SpellStat(ConfigurationSection config, int maxLevel) {
         // Defaulting to "%.0f" will display the number as a whole integer.
         // Use "%.1f" for one decimal place, etc.
-        this.displayFormat = config.getString("display", "%.0f");
-        this.formula = FormulaRegistry.get(config.getString("formula", "STATIC"));
-        this.config = config;
+        this(config.getString("display", "%.0f"),
+                FormulaRegistry.get(config.getString("formula", "STATIC")).compile(config), maxLevel);
+    }
+
+    private SpellStat(String displayFormat, StatEvaluator evaluator, int maxLevel) {
+        this.displayFormat = displayFormat;
+        this.evaluator = evaluator;
+
+        if (evaluator instanceof StatEvaluator.LevelOnly levelOnly) {
+            this.byLevel = new double[Math.max(1, maxLevel) + 1];
+            for (int level = 0; level < byLevel.length; level++) {
+                byLevel[level] = levelOnly.evaluate(level);
+            }
+        } else {
+            this.byLevel = null;
+        }
+    }
+
+    /**
+     * Creates a stat with the same value at every level, used in place of a stat
+     * missing from {@code spells.yml}.
+     *
+     * @param value The value of the stat.
+     * @return The constant stat.
+     */
+    public static SpellStat constant(double value) {
+        return new SpellStat("%.0f", (StatEvaluator.LevelOnly) level -> value, 0);
+    }
+
+    /**
+     * Calculates the final value of this stat for a level and distance.
+     *
+     * @param level    The spell level.
+     * @param distance The distance relevant to the calculation.
+     * @return The calculated value.
+     */
+    public double calculate(int level, double distance) {
+        if (byLevel != null && level >= 0 && level < byLevel.length) {
+            return byLevel[level];
+        }
+        return evaluator.evaluate(level, distance);
+    }
+
+    /**
+     * Calculates the final value of this stat for a level, with no distance.
+     *
+     * @param level The spell level.
+     * @return The calculated value.
+     */
+    public double calculate(int level) {
+        return calculate(level, 0);
     }
 
     /**
@@ -36,7 +93,14 @@ public class SpellStat {
      * @return The calculated value.
      */
     public double calculate(StatContext context) {
-        return formula.apply(context, config);
+        return calculate(context.spellLevel(), context.distance());
+    }
+
+    /**
+     * @return {@code true} if the stat only depends on the spell level.
+     */
+    public boolean isLevelOnly() {
+        return byLevel != null;
     }
 
     /**
@@ -45,4 +109,4 @@ public class SpellStat {
     public String getDisplayFormat() {
         return displayFormat;
     }
-}
\ No newline at end of file
+}
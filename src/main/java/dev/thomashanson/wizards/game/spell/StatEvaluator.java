@@ -0,0 +1,40 @@
+package dev.thomashanson.wizards.game.spell;
+
+/**
+ * A spell stat formula compiled against its parameters from {@code spells.yml}.
+ * <p>
+ * Evaluators are built once, when a {@link SpellStat} is loaded, and only capture
+ * primitives, so evaluating one never touches the configuration or allocates.
+ *
+ * @see SpellFormula
+ * @see SpellStat
+ */
+@FunctionalInterface
+public interface StatEvaluator {
+
+    /**
+     * @param level    The level of the spell being calculated.
+     * @param distance The distance relevant to the calculation, or {@code 0} if none.
+     * @return The stat value.
+     */
+    double evaluate(int level, double distance);
+
+    /**
+     * A formula which only depends on the spell level, so a {@link SpellStat} can
+     * tabulate it for every level up front.
+     */
+    @FunctionalInterface
+    interface LevelOnly extends StatEvaluator {
+
+        /**
+         * @param level The level of the spell being calculated.
+         * @return The stat value.
+         */
+        double evaluate(int level);
+
+        @Override
+        default double evaluate(int level, double distance) {
+            return evaluate(level);
+        }
+    }
+}
@@ -2,11 +2,8 @@ package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -25,8 +22,9 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
 
 /**
@@ -38,63 +36,65 @@ import dev.thomashanson.wizards.game.spell.Spell;
  * 2.  **Launch Phase:** After a set duration, all orbiting boulders are
  * launched forward in the caster's direction as projectiles.
  * <p>
- * This class implements {@link Tickable} to update the state of all
- * active boulders every tick.
+ * Each cast is a {@link SpellEffect} that
+ * updates the state of its boulders every tick.
  */
-public class SpellBoulderToss extends Spell implements Tickable {
+public class SpellBoulderToss extends Spell {
 
-    private final Map<UUID, BoulderInstance> activeInstances = new ConcurrentHashMap<>();
     private final NamespacedKey boulderKey;
 
+    private final SpellStat bouldersStat;
+    private final SpellStat orbitsStat;
+    private final SpellStat rotationTicksStat;
+    private final SpellStat orbitRadiusStat;
+    private final SpellStat orbitYOffsetStat;
+    private final SpellStat damageStat;
+    private final SpellStat knockbackStat;
+    private final SpellStat launchSpeedBpsStat;
+    private final SpellStat launchArcStat;
+    private final SpellStat gravityStat;
+    private final SpellStat rotationHitboxStat;
+    private final SpellStat projectileHitboxStat;
+    private final SpellStat projectileMaxTicksStat;
+    private final SpellStat visualSpinDegreesStat;
+
     public SpellBoulderToss(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.boulderKey = new NamespacedKey(plugin, "boulder_toss_boulder");
+        this.bouldersStat = resolveStat("boulders", 3.0);
+        this.orbitsStat = resolveStat("orbits", 2.0);
+        this.rotationTicksStat = resolveStat("rotation-ticks", 100.0);
+        this.orbitRadiusStat = resolveStat("orbit-radius", 2.5);
+        this.orbitYOffsetStat = resolveStat("orbit-y-offset", 1.0);
+        this.damageStat = resolveStat("damage", 5.0);
+        this.knockbackStat = resolveStat("knockback", 0.4);
+        this.launchSpeedBpsStat = resolveStat("launch-speed-bps", 25.0);
+        this.launchArcStat = resolveStat("launch-arc", 0.35);
+        this.gravityStat = resolveStat("gravity", 0.03);
+        this.rotationHitboxStat = resolveStat("rotation-hitbox", 1.0);
+        this.projectileHitboxStat = resolveStat("projectile-hitbox", 1.2);
+        this.projectileMaxTicksStat = resolveStat("projectile-max-ticks", 200.0);
+        this.visualSpinDegreesStat = resolveStat("visual-spin-degrees", 15.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        if (activeInstances.containsKey(player.getUniqueId())) {
+        if (findEffect(BoulderInstance.class, player.getUniqueId()).isPresent()) {
             // Send feedback message to player
             return false;
         }
 
-        activeInstances.put(player.getUniqueId(), new BoulderInstance(this, player, level));
+        startEffect(new BoulderInstance(this, player, level));
         player.playSound(player.getLocation(), Sound.ENTITY_EVOKER_PREPARE_ATTACK, 1F, 1.2F);
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeInstances.isEmpty()) return;
-
-        final Iterator<BoulderInstance> iterator = activeInstances.values().iterator();
-        while (iterator.hasNext()) {
-            final BoulderInstance instance = iterator.next();
-            if (instance.isDone()) {
-                iterator.remove();
-            } else {
-                instance.tick();
-            }
-        }
-    }
-
-    @Override
-    public int getTickInterval() {
-        return 1; // Needs frequent updates for smooth visuals.
-    }
-
-    @Override
-    public void cleanup() {
-        activeInstances.values().forEach(BoulderInstance::cleanup);
-        activeInstances.clear();
-    }
-
     /**
      * Manages the state for a single "Boulder Toss" cast by a player.
      * It controls the phase (ROTATING, LAUNCHED) and owns the list of
      * individual boulders.
      */
-    private static class BoulderInstance {
+    private static class BoulderInstance implements SpellEffect {
         private enum Phase { ROTATING, LAUNCHED }
 
         private final SpellBoulderToss parentSpell;
@@ -122,17 +122,17 @@ public class SpellBoulderToss extends Spell implements Tickable {
             this.caster = caster;
             this.level = level;
 
-            final int boulderCount = (int) parent.getStat("boulders", level, 3);
-            final double orbits = parent.getStat("orbits", level, 2.0);
-            this.rotationDurationTicks = (int) parent.getStat("rotation-ticks", level, 100);
+            final int boulderCount = (int) parent.bouldersStat.calculate(level);
+            final double orbits = parent.orbitsStat.calculate(level);
+            this.rotationDurationTicks = (int) parent.rotationTicksStat.calculate(level);
             this.angularSpeed = (2.0 * Math.PI * orbits) / rotationDurationTicks;
-            this.orbitRadius = parent.getStat("orbit-radius", level, 2.5);
-            this.orbitYOffset = parent.getStat("orbit-y-offset", level, 1.0);
-            this.damage = parent.getStat("damage", level, 5.0);
-            this.knockback = parent.getStat("knockback", level, 0.4);
-            this.launchSpeed = parent.getStat("launch-speed-bps", level, 25.0) / 20.0; // BPS to BPT
-            this.launchArc = parent.getStat("launch-arc", level, 0.35);
-            this.gravity = parent.getStat("gravity", level, 0.03);
+            this.orbitRadius = parent.orbitRadiusStat.calculate(level);
+            this.orbitYOffset = parent.orbitYOffsetStat.calculate(level);
+            this.damage = parent.damageStat.calculate(level);
+            this.knockback = parent.knockbackStat.calculate(level);
+            this.launchSpeed = parent.launchSpeedBpsStat.calculate(level) / 20.0; // BPS to BPT
+            this.launchArc = parent.launchArcStat.calculate(level);
+            this.gravity = parent.gravityStat.calculate(level);
 
             spawnBoulders(boulderCount);
         }
@@ -144,11 +144,15 @@ public class SpellBoulderToss extends Spell implements Tickable {
             }
         }
 
-        void tick() {
+        /** @return true once every boulder is gone and this instance should be removed */
+        @Override
+        public boolean tick(long gameTick) {
+            if (done) return true;
+
             ticksLived++;
             if (!caster.isOnline()) {
                 cleanup();
-                return;
+                return true;
             }
 
             if (currentPhase == Phase.ROTATING) {
@@ -160,6 +164,7 @@ public class SpellBoulderToss extends Spell implements Tickable {
             if (boulders.isEmpty()) {
                 this.done = true;
             }
+            return done;
         }
 
         private void tickRotation() {
@@ -180,13 +185,21 @@ public class SpellBoulderToss extends Spell implements Tickable {
             boulders.forEach(boulder -> boulder.launch(caster.getEyeLocation().getDirection()));
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
         void cleanup() {
             boulders.forEach(BoulderProjectile::remove);
             boulders.clear();
             this.done = true;
         }
-        
-        boolean isDone() { return done; }
     }
 
     /**
@@ -217,10 +230,10 @@ public class SpellBoulderToss extends Spell implements Tickable {
 
             final int level = parent.level;
             final SpellBoulderToss spell = parent.parentSpell;
-            this.rotationHitbox = spell.getStat("rotation-hitbox", level, 1.0);
-            this.projectileHitbox = spell.getStat("projectile-hitbox", level, 1.2);
-            this.projectileMaxTicks = (int) spell.getStat("projectile-max-ticks", level, 200);
-            this.visualSpinSpeed = Math.toRadians(spell.getStat("visual-spin-degrees", level, 15.0));
+            this.rotationHitbox = spell.rotationHitboxStat.calculate(level);
+            this.projectileHitbox = spell.projectileHitboxStat.calculate(level);
+            this.projectileMaxTicks = (int) spell.projectileMaxTicksStat.calculate(level);
+            this.visualSpinSpeed = Math.toRadians(spell.visualSpinDegreesStat.calculate(level));
 
             this.armorStand = spawnArmorStand(parent.caster.getLocation());
         }
@@ -275,7 +288,7 @@ public class SpellBoulderToss extends Spell implements Tickable {
 
         /** @return true if collision occurred and projectile should be removed. */
         private boolean checkCollision(double radius, DamageCause cause, boolean removeOnHit) {
-            for (LivingEntity entity : armorStand.getWorld().getNearbyLivingEntities(armorStand.getLocation(), radius)) {
+            for (LivingEntity entity : parent.parentSpell.getNearbyEntities(armorStand.getLocation(), radius)) {
                 if (entity.equals(parent.caster)) continue;
 
                 if (armorStand.getBoundingBox().expand(radius * 0.5).overlaps(entity.getBoundingBox())) {
@@ -1,9 +1,6 @@
 package dev.thomashanson.wizards.game.spell.types;
 
-import java.util.Iterator;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bukkit.Sound;
@@ -20,31 +17,36 @@ import com.comphenix.protocol.wrappers.WrappedGameProfile;
 import com.mojang.authlib.GameProfile;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.Wizard;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellDoppelganger extends Spell implements Tickable {
+public class SpellDoppelganger extends Spell {
 
-    private static final Map<UUID, DoppelgangerInstance> ACTIVE_CLONES = new ConcurrentHashMap<>();
     private static final AtomicInteger NPC_ENTITY_ID_COUNTER = new AtomicInteger(Integer.MIN_VALUE / 2);
 
+    private final SpellStat lifespanTicksStat;
+    private final SpellStat manaDrainStat;
+
     public SpellDoppelganger(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.lifespanTicksStat = resolveStat("lifespan-ticks", 0.0);
+        this.manaDrainStat = resolveStat("mana-drain", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        if (ACTIVE_CLONES.containsKey(player.getUniqueId())) {
+        if (findEffect(DoppelgangerInstance.class, player.getUniqueId()).isPresent()) {
             return false;
         }
 
         getWizard(player).ifPresent(wizard -> {
             DoppelgangerInstance instance = new DoppelgangerInstance(this, wizard, level);
-            ACTIVE_CLONES.put(player.getUniqueId(), instance);
+            startEffect(instance);
 
-            long lifespanTicks = (long) getStat("lifespan-ticks", level);
+            long lifespanTicks = (long) lifespanTicksStat.calculate(level);
             player.addPotionEffect(new PotionEffect(PotionEffectType.INVISIBILITY, (int) lifespanTicks + 60, 0, false, false, false));
             wizard.setManaRegenMultiplier(0F, true);
             player.playSound(player.getLocation(), Sound.ENTITY_ILLUSIONER_PREPARE_MIRROR, 1.0F, 1.0F);
@@ -53,48 +55,17 @@ public class SpellDoppelganger extends Spell implements Tickable {
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_CLONES.isEmpty()) return;
-
-        Iterator<Map.Entry<UUID, DoppelgangerInstance>> iterator = ACTIVE_CLONES.entrySet().iterator();
-        while (iterator.hasNext()) {
-            DoppelgangerInstance instance = iterator.next().getValue();
-            if (instance.tick(gameTick)) {
-                iterator.remove();
-            }
-        }
-    }
-
-    @Override
-    public int getTickInterval() {
-        return 1; // Needs frequent position updates
-    }
-    
-    @Override
-    public void cleanup() {
-        ACTIVE_CLONES.values().forEach(DoppelgangerInstance::cleanup);
-        ACTIVE_CLONES.clear();
-    }
-    
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        DoppelgangerInstance instance = ACTIVE_CLONES.remove(event.getPlayer().getUniqueId());
-        if (instance != null) {
-            instance.cleanup();
-        }
+        cancelEffects(event.getPlayer().getUniqueId());
     }
     
     @EventHandler
     public void onDamage(EntityDamageEvent event) {
-        DoppelgangerInstance instance = ACTIVE_CLONES.get(event.getEntity().getUniqueId());
-        if (instance != null) {
-            instance.cleanup();
-            ACTIVE_CLONES.remove(event.getEntity().getUniqueId());
-        }
+        cancelEffects(event.getEntity().getUniqueId());
     }
 
-    private static class DoppelgangerInstance {
+    private static class DoppelgangerInstance implements SpellEffect {
         final SpellDoppelganger parentSpell;
         final Wizard wizard;
         final Player caster;
@@ -114,8 +85,8 @@ public class SpellDoppelganger extends Spell implements Tickable {
             this.npcUuid = UUID.randomUUID();
 
             StatContext context = StatContext.of(level);
-            this.lifespanTicks = (long) parent.getStat("lifespan-ticks", level);
-            this.manaDrainPerSecond = (float) parent.getStat("mana-drain", level);
+            this.lifespanTicks = (long) parent.lifespanTicksStat.calculate(level);
+            this.manaDrainPerSecond = (float) parent.manaDrainStat.calculate(level);
 
             this.gameProfile = createGameProfile();
             spawn();
@@ -131,7 +102,8 @@ public class SpellDoppelganger extends Spell implements Tickable {
         }
 
         /** @return true if this instance should be removed. */
-        boolean tick(long gameTick) {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (ticksLived > lifespanTicks || !caster.isOnline()) {
                 cleanup();
@@ -161,6 +133,16 @@ public class SpellDoppelganger extends Spell implements Tickable {
             // All ProtocolLib logic to send PlayerInfo, NamedEntitySpawn, Metadata, and Equipment packets
         }
         
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
         void cleanup() {
             // All ProtocolLib logic to send EntityDestroy and PlayerInfoRemove packets
             caster.removePotionEffect(PotionEffectType.INVISIBILITY);
@@ -3,9 +3,7 @@ package dev.thomashanson.wizards.game.spell.types;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -26,43 +24,57 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.util.ExplosionUtil;
 import dev.thomashanson.wizards.util.effects.ParticleConfig;
 import dev.thomashanson.wizards.util.effects.ParticleUtil;
 
-public class SpellDroom extends Spell implements Tickable {
+public class SpellDroom extends Spell {
 
     private final NamespacedKey droomKey;
     private final NamespacedKey casterKey;
     private final NamespacedKey levelKey;
 
-    private final Map<UUID, FallingBlock> activeAnvils = new ConcurrentHashMap<>();
-
     private static final ParticleConfig ANVIL_SHATTER_CONFIG = new ParticleConfig(
             Particle.BLOCK_CRACK, 20, 0.5, 0.1, 0.1, 0.1, Material.ANVIL.createBlockData()
     );
 
+    private final SpellStat radiusStat;
+    private final SpellStat spawnHeightStat;
+    private final SpellStat explosionPowerStat;
+    private final SpellStat baseDamageStat;
+    private final SpellStat damagePerLevelStat;
+    private final SpellStat damageRadiusBaseStat;
+    private final SpellStat damageRadiusPerLevelStat;
+
     public SpellDroom(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.droomKey = new NamespacedKey(plugin, "droom_anvil");
         this.casterKey = new NamespacedKey(plugin, "droom_caster");
         this.levelKey = new NamespacedKey(plugin, "droom_level");
+        this.radiusStat = resolveStat("radius", 0.0);
+        this.spawnHeightStat = resolveStat("spawn-height", 0.0);
+        this.explosionPowerStat = resolveStat("explosion-power", 0.0);
+        this.baseDamageStat = resolveStat("base-damage", 6.0);
+        this.damagePerLevelStat = resolveStat("damage-per-level", 4.0);
+        this.damageRadiusBaseStat = resolveStat("damage-radius-base", 1.0);
+        this.damageRadiusPerLevelStat = resolveStat("damage-radius-per-level", 0.5);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         // Use the multi-target logic from Mineplex's code
-        double radius = getStat("radius", level);
-        double spawnHeight = getStat("spawn-height", level);
+        double radius = radiusStat.calculate(level);
+        double spawnHeight = spawnHeightStat.calculate(level);
 
         List<Player> targets = new ArrayList<>();
         targets.add(player); // Always target the caster
 
         // Find other nearby players
-        player.getNearbyEntities(radius, radius * 3, radius).forEach(entity -> {
+        getNearbyEntities(player.getLocation(), radius, radius * 3, radius, null).forEach(entity -> {
             if (entity instanceof Player && !entity.equals(player) && getWizard((Player) entity).isPresent())
                 targets.add((Player) entity);
         });
@@ -82,33 +94,12 @@ public class SpellDroom extends Spell implements Tickable {
             pdc.set(levelKey, PersistentDataType.INTEGER, level);
             
             anvil.getWorld().playSound(anvil.getLocation(), Sound.BLOCK_ANVIL_USE, 1.9F, 0F);
-            activeAnvils.put(anvil.getUniqueId(), anvil);
+            startEffect(new AnvilInstance(anvil));
         }
 
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeAnvils.isEmpty()) return;
-
-        activeAnvils.values().removeIf(anvil -> {
-            if (!anvil.isValid()) {
-                return true;
-            }
-            anvil.getWorld().spawnParticle(Particle.SMOKE_LARGE, anvil.getLocation(), 2, 0.1, 0.1, 0.1, 0.01);
-            return false;
-        });
-    }
-
-    @Override
-    public void cleanup() {
-        activeAnvils.values().forEach(anvil -> {
-            if (anvil.isValid()) anvil.remove();
-        });
-        activeAnvils.clear();
-    }
-
     @EventHandler
     public void onAnvilLand(EntityChangeBlockEvent event) {
         if (!(event.getEntity() instanceof FallingBlock anvil)) return;
@@ -116,7 +107,6 @@ public class SpellDroom extends Spell implements Tickable {
         PersistentDataContainer pdc = anvil.getPersistentDataContainer();
         if (!pdc.has(droomKey, PersistentDataType.BYTE)) return;
 
-        activeAnvils.remove(anvil.getUniqueId());
         event.setCancelled(true); // Prevent the anvil block from forming
 
         String casterUUIDString = pdc.get(casterKey, PersistentDataType.STRING);
@@ -133,7 +123,7 @@ public class SpellDroom extends Spell implements Tickable {
         impactLocation.getWorld().playSound(impactLocation, Sound.BLOCK_ANVIL_LAND, 2.0F, 0.8F);
         impactLocation.getWorld().playSound(impactLocation, Sound.ENTITY_GENERIC_EXPLODE, 1.0F, 1.0F);
 
-        float explosionPower = (float) getStat("explosion-power", level);
+        float explosionPower = (float) explosionPowerStat.calculate(level);
         ParticleUtil.createShockwave(impactLocation, explosionPower * 0.8, ANVIL_SHATTER_CONFIG);
 
         ExplosionUtil.ExplosionConfig config = new ExplosionUtil.ExplosionConfig(
@@ -146,16 +136,16 @@ public class SpellDroom extends Spell implements Tickable {
         if (caster == null) return; // Can't deal damage if caster is offline
 
         // Get damage stats from config
-        double baseDamage = getStat("base-damage", level, 6.0);
-        double damagePerLevel = getStat("damage-per-level", level, 4.0);
-        double baseRadius = getStat("damage-radius-base", level, 1.0);
-        double radiusPerLevel = getStat("damage-radius-per-level", level, 0.5);
+        double baseDamage = baseDamageStat.calculate(level);
+        double damagePerLevel = damagePerLevelStat.calculate(level);
+        double baseRadius = damageRadiusBaseStat.calculate(level);
+        double radiusPerLevel = damageRadiusPerLevelStat.calculate(level);
 
         double maxDamage = baseDamage + (level * damagePerLevel);
         double damageRadius = baseRadius + (level * radiusPerLevel);
         
         // Loop through nearby entities
-        for (LivingEntity target : impactLocation.getWorld().getNearbyLivingEntities(impactLocation, damageRadius, damageRadius, damageRadius)) {
+        for (LivingEntity target : getNearbyEntities(impactLocation, damageRadius)) {
             if (target.equals(caster)) continue;
             if (target instanceof Player && getWizard((Player) target).isEmpty()) continue;
 
@@ -178,4 +168,27 @@ public class SpellDroom extends Spell implements Tickable {
             }
         }
     }
-}
\ No newline at end of file
+
+    /** Trails smoke behind a falling anvil until it lands or is removed. */
+    private static class AnvilInstance implements SpellEffect {
+        final FallingBlock anvil;
+
+        AnvilInstance(FallingBlock anvil) {
+            this.anvil = anvil;
+        }
+
+        @Override
+        public boolean tick(long gameTick) {
+            if (!anvil.isValid()) {
+                return true;
+            }
+            anvil.getWorld().spawnParticle(Particle.SMOKE_LARGE, anvil.getLocation(), 2, 0.1, 0.1, 0.1, 0.01);
+            return false;
+        }
+
+        @Override
+        public void cancel() {
+            if (anvil.isValid()) anvil.remove();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package dev.thomashanson.wizards.game.spell.types;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.util.MathUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -11,7 +12,6 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
 import org.bukkit.Tag;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Fireball;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -26,7 +26,6 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Instant;
-import java.util.Objects;
 import java.util.UUID;
 
 public class SpellFireball extends Spell {
@@ -35,21 +34,50 @@ public class SpellFireball extends Spell {
     private final NamespacedKey casterKey;
     private final NamespacedKey levelKey;
 
+    private final SpellStat velocityStat;
+    private final SpellStat yieldStat;
+    private final SpellStat isIncendiaryStat;
+    private final SpellStat destroyInventoriesStat;
+    private final SpellStat radiusStat;
+    private final SpellStat jumpStrengthStat;
+    private final SpellStat jumpYAddStat;
+    private final SpellStat jumpYMaxStat;
+    private final SpellStat selfDamageStat;
+    private final SpellStat knockbackStrengthStat;
+    private final SpellStat knockbackYAddStat;
+    private final SpellStat knockbackYMaxStat;
+    private final SpellStat damageStat;
+    private final SpellStat fireDurationTicksStat;
+
     public SpellFireball(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.fireballKey = new NamespacedKey(plugin, "fireball_spell");
         this.casterKey = new NamespacedKey(plugin, "fireball_caster");
         this.levelKey = new NamespacedKey(plugin, "fireball_level");
+        this.velocityStat = resolveStat("velocity", 1.8);
+        this.yieldStat = resolveStat("yield", 1.5);
+        this.isIncendiaryStat = resolveStat("is-incendiary", 1.0);
+        this.destroyInventoriesStat = resolveStat("destroy-inventories", 0.0);
+        this.radiusStat = resolveStat("radius", 4.0);
+        this.jumpStrengthStat = resolveStat("jump-strength", 1.4);
+        this.jumpYAddStat = resolveStat("jump-y-add", 0.6);
+        this.jumpYMaxStat = resolveStat("jump-y-max", 1.2);
+        this.selfDamageStat = resolveStat("self-damage", 0.0);
+        this.knockbackStrengthStat = resolveStat("knockback-strength", 1.2);
+        this.knockbackYAddStat = resolveStat("knockback-y-add", 0.4);
+        this.knockbackYMaxStat = resolveStat("knockback-y-max", 1.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.fireDurationTicksStat = resolveStat("fire-duration-ticks", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         Fireball fireball = player.launchProjectile(Fireball.class);
         
-        Vector velocity = player.getEyeLocation().getDirection().normalize().multiply(getStat("velocity", level, 1.8));
+        Vector velocity = player.getEyeLocation().getDirection().normalize().multiply(velocityStat.calculate(level));
         fireball.setVelocity(velocity);
-        fireball.setYield((float) getStat("yield", level, 1.5));
-        fireball.setIsIncendiary(getStat("is-incendiary", level, 1.0) > 0);
+        fireball.setYield((float) yieldStat.calculate(level));
+        fireball.setIsIncendiary(isIncendiaryStat.calculate(level) > 0);
         fireball.setBounce(false);
 
         PersistentDataContainer pdc = fireball.getPersistentDataContainer();
@@ -76,25 +104,23 @@ public class SpellFireball extends Spell {
         if (caster == null) return;
 
         // Use new destroy-inventories stat to protect chests
-        if (getStat("destroy-inventories", level, 0.0) <= 0) {
+        if (destroyInventoriesStat.calculate(level) <= 0) {
             event.blockList().removeIf(block -> Tag.SHULKER_BOXES.isTagged(block.getType()) || block.getType() == Material.CHEST || block.getType() == Material.TRAPPED_CHEST || block.getType() == Material.BARREL);
         }
 
-        final double effectRadius = getStat("radius", level, 4.0);
+        final double effectRadius = radiusStat.calculate(level);
         final Location explosionLocation = event.getLocation();
         
         explosionLocation.getWorld().playSound(explosionLocation, Sound.ENTITY_GENERIC_EXPLODE, 1.5F, 1.0F);
 
-        for (Entity entity : Objects.requireNonNull(explosionLocation.getWorld()).getNearbyEntities(explosionLocation, effectRadius, effectRadius, effectRadius)) {
-            if (entity instanceof LivingEntity livingEntity) {
-                double distance = explosionLocation.distance(livingEntity.getEyeLocation());
-                double proximity = Math.max(0, 1.0 - (distance / effectRadius));
+        for (LivingEntity livingEntity : getNearbyEntities(explosionLocation, effectRadius)) {
+            double distance = explosionLocation.distance(livingEntity.getEyeLocation());
+            double proximity = Math.max(0, 1.0 - (distance / effectRadius));
 
-                if (livingEntity.getUniqueId().equals(caster.getUniqueId())) {
-                    handleCasterJump(livingEntity, level, explosionLocation);
-                } else {
-                    handleTargetDamage(livingEntity, caster, level, explosionLocation, proximity);
-                }
+            if (livingEntity.getUniqueId().equals(caster.getUniqueId())) {
+                handleCasterJump(livingEntity, level, explosionLocation);
+            } else {
+                handleTargetDamage(livingEntity, caster, level, explosionLocation, proximity);
             }
         }
     }
@@ -104,12 +130,12 @@ public class SpellFireball extends Spell {
         if (jumpVector.lengthSquared() < 0.001) jumpVector = new Vector(0, 1, 0);
 
         // UPDATED: Method renamed to applyVelocity with a simpler signature.
-        double strength = getStat("jump-strength", level, 1.4);
-        double yAdd = getStat("jump-y-add", level, 0.6);
-        double yMax = getStat("jump-y-max", level, 1.2);
+        double strength = jumpStrengthStat.calculate(level);
+        double yAdd = jumpYAddStat.calculate(level);
+        double yMax = jumpYMaxStat.calculate(level);
         MathUtil.applyVelocity(caster, jumpVector.normalize(), strength, 0, yAdd, yMax);
 
-        double selfDamage = getStat("self-damage", level);
+        double selfDamage = selfDamageStat.calculate(level);
         if (selfDamage > 0 && caster instanceof Player) {
             damage(caster, new CustomDamageTick(selfDamage, EntityDamageEvent.DamageCause.CUSTOM, getKey() + ".self", Instant.now(), (Player) caster, null));
         }
@@ -120,15 +146,15 @@ public class SpellFireball extends Spell {
         if (direction.getY() < 0.15) direction.setY(0.15).normalize();
 
         // UPDATED: Method renamed to applyVelocity with a simpler signature.
-        double strength = getStat("knockback-strength", level, 1.2) * proximity;
-        double yAdd = getStat("knockback-y-add", level, 0.4) * proximity;
-        double yMax = getStat("knockback-y-max", level, 1.0);
+        double strength = knockbackStrengthStat.calculate(level) * proximity;
+        double yAdd = knockbackYAddStat.calculate(level) * proximity;
+        double yMax = knockbackYMaxStat.calculate(level);
         MathUtil.applyVelocity(target, direction, strength, 0, yAdd, yMax);
 
-        double damageAmount = Math.max(1.0, getStat("damage", level) * proximity);
+        double damageAmount = Math.max(1.0, damageStat.calculate(level) * proximity);
         damage(target, new CustomDamageTick(damageAmount, EntityDamageEvent.DamageCause.ENTITY_EXPLOSION, getKey(), Instant.now(), caster, null));
 
-        int fireTicks = (int) (getStat("fire-duration-ticks", level) * proximity);
+        int fireTicks = (int) (fireDurationTicksStat.calculate(level) * proximity);
         target.setFireTicks(Math.max(target.getFireTicks(), fireTicks));
     }
 
@@ -18,18 +18,24 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
 public class SpellFlash extends Spell {
 
     private static final Map<UUID, Instant> FALL_IMMUNITY_EXPIRY = new ConcurrentHashMap<>();
 
+    private final SpellStat rangeStat;
+    private final SpellStat fallImmunityStat;
+
     public SpellFlash(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.fallImmunityStat = resolveStat("fall-immunity", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        double maxRange = getStat("range", level);
+        double maxRange = rangeStat.calculate(level);
 
         Location eyeLocation = player.getEyeLocation();
         RayTraceResult rayTrace = player.getWorld().rayTraceBlocks(eyeLocation, eyeLocation.getDirection(), maxRange, FluidCollisionMode.NEVER, true);
@@ -56,7 +62,7 @@ public class SpellFlash extends Spell {
         player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1F, 1.2F);
 
         // CORRECTED KEY
-        long immunitySeconds = (long) getStat("fall-immunity", level);
+        long immunitySeconds = (long) fallImmunityStat.calculate(level);
         FALL_IMMUNITY_EXPIRY.put(player.getUniqueId(), Instant.now().plusSeconds(immunitySeconds));
 
         return true;
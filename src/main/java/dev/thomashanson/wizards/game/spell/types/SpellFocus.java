@@ -2,9 +2,8 @@ package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -23,44 +22,55 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.event.CustomDamageEvent;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.Wizard;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 
-public class SpellFocus extends Spell implements Tickable {
+public class SpellFocus extends Spell {
 
-    private final Map<UUID, FocusInstance> activeFocuses = new ConcurrentHashMap<>();
+    private final SpellStat maxDurationSecondsStat;
+    private final SpellStat stunDurationTicksStat;
+    private final SpellStat stunSlownessAmplifierStat;
+    private final SpellStat manaRegenMultiplierStat;
+    private final SpellStat tier3SecondsStat;
+    private final SpellStat tier3MultiplierStat;
+    private final SpellStat tier2SecondsStat;
+    private final SpellStat tier2MultiplierStat;
+    private final SpellStat tier1SecondsStat;
+    private final SpellStat tier1MultiplierStat;
 
     public SpellFocus(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.maxDurationSecondsStat = resolveStat("max-duration-seconds", 10.0);
+        this.stunDurationTicksStat = resolveStat("stun-duration-ticks", 60.0);
+        this.stunSlownessAmplifierStat = resolveStat("stun-slowness-amplifier", 3.0);
+        this.manaRegenMultiplierStat = resolveStat("mana-regen-multiplier", 3.0);
+        this.tier3SecondsStat = resolveStat("tier-3-seconds", 6.0);
+        this.tier3MultiplierStat = resolveStat("tier-3-multiplier", 2.5);
+        this.tier2SecondsStat = resolveStat("tier-2-seconds", 4.0);
+        this.tier2MultiplierStat = resolveStat("tier-2-multiplier", 2.0);
+        this.tier1SecondsStat = resolveStat("tier-1-seconds", 2.0);
+        this.tier1MultiplierStat = resolveStat("tier-1-multiplier", 1.5);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        if (activeFocuses.containsKey(player.getUniqueId())) {
+        if (getFocus(player.getUniqueId()).isPresent()) {
             player.sendMessage(languageManager.getTranslated(player, "wizards.spell.focus.alreadyActive"));
             return false;
         }
-        activeFocuses.put(player.getUniqueId(), new FocusInstance(this, player, level));
+        startEffect(new FocusInstance(this, player, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeFocuses.isEmpty()) return;
-        activeFocuses.values().removeIf(FocusInstance::tick);
-    }
-
-    @Override
-    public int getTickInterval() {
-        return 10; // Run twice per second
-    }
-
-    @Override
-    public void cleanup() {
-        activeFocuses.values().forEach(focus -> focus.endFocus(false, true));
-        activeFocuses.clear();
+    /**
+     * Focus effects that ended through an event stay in the runtime until their next
+     * tick, so lookups skip anything that has already ended.
+     */
+    private Optional<FocusInstance> getFocus(UUID playerId) {
+        return findEffect(FocusInstance.class, focus -> !focus.ended && focus.player.getUniqueId().equals(playerId));
     }
 
     @EventHandler(priority = EventPriority.NORMAL)
@@ -69,7 +79,7 @@ public class SpellFocus extends Spell implements Tickable {
         if (event.getDamageTick() instanceof CustomDamageTick customTick) {
             Player attacker = customTick.getPlayer();
             if (attacker != null) {
-                FocusInstance instance = activeFocuses.remove(attacker.getUniqueId());
+                FocusInstance instance = getFocus(attacker.getUniqueId()).orElse(null);
                 if (instance != null) {
                     double multiplier = instance.getPowerMultiplier();
                     event.setDamage(event.getDamage() * multiplier);
@@ -83,32 +93,28 @@ public class SpellFocus extends Spell implements Tickable {
 
         // --- Victim Logic ---
         if (event.getVictim() instanceof Player victim) {
-            FocusInstance instance = activeFocuses.get(victim.getUniqueId());
+            FocusInstance instance = getFocus(victim.getUniqueId()).orElse(null);
             if (instance != null && event.getDamageTick() instanceof CustomDamageTick) {
                 victim.sendMessage(languageManager.getTranslated(victim, "wizards.spell.focus.shattered"));
                 instance.endFocus(true, false);
-                activeFocuses.remove(victim.getUniqueId());
             }
         }
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        FocusInstance instance = activeFocuses.remove(event.getPlayer().getUniqueId());
-        if (instance != null) {
-            instance.endFocus(false, true);
-        }
+        cancelEffects(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
     public void onConsume(PlayerItemConsumeEvent event) {
-        if (activeFocuses.containsKey(event.getPlayer().getUniqueId())) {
+        if (getFocus(event.getPlayer().getUniqueId()).isPresent()) {
             event.getPlayer().sendMessage(languageManager.getTranslated(event.getPlayer(), "wizards.spell.focus.cannotConsume"));
             event.setCancelled(true);
         }
     }
 
-    private static class FocusInstance {
+    private static class FocusInstance implements SpellEffect {
         final SpellFocus parent;
         final Player player;
         final Wizard wizard;
@@ -120,6 +126,8 @@ public class SpellFocus extends Spell implements Tickable {
         final int stunDurationTicks;
         final int stunSlownessAmplifier;
 
+        boolean ended;
+
         FocusInstance(SpellFocus parent, Player player, int level) {
             this.parent = parent;
             this.player = player;
@@ -128,19 +136,22 @@ public class SpellFocus extends Spell implements Tickable {
             this.originalHunger = player.getFoodLevel();
             this.level = level;
 
-            this.maxDurationMillis = (long) (parent.getStat("max-duration-seconds", level, 10.0) * 1000);
-            this.stunDurationTicks = (int) parent.getStat("stun-duration-ticks", level, 60.0);
-            this.stunSlownessAmplifier = (int) parent.getStat("stun-slowness-amplifier", level, 3.0) - 1;
+            this.maxDurationMillis = (long) (parent.maxDurationSecondsStat.calculate(level) * 1000);
+            this.stunDurationTicks = (int) parent.stunDurationTicksStat.calculate(level);
+            this.stunSlownessAmplifier = (int) parent.stunSlownessAmplifierStat.calculate(level) - 1;
 
             if (wizard != null) {
-                wizard.setManaRegenMultiplier((float) parent.getStat("mana-regen-multiplier", level, 3.0), true);
+                wizard.setManaRegenMultiplier((float) parent.manaRegenMultiplierStat.calculate(level), true);
             }
             player.setFoodLevel(6);
             player.sendMessage(parent.languageManager.getTranslated(player, "wizards.spell.focus.activated"));
             player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0F, 1.3F);
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
+            if (ended) return true;
+
             if (!player.isOnline() || Duration.between(startTime, Instant.now()).toMillis() > maxDurationMillis) {
                 if (player.isOnline()) {
                     player.sendMessage(parent.languageManager.getTranslated(player, "wizards.spell.focus.faded"));
@@ -156,7 +167,18 @@ public class SpellFocus extends Spell implements Tickable {
             return false;
         }
 
+        @Override
+        public void cancel() {
+            if (!ended) endFocus(false, true);
+        }
+
+        @Override
+        public UUID getOwner() {
+            return player.getUniqueId();
+        }
+
         void endFocus(boolean applyStun, boolean isCleanup) {
+            ended = true;
             if (wizard != null) wizard.revert();
             if (player.isOnline()) player.setFoodLevel(originalHunger);
 
@@ -172,12 +194,12 @@ public class SpellFocus extends Spell implements Tickable {
             long seconds = Duration.between(startTime, Instant.now()).getSeconds();
             
             // CORRECTED LOGIC: The semicolon is removed.
-            if (seconds >= parent.getStat("tier-3-seconds", level, 6.0))
-                return parent.getStat("tier-3-multiplier", level, 2.5);
-            if (seconds >= parent.getStat("tier-2-seconds", level, 4.0))
-                return parent.getStat("tier-2-multiplier", level, 2.0);
-            if (seconds >= parent.getStat("tier-1-seconds", level, 2.0)) 
-                return parent.getStat("tier-1-multiplier", level, 1.5);
+            if (seconds >= parent.tier3SecondsStat.calculate(level))
+                return parent.tier3MultiplierStat.calculate(level);
+            if (seconds >= parent.tier2SecondsStat.calculate(level))
+                return parent.tier2MultiplierStat.calculate(level);
+            if (seconds >= parent.tier1SecondsStat.calculate(level)) 
+                return parent.tier1MultiplierStat.calculate(level);
             
             return 1.0;
         }
@@ -1,11 +1,9 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Location;
@@ -22,18 +20,26 @@ import org.bukkit.event.block.BlockFadeEvent;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.util.BlockUtil;
 
-public class SpellFrostBarrier extends Spell implements Spell.SpellBlock, Tickable {
+public class SpellFrostBarrier extends Spell implements Spell.SpellBlock {
 
-    private static final List<BarrierInstance> ACTIVE_BARRIERS = new ArrayList<>();
-    private static final Map<Block, Instant> BARRIER_BLOCKS = new ConcurrentHashMap<>();
+    /** Every ice block currently held by a live barrier, for the break/melt handlers. */
+    private final Map<Block, Instant> barrierBlocks = new HashMap<>();
     private static final org.bukkit.block.data.BlockData PACKED_ICE_DATA = Material.PACKED_ICE.createBlockData();
 
+    private final SpellStat widthStat;
+    private final SpellStat heightStat;
+    private final SpellStat durationStat;
+
     public SpellFrostBarrier(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.widthStat = resolveStat("width", 0.0);
+        this.heightStat = resolveStat("height", 0.0);
+        this.durationStat = resolveStat("duration", 0.0);
     }
 
     @Override
@@ -44,45 +50,10 @@ public class SpellFrostBarrier extends Spell implements Spell.SpellBlock, Tickab
 
     @Override
     public boolean castSpell(Player player, Block block, int level) {
-        ACTIVE_BARRIERS.add(new BarrierInstance(this, player, block.getRelative(BlockFace.UP), level));
+        startEffect(new BarrierInstance(this, player, block.getRelative(BlockFace.UP), level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        // Tick active building processes
-        ACTIVE_BARRIERS.removeIf(BarrierInstance::tick);
-
-        // Tick melting process for all blocks
-        if (BARRIER_BLOCKS.isEmpty()) return;
-
-        Instant now = Instant.now();
-        Iterator<Map.Entry<Block, Instant>> iterator = BARRIER_BLOCKS.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<Block, Instant> entry = iterator.next();
-            if (now.isAfter(entry.getValue())) {
-                Block block = entry.getKey();
-                if (block.getType() == Material.PACKED_ICE) {
-                    block.setType(Material.AIR);
-                    // --- NEW MELT EFFECT ---
-                    playMeltEffect(block);
-                    // --- END NEW ---
-                }
-                iterator.remove();
-            }
-        }
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_BARRIERS.clear();
-        BARRIER_BLOCKS.keySet().forEach(block -> {
-            if (block.getType() == Material.PACKED_ICE) block.setType(Material.AIR);
-        });
-        BARRIER_BLOCKS.clear();
-    }
-
     /**
      * NEW: Helper method to play a consistent shatter effect.
      */
@@ -93,31 +64,32 @@ public class SpellFrostBarrier extends Spell implements Spell.SpellBlock, Tickab
 
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
-        if (BARRIER_BLOCKS.containsKey(event.getBlock())) {
+        if (barrierBlocks.containsKey(event.getBlock())) {
             event.setCancelled(true);
             event.getBlock().setType(Material.AIR);
             
             // --- UPDATED to use helper method ---
             playMeltEffect(event.getBlock());
             
-            BARRIER_BLOCKS.remove(event.getBlock());
+            barrierBlocks.remove(event.getBlock());
         }
     }
 
     @EventHandler
     public void onBlockMelt(BlockFadeEvent event) {
-        if (BARRIER_BLOCKS.containsKey(event.getBlock())) {
+        if (barrierBlocks.containsKey(event.getBlock())) {
             event.setCancelled(true);
         }
     }
 
-    private static class BarrierInstance {
+    private static class BarrierInstance implements SpellEffect {
         final SpellFrostBarrier parent;
         final Block startBlock;
         final BlockFace facing;
         final int width;
         final int height;
         final long durationSeconds;
+        private final Map<Block, Instant> blocks = new HashMap<>();
         private int currentHeight = 0;
 
         BarrierInstance(SpellFrostBarrier parent, Player caster, Block startBlock, int level) {
@@ -125,22 +97,54 @@ public class SpellFrostBarrier extends Spell implements Spell.SpellBlock, Tickab
             this.startBlock = startBlock;
             this.facing = BlockUtil.getFace(caster.getEyeLocation().getYaw(), false);
 
-            this.width = (int) parent.getStat("width", level);
-            this.height = (int) parent.getStat("height", level);
-            this.durationSeconds = (long) parent.getStat("duration", level);
+            this.width = (int) parent.widthStat.calculate(level);
+            this.height = (int) parent.heightStat.calculate(level);
+            this.durationSeconds = (long) parent.durationStat.calculate(level);
         }
 
-        /** @return true if this building instance is finished and should be removed */
-        boolean tick() {
-            if (currentHeight >= height) {
-                return true;
+        /** @return true once the wall is fully built and every block has melted */
+        @Override
+        public boolean tick(long gameTick) {
+            if (currentHeight < height) {
+                Block currentLevelBlock = startBlock.getRelative(0, currentHeight, 0);
+                buildWallSegment(currentLevelBlock);
+                currentHeight++;
             }
 
-            Block currentLevelBlock = startBlock.getRelative(0, currentHeight, 0);
-            buildWallSegment(currentLevelBlock);
+            Instant now = Instant.now();
+            Iterator<Map.Entry<Block, Instant>> iterator = blocks.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Map.Entry<Block, Instant> entry = iterator.next();
+                Block block = entry.getKey();
 
-            currentHeight++;
-            return false;
+                // Broken by a player in the meantime
+                if (!parent.barrierBlocks.containsKey(block)) {
+                    iterator.remove();
+                    continue;
+                }
+
+                if (now.isAfter(entry.getValue())) {
+                    if (block.getType() == Material.PACKED_ICE) {
+                        block.setType(Material.AIR);
+                        parent.playMeltEffect(block);
+                    }
+                    parent.barrierBlocks.remove(block);
+                    iterator.remove();
+                }
+            }
+
+            return currentHeight >= height && blocks.isEmpty();
+        }
+
+        @Override
+        public void cancel() {
+            blocks.keySet().forEach(block -> {
+                if (parent.barrierBlocks.remove(block) != null && block.getType() == Material.PACKED_ICE) {
+                    block.setType(Material.AIR);
+                }
+            });
+            blocks.clear();
         }
 
         void buildWallSegment(Block center) {
@@ -174,7 +178,9 @@ public class SpellFrostBarrier extends Spell implements Spell.SpellBlock, Tickab
             // --- END NEW ---
 
             long randomOffset = ThreadLocalRandom.current().nextLong((durationSeconds / 4) * 1000);
-            BARRIER_BLOCKS.put(block, Instant.now().plusSeconds(durationSeconds).plusMillis(randomOffset));
+            Instant meltTime = Instant.now().plusSeconds(durationSeconds).plusMillis(randomOffset);
+            blocks.put(block, meltTime);
+            parent.barrierBlocks.put(block, meltTime);
         }
     }
 }
\ No newline at end of file
@@ -29,19 +29,36 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.projectile.CustomProjectile;
 import dev.thomashanson.wizards.projectile.ProjectileData;
 
-public class SpellFrostbite extends Spell implements CustomProjectile, Tickable {
+public class SpellFrostbite extends Spell implements CustomProjectile {
 
-    private final List<FrostbiteInstance> activeInstances = new ArrayList<>();
     private final Map<Block, FrostbiteInstance> snowBlocks = new ConcurrentHashMap<>();
 
+    private final SpellStat projectileLifespanTicksStat;
+    private final SpellStat projectileSpeedStat;
+    private final SpellStat radiusStat;
+    private final SpellStat spreadDurationTicksStat;
+    private final SpellStat slownessAmplifierStat;
+    private final SpellStat effectDurationTicksStat;
+    private final SpellStat lifespanSecondsStat;
+    private final SpellStat lifespanRandomOffsetStat;
+
     public SpellFrostbite(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.projectileLifespanTicksStat = resolveStat("projectile-lifespan-ticks", 0.0);
+        this.projectileSpeedStat = resolveStat("projectile-speed", 0.0);
+        this.radiusStat = resolveStat("radius", 0.0);
+        this.spreadDurationTicksStat = resolveStat("spread-duration-ticks", 0.0);
+        this.slownessAmplifierStat = resolveStat("slowness-amplifier", 0.0);
+        this.effectDurationTicksStat = resolveStat("effect-duration-ticks", 0.0);
+        this.lifespanSecondsStat = resolveStat("lifespan-seconds", 0.0);
+        this.lifespanRandomOffsetStat = resolveStat("lifespan-random-offset", 0.0);
     }
 
     @Override
@@ -51,10 +68,10 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
                 .hitPlayer(true).hitBlock(true)
                 .trailParticle(Particle.SNOWFLAKE)
                 .impactSound(Sound.BLOCK_SNOW_HIT, 1.5F, 0.8F)
-                .maxTicksLived((int) getStat("projectile-lifespan-ticks", level))
+                .maxTicksLived((int) projectileLifespanTicksStat.calculate(level))
                 .customData("level", level);
 
-        Vector velocity = player.getEyeLocation().getDirection().multiply(getStat("projectile-speed", level));
+        Vector velocity = player.getEyeLocation().getDirection().multiply(projectileSpeedStat.calculate(level));
         plugin.getProjectileManager().launchProjectile(player.getEyeLocation(), new ItemStack(Material.SNOWBALL), velocity, dataBuilder);
 
         player.getWorld().playSound(player.getLocation(), Sound.ENTITY_PLAYER_HURT_FREEZE, 1.2F, 1.0F);
@@ -62,25 +79,14 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
     }
 
     @Override
-    public void onCollide(LivingEntity hitEntity, Block hitBlock, ProjectileData data) {
-        Location impactLocation = (hitEntity != null) ? hitEntity.getLocation() : hitBlock.getLocation();
+    public void onCollide(LivingEntity hitEntity, Block hitBlock, Location impact, BlockFace face, ProjectileData data) {
+        if (hitEntity == null && hitBlock == null) return; // Expired in mid-air
+
+        Location impactLocation = (hitEntity != null) ? hitEntity.getLocation() : impact;
         Integer level = data.getCustomData("level", Integer.class);
         if (level == null) return;
 
-        activeInstances.add(new FrostbiteInstance(this, impactLocation, level));
-    }
-
-    @Override
-    public void tick(long gameTick) {
-        if (activeInstances.isEmpty()) return;
-        activeInstances.removeIf(instance -> instance.tick(gameTick));
-    }
-
-    @Override
-    public void cleanup() {
-        activeInstances.forEach(FrostbiteInstance::cleanup);
-        activeInstances.clear();
-        snowBlocks.clear();
+        startEffect(new FrostbiteInstance(this, impactLocation, level));
     }
 
     @EventHandler
@@ -97,7 +103,7 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
         }
     }
 
-    private static class FrostbiteInstance {
+    private static class FrostbiteInstance implements SpellEffect {
         enum Phase { SPREADING, ACTIVE, DONE }
 
         final SpellFrostbite parent;
@@ -121,11 +127,11 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
             this.level = level;
 
             StatContext context = StatContext.of(level);
-            this.radius = (int) parent.getStat("radius", level);
-            this.spreadDurationTicks = (int) parent.getStat("spread-duration-ticks", level);
+            this.radius = (int) parent.radiusStat.calculate(level);
+            this.spreadDurationTicks = (int) parent.spreadDurationTicksStat.calculate(level);
 
-            int slowAmplifier = (int) parent.getStat("slowness-amplifier", level) - 1;
-            int effectDuration = (int) parent.getStat("effect-duration-ticks", level);
+            int slowAmplifier = (int) parent.slownessAmplifierStat.calculate(level) - 1;
+            int effectDuration = (int) parent.effectDurationTicksStat.calculate(level);
             this.slowEffect = new PotionEffect(PotionEffectType.SLOW, effectDuration, slowAmplifier, true, false, true);
             this.noJumpEffect = new PotionEffect(PotionEffectType.JUMP, effectDuration, 128, true, false, true);
 
@@ -133,7 +139,8 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
             this.blocksPerSpreadTick = (int) Math.max(1, (float) potentialBlocks.size() / spreadDurationTicks);
         }
 
-        boolean tick(long gameTick) {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
 
             if (phase == Phase.SPREADING) {
@@ -148,7 +155,7 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
             }
 
             // If spreading is done and no blocks remain, mark for removal
-            if (phase == Phase.ACTIVE && parent.snowBlocks.values().stream().noneMatch(this::equals)) {
+            if (phase == Phase.ACTIVE && expiryMap.isEmpty()) {
                 phase = Phase.DONE;
             }
             
@@ -176,13 +183,18 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
         }
 
         void tickMelting() {
-            parent.snowBlocks.entrySet().removeIf(entry -> {
-                if (entry.getValue().equals(this) && Instant.now().isAfter(entry.getValue().getExpiry(entry.getKey()))) {
-                    Block block = entry.getKey();
+            Instant now = Instant.now();
+            expiryMap.entrySet().removeIf(entry -> {
+                Block block = entry.getKey();
+                // Claimed by a newer frostbite that overlaps this one
+                if (parent.snowBlocks.get(block) != this) return true;
+
+                if (now.isAfter(entry.getValue())) {
                     if (block.getType() == Material.SNOW) {
                         block.setType(Material.AIR);
                         block.getWorld().spawnParticle(Particle.SNOWFLAKE, block.getLocation().add(0.5, 0.2, 0.5), 5);
                     }
+                    parent.snowBlocks.remove(block);
                     return true;
                 }
                 return false;
@@ -191,8 +203,8 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
 
         void placeSnow(Block block) {
             StatContext context = StatContext.of(level);
-            long baseLifespan = (long) parent.getStat("lifespan-seconds", level) * 1000L;
-            long randomOffset = (long) (parent.getStat("lifespan-random-offset", level) * 1000L);
+            long baseLifespan = (long) parent.lifespanSecondsStat.calculate(level) * 1000L;
+            long randomOffset = (long) (parent.lifespanRandomOffsetStat.calculate(level) * 1000L);
 
             Instant expiry = Instant.now().plusMillis(baseLifespan + ThreadLocalRandom.current().nextLong(randomOffset));
 
@@ -209,7 +221,6 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
         }
 
         private final Map<Block, Instant> expiryMap = new HashMap<>();
-        Instant getExpiry(Block block) { return expiryMap.get(block); }
         void setExpiry(Block block, Instant instant) { expiryMap.put(block, instant); }
 
         void findPotentialBlocks() {
@@ -226,16 +237,14 @@ public class SpellFrostbite extends Spell implements CustomProjectile, Tickable
             potentialBlocks.sort(Comparator.comparingDouble(b -> b.getLocation().distanceSquared(center)));
         }
 
-        void cleanup() {
-            parent.snowBlocks.entrySet().removeIf(entry -> {
-                if (entry.getValue().equals(this)) {
-                    if (entry.getKey().getType() == Material.SNOW) {
-                        entry.getKey().setType(Material.AIR);
-                    }
-                    return true;
+        @Override
+        public void cancel() {
+            expiryMap.keySet().forEach(block -> {
+                if (parent.snowBlocks.remove(block, this) && block.getType() == Material.SNOW) {
+                    block.setType(Material.AIR);
                 }
-                return false;
             });
+            expiryMap.clear();
         }
     }
 }
\ No newline at end of file
@@ -1,16 +1,16 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.LivingEntity;
@@ -24,19 +24,36 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.projectile.CustomProjectile;
 import dev.thomashanson.wizards.projectile.ProjectileData;
 
-public class SpellGrapplingBeam extends Spell implements CustomProjectile, Tickable {
+public class SpellGrapplingBeam extends Spell implements CustomProjectile {
 
-    private static final CopyOnWriteArrayList<PulledBlock> PULLED_BLOCKS = new CopyOnWriteArrayList<>();
-    private static final Set<UUID> PULLED_BLOCK_IDS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Set<UUID> pulledBlockIds = new HashSet<>();
+
+    private final SpellStat maxTicksStat;
+    private final SpellStat projectileSpeedStat;
+    private final SpellStat playerPullSpeedStat;
+    private final SpellStat damageStat;
+    private final SpellStat casterPullSpeedStat;
+    private final SpellStat pulledBlockSpeedBpsStat;
+    private final SpellStat pulledBlockDamageStat;
+    private final SpellStat pulledBlockLifespanTicksStat;
 
     public SpellGrapplingBeam(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.maxTicksStat = resolveStat("max-ticks", 0.0);
+        this.projectileSpeedStat = resolveStat("projectile-speed", 0.0);
+        this.playerPullSpeedStat = resolveStat("player-pull-speed", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.casterPullSpeedStat = resolveStat("caster-pull-speed", 0.0);
+        this.pulledBlockSpeedBpsStat = resolveStat("pulled-block-speed-bps", 0.0);
+        this.pulledBlockDamageStat = resolveStat("pulled-block-damage", 0.0);
+        this.pulledBlockLifespanTicksStat = resolveStat("pulled-block-lifespan-ticks", 0.0);
     }
 
     @Override
@@ -47,15 +64,15 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
             .trailParticle(Particle.SOUL)
             .customData("level", level)
             .customData("isShifting", player.isSneaking())
-            .maxTicksLived((int) getStat("max-ticks", level));
+            .maxTicksLived((int) maxTicksStat.calculate(level));
         
-        plugin.getProjectileManager().launchProjectile(player.getEyeLocation(), new ItemStack(Material.TRIPWIRE_HOOK), player.getEyeLocation().getDirection().multiply(getStat("projectile-speed", level)), dataBuilder);
+        plugin.getProjectileManager().launchProjectile(player.getEyeLocation(), new ItemStack(Material.TRIPWIRE_HOOK), player.getEyeLocation().getDirection().multiply(projectileSpeedStat.calculate(level)), dataBuilder);
         player.getWorld().playSound(player.getLocation(), Sound.ENTITY_FISHING_BOBBER_THROW, 1.0F, 1.2F);
         return true;
     }
 
     @Override
-    public void onCollide(LivingEntity hitEntity, Block hitBlock, ProjectileData data) {
+    public void onCollide(LivingEntity hitEntity, Block hitBlock, Location impact, BlockFace face, ProjectileData data) {
         LivingEntity thrower = data.getThrower();
         
         if (thrower == null || (!(thrower instanceof Player)))
@@ -75,16 +92,16 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
         if (hitEntity != null && !hitEntity.equals(caster)) {
             // Pull player
             Vector direction = caster.getLocation().toVector().subtract(hitEntity.getLocation().toVector()).normalize();
-            hitEntity.setVelocity(direction.multiply(getStat("player-pull-speed", level)));
-            damage(hitEntity, new CustomDamageTick(getStat("damage", level), EntityDamageEvent.DamageCause.PROJECTILE, getKey(), Instant.now(), caster, null)); // UPDATED
+            hitEntity.setVelocity(direction.multiply(playerPullSpeedStat.calculate(level)));
+            damage(hitEntity, new CustomDamageTick(damageStat.calculate(level), EntityDamageEvent.DamageCause.PROJECTILE, getKey(), Instant.now(), caster, null)); // UPDATED
 
         } else if (hitBlock != null) {
             if (isShifting) {
                 pullBlockTowardsPlayer(hitBlock, caster, level);
             } else {
                 // Pull caster to block
-                Vector direction = hitBlock.getLocation().toVector().subtract(caster.getEyeLocation().toVector()).normalize();
-                caster.setVelocity(direction.multiply(getStat("caster-pull-speed", level)));
+                Vector direction = impact.toVector().subtract(caster.getEyeLocation().toVector()).normalize();
+                caster.setVelocity(direction.multiply(casterPullSpeedStat.calculate(level)));
                 caster.setFallDistance(-5.0f);
             }
         }
@@ -100,26 +117,19 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
         fallingBlock.setHurtEntities(false);
         fallingBlock.setGravity(false);
         
-        PULLED_BLOCK_IDS.add(fallingBlock.getUniqueId());
-        PULLED_BLOCKS.add(new PulledBlock(this, fallingBlock, player, level));
-    }
-
-    @Override
-    public void tick(long gameTick) {
-        if (PULLED_BLOCKS.isEmpty()) return;
-        PULLED_BLOCKS.removeIf(PulledBlock::tick);
+        pulledBlockIds.add(fallingBlock.getUniqueId());
+        startEffect(new PulledBlock(this, fallingBlock, player, level));
     }
 
     @EventHandler
     public void onFallingBlockPlace(EntityChangeBlockEvent event) {
-        if (PULLED_BLOCK_IDS.contains(event.getEntity().getUniqueId())) {
+        if (pulledBlockIds.remove(event.getEntity().getUniqueId())) {
             event.setCancelled(true);
             event.getEntity().remove();
-            PULLED_BLOCK_IDS.remove(event.getEntity().getUniqueId());
         }
     }
 
-    private static class PulledBlock {
+    private static class PulledBlock implements SpellEffect {
         final SpellGrapplingBeam parent;
         final FallingBlock fallingBlock;
         final Player target;
@@ -137,12 +147,13 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
             this.level = level;
 
             StatContext context = StatContext.of(level);
-            this.speed = parent.getStat("pulled-block-speed-bps", level) / 20.0;
-            this.damage = parent.getStat("pulled-block-damage", level);
-            this.maxTicks = (int) parent.getStat("pulled-block-lifespan-ticks", level);
+            this.speed = parent.pulledBlockSpeedBpsStat.calculate(level) / 20.0;
+            this.damage = parent.pulledBlockDamageStat.calculate(level);
+            this.maxTicks = (int) parent.pulledBlockLifespanTicksStat.calculate(level);
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (!fallingBlock.isValid() || !target.isOnline() || ticksLived > maxTicks) {
                 cleanup();
@@ -152,7 +163,7 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
             Vector direction = target.getEyeLocation().toVector().subtract(fallingBlock.getLocation().toVector()).normalize();
             fallingBlock.setVelocity(direction.multiply(speed));
 
-            for (LivingEntity entity : fallingBlock.getWorld().getNearbyLivingEntities(fallingBlock.getLocation(), 1.2)) {
+            for (LivingEntity entity : parent.getNearbyEntities(fallingBlock.getLocation(), 1.2)) {
                 if (entity.equals(target)) continue;
                 parent.damage(entity, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.PROJECTILE, parent.getKey() + ".block", Instant.now(), target, null)); // UPDATED
                 cleanup();
@@ -166,9 +177,14 @@ public class SpellGrapplingBeam extends Spell implements CustomProjectile, Ticka
             return false;
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
         void cleanup() {
             if (fallingBlock.isValid()) fallingBlock.remove();
-            PULLED_BLOCK_IDS.remove(fallingBlock.getUniqueId());
+            parent.pulledBlockIds.remove(fallingBlock.getUniqueId());
         }
     }
 }
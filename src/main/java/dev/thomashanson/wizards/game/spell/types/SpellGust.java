@@ -17,18 +17,26 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
 public class SpellGust extends Spell {
 
+    private final SpellStat rangeStat;
+    private final SpellStat strengthStat;
+    private final SpellStat coneAngleStat;
+
     public SpellGust(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.strengthStat = resolveStat("strength", 0.0);
+        this.coneAngleStat = resolveStat("cone-angle", 60.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        double range = getStat("range", level);
-        double baseStrength = getStat("strength", level);
-        double coneAngle = getStat("cone-angle", level, 60.0);
+        double range = rangeStat.calculate(level);
+        double baseStrength = strengthStat.calculate(level);
+        double coneAngle = coneAngleStat.calculate(level);
 
         Location eyeLoc = player.getEyeLocation();
         Vector direction = eyeLoc.getDirection();
@@ -48,7 +56,7 @@ public class SpellGust extends Spell {
         // --- END RESTORED LOGIC ---
 
         Set<LivingEntity> hitTargets = new HashSet<>();
-        for (LivingEntity target : player.getWorld().getNearbyLivingEntities(eyeLoc, range)) {
+        for (LivingEntity target : getNearbyEntities(eyeLoc, range)) {
             if (target.equals(player) || !(target instanceof Player) || getWizard((Player) target).isEmpty()) {
                 continue;
             }
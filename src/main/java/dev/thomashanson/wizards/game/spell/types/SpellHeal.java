@@ -1,8 +1,5 @@
 package dev.thomashanson.wizards.game.spell.types;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -15,15 +12,21 @@ import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
-public class SpellHeal extends Spell implements Tickable {
+public class SpellHeal extends Spell {
 
-    private final List<HealingInstance> activeHeals = new ArrayList<>();
+    private final SpellStat durationStat;
+    private final SpellStat regenerationLevelStat;
+    private final SpellStat particleCountStat;
 
     public SpellHeal(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.durationStat = resolveStat("duration", 0.0);
+        this.regenerationLevelStat = resolveStat("regeneration-level", 0.0);
+        this.particleCountStat = resolveStat("particle-count", 0.0);
     }
 
     @Override
@@ -34,8 +37,8 @@ public class SpellHeal extends Spell implements Tickable {
             return false;
         }
 
-        int durationTicks = (int) (getStat("duration", level) * 20);
-        int amplifier = (int) getStat("regeneration-level", level) - 1; // Potion effects are 0-indexed
+        int durationTicks = (int) (durationStat.calculate(level) * 20);
+        int amplifier = (int) regenerationLevelStat.calculate(level) - 1; // Potion effects are 0-indexed
 
         if (durationTicks <= 0) {
             return false;
@@ -45,31 +48,19 @@ public class SpellHeal extends Spell implements Tickable {
         player.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, durationTicks, amplifier, false, true, true));
 
         // 2. Play the initial "burst" effect
-        int particleCount = (int) getStat("particle-count", level);
+        int particleCount = (int) particleCountStat.calculate(level);
         player.getWorld().spawnParticle(Particle.HEART, player.getEyeLocation(), particleCount, 0.8F, 0.4F, 0.8F, 0);
 
         // 3. Register the persistent effect instance
-        activeHeals.add(new HealingInstance(player, durationTicks));
+        startEffect(new HealingInstance(player, durationTicks));
 
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeHeals.isEmpty()) return;
-        // Tick all active heals and remove them if they are finished
-        activeHeals.removeIf(HealingInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeHeals.clear();
-    }
-
     /**
      * Manages the persistent visual and audio effects for an active heal.
      */
-    private static class HealingInstance {
+    private static class HealingInstance implements SpellEffect {
         final Player player;
         final int durationTicks;
         int ticksLived = 0;
@@ -84,7 +75,8 @@ public class SpellHeal extends Spell implements Tickable {
          * Ticks the effect.
          * @return true if the effect is finished and should be removed.
          */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             // Stop if the player logs off or the duration ends
             if (!player.isOnline() || ticksLived > durationTicks) {
@@ -1,19 +1,16 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.Collection;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageEvent;
@@ -22,50 +19,45 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellHyperDash extends Spell implements Tickable {
+public class SpellHyperDash extends Spell {
 
-    private static final Map<UUID, DashInstance> ACTIVE_DASHES = new ConcurrentHashMap<>();
+    private final SpellStat speedBpsStat;
+    private final SpellStat distanceStat;
+    private final SpellStat damageStat;
+    private final SpellStat launchPowerStat;
+    private final SpellStat recoveryBaseTicksStat;
+    private final SpellStat recoveryPerBlockTicksStat;
 
     public SpellHyperDash(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.speedBpsStat = resolveStat("speed-bps", 0.0);
+        this.distanceStat = resolveStat("distance", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.launchPowerStat = resolveStat("launch-power", 0.0);
+        this.recoveryBaseTicksStat = resolveStat("recovery-base-ticks", 0.0);
+        this.recoveryPerBlockTicksStat = resolveStat("recovery-per-block-ticks", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        if (ACTIVE_DASHES.containsKey(player.getUniqueId())) {
+        if (isPlayerDashing(player)) {
             return false;
         }
-        ACTIVE_DASHES.put(player.getUniqueId(), new DashInstance(this, player, level));
+        startEffect(new DashInstance(this, player, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_DASHES.isEmpty()) return;
-        ACTIVE_DASHES.values().removeIf(DashInstance::tick);
-    }
-
-    @Override
-    public int getTickInterval() {
-        return 1; // Requires precise, per-tick movement
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_DASHES.values().forEach(DashInstance::cleanup);
-        ACTIVE_DASHES.clear();
-    }
-    
-    // Static accessor for other parts of the plugin if needed (e.g., to prevent other movement)
-    public static boolean isPlayerDashing(Player player) {
-        return ACTIVE_DASHES.containsKey(player.getUniqueId());
+    // Accessor for other parts of the plugin if needed (e.g., to prevent other movement)
+    public boolean isPlayerDashing(Player player) {
+        return findEffect(DashInstance.class, player.getUniqueId()).isPresent();
     }
 
-    private static class DashInstance {
+    private static class DashInstance implements SpellEffect {
         enum Phase { DASHING, RECOVERY }
 
         final SpellHyperDash parent;
@@ -96,16 +88,17 @@ public class SpellHyperDash extends Spell implements Tickable {
             this.initialPitch = loc.getPitch();
 
             StatContext context = StatContext.of(level);
-            double speedBPS = parent.getStat("speed-bps", level);
-            double distance = parent.getStat("distance", level);
+            double speedBPS = parent.speedBpsStat.calculate(level);
+            double distance = parent.distanceStat.calculate(level);
             this.speedPerTick = speedBPS / 20.0;
             this.dashDurationTicks = (int) ((distance / speedBPS) * 20.0);
-            this.damage = parent.getStat("damage", level);
-            this.launchPower = parent.getStat("launch-power", level);
+            this.damage = parent.damageStat.calculate(level);
+            this.launchPower = parent.launchPowerStat.calculate(level);
         }
 
         /** @return true if this instance should be removed */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (!caster.isOnline() || caster.isDead()) {
                 return true;
@@ -124,6 +117,11 @@ public class SpellHyperDash extends Spell implements Tickable {
             }
         }
         
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
         private boolean tickDash() {
             if (ticksLived > dashDurationTicks || caster.isSneaking()) {
                 startRecovery();
@@ -141,19 +139,15 @@ public class SpellHyperDash extends Spell implements Tickable {
         }
 
         private void checkPlayerCollision() {
-            Collection<Entity> targets = caster.getWorld().getNearbyEntities(
+            List<LivingEntity> targets = parent.getNearbyEntities(
+                caster.getWorld(),
                 caster.getBoundingBox().expand(1.0), // The bounding box to search
-                entity -> { // The predicate
-                    return (entity instanceof LivingEntity)   // Must be a LivingEntity
-                        && !entity.equals(caster)           // Cannot be the caster
-                        && !hitPlayers.contains(entity.getUniqueId()); // Not already hit
-                }
+                entity -> !entity.equals(caster)              // Cannot be the caster
+                        && !hitPlayers.contains(entity.getUniqueId()) // Not already hit
             );
 
             // This loop is now much cleaner and runs fewer times, as the list is pre-filtered.
-            for (Entity entity : targets) {
-                LivingEntity target = (LivingEntity) entity; // Safe cast because of our predicate
-                
+            for (LivingEntity target : targets) {
                 parent.damage(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.ENTITY_ATTACK, parent.getKey(), Instant.now(), caster, null));
                 target.setVelocity(new Vector(0, launchPower, 0));
                 hitPlayers.add(target.getUniqueId());
@@ -176,8 +170,8 @@ public class SpellHyperDash extends Spell implements Tickable {
         
         private boolean tickRecovery() {
             recoveryTicks++;
-            double recoveryDuration = parent.getStat("recovery-base-ticks", 0)
-                                    + (blocksBroken * parent.getStat("recovery-per-block-ticks", 0));
+            double recoveryDuration = parent.recoveryBaseTicksStat.calculate(0)
+                                    + (blocksBroken * parent.recoveryPerBlockTicksStat.calculate(0));
             
             if (recoveryTicks > recoveryDuration) {
                 cleanup();
@@ -189,6 +183,11 @@ public class SpellHyperDash extends Spell implements Tickable {
             return false;
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
         void cleanup() {
             // Any final effects or state resets
         }
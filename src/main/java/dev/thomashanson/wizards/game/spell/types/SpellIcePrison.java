@@ -1,8 +1,8 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Location;
@@ -10,6 +10,7 @@ import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -21,20 +22,33 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.projectile.CustomProjectile;
 import dev.thomashanson.wizards.projectile.ProjectileData;
 import dev.thomashanson.wizards.util.BlockUtil;
 
-public class SpellIcePrison extends Spell implements CustomProjectile, Tickable {
+public class SpellIcePrison extends Spell implements CustomProjectile {
 
-    private static final Map<Block, Instant> PRISON_BLOCKS = new ConcurrentHashMap<>();
+    /** Every ice block currently held by a live prison, for the melt/break handlers. */
+    private final Map<Block, Instant> prisonBlocks = new HashMap<>();
     private static final org.bukkit.block.data.BlockData ICE_DATA = Material.ICE.createBlockData();
 
+    private final SpellStat projectileLifespanTicksStat;
+    private final SpellStat projectileSpeedStat;
+    private final SpellStat radiusStat;
+    private final SpellStat durationStat;
+    private final SpellStat meltRandomOffsetSecondsStat;
+
     public SpellIcePrison(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.projectileLifespanTicksStat = resolveStat("projectile-lifespan-ticks", 0.0);
+        this.projectileSpeedStat = resolveStat("projectile-speed", 0.0);
+        this.radiusStat = resolveStat("radius", 0.0);
+        this.durationStat = resolveStat("duration", 0.0);
+        this.meltRandomOffsetSecondsStat = resolveStat("melt-random-offset-seconds", 0.0);
     }
 
     @Override
@@ -43,10 +57,10 @@ public class SpellIcePrison extends Spell implements CustomProjectile, Tickable
         ProjectileData.Builder dataBuilder = new ProjectileData.Builder(getGame().orElse(null), player, this)
                 .hitPlayer(true).hitBlock(true)
                 .impactSound(Sound.ENTITY_SILVERFISH_HURT, 2F, 1F)
-                .maxTicksLived((int) getStat("projectile-lifespan-ticks", level))
+                .maxTicksLived((int) projectileLifespanTicksStat.calculate(level))
                 .customData("level", level);
 
-        Vector velocity = player.getEyeLocation().getDirection().multiply(getStat("projectile-speed", level));
+        Vector velocity = player.getEyeLocation().getDirection().multiply(projectileSpeedStat.calculate(level));
         plugin.getProjectileManager().launchProjectile(player.getEyeLocation(), new ItemStack(Material.ICE), velocity, dataBuilder);
 
         player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CREEPER_PRIMED, 1.2F, 0.8F);
@@ -54,16 +68,19 @@ public class SpellIcePrison extends Spell implements CustomProjectile, Tickable
     }
 
     @Override
-    public void onCollide(LivingEntity hitEntity, Block hitBlock, ProjectileData data) {
-        Location impactLocation = (hitEntity != null) ? hitEntity.getLocation() : hitBlock.getLocation();
+    public void onCollide(LivingEntity hitEntity, Block hitBlock, Location impact, BlockFace face, ProjectileData data) {
+        if (hitEntity == null && hitBlock == null) return; // Expired in mid-air
+
+        Location impactLocation = (hitEntity != null) ? hitEntity.getLocation() : impact;
         Integer level = data.getCustomData("level", Integer.class);
         if (level == null) return;
 
-        double radius = getStat("radius", level);
-        long durationSeconds = (long) getStat("duration", level);
-        long meltOffsetMillis = (long) (getStat("melt-random-offset-seconds", level) * 1000L);
+        double radius = radiusStat.calculate(level);
+        long durationSeconds = (long) durationStat.calculate(level);
+        long meltOffsetMillis = (long) (meltRandomOffsetSecondsStat.calculate(level) * 1000L);
 
         Map<Block, Double> blocksInRadius = BlockUtil.getBlocksInRadius(impactLocation, radius);
+        PrisonInstance prison = new PrisonInstance(this);
 
         for (Block block : blocksInRadius.keySet()) {
             if (block.getType().isAir() || !block.getType().isSolid() || block.isLiquid()) {
@@ -75,37 +92,11 @@ public class SpellIcePrison extends Spell implements CustomProjectile, Tickable
                 // --- END NEW ---
 
                 long randomOffset = ThreadLocalRandom.current().nextLong(meltOffsetMillis);
-                PRISON_BLOCKS.put(block, Instant.now().plusSeconds(durationSeconds).plusMillis(randomOffset));
+                prison.add(block, Instant.now().plusSeconds(durationSeconds).plusMillis(randomOffset));
             }
         }
-    }
 
-    @Override
-    public void tick(long gameTick) {
-        if (PRISON_BLOCKS.isEmpty()) return;
-
-        Instant now = Instant.now();
-        PRISON_BLOCKS.entrySet().removeIf(entry -> {
-            if (now.isAfter(entry.getValue())) {
-                Block block = entry.getKey();
-                if (block.getType() == Material.ICE) {
-                    block.setType(Material.AIR);
-                    // --- NEW MELT EFFECT ---
-                    playMeltEffect(block);
-                    // --- END NEW ---
-                }
-                return true;
-            }
-            return false;
-        });
-    }
-    
-    @Override
-    public void cleanup() {
-        PRISON_BLOCKS.keySet().forEach(block -> {
-            if (block.getType() == Material.ICE) block.setType(Material.AIR);
-        });
-        PRISON_BLOCKS.clear();
+        if (!prison.blocks.isEmpty()) startEffect(prison);
     }
 
     /**
@@ -118,21 +109,66 @@ public class SpellIcePrison extends Spell implements CustomProjectile, Tickable
 
     @EventHandler
     public void onMelt(BlockFadeEvent event) {
-        if (PRISON_BLOCKS.containsKey(event.getBlock())) {
+        if (prisonBlocks.containsKey(event.getBlock())) {
             event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onBreak(BlockBreakEvent event) {
-        if (PRISON_BLOCKS.containsKey(event.getBlock())) {
+        if (prisonBlocks.containsKey(event.getBlock())) {
             event.setDropItems(false);
             event.getBlock().setType(Material.AIR);
             
             // --- UPDATED to use helper method ---
             playMeltEffect(event.getBlock());
             
-            PRISON_BLOCKS.remove(event.getBlock());
+            prisonBlocks.remove(event.getBlock());
+        }
+    }
+
+    private static class PrisonInstance implements SpellEffect {
+        final SpellIcePrison parent;
+        final Map<Block, Instant> blocks = new HashMap<>();
+
+        PrisonInstance(SpellIcePrison parent) {
+            this.parent = parent;
+        }
+
+        void add(Block block, Instant meltTime) {
+            blocks.put(block, meltTime);
+            parent.prisonBlocks.put(block, meltTime);
+        }
+
+        @Override
+        public boolean tick(long gameTick) {
+            Instant now = Instant.now();
+            blocks.entrySet().removeIf(entry -> {
+                Block block = entry.getKey();
+                // Broken by a player in the meantime
+                if (!parent.prisonBlocks.containsKey(block)) return true;
+
+                if (now.isAfter(entry.getValue())) {
+                    if (block.getType() == Material.ICE) {
+                        block.setType(Material.AIR);
+                        parent.playMeltEffect(block);
+                    }
+                    parent.prisonBlocks.remove(block);
+                    return true;
+                }
+                return false;
+            });
+            return blocks.isEmpty();
+        }
+
+        @Override
+        public void cancel() {
+            blocks.keySet().forEach(block -> {
+                if (parent.prisonBlocks.remove(block) != null && block.getType() == Material.ICE) {
+                    block.setType(Material.AIR);
+                }
+            });
+            blocks.clear();
         }
     }
 }
\ No newline at end of file
@@ -1,14 +1,14 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -19,53 +19,51 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.projectile.CustomProjectile;
 import dev.thomashanson.wizards.projectile.ProjectileData;
 
-public class SpellIceShards extends Spell implements CustomProjectile, Tickable {
+public class SpellIceShards extends Spell implements CustomProjectile {
 
-    private static final List<ShardVolley> ACTIVE_VOLLEYS = new ArrayList<>();
+    private final SpellStat damagePerShardStat;
+    private final SpellStat shardsStat;
+    private final SpellStat delayTicksStat;
+    private final SpellStat projectileLifespanTicksStat;
+    private final SpellStat projectileSpeedStat;
 
     public SpellIceShards(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.damagePerShardStat = resolveStat("damage-per-shard", 0.0);
+        this.shardsStat = resolveStat("shards", 0.0);
+        this.delayTicksStat = resolveStat("delay-ticks", 0.0);
+        this.projectileLifespanTicksStat = resolveStat("projectile-lifespan-ticks", 0.0);
+        this.projectileSpeedStat = resolveStat("projectile-speed", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         // When cast, create a new volley manager and let the tick() method handle firing.
-        ACTIVE_VOLLEYS.add(new ShardVolley(this, player, level));
+        startEffect(new ShardVolley(this, player, level));
         return true;
     }
 
     @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_VOLLEYS.isEmpty()) return;
-        ACTIVE_VOLLEYS.removeIf(ShardVolley::tick);
-    }
-    
-    @Override
-    public void cleanup() {
-        ACTIVE_VOLLEYS.clear();
-    }
-
-    @Override
-    public void onCollide(LivingEntity hitEntity, Block hitBlock, ProjectileData data) {
+    public void onCollide(LivingEntity hitEntity, Block hitBlock, Location impact, BlockFace face, ProjectileData data) {
         Integer level = data.getCustomData("level", Integer.class);
         if (level == null) return;
         
         if (hitEntity != null && data.getThrower() instanceof Player caster) {
             // CORRECTED KEY
-            damage(hitEntity, new CustomDamageTick(getStat("damage-per-shard", level), EntityDamageEvent.DamageCause.PROJECTILE, getKey(), Instant.now(), caster, null));
+            damageAggregated(hitEntity, new CustomDamageTick(damagePerShardStat.calculate(level), EntityDamageEvent.DamageCause.PROJECTILE, getKey(), Instant.now(), caster, null));
         }
 
-        Location impact = (hitEntity != null) ? hitEntity.getLocation() : hitBlock.getLocation();
         impact.getWorld().spawnParticle(Particle.ITEM_CRACK, impact, 30, 0.2, 0.2, 0.2, 0.1, new ItemStack(Material.ICE));
     }
 
-    private static class ShardVolley {
+    private static class ShardVolley implements SpellEffect {
         final SpellIceShards parent;
         final Player caster;
         final int level;
@@ -82,12 +80,13 @@ public class SpellIceShards extends Spell implements CustomProjectile, Tickable
             this.level = level;
 
             // CORRECTED KEY
-            this.totalShots = (int) parent.getStat("shards", level);
-            this.shotDelay = (int) parent.getStat("delay-ticks", level);
+            this.totalShots = (int) parent.shardsStat.calculate(level);
+            this.shotDelay = (int) parent.delayTicksStat.calculate(level);
         }
 
         /** @return true if this volley is complete and should be removed */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             if (!caster.isOnline()) return true;
 
             if (tickCounter % shotDelay == 0) {
@@ -101,15 +100,20 @@ public class SpellIceShards extends Spell implements CustomProjectile, Tickable
             return false;
         }
 
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
         void fireShard() {
             StatContext context = StatContext.of(level);
             ProjectileData.Builder dataBuilder = new ProjectileData.Builder(parent.getGame().orElse(null), caster, parent)
                 .hitPlayer(true).hitBlock(true)
                 .impactSound(Sound.BLOCK_GLASS_BREAK, 1.2F, 1.0F)
-                .maxTicksLived((int) parent.getStat("projectile-lifespan-ticks", level))
+                .maxTicksLived((int) parent.projectileLifespanTicksStat.calculate(level))
                 .customData("level", level);
 
-            Vector velocity = caster.getEyeLocation().getDirection().normalize().multiply(parent.getStat("projectile-speed", level));
+            Vector velocity = caster.getEyeLocation().getDirection().normalize().multiply(parent.projectileSpeedStat.calculate(level));
             parent.plugin.getProjectileManager().launchProjectile(caster.getEyeLocation(), new ItemStack(Material.GHAST_TEAR), velocity, dataBuilder);
             caster.getWorld().playSound(caster.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.2F, 1.2F);
         }
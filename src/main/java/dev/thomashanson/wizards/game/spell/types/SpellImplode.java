@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -18,24 +17,35 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.util.ExplosionUtil;
 
-public class SpellImplode extends Spell implements Tickable {
+public class SpellImplode extends Spell {
 
-    private static final List<ImplosionInstance> ACTIVE_IMPLOSIONS = new CopyOnWriteArrayList<>();
     private static final Random RANDOM = new Random();
 
+    private final SpellStat rangeStat;
+    private final SpellStat durationTicksStat;
+    private final SpellStat blockVelocityStat;
+    private final SpellStat baseSizeStat;
+    private final SpellStat sizePerLevelStat;
+
     public SpellImplode(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.durationTicksStat = resolveStat("duration-ticks", 0.0);
+        this.blockVelocityStat = resolveStat("block-velocity", 0.0);
+        this.baseSizeStat = resolveStat("base-size", 1.5);
+        this.sizePerLevelStat = resolveStat("size-per-level", 0.7);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         StatContext context = StatContext.of(level);
-        List<Block> targets = player.getLastTwoTargetBlocks(null, (int) getStat("range", level));
+        List<Block> targets = player.getLastTwoTargetBlocks(null, (int) rangeStat.calculate(level));
         
         // Mineplex code used list.get(0) (the air block in front of the target)
         if (targets.isEmpty()) {
@@ -45,27 +55,11 @@ public class SpellImplode extends Spell implements Tickable {
         // Use the air block as the center, just like Mineplex
         Block centerBlock = targets.get(0); 
 
-        ACTIVE_IMPLOSIONS.add(new ImplosionInstance(this, player, centerBlock, level));
+        startEffect(new ImplosionInstance(this, player, centerBlock, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_IMPLOSIONS.isEmpty()) return;
-        ACTIVE_IMPLOSIONS.removeIf(ImplosionInstance::tick);
-    }
-
-    @Override
-    public int getTickInterval() {
-        return 1; // Needs per-tick updates for Mineplex-accurate particles
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_IMPLOSIONS.clear();
-    }
-
-    private static class ImplosionInstance {
+    private static class ImplosionInstance implements SpellEffect {
         final SpellImplode parent;
         final Player caster;
         final Location center;
@@ -85,11 +79,11 @@ public class SpellImplode extends Spell implements Tickable {
             this.center = targetBlock.getLocation().add(0.5, 0.5, 0.5);
             this.level = level;
 
-            this.durationTicks = (int) parent.getStat("duration-ticks", level);
-            this.blockVelocity = parent.getStat("block-velocity", level);
+            this.durationTicks = (int) parent.durationTicksStat.calculate(level);
+            this.blockVelocity = parent.blockVelocityStat.calculate(level);
 
-            double baseSize = parent.getStat("base-size", level, 1.5);
-            double sizePerLevel = parent.getStat("size-per-level", level, 0.7);
+            double baseSize = parent.baseSizeStat.calculate(level);
+            double sizePerLevel = parent.sizePerLevelStat.calculate(level);
             
             // Calculate the final size
             this.size = (float) (baseSize + (level * sizePerLevel));
@@ -130,7 +124,8 @@ public class SpellImplode extends Spell implements Tickable {
          * Replicates the Mineplex charge-up and explosion logic.
          * @return true if the instance is finished.
          */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             
             if (ticksLived > durationTicks) {
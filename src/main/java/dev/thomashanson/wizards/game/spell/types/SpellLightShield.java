@@ -1,9 +1,8 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
@@ -23,46 +22,44 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellLightShield extends Spell implements Tickable {
+public class SpellLightShield extends Spell {
 
-    private final Map<UUID, ShieldInstance> activeShields = new ConcurrentHashMap<>();
     private final NamespacedKey shieldKey;
     private final NamespacedKey reflectedKey;
 
+    private final SpellStat healthStat;
+    private final SpellStat selfDamageOnReflectStat;
+    private final SpellStat particleWidthStat;
+    private final SpellStat particleHeightStat;
+    private final SpellStat durationSecondsStat;
+
     public SpellLightShield(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.shieldKey = new NamespacedKey(plugin, "light_shield_owner");
         this.reflectedKey = new NamespacedKey(plugin, "reflected_projectile");
+        this.healthStat = resolveStat("health", 6.0);
+        this.selfDamageOnReflectStat = resolveStat("self-damage-on-reflect", 1.0);
+        this.particleWidthStat = resolveStat("particle-width", 3.0);
+        this.particleHeightStat = resolveStat("particle-height", 4.0);
+        this.durationSecondsStat = resolveStat("duration-seconds", 4.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        activeShields.computeIfPresent(player.getUniqueId(), (uuid, instance) -> { instance.destroy(); return null; });
-        activeShields.put(player.getUniqueId(), new ShieldInstance(this, player, level));
+        cancelEffects(player.getUniqueId());
+        startEffect(new ShieldInstance(this, player, level));
         player.getWorld().playSound(player.getLocation(), Sound.ITEM_ARMOR_EQUIP_ELYTRA, 1F, 1.2F);
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeShields.isEmpty()) return;
-        activeShields.values().removeIf(ShieldInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeShields.values().forEach(ShieldInstance::destroy);
-        activeShields.clear();
-    }
-
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        ShieldInstance shield = activeShields.remove(event.getPlayer().getUniqueId());
-        if (shield != null) shield.destroy();
+        cancelEffects(event.getPlayer().getUniqueId());
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -74,16 +71,16 @@ public class SpellLightShield extends Spell implements Tickable {
         if (ownerUUIDString == null) return;
 
         event.setCancelled(true);
-        ShieldInstance instance = activeShields.get(UUID.fromString(ownerUUIDString));
-        if (instance == null) {
+        Optional<ShieldInstance> instance = findEffect(ShieldInstance.class, UUID.fromString(ownerUUIDString));
+        if (instance.isEmpty()) {
             event.getEntity().remove();
             return;
         }
 
-        instance.handleDamage(event.getDamager());
+        instance.get().handleDamage(event.getDamager());
     }
 
-    private static class ShieldInstance {
+    private static class ShieldInstance implements SpellEffect {
         final SpellLightShield parent;
         final Player owner;
         final ArmorStand armorStand;
@@ -98,12 +95,12 @@ public class SpellLightShield extends Spell implements Tickable {
             this.parent = parent;
             this.owner = owner;
 
-            this.health = parent.getStat("health", level, 6.0);
-            this.selfDamageOnReflect = parent.getStat("self-damage-on-reflect", level, 1.0);
-            this.particleWidth = (int) parent.getStat("particle-width", level, 3.0);
-            this.particleHeight = (int) parent.getStat("particle-height", level, 4.0);
+            this.health = parent.healthStat.calculate(level);
+            this.selfDamageOnReflect = parent.selfDamageOnReflectStat.calculate(level);
+            this.particleWidth = (int) parent.particleWidthStat.calculate(level);
+            this.particleHeight = (int) parent.particleHeightStat.calculate(level);
             
-            long duration = (long) parent.getStat("duration-seconds", level, 4.0);
+            long duration = (long) parent.durationSecondsStat.calculate(level);
             this.expiryTime = Instant.now().plusSeconds(duration);
 
             Location spawnLoc = calculateShieldLocation(owner);
@@ -118,7 +115,8 @@ public class SpellLightShield extends Spell implements Tickable {
             updateVisualAbsorption();
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             if (!owner.isOnline() || !armorStand.isValid() || Instant.now().isAfter(expiryTime)) {
                 destroy();
                 return true;
@@ -188,6 +186,16 @@ public class SpellLightShield extends Spell implements Tickable {
             }
         }
 
+        @Override
+        public void cancel() {
+            destroy();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return owner.getUniqueId();
+        }
+
         void destroy() {
             if (armorStand.isValid()) armorStand.remove();
             if (owner.isOnline()) owner.setAbsorptionAmount(0);
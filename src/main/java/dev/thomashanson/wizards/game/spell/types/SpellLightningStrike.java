@@ -4,7 +4,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bukkit.Bukkit;
 import org.bukkit.FluidCollisionMode;
@@ -20,7 +19,6 @@ import org.bukkit.entity.LightningStrike;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.persistence.PersistentDataContainer;
@@ -32,29 +30,42 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellLightningStrike extends Spell implements Tickable {
+public class SpellLightningStrike extends Spell {
 
     private final NamespacedKey lightningKey;
     private final NamespacedKey casterKey;
     private final NamespacedKey damageKey;
-
-    private static final List<TrackedDebris> ACTIVE_DEBRIS = new CopyOnWriteArrayList<>();
+    private final SpellStat damageStat;
+    private final SpellStat maxRangeStat;
+    private final SpellStat strikeDelayTicksStat;
+    private final SpellStat blockVelocityStat;
+    private final SpellStat fireChanceStat;
+    private final SpellStat fireTicksOnHitStat;
+    private final SpellStat debrisDamageStat;
 
     public SpellLightningStrike(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.lightningKey = new NamespacedKey(plugin, "lightning_spell");
         this.casterKey = new NamespacedKey(plugin, "lightning_caster");
         this.damageKey = new NamespacedKey(plugin, "lightning_damage");
+        this.maxRangeStat = resolveStat("max-range", 0.0);
+        this.strikeDelayTicksStat = resolveStat("strike-delay-ticks", 0.0);
+        this.blockVelocityStat = resolveStat("block-velocity", 0.0);
+        this.fireChanceStat = resolveStat("fire-chance", 0.0);
+        this.fireTicksOnHitStat = resolveStat("fire-ticks-on-hit", 0.0);
+        this.debrisDamageStat = resolveStat("debris-damage", 2.0);
+        this.damageStat = resolveStat("damage", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         StatContext context = StatContext.of(level);
-        double maxRange = getStat("max-range", level);
+        double maxRange = maxRangeStat.calculate(level);
 
         // This is the correct aiming logic
         RayTraceResult rayTrace = player.getWorld().rayTraceBlocks(player.getEyeLocation(), player.getEyeLocation().getDirection(), maxRange, FluidCollisionMode.NEVER, true);
@@ -67,7 +78,7 @@ public class SpellLightningStrike extends Spell implements Tickable {
         }
         // --- END AIMING LOGIC ---
 
-        long strikeDelayTicks = (long) getStat("strike-delay-ticks", level);
+        long strikeDelayTicks = (long) strikeDelayTicksStat.calculate(level);
 
         // --- THIS IS THE CORRECT DELAY LOGIC ---
         new BukkitRunnable() {
@@ -105,8 +116,7 @@ public class SpellLightningStrike extends Spell implements Tickable {
         if (!player.isOnline()) return;
 
         double distance = player.getLocation().distance(strikeLocation);
-        StatContext distanceContext = StatContext.of(level, distance);
-        double damage = getStats().get("damage").calculate(distanceContext);
+        double damage = damageStat.calculate(level, distance);
         
         LightningStrike lightning = strikeLocation.getWorld().strikeLightning(strikeLocation);
         PersistentDataContainer pdc = lightning.getPersistentDataContainer();
@@ -116,8 +126,8 @@ public class SpellLightningStrike extends Spell implements Tickable {
         
         Block centerBlock = strikeLocation.getBlock();
         List<Block> blocksToLaunch = new ArrayList<>();
-        double blockVelocity = getStat("block-velocity", level);
-        double fireChance = getStat("fire-chance", level);
+        double blockVelocity = blockVelocityStat.calculate(level);
+        double fireChance = fireChanceStat.calculate(level);
         
         for (int x = -1; x <= 1; x++) {
             for (int y = -1; y <= 1; y++) {
@@ -148,23 +158,11 @@ public class SpellLightningStrike extends Spell implements Tickable {
                 direction.add(new Vector(Math.random() - 0.5, Math.random() * 0.5, Math.random() - 0.5).multiply(0.5));
                 
                 fallingBlock.setVelocity(direction.multiply(blockVelocity));
-                ACTIVE_DEBRIS.add(new TrackedDebris(fallingBlock, player, level));
+                startEffect(new TrackedDebris(fallingBlock, player, level));
             }
         }
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_DEBRIS.isEmpty()) return;
-        ACTIVE_DEBRIS.removeIf(TrackedDebris::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_DEBRIS.forEach(TrackedDebris::cleanup);
-        ACTIVE_DEBRIS.clear();
-    }
-
     @EventHandler
     public void onEntityDamageByLightning(EntityDamageByEntityEvent event) {
         if (!(event.getDamager() instanceof LightningStrike lightning) || !(event.getEntity() instanceof LivingEntity target)) return;
@@ -182,17 +180,11 @@ public class SpellLightningStrike extends Spell implements Tickable {
         if (caster == null) return;
 
         damage(target, new CustomDamageTick(damageAmount, EntityDamageEvent.DamageCause.LIGHTNING, getKey(), Instant.now(), caster, null));
-        target.setFireTicks((int) getStat("fire-ticks-on-hit", 0));
-    }
-    
-    @EventHandler
-    public void onDebrisLand(EntityChangeBlockEvent event) {
-        if (event.getEntity() instanceof FallingBlock) {
-            ACTIVE_DEBRIS.removeIf(debris -> debris.fallingBlock.equals(event.getEntity()));
-        }
+        target.setFireTicks((int) fireTicksOnHitStat.calculate(0));
     }
 
-    private class TrackedDebris {
+    /** Landed debris is no longer valid and drops out on its next tick. */
+    private class TrackedDebris implements SpellEffect {
         final FallingBlock fallingBlock;
         final Player caster;
         final int level;
@@ -203,16 +195,17 @@ public class SpellLightningStrike extends Spell implements Tickable {
             this.fallingBlock = fallingBlock;
             this.caster = caster;
             this.level = level;
-            this.damage = getStat("debris-damage", level, 2.0);
+            this.damage = debrisDamageStat.calculate(level);
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (!fallingBlock.isValid() || ticksLived > 60) {
                 return true;
             }
             
-            for (LivingEntity target : fallingBlock.getWorld().getNearbyLivingEntities(fallingBlock.getLocation(), 0.8)) {
+            for (LivingEntity target : getNearbyEntities(fallingBlock.getLocation(), 0.8)) {
                 if (target.equals(caster)) continue;
                 if (target instanceof Player && getWizard((Player) target).isEmpty()) continue;
                 
@@ -230,6 +223,11 @@ public class SpellLightningStrike extends Spell implements Tickable {
             return false;
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
         void cleanup() {
             if (fallingBlock.isValid()) {
                 fallingBlock.remove();
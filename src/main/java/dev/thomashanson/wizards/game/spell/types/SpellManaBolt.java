@@ -18,24 +18,34 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.util.effects.ParticleConfig;
 import dev.thomashanson.wizards.util.effects.ParticleUtil;
 
 public class SpellManaBolt extends Spell {
 
+    private final SpellStat damageStat;
+    private final SpellStat rangeStat;
+    private final SpellStat homingStrengthStat;
+    private final SpellStat speedBpsStat;
+
     public SpellManaBolt(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.homingStrengthStat = resolveStat("homing-strength", 0.0);
+        this.speedBpsStat = resolveStat("speed-bps", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         StatContext context = StatContext.of(level);
 
-        double damage = getStat("damage", level);
-        double range = getStat("range", level);
-        double homingStrength = getStat("homing-strength", level);
-        double speedBps = getStat("speed-bps", level);
+        double damage = damageStat.calculate(level);
+        double range = rangeStat.calculate(level);
+        double homingStrength = homingStrengthStat.calculate(level);
+        double speedBps = speedBpsStat.calculate(level);
 
         new ManaBoltProjectile(
                 player, level, damage, range, homingStrength, speedBps
@@ -119,7 +129,7 @@ public class SpellManaBolt extends Spell {
                 return;
             }
 
-            for (LivingEntity entity : world.getNearbyLivingEntities(location, 1.0, this::isTargetable)) {
+            for (LivingEntity entity : getNearbyEntities(location, 1.0, this::isTargetable)) {
                 if (entity.equals(caster)) continue;
                 explode(entity.getLocation(), entity);
                 cancel();
@@ -135,7 +145,7 @@ public class SpellManaBolt extends Spell {
             LivingEntity closest = null;
             double closestDistSq = Double.MAX_VALUE;
 
-            for (LivingEntity entity : world.getNearbyLivingEntities(location, 15, this::isTargetable)) {
+            for (LivingEntity entity : getNearbyEntities(location, 15, this::isTargetable)) {
                 if (entity.equals(caster)) continue;
 
                 double distSq = entity.getLocation().distanceSquared(location);
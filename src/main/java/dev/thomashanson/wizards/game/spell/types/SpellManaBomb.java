@@ -1,8 +1,6 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -17,38 +15,41 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellManaBomb extends Spell implements Tickable {
+public class SpellManaBomb extends Spell {
 
-    private static final List<ManaBombInstance> ACTIVE_BOMBS = new CopyOnWriteArrayList<>();
-    
     private static final Particle.DustOptions MANA_PARTICLE = new Particle.DustOptions(Color.AQUA, 1.2F);
 
+    private final SpellStat speedStat;
+    private final SpellStat rangeStat;
+    private final SpellStat gravityStat;
+    private final SpellStat baseDamageStat;
+    private final SpellStat damagePerLevelStat;
+    private final SpellStat baseRadiusStat;
+    private final SpellStat radiusPerLevelStat;
+
     public SpellManaBomb(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.speedStat = resolveStat("speed", 0.0);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.gravityStat = resolveStat("gravity", 0.0);
+        this.baseDamageStat = resolveStat("base-damage", 0.0);
+        this.damagePerLevelStat = resolveStat("damage-per-level", 0.0);
+        this.baseRadiusStat = resolveStat("base-radius", 0.0);
+        this.radiusPerLevelStat = resolveStat("radius-per-level", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        ACTIVE_BOMBS.add(new ManaBombInstance(this, player, level));
+        startEffect(new ManaBombInstance(this, player, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_BOMBS.isEmpty()) return;
-        ACTIVE_BOMBS.removeIf(ManaBombInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_BOMBS.clear();
-    }
-
-    private static class ManaBombInstance {
+    private static class ManaBombInstance implements SpellEffect {
         final SpellManaBomb parent;
         final Player caster;
         final int level;
@@ -74,17 +75,17 @@ public class SpellManaBomb extends Spell implements Tickable {
 
             StatContext context = StatContext.of(level);
             
-            double speed = parent.getStat("speed", level);
-            double range = parent.getStat("range", level);
+            double speed = parent.speedStat.calculate(level);
+            double range = parent.rangeStat.calculate(level);
             this.maxRangeSq = range * range;
             
-            this.gravity = parent.getStat("gravity", level);
+            this.gravity = parent.gravityStat.calculate(level);
             
-            this.baseDamage = parent.getStat("base-damage", level);
-            this.damagePerLevel = parent.getStat("damage-per-level", level);
+            this.baseDamage = parent.baseDamageStat.calculate(level);
+            this.damagePerLevel = parent.damagePerLevelStat.calculate(level);
             
-            this.baseRadius = parent.getStat("base-radius", level);
-            this.radiusPerLevel = parent.getStat("radius-per-level", level);
+            this.baseRadius = parent.baseRadiusStat.calculate(level);
+            this.radiusPerLevel = parent.radiusPerLevelStat.calculate(level);
 
             this.velocity = location.getDirection().normalize().multiply(speed);
             
@@ -94,7 +95,8 @@ public class SpellManaBomb extends Spell implements Tickable {
         }
 
         /** @return true if this instance should be removed. */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             if (!caster.isOnline() || location.distanceSquared(origin) > maxRangeSq) {
                 explode();
                 return true;
@@ -108,7 +110,7 @@ public class SpellManaBomb extends Spell implements Tickable {
                 explode();
                 return true;
             }
-            for (LivingEntity entity : location.getWorld().getNearbyLivingEntities(location, 1.0)) {
+            for (LivingEntity entity : parent.getNearbyEntities(location, 1.0)) {
                 if (entity.equals(caster) && distanceTraveled < 1.5) {
                     continue; 
                 }
@@ -132,7 +134,7 @@ public class SpellManaBomb extends Spell implements Tickable {
             double damageRadius = this.baseRadius + (this.level * this.radiusPerLevel);
             double maxDamage = this.baseDamage + (this.level * this.damagePerLevel);
 
-            for (LivingEntity entity : location.getWorld().getNearbyLivingEntities(location, damageRadius)) {
+            for (LivingEntity entity : parent.getNearbyEntities(location, damageRadius)) {
                 if (entity instanceof Player && parent.getWizard((Player) entity).isEmpty()) continue;
 
                 double distance = entity.getLocation().distance(location);
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
 public class SpellNapalm extends Spell {
@@ -31,10 +32,21 @@ public class SpellNapalm extends Spell {
     // Stores the block transformations loaded from the config
     private final EnumMap<Material, Material> blockTransformations = new EnumMap<>(Material.class);
 
+    private final SpellStat rangeStat;
+    private final SpellStat speedStat;
+    private final SpellStat radiusStat;
+    private final SpellStat damageStat;
+    private final SpellStat fireDurationSecondsStat;
+
     public SpellNapalm(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         // Load the transformations when the spell is initialized
         loadBlockTransformations(config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.speedStat = resolveStat("speed", 0.0);
+        this.radiusStat = resolveStat("radius", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.fireDurationSecondsStat = resolveStat("fire-duration-seconds", 0.0);
     }
 
     /**
@@ -61,11 +73,11 @@ public class SpellNapalm extends Spell {
     public boolean cast(Player player, int level) {
         // Get stats from config
         StatContext context = StatContext.of(level);
-        double range = getStat("range", level);
-        double speed = getStat("speed", level); // Blocks per tick
-        double radius = getStat("radius", level); // User requested SL x 2
-        double damage = getStat("damage", level);
-        int fireTicks = (int) (getStat("fire-duration-seconds",level) * 20);
+        double range = rangeStat.calculate(level);
+        double speed = speedStat.calculate(level); // Blocks per tick
+        double radius = radiusStat.calculate(level); // User requested SL x 2
+        double damage = damageStat.calculate(level);
+        int fireTicks = (int) (fireDurationSecondsStat.calculate(level) * 20);
 
         // Launch the projectile runnable
         new NapalmProjectile(player, level, range, speed, radius, damage, fireTicks).runTaskTimer(plugin, 0L, 1L);
@@ -152,7 +164,7 @@ public class SpellNapalm extends Spell {
             }
 
             // --- 3. Check for entity collision ---
-            for (LivingEntity target : world.getNearbyLivingEntities(location, 1.5, this::isTargetable)) {
+            for (LivingEntity target : getNearbyEntities(location, 1.5, this::isTargetable)) {
                 if (target.equals(caster)) continue;
                 explode(target.getLocation());
                 cancel();
@@ -172,8 +184,8 @@ public class SpellNapalm extends Spell {
             world.spawnParticle(Particle.LAVA, center.clone().add(0, 0.2, 0), 30, 0.3, 0.0, 0.3, 0);
 
             // --- 3. Damage & Ignite Entities ---
-            for (LivingEntity target : world.getNearbyLivingEntities(center, explosionRadius, this::isTargetable)) {
-                damage(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.FIRE_TICK, "Napalm", Instant.now(), caster, null));
+            for (LivingEntity target : getNearbyEntities(center, explosionRadius, this::isTargetable)) {
+                damageAggregated(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.FIRE_TICK, "Napalm", Instant.now(), caster, null));
                 target.setFireTicks(fireTicks);
             }
 
@@ -22,12 +22,22 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
 public class SpellRainbowBeam extends Spell {
 
+    private final SpellStat damageStat;
+    private final SpellStat rangeStat;
+    private final SpellStat particleStepStat;
+    private final SpellStat hitboxSizeStat;
+
     public SpellRainbowBeam(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.particleStepStat = resolveStat("particle-step", 0.0);
+        this.hitboxSizeStat = resolveStat("hitbox-size", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
     }
 
     @Override
@@ -37,9 +47,9 @@ public class SpellRainbowBeam extends Spell {
         Vector direction = eyeLocation.getDirection();
         World world = player.getWorld();
 
-        double maxRange = getStat("range", level);
-        double particleStep = getStat("particle-step", level);
-        double hitboxSize = getStat("hitbox-size", level);
+        double maxRange = rangeStat.calculate(level);
+        double particleStep = particleStepStat.calculate(level);
+        double hitboxSize = hitboxSizeStat.calculate(level);
 
         Location beamEndPoint;
         LivingEntity hitEntity = null;
@@ -65,9 +75,7 @@ public class SpellRainbowBeam extends Spell {
 
     private void handleEntityHit(Player caster, LivingEntity target, int level) {
         double distance = caster.getEyeLocation().distance(target.getEyeLocation());
-        StatContext distanceContext = StatContext.of(level, distance);
-        
-        double finalDamage = getStats().get("damage").calculate(distanceContext);
+        double finalDamage = damageStat.calculate(level, distance);
 
         damage(target, new CustomDamageTick(finalDamage, EntityDamageEvent.DamageCause.MAGIC, getKey(), Instant.now(), caster, null));
         getWizard(caster).ifPresent(wizard -> wizard.addAccuracy(true));
@@ -2,10 +2,10 @@ package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
@@ -22,18 +22,22 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.util.BlockUtil;
 
-public class SpellRainbowRoad extends Spell implements Tickable {
+public class SpellRainbowRoad extends Spell {
 
-    private static final List<RoadBuilder> ACTIVE_BUILDERS = new ArrayList<>();
-    private static final Map<Block, RoadData> ROAD_BLOCKS = new ConcurrentHashMap<>();
+    /** Every block of every live road, for the fall damage handler. */
+    private final Map<Block, RoadData> roadBlocks = new HashMap<>();
 
     private final List<Material> rainbowMaterials;
 
+    private final SpellStat lengthStat;
+    private final SpellStat durationSecondsStat;
+
     public SpellRainbowRoad(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
 
@@ -41,54 +45,28 @@ public class SpellRainbowRoad extends Spell implements Tickable {
                 .map(Material::matchMaterial)
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
+        this.lengthStat = resolveStat("length", 0.0);
+        this.durationSecondsStat = resolveStat("duration-seconds", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         // Prevent player from casting if they are already building a road
-        if (ACTIVE_BUILDERS.stream().anyMatch(builder -> builder.caster.getUniqueId().equals(player.getUniqueId()))) {
+        if (findEffect(RoadBuilder.class, builder -> !builder.isBuilt() && builder.caster.equals(player)).isPresent()) {
             return false;
         }
 
-        ACTIVE_BUILDERS.add(new RoadBuilder(this, player, level));
+        startEffect(new RoadBuilder(this, player, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        // Build new road segments
-        ACTIVE_BUILDERS.removeIf(RoadBuilder::tick);
-
-        // Check for melting blocks
-        if (ROAD_BLOCKS.isEmpty()) return;
-        Instant now = Instant.now();
-        ROAD_BLOCKS.entrySet().removeIf(entry -> {
-            if (now.isAfter(entry.getValue().expiry)) {
-                if (rainbowMaterials.contains(entry.getKey().getType())) {
-                    entry.getKey().setType(Material.AIR);
-                }
-                return true;
-            }
-            return false;
-        });
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_BUILDERS.clear();
-        ROAD_BLOCKS.keySet().forEach(block -> {
-            if (rainbowMaterials.contains(block.getType())) block.setType(Material.AIR);
-        });
-        ROAD_BLOCKS.clear();
-    }
-
     @EventHandler
     public void onFall(EntityDamageEvent event) {
         if (event.getCause() != EntityDamageEvent.DamageCause.FALL || !(event.getEntity() instanceof Player)) return;
 
         Player player = (Player) event.getEntity();
         Block block = player.getLocation().getBlock().getRelative(BlockFace.DOWN);
-        RoadData data = ROAD_BLOCKS.get(block);
+        RoadData data = roadBlocks.get(block);
 
         // Cancel fall damage if the player lands on their own road
         if (data != null && data.owner.equals(player.getUniqueId())) {
@@ -98,7 +76,7 @@ public class SpellRainbowRoad extends Spell implements Tickable {
 
     private record RoadData(UUID owner, Instant expiry) {}
 
-    private static class RoadBuilder {
+    private static class RoadBuilder implements SpellEffect {
         final SpellRainbowRoad parent;
         final Player caster;
         final int level;
@@ -106,6 +84,7 @@ public class SpellRainbowRoad extends Spell implements Tickable {
         Location currentLocation;
         int blocksPlaced = 0;
         int colorProgress = 0;
+        final Map<Block, Instant> blocks = new HashMap<>();
 
         // Configurable stats
         final int maxLength;
@@ -118,8 +97,8 @@ public class SpellRainbowRoad extends Spell implements Tickable {
             this.currentLocation = caster.getLocation().getBlock().getLocation().add(0.5, -0.5, 0.5);
 
             StatContext context = StatContext.of(level);
-            this.maxLength = (int) parent.getStat("length", level);
-            this.durationSeconds = (long) parent.getStat("duration-seconds", level);
+            this.maxLength = (int) parent.lengthStat.calculate(level);
+            this.durationSeconds = (long) parent.durationSecondsStat.calculate(level);
 
             // UPDATED: The getFace method now requires a boolean for sub-cardinal directions.
             // 'false' limits it to NORTH, SOUTH, EAST, or WEST, which is perfect for a road.
@@ -133,16 +112,55 @@ public class SpellRainbowRoad extends Spell implements Tickable {
             }
         }
 
-        /** @return true if this builder is finished and should be removed */
-        boolean tick() {
-            if (!caster.isOnline() || blocksPlaced >= maxLength) {
-                return true;
+        /** @return true once the road is built and every block has expired */
+        @Override
+        public boolean tick(long gameTick) {
+            if (!isBuilt()) {
+                if (caster.isOnline()) {
+                    buildSegment();
+                    currentLocation.add(direction);
+                    blocksPlaced++;
+                } else {
+                    blocksPlaced = maxLength;
+                }
             }
 
-            buildSegment();
-            currentLocation.add(direction);
-            blocksPlaced++;
-            return false;
+            Instant now = Instant.now();
+            blocks.entrySet().removeIf(entry -> {
+                if (now.isAfter(entry.getValue())) {
+                    removeBlock(entry.getKey());
+                    return true;
+                }
+                return false;
+            });
+
+            return isBuilt() && blocks.isEmpty();
+        }
+
+        @Override
+        public void cancel() {
+            blocks.keySet().forEach(this::removeBlock);
+            blocks.clear();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
+        boolean isBuilt() {
+            return blocksPlaced >= maxLength;
+        }
+
+        private void removeBlock(Block block) {
+            RoadData data = parent.roadBlocks.get(block);
+            // A later road may have been built over this block
+            if (data == null || !data.owner.equals(caster.getUniqueId())) return;
+
+            parent.roadBlocks.remove(block);
+            if (parent.rainbowMaterials.contains(block.getType())) {
+                block.setType(Material.AIR);
+            }
         }
 
         void buildSegment() {
@@ -153,7 +171,8 @@ public class SpellRainbowRoad extends Spell implements Tickable {
 
                 b.setType(parent.rainbowMaterials.get(colorProgress++ % parent.rainbowMaterials.size()));
                 Instant expiry = Instant.now().plusSeconds(durationSeconds + ThreadLocalRandom.current().nextInt(5));
-                ROAD_BLOCKS.put(b, new RoadData(caster.getUniqueId(), expiry));
+                blocks.put(b, expiry);
+                parent.roadBlocks.put(b, new RoadData(caster.getUniqueId(), expiry));
             }
             block.getWorld().playSound(block.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.5F, 1F);
         }
@@ -21,15 +21,14 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.util.ExplosionUtil;
 import dev.thomashanson.wizards.util.effects.ParticleConfig;
 import dev.thomashanson.wizards.util.effects.ParticleUtil;
 
-public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
-
-    private static final List<RumbleInstance> ACTIVE_RUMBLES = new ArrayList<>();
+public class SpellRumble extends Spell implements Spell.SpellBlock {
 
     // Mineplex's array for 8-directional movement
     private static final BlockFace[] RADIAL = {
@@ -37,8 +36,21 @@ public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
             BlockFace.NORTH, BlockFace.NORTH_EAST, BlockFace.EAST, BlockFace.SOUTH_EAST
     };
 
+    private final SpellStat rangeStat;
+    private final SpellStat travelDamageStat;
+    private final SpellStat finaleDamageBaseStat;
+    private final SpellStat slowDurationTicksStat;
+    private final SpellStat slowAmplifierStat;
+    private final SpellStat blockVelocityStat;
+
     public SpellRumble(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.travelDamageStat = resolveStat("travel-damage", 0.0);
+        this.finaleDamageBaseStat = resolveStat("finale-damage-base", 0.0);
+        this.slowDurationTicksStat = resolveStat("slow-duration-ticks", 0.0);
+        this.slowAmplifierStat = resolveStat("slow-amplifier", 0.0);
+        this.blockVelocityStat = resolveStat("block-velocity", 0.0);
     }
 
     // Mineplex's logic for casting in the air
@@ -54,22 +66,11 @@ public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
     @Override
     public boolean castSpell(Player player, Block block, int level) {
         if (!block.getType().isSolid()) return false;
-        ACTIVE_RUMBLES.add(new RumbleInstance(this, player, block, level));
+        startEffect(new RumbleInstance(this, player, block, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (ACTIVE_RUMBLES.isEmpty()) return;
-        ACTIVE_RUMBLES.removeIf(RumbleInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        ACTIVE_RUMBLES.clear();
-    }
-
-    private static class RumbleInstance {
+    private static class RumbleInstance implements SpellEffect {
         final SpellRumble parent;
         final Player caster;
         final int level;
@@ -94,15 +95,16 @@ public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
             this.direction = RADIAL[Math.round(caster.getEyeLocation().getYaw() / 45f) & 0x7];
             this.currentBlock = startBlock;
 
-            this.maxDistance = (int) parent.getStat("range", level);
-            this.travelDamage = parent.getStat("travel-damage", level);
-            this.finaleDamageBase = parent.getStat("finale-damage-base", level);
-            this.slowEffect = new PotionEffect(PotionEffectType.SLOW, (int) parent.getStat("slow-duration-ticks", level), (int) parent.getStat("slow-amplifier", level) - 1);
-            this.blockVelocity = parent.getStat("block-velocity", level);
+            this.maxDistance = (int) parent.rangeStat.calculate(level);
+            this.travelDamage = parent.travelDamageStat.calculate(level);
+            this.finaleDamageBase = parent.finaleDamageBaseStat.calculate(level);
+            this.slowEffect = new PotionEffect(PotionEffectType.SLOW, (int) parent.slowDurationTicksStat.calculate(level), (int) parent.slowAmplifierStat.calculate(level) - 1);
+            this.blockVelocity = parent.blockVelocityStat.calculate(level);
         }
 
         /** @return true if this instance should be removed */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             if (!caster.isOnline()) {
                 return true; // Caster logged off
             }
@@ -175,7 +177,7 @@ public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
 
                 // --- Damage Logic ---
                 Location checkLoc = block.getLocation().add(0.5, 1.5, 0.5);
-                for (LivingEntity entity : block.getWorld().getNearbyLivingEntities(checkLoc, 0.5, 0.8, 0.5)) {
+                for (LivingEntity entity : parent.getNearbyEntities(checkLoc, 0.5, 0.8, 0.5, null)) {
                     if (entity.equals(caster) || effectedEntities.contains(entity.getEntityId())) continue;
 
                     if (entity instanceof Player && parent.getWizard((Player) entity).isEmpty()) continue;
@@ -219,7 +221,7 @@ public class SpellRumble extends Spell implements Spell.SpellBlock, Tickable {
             ExplosionUtil.createExplosion(parent.plugin, explosionCenter, blocksToExplode, config, false);
 
             // 4. Apply Finale Damage (Mineplex logic)
-            for (LivingEntity entity : explosionCenter.getWorld().getNearbyLivingEntities(explosionCenter, size + 2, size + 2, size + 2)) {
+            for (LivingEntity entity : parent.getNearbyEntities(explosionCenter, size + 2)) {
                 if (entity.equals(caster)) continue;
                 if (entity instanceof Player && parent.getWizard((Player) entity).isEmpty()) continue;
 
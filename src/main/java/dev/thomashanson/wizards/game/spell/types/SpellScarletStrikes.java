@@ -26,13 +26,12 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellScarletStrikes extends Spell implements Tickable {
-
-    private final List<StrikeInstance> activeInstances = new ArrayList<>();
+public class SpellScarletStrikes extends Spell {
 
     // Defines the visual formation of the strikes relative to the player.
     private static final Vector[] STRIKE_FORMATION_OFFSETS = {
@@ -45,45 +44,49 @@ public class SpellScarletStrikes extends Spell implements Tickable {
         new Vector(-0.7, 0.8, 1.2)  // Top Left
     };
 
+    private final SpellStat maxStrikesStat;
+    private final SpellStat summonIntervalTicksStat;
+    private final SpellStat autoLaunchTicksStat;
+    private final SpellStat damageStat;
+    private final SpellStat stunTicksStat;
+    private final SpellStat hitboxSizeStat;
+    private final SpellStat speedBaseBpsStat;
+    private final SpellStat speedReductionPerStrikeStat;
+    private final SpellStat rangeMultiplierStat;
+
     public SpellScarletStrikes(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.maxStrikesStat = resolveStat("max-strikes", 0.0);
+        this.summonIntervalTicksStat = resolveStat("summon-interval-ticks", 0.0);
+        this.autoLaunchTicksStat = resolveStat("auto-launch-ticks", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.stunTicksStat = resolveStat("stun-ticks", 0.0);
+        this.hitboxSizeStat = resolveStat("hitbox-size", 0.0);
+        this.speedBaseBpsStat = resolveStat("speed-base-bps", 0.0);
+        this.speedReductionPerStrikeStat = resolveStat("speed-reduction-per-strike", 0.0);
+        this.rangeMultiplierStat = resolveStat("range-multiplier", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         // Find an existing, un-launched instance for this player
-        Optional<StrikeInstance> existingInstance = activeInstances.stream()
-                .filter(inst -> inst.caster.getUniqueId().equals(player.getUniqueId()) && inst.phase != StrikeInstance.Phase.LAUNCHED)
-                .findFirst();
+        Optional<StrikeInstance> existingInstance = findEffect(StrikeInstance.class,
+                inst -> inst.caster.getUniqueId().equals(player.getUniqueId()) && inst.phase != StrikeInstance.Phase.LAUNCHED && inst.phase != StrikeInstance.Phase.DONE);
 
         if (existingInstance.isPresent()) {
             existingInstance.get().launch();
         } else {
-            activeInstances.add(new StrikeInstance(this, player, level));
+            startEffect(new StrikeInstance(this, player, level));
         }
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeInstances.isEmpty()) return;
-        activeInstances.removeIf(StrikeInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeInstances.forEach(StrikeInstance::cleanup);
-        activeInstances.clear();
-    }
-    
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        activeInstances.stream()
-            .filter(inst -> inst.caster.getUniqueId().equals(event.getPlayer().getUniqueId()))
-            .findFirst().ifPresent(StrikeInstance::cleanup);
+        cancelEffects(event.getPlayer().getUniqueId());
     }
 
-    private static class StrikeInstance {
+    private static class StrikeInstance implements SpellEffect {
         enum Phase { SUMMONING, FOLLOWING, LAUNCHED, DONE }
 
         final SpellScarletStrikes parent;
@@ -106,14 +109,15 @@ public class SpellScarletStrikes extends Spell implements Tickable {
             this.level = level;
 
             StatContext context = StatContext.of(level);
-            this.maxStrikes = (int) parent.getStat("max-strikes", level);
-            this.summonInterval = (int) parent.getStat("summon-interval-ticks", level);
-            this.autoLaunchTicks = (int) parent.getStat("auto-launch-ticks", level);
+            this.maxStrikes = (int) parent.maxStrikesStat.calculate(level);
+            this.summonInterval = (int) parent.summonIntervalTicksStat.calculate(level);
+            this.autoLaunchTicks = (int) parent.autoLaunchTicksStat.calculate(level);
 
             caster.playSound(caster.getLocation(), Sound.ENTITY_EVOKER_PREPARE_SUMMON, 1.0F, 1.2F);
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (!caster.isOnline()) {
                 cleanup();
@@ -176,6 +180,16 @@ public class SpellScarletStrikes extends Spell implements Tickable {
             projectiles.forEach(p -> p.launch(caster.getEyeLocation().getDirection()));
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
+
         void cleanup() {
             projectiles.forEach(ScarletProjectile::remove);
             projectiles.clear();
@@ -206,14 +220,14 @@ public class SpellScarletStrikes extends Spell implements Tickable {
             
             // Load stats from parent spell
             StatContext context = StatContext.of(parent.level);
-            this.damage = parent.parent.getStat("damage", 0);
-            this.stunTicks = (int) parent.parent.getStat("stun-ticks", 0);
-            this.hitboxSize = parent.parent.getStat("hitbox-size", 0);
+            this.damage = parent.parent.damageStat.calculate(0);
+            this.stunTicks = (int) parent.parent.stunTicksStat.calculate(0);
+            this.hitboxSize = parent.parent.hitboxSizeStat.calculate(0);
 
             // Special stats for dynamic calculations
-            this.baseSpeed = parent.parent.getStat("speed-base-bps", 0);
-            this.speedReduction = parent.parent.getStat("speed-reduction-per-strike", 0);
-            this.rangeMultiplier = parent.parent.getStat("range-multiplier", 0);
+            this.baseSpeed = parent.parent.speedBaseBpsStat.calculate(0);
+            this.speedReduction = parent.parent.speedReductionPerStrikeStat.calculate(0);
+            this.rangeMultiplier = parent.parent.rangeMultiplierStat.calculate(0);
 
             this.armorStand = parent.caster.getWorld().spawn(parent.caster.getEyeLocation(), ArmorStand.class, as -> {
                 as.setInvisible(true);
@@ -243,10 +257,10 @@ public class SpellScarletStrikes extends Spell implements Tickable {
             armorStand.teleport(nextPos);
             armorStand.getWorld().spawnParticle(Particle.REDSTONE, armorStand.getLocation(), 2, 0, 0, 0, 0, new Particle.DustOptions(Color.RED, 0.8F));
 
-            for (LivingEntity target : armorStand.getWorld().getNearbyLivingEntities(armorStand.getLocation(), hitboxSize)) {
+            for (LivingEntity target : parent.parent.getNearbyEntities(armorStand.getLocation(), hitboxSize)) {
                 if (target.equals(parent.caster) || hitEntities.contains(target.getUniqueId())) continue;
 
-                parent.parent.damage(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.MAGIC, parent.parent.getKey(), Instant.now(), parent.caster, null));
+                parent.parent.damageAggregated(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.MAGIC, parent.parent.getKey(), Instant.now(), parent.caster, null));
                 target.addPotionEffect(new PotionEffect(PotionEffectType.SLOW, stunTicks, 5, false, false));
                 hitEntities.add(target.getUniqueId());
 
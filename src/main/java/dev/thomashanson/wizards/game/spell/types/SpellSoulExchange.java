@@ -11,12 +11,26 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
 public class SpellSoulExchange extends Spell {
 
+    private final SpellStat healthSacrificeStat;
+    private final SpellStat minHealthStat;
+    private final SpellStat manaGainStat;
+    private final SpellStat maxManaIncreaseStat;
+    private final SpellStat witherDurationTicksStat;
+    private final SpellStat witherAmplifierStat;
+
     public SpellSoulExchange(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.healthSacrificeStat = resolveStat("health-sacrifice", 0.0);
+        this.minHealthStat = resolveStat("min-health", 0.0);
+        this.manaGainStat = resolveStat("mana-gain", 0.0);
+        this.maxManaIncreaseStat = resolveStat("max-mana-increase", 0.0);
+        this.witherDurationTicksStat = resolveStat("wither-duration-ticks", 0.0);
+        this.witherAmplifierStat = resolveStat("wither-amplifier", 0.0);
     }
 
     @Override
@@ -25,8 +39,8 @@ public class SpellSoulExchange extends Spell {
         if (healthAttribute == null) return false;
 
         StatContext context = StatContext.of(level);
-        double healthSacrifice = getStat("health-sacrifice", level);
-        double minHealth = getStat("min-health", level);
+        double healthSacrifice = healthSacrificeStat.calculate(level);
+        double minHealth = minHealthStat.calculate(level);
 
         double newMaxHealth = Math.max(minHealth, healthAttribute.getBaseValue() - healthSacrifice);
         
@@ -44,15 +58,15 @@ public class SpellSoulExchange extends Spell {
         }
 
         getWizard(player).ifPresent(wizard -> {
-            double manaGain = getStat("mana-gain", level);
-            double maxManaIncrease = getStat("max-mana-increase", level);
+            double manaGain = manaGainStat.calculate(level);
+            double maxManaIncrease = maxManaIncreaseStat.calculate(level);
 
             wizard.addMana((float) manaGain);
             wizard.setMaxMana(wizard.getMaxMana() + (float) maxManaIncrease);
         });
 
-        int witherDuration = (int) getStat("wither-duration-ticks", level);
-        int witherAmplifier = (int) getStat("wither-amplifier", level) - 1;
+        int witherDuration = (int) witherDurationTicksStat.calculate(level);
+        int witherAmplifier = (int) witherAmplifierStat.calculate(level) - 1;
         player.addPotionEffect(new PotionEffect(PotionEffectType.WITHER, witherDuration, witherAmplifier));
         
         player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1F, 1F);
@@ -1,8 +1,7 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
@@ -23,60 +22,38 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.mode.GameTeam;
 import dev.thomashanson.wizards.game.spell.Spell;
-import dev.thomashanson.wizards.game.spell.StatContext;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
-public class SpellSpectralArrow extends Spell implements Tickable {
+public class SpellSpectralArrow extends Spell {
 
-    private final Map<Arrow, Location> activeArrows = new ConcurrentHashMap<>();
     private final NamespacedKey levelKey;
 
+    private final SpellStat velocityMultiplierStat;
+    private final SpellStat damageStat;
+
     public SpellSpectralArrow(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.levelKey = new NamespacedKey(plugin, "spectral_arrow_level");
+        this.velocityMultiplierStat = resolveStat("velocity-multiplier", 1.5);
+        this.damageStat = resolveStat("damage", 1.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         Arrow arrow = player.launchProjectile(Arrow.class);
         arrow.setShooter(player);
-        arrow.setVelocity(arrow.getVelocity().multiply(getStat("velocity-multiplier", level, 1.5)));
+        arrow.setVelocity(arrow.getVelocity().multiply(velocityMultiplierStat.calculate(level)));
         
         PersistentDataContainer pdc = arrow.getPersistentDataContainer();
         pdc.set(levelKey, PersistentDataType.INTEGER, level);
         
-        activeArrows.put(arrow, arrow.getLocation());
+        startEffect(new ArrowTrail(arrow));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeArrows.isEmpty()) return;
-
-        Particle particle = Particle.FIREWORKS_SPARK;
-
-        activeArrows.entrySet().removeIf(entry -> {
-            Arrow arrow = entry.getKey();
-            if (!arrow.isValid() || arrow.isOnGround()) {
-                return true;
-            }
-
-            // Draw a trail from the arrow's last known position to its current one
-            Location lastPos = entry.getValue();
-            Location currentPos = arrow.getLocation();
-            Vector travel = currentPos.toVector().subtract(lastPos.toVector());
-
-            for (double d = 0; d < travel.length(); d += 0.5) {
-                Vector offset = travel.clone().normalize().multiply(d);
-                arrow.getWorld().spawnParticle(particle, lastPos.clone().add(offset), 1, 0, 0, 0, 0);
-            }
-            entry.setValue(currentPos);
-            return false;
-        });
-    }
-
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onDamage(EntityDamageByEntityEvent event) {
         if (!(event.getDamager() instanceof Arrow arrow) || !(event.getEntity() instanceof LivingEntity target)) {
@@ -95,21 +72,18 @@ public class SpellSpectralArrow extends Spell implements Tickable {
             return;
         }
         
-        Location origin = activeArrows.getOrDefault(arrow, attacker.getLocation());
+        Location origin = findTrail(arrow).map(trail -> trail.lastPos).orElse(attacker.getLocation());
         double distance = origin.distance(target.getLocation());
         
-        // Correctly use the safe getStat method with the distance context
-        StatContext distanceContext = StatContext.of(spellLevel, distance);
-        double damage = getStat("damage", distanceContext, 1);
+        double damage = damageStat.calculate(spellLevel, distance);
 
         damage(target, new CustomDamageTick(damage, EntityDamageEvent.DamageCause.PROJECTILE, getKey(), Instant.now(), attacker, distance));
         getWizard(attacker).ifPresent(wizard -> wizard.addAccuracy(true));
-        activeArrows.remove(arrow);
     }
 
     @EventHandler
     public void onProjectileHit(ProjectileHitEvent event) {
-        if (event.getEntity() instanceof Arrow arrow && activeArrows.containsKey(arrow)) {
+        if (event.getEntity() instanceof Arrow arrow && findTrail(arrow).isPresent()) {
             arrow.remove();
             
             // The instanceof pattern creates the 'shooter' variable
@@ -117,15 +91,44 @@ public class SpellSpectralArrow extends Spell implements Tickable {
                 // We use the new 'shooter' variable directly, no cast needed
                 getWizard(shooter).ifPresent(wizard -> wizard.addAccuracy(false));
             }
-            activeArrows.remove(arrow);
         }
     }
 
-    @Override
-    public void cleanup() {
-        activeArrows.keySet().forEach(arrow -> {
+    private Optional<ArrowTrail> findTrail(Arrow arrow) {
+        return findEffect(ArrowTrail.class, trail -> trail.arrow.equals(arrow));
+    }
+
+    /** Draws the particle trail behind a live arrow; removed arrows drop out on their next tick. */
+    private static class ArrowTrail implements SpellEffect {
+        final Arrow arrow;
+        Location lastPos;
+
+        ArrowTrail(Arrow arrow) {
+            this.arrow = arrow;
+            this.lastPos = arrow.getLocation();
+        }
+
+        @Override
+        public boolean tick(long gameTick) {
+            if (!arrow.isValid() || arrow.isOnGround()) {
+                return true;
+            }
+
+            // Draw a trail from the arrow's last known position to its current one
+            Location currentPos = arrow.getLocation();
+            Vector travel = currentPos.toVector().subtract(lastPos.toVector());
+
+            for (double d = 0; d < travel.length(); d += 0.5) {
+                Vector offset = travel.clone().normalize().multiply(d);
+                arrow.getWorld().spawnParticle(Particle.FIREWORKS_SPARK, lastPos.clone().add(offset), 1, 0, 0, 0, 0);
+            }
+            lastPos = currentPos;
+            return false;
+        }
+
+        @Override
+        public void cancel() {
             if (arrow.isValid()) arrow.remove();
-        });
-        activeArrows.clear();
+        }
     }
-}
\ No newline at end of file
+}
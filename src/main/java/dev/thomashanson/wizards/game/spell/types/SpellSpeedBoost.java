@@ -1,8 +1,5 @@
 package dev.thomashanson.wizards.game.spell.types;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -13,23 +10,27 @@ import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 
-public class SpellSpeedBoost extends Spell implements Tickable {
+public class SpellSpeedBoost extends Spell {
 
-    private final List<SpeedInstance> activeBoosts = new ArrayList<>();
+    private final SpellStat durationSecondsStat;
+    private final SpellStat speedAmplifierStat;
 
     public SpellSpeedBoost(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.durationSecondsStat = resolveStat("duration-seconds", 0.0);
+        this.speedAmplifierStat = resolveStat("speed-amplifier", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         StatContext context = StatContext.of(level);
-        int durationTicks = (int) (getStat("duration-seconds", level) * 20);
-        int amplifier = (int) getStat("speed-amplifier", level) - 1; // Potion effects are 0-indexed
+        int durationTicks = (int) (durationSecondsStat.calculate(level) * 20);
+        int amplifier = (int) speedAmplifierStat.calculate(level) - 1; // Potion effects are 0-indexed
 
         if (durationTicks <= 0) {
             return false;
@@ -49,27 +50,15 @@ public class SpellSpeedBoost extends Spell implements Tickable {
         player.getWorld().spawnParticle(Particle.CLOUD, loc, 15, 0.5, 0.2, 0.5, 0.01);
         
         // 4. Register the persistent effect instance
-        activeBoosts.add(new SpeedInstance(player, durationTicks));
+        startEffect(new SpeedInstance(player, durationTicks));
         
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeBoosts.isEmpty()) return;
-        // Tick all active boosts and remove them if they are finished
-        activeBoosts.removeIf(SpeedInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeBoosts.clear();
-    }
-
     /**
      * Manages the persistent visual effects for an active speed boost.
      */
-    private static class SpeedInstance {
+    private static class SpeedInstance implements SpellEffect {
         final Player player;
         final int durationTicks;
         int ticksLived = 0;
@@ -83,7 +72,8 @@ public class SpellSpeedBoost extends Spell implements Tickable {
          * Ticks the effect.
          * @return true if the effect is finished and should be removed.
          */
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             // Stop if the player logs off or the duration ends
             if (!player.isOnline() || ticksLived > durationTicks) {
@@ -1,8 +1,5 @@
 package dev.thomashanson.wizards.game.spell.types;
 
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -17,39 +14,41 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.event.CustomDamageEvent;
-import dev.thomashanson.wizards.game.Tickable;
+import dev.thomashanson.wizards.game.Wizard;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 
-public class SpellSpite extends Spell implements Tickable {
+public class SpellSpite extends Spell {
 
-    private final List<SpiteInstance> activeAuras = new ArrayList<>();
-    private final List<DebuffedPlayer> debuffedPlayers = new ArrayList<>();
+    private final SpellStat debuffDurationSecondsStat;
+    private final SpellStat extraManaCostStat;
+    private final SpellStat auraDurationSecondsStat;
+    private final SpellStat particleCountStat;
+    private final SpellStat auraRadiusStat;
 
     public SpellSpite(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.debuffDurationSecondsStat = resolveStat("debuff-duration-seconds", 60.0);
+        this.extraManaCostStat = resolveStat("extra-mana-cost", 8.0);
+        this.auraDurationSecondsStat = resolveStat("aura-duration-seconds", 3.0);
+        this.particleCountStat = resolveStat("particle-count", 5.0);
+        this.auraRadiusStat = resolveStat("aura-radius", 0.8);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        if (activeAuras.stream().anyMatch(aura -> aura.caster.getUniqueId().equals(player.getUniqueId()))) {
+        if (findEffect(SpiteInstance.class, player.getUniqueId()).isPresent()) {
             return false;
         }
-        activeAuras.add(new SpiteInstance(this, player, level));
+        startEffect(new SpiteInstance(this, player, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        activeAuras.removeIf(SpiteInstance::tick);
-        debuffedPlayers.removeIf(DebuffedPlayer::isExpired);
-    }
-    
     public double getManaCostModifier(Player player) {
-        return debuffedPlayers.stream()
-                .filter(debuff -> debuff.playerUUID.equals(player.getUniqueId()))
-                .mapToDouble(DebuffedPlayer::getExtraCost)
-                .sum();
+        if (player == null) return 0;
+        return getWizard(player).map(Wizard::getSpiteManaCost).orElse(0.0);
     }
 
     @EventHandler
@@ -59,16 +58,15 @@ public class SpellSpite extends Spell implements Tickable {
         Player attacker = tick.getPlayer();
         if (attacker == null || attacker.equals(victim)) return;
 
-        activeAuras.stream()
-            .filter(aura -> aura.caster.getUniqueId().equals(victim.getUniqueId()))
-            .findFirst()
+        findEffect(SpiteInstance.class, aura -> !aura.remove && aura.caster.getUniqueId().equals(victim.getUniqueId()))
             .ifPresent(aura -> {
                 aura.markForRemoval();
                 
-                long debuffMillis = (long) (getStat("debuff-duration-seconds", aura.level, 60.0) * 1000L);
-                double extraCost = getStat("extra-mana-cost", aura.level, 8.0);
+                long debuffMillis = (long) (debuffDurationSecondsStat.calculate(aura.level) * 1000L);
+                double extraCost = extraManaCostStat.calculate(aura.level);
 
-                debuffedPlayers.add(new DebuffedPlayer(attacker.getUniqueId(), Instant.now().plusMillis(debuffMillis), extraCost));
+                // The debuff lives on the attacker's wizard and is lifted by the game's timing wheel
+                getWizard(attacker).ifPresent(wizard -> wizard.addSpiteDebuff(extraCost, debuffMillis / 50L));
                 
                 attacker.sendMessage(languageManager.getTranslated(attacker, "wizards.spell.spite.applied.damager.mana_cost",
                     Placeholder.unparsed("cost", String.valueOf((int)extraCost)),
@@ -81,17 +79,11 @@ public class SpellSpite extends Spell implements Tickable {
             });
     }
 
-    @Override
-    public void cleanup() {
-        activeAuras.clear();
-        debuffedPlayers.clear();
-    }
-    
-    private static class SpiteInstance {
+    private static class SpiteInstance implements SpellEffect {
         final SpellSpite parent;
         final Player caster;
         final int level;
-        final Instant expiry;
+        final long expiryTick;
         
         final int particleCount;
         final double auraRadius;
@@ -103,17 +95,18 @@ public class SpellSpite extends Spell implements Tickable {
             this.caster = caster;
             this.level = level;
 
-            long durationMillis = (long) (parent.getStat("aura-duration-seconds", level, 3.0) * 1000L);
-            this.expiry = Instant.now().plusMillis(durationMillis);
+            long durationTicks = (long) (parent.auraDurationSecondsStat.calculate(level) * 20L);
+            this.expiryTick = parent.plugin.getGameManager().getGameTick() + durationTicks;
             
-            this.particleCount = (int) parent.getStat("particle-count", level, 5.0);
-            this.auraRadius = parent.getStat("aura-radius", level, 0.8);
+            this.particleCount = (int) parent.particleCountStat.calculate(level);
+            this.auraRadius = parent.auraRadiusStat.calculate(level);
             
             caster.getWorld().playSound(caster.getLocation(), Sound.ENTITY_ENDER_DRAGON_FLAP, 0.7F, 0.5F);
         }
 
-        boolean tick() {
-            if (remove || !caster.isOnline() || Instant.now().isAfter(expiry)) {
+        @Override
+        public boolean tick(long gameTick) {
+            if (remove || !caster.isOnline() || gameTick > expiryTick) {
                 return true;
             }
             renderParticles();
@@ -131,11 +124,11 @@ public class SpellSpite extends Spell implements Tickable {
             }
         }
         
-        void markForRemoval() { this.remove = true; }
-    }
+        @Override
+        public UUID getOwner() {
+            return caster.getUniqueId();
+        }
 
-    private record DebuffedPlayer(UUID playerUUID, Instant expiry, double extraCost) {
-        boolean isExpired() { return Instant.now().isAfter(expiry); }
-        double getExtraCost() { return isExpired() ? 0 : extraCost; }
+        void markForRemoval() { this.remove = true; }
     }
-}
\ No newline at end of file
+}
@@ -18,11 +18,43 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 
 public class SpellSplash extends Spell {
 
+    private final SpellStat fireResistanceTicksStat;
+    private final SpellStat pDropCountStat;
+    private final SpellStat pDropSpreadStat;
+    private final SpellStat pDropSpeedStat;
+    private final SpellStat pFallCountStat;
+    private final SpellStat pFallSpreadStat;
+    private final SpellStat pFallSpeedStat;
+    private final SpellStat pSplashCountStat;
+    private final SpellStat pSplashSpreadXzStat;
+    private final SpellStat pSplashSpreadYStat;
+    private final SpellStat pSplashSpeedStat;
+    private final SpellStat radiusStat;
+    private final SpellStat knockbackStrengthStat;
+    private final SpellStat knockbackYLiftStat;
+    private final SpellStat damageStat;
+
     public SpellSplash(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.fireResistanceTicksStat = resolveStat("fire-resistance-ticks", 100.0);
+        this.pDropCountStat = resolveStat("p-drop-count", 250.0);
+        this.pDropSpreadStat = resolveStat("p-drop-spread", 2.0);
+        this.pDropSpeedStat = resolveStat("p-drop-speed", 0.01);
+        this.pFallCountStat = resolveStat("p-fall-count", 70.0);
+        this.pFallSpreadStat = resolveStat("p-fall-spread", 2.2);
+        this.pFallSpeedStat = resolveStat("p-fall-speed", 0.05);
+        this.pSplashCountStat = resolveStat("p-splash-count", 120.0);
+        this.pSplashSpreadXzStat = resolveStat("p-splash-spread-xz", 1.5);
+        this.pSplashSpreadYStat = resolveStat("p-splash-spread-y", 0.8);
+        this.pSplashSpeedStat = resolveStat("p-splash-speed", 0.25);
+        this.radiusStat = resolveStat("radius", 5.0);
+        this.knockbackStrengthStat = resolveStat("knockback-strength", 4.0);
+        this.knockbackYLiftStat = resolveStat("knockback-y-lift", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
     }
 
     @Override
@@ -39,7 +71,7 @@ public class SpellSplash extends Spell {
     }
 
     private void applyCasterEffects(Player player, int level) {
-        int fireResistanceTicks = (int) getStat("fire-resistance-ticks", level, 100.0);
+        int fireResistanceTicks = (int) fireResistanceTicksStat.calculate(level);
         player.setFireTicks(0);
         player.addPotionEffect(new PotionEffect(PotionEffectType.FIRE_RESISTANCE, fireResistanceTicks, 0, false, false, true));
     }
@@ -52,15 +84,15 @@ public class SpellSplash extends Spell {
     private void spawnParticles(Location location, World world, int level) {
         Location origin = location.clone().add(0, 0.5, 0);
 
-        world.spawnParticle(Particle.WATER_DROP, origin, (int) getStat("p-drop-count", level, 250), getStat("p-drop-spread", level, 2.0), getStat("p-drop-spread", level, 2.0), getStat("p-drop-spread", level, 2.0), getStat("p-drop-speed", level, 0.01));
-        world.spawnParticle(Particle.FALLING_WATER, origin, (int) getStat("p-fall-count", level, 70), getStat("p-fall-spread", level, 2.2), getStat("p-fall-spread", level, 2.2), getStat("p-fall-spread", level, 2.2), getStat("p-fall-speed", level, 0.05));
-        world.spawnParticle(Particle.WATER_SPLASH, origin, (int) getStat("p-splash-count", level, 120), getStat("p-splash-spread-xz", level, 1.5), getStat("p-splash-spread-y", level, 0.8), getStat("p-splash-spread-xz", level, 1.5), getStat("p-splash-speed", level, 0.25));
+        world.spawnParticle(Particle.WATER_DROP, origin, (int) pDropCountStat.calculate(level), pDropSpreadStat.calculate(level), pDropSpreadStat.calculate(level), pDropSpreadStat.calculate(level), pDropSpeedStat.calculate(level));
+        world.spawnParticle(Particle.FALLING_WATER, origin, (int) pFallCountStat.calculate(level), pFallSpreadStat.calculate(level), pFallSpreadStat.calculate(level), pFallSpreadStat.calculate(level), pFallSpeedStat.calculate(level));
+        world.spawnParticle(Particle.WATER_SPLASH, origin, (int) pSplashCountStat.calculate(level), pSplashSpreadXzStat.calculate(level), pSplashSpreadYStat.calculate(level), pSplashSpreadXzStat.calculate(level), pSplashSpeedStat.calculate(level));
     }
 
     private void applyEntityEffects(Player player, Location castLocation, int level) {
-        double radius = getStat("radius", level, 5.0);
+        double radius = radiusStat.calculate(level);
 
-        for (LivingEntity target : player.getWorld().getNearbyLivingEntities(castLocation, radius)) {
+        for (LivingEntity target : getNearbyEntities(castLocation, radius)) {
             if (target.equals(player)) continue;
 
             double distance = castLocation.distance(target.getLocation());
@@ -68,14 +100,14 @@ public class SpellSplash extends Spell {
 
             double falloff = 1.0 - (distance / radius);
 
-            double knockbackStrength = getStat("knockback-strength", level, 4.0) * falloff;
+            double knockbackStrength = knockbackStrengthStat.calculate(level) * falloff;
             Vector direction = target.getLocation().toVector().subtract(castLocation.toVector()).normalize();
             if (direction.lengthSquared() < 0.01) direction = new Vector(0, 1, 0);
 
-            Vector velocity = direction.multiply(knockbackStrength).setY(getStat("knockback-y-lift", level));
+            Vector velocity = direction.multiply(knockbackStrength).setY(knockbackYLiftStat.calculate(level));
             target.setVelocity(velocity);
 
-            double damageAmount = getStat("damage", level) * falloff;
+            double damageAmount = damageStat.calculate(level) * falloff;
             if (damageAmount > 0.1) {
                 damage(target, new CustomDamageTick(damageAmount, EntityDamageEvent.DamageCause.CUSTOM, getKey(), Instant.now(), player, null));
             }
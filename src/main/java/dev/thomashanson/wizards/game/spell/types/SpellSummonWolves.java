@@ -1,8 +1,6 @@
 package dev.thomashanson.wizards.game.spell.types;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -15,7 +13,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Wolf;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityTargetLivingEntityEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -25,29 +22,39 @@ import org.jetbrains.annotations.NotNull;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.MonsterDamageTick;
 import dev.thomashanson.wizards.event.CustomDamageEvent;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.mode.GameTeam;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.util.effects.ParticleConfig;
 import dev.thomashanson.wizards.util.effects.ParticleUtil;
 
-public class SpellSummonWolves extends Spell implements Tickable {
-
-    private final List<SummonedWolf> activeWolves = new ArrayList<>();
+public class SpellSummonWolves extends Spell {
 
     // Particle config for the summoning circle
     private static final ParticleConfig RITUAL_PARTICLE = new ParticleConfig(
             Particle.SOUL, 1, 0.1, 0, 0, 0, null
     );
 
+    private final SpellStat wolfCountStat;
+    private final SpellStat durationStat;
+    private final SpellStat wolfHealthStat;
+    private final SpellStat wolfSpeedStat;
+    private final SpellStat damageModifierStat;
+
     public SpellSummonWolves(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.wolfCountStat = resolveStat("wolf-count", 3.0);
+        this.durationStat = resolveStat("duration", 30.0);
+        this.wolfHealthStat = resolveStat("wolf-health", 2.0);
+        this.wolfSpeedStat = resolveStat("wolf-speed", 1.0);
+        this.damageModifierStat = resolveStat("damage-modifier", 0.3);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        int wolfCount = (int) getStat("wolf-count", level, 3.0);
-        long durationMillis = (long) (getStat("duration", level, 30.0) * 1000L);
+        int wolfCount = (int) wolfCountStat.calculate(level);
+        long durationMillis = (long) (durationStat.calculate(level) * 1000L);
 
         for (int i = 0; i < wolfCount; i++) {
             Location spawnLoc = player.getLocation().add(
@@ -75,41 +82,22 @@ public class SpellSummonWolves extends Spell implements Tickable {
         wolf.setBreed(false);
 
         AttributeInstance healthAttr = Objects.requireNonNull(wolf.getAttribute(Attribute.GENERIC_MAX_HEALTH));
-        healthAttr.setBaseValue(getStat("wolf-health", level, 2.0));
+        healthAttr.setBaseValue(wolfHealthStat.calculate(level));
         wolf.setHealth(healthAttr.getBaseValue());
 
-        int speedAmplifier = (int) getStat("wolf-speed", level, 1.0) - 1;
-        int durationTicks = (int) (getStat("duration", level, 30.0) * 20);
+        int speedAmplifier = (int) wolfSpeedStat.calculate(level) - 1;
+        int durationTicks = (int) (durationStat.calculate(level) * 20);
         if (speedAmplifier >= 0) {
             wolf.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, durationTicks, speedAmplifier));
         }
     }
 
-    @Override
-    public void tick(long gameTick) {
-        activeWolves.removeIf(summon -> {
-            if (!summon.wolf.isValid() || Instant.now().isAfter(summon.expiry)) {
-                if (summon.wolf.isValid()) summon.wolf.remove();
-                return true;
-            }
-            return false;
-        });
-    }
-
-    @Override
-    public void cleanup() {
-        activeWolves.forEach(summon -> {
-            if (summon.wolf.isValid()) summon.wolf.remove();
-        });
-        activeWolves.clear();
-    }
-
     @EventHandler
     public void onDamage(CustomDamageEvent event) {
         if (!(event.getDamageTick() instanceof MonsterDamageTick tick) || !(tick.getEntity() instanceof Wolf wolf)) return;
         
-        activeWolves.stream().filter(summon -> summon.wolf.equals(wolf)).findFirst().ifPresent(summon -> {
-            tick.addDamageModifier("Summoned Wolf", getStat("damage-modifier", 0, 0.3));
+        findEffect(SummonedWolf.class, summon -> summon.wolf.equals(wolf)).ifPresent(summon -> {
+            tick.addDamageModifier("Summoned Wolf", damageModifierStat.calculate(0));
             if (wolf.getOwner() instanceof Player owner) {
                 tick.setEntity(owner);
             }
@@ -128,14 +116,22 @@ public class SpellSummonWolves extends Spell implements Tickable {
         });
     }
 
-    @EventHandler
-    public void onDeath(EntityDeathEvent event) {
-        if (event.getEntity() instanceof Wolf) {
-            activeWolves.removeIf(summon -> summon.wolf.equals(event.getEntity()));
+    /** A dead wolf is no longer valid and drops out on its next tick. */
+    private record SummonedWolf(Wolf wolf, Instant expiry) implements SpellEffect {
+        @Override
+        public boolean tick(long gameTick) {
+            if (!wolf.isValid() || Instant.now().isAfter(expiry)) {
+                cancel();
+                return true;
+            }
+            return false;
         }
-    }
 
-    private record SummonedWolf(Wolf wolf, Instant expiry) {}
+        @Override
+        public void cancel() {
+            if (wolf.isValid()) wolf.remove();
+        }
+    }
 
     /**
      * Manages the staged summoning effect for a single wolf.
@@ -193,7 +189,7 @@ public class SpellSummonWolves extends Spell implements Tickable {
                 configureWolf(newWolf, owner, level)
             );
 
-            activeWolves.add(new SummonedWolf(wolf, Instant.now().plusMillis(durationMillis)));
+            startEffect(new SummonedWolf(wolf, Instant.now().plusMillis(durationMillis)));
         }
     }
 }
\ No newline at end of file
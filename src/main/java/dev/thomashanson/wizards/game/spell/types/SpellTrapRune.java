@@ -4,7 +4,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -23,26 +23,40 @@ import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.damage.types.CustomDamageTick;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.game.spell.StatContext;
 import dev.thomashanson.wizards.util.ExplosionUtil;
 import dev.thomashanson.wizards.util.MathUtil;
 import dev.thomashanson.wizards.util.effects.ParticleConfig;
 import dev.thomashanson.wizards.util.effects.ParticleUtil;
 
-public class SpellTrapRune extends Spell implements Tickable {
+public class SpellTrapRune extends Spell {
 
-    private final List<TrapRune> activeRunes = new ArrayList<>();
+    private final SpellStat rangeStat;
+    private final SpellStat maxRunesStat;
+    private final SpellStat runeSizeStat;
+    private final SpellStat armingTicksStat;
+    private final SpellStat lifespanTicksStat;
+    private final SpellStat damageStat;
+    private final SpellStat knockbackStrengthStat;
 
     public SpellTrapRune(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
+        this.rangeStat = resolveStat("range", 0.0);
+        this.maxRunesStat = resolveStat("max-runes", 0.0);
+        this.runeSizeStat = resolveStat("rune-size", 0.0);
+        this.armingTicksStat = resolveStat("arming-ticks", 0.0);
+        this.lifespanTicksStat = resolveStat("lifespan-ticks", 0.0);
+        this.damageStat = resolveStat("damage", 0.0);
+        this.knockbackStrengthStat = resolveStat("knockback-strength", 0.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
         StatContext context = StatContext.of(level);
-        int range = (int) getStat("range", level);
+        int range = (int) rangeStat.calculate(level);
         List<Block> targetBlocks = player.getLastTwoTargetBlocks(null, range);
 
         // We need two blocks: the one before the target (air) and the target (solid).
@@ -61,33 +75,21 @@ public class SpellTrapRune extends Spell implements Tickable {
         Location location = targetBlock.getRelative(hitFace).getLocation().add(0.5, 0.1, 0.5);
 
         // Enforce rune limit
-        int maxRunes = (int) getStat("max-runes", level);
-        List<TrapRune> playerRunes = activeRunes.stream()
-                .filter(rune -> rune.owner.equals(player))
-                .collect(Collectors.toList());
+        int maxRunes = (int) maxRunesStat.calculate(level);
+        List<TrapRune> playerRunes = new ArrayList<>();
+        forEachEffect(TrapRune.class, rune -> {
+            if (rune.owner.equals(player)) playerRunes.add(rune);
+        });
 
         if (playerRunes.size() >= maxRunes) {
-            playerRunes.get(0).cleanup();
-            activeRunes.remove(playerRunes.get(0));
+            cancelEffect(playerRunes.get(0));
         }
 
-        activeRunes.add(new TrapRune(this, player, location, level));
+        startEffect(new TrapRune(this, player, location, level));
         return true;
     }
 
-    @Override
-    public void tick(long gameTick) {
-        if (activeRunes.isEmpty()) return;
-        activeRunes.removeIf(TrapRune::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeRunes.forEach(TrapRune::cleanup);
-        activeRunes.clear();
-    }
-
-    private static class TrapRune {
+    private static class TrapRune implements SpellEffect {
         enum State { ARMING, ACTIVE }
 
         // Particle configuration for the rune visual
@@ -122,14 +124,15 @@ public class SpellTrapRune extends Spell implements Tickable {
             this.level = level;
 
             StatContext context = StatContext.of(level);
-            this.size = parent.getStat("rune-size", level);
-            this.armingTicks = (int) parent.getStat("arming-ticks", level);
-            this.lifespanTicks = (int) parent.getStat("lifespan-ticks", level);
-            this.damage = parent.getStat("damage", level);
-            this.knockback = parent.getStat("knockback-strength", level);
+            this.size = parent.runeSizeStat.calculate(level);
+            this.armingTicks = (int) parent.armingTicksStat.calculate(level);
+            this.lifespanTicks = (int) parent.lifespanTicksStat.calculate(level);
+            this.damage = parent.damageStat.calculate(level);
+            this.knockback = parent.knockbackStrengthStat.calculate(level);
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             ticksLived++;
             if (!owner.isOnline() || ticksLived > lifespanTicks) {
                 cleanup();
@@ -200,7 +203,7 @@ public class SpellTrapRune extends Spell implements Tickable {
 
 
             // --- 4. Damage & Knockback (New Decoupled Logic) ---
-            Collection<LivingEntity> targets = world.getNearbyLivingEntities(location, size);
+            Collection<LivingEntity> targets = parent.getNearbyEntities(location, size);
             for (LivingEntity target : targets) {
                 double distance = target.getLocation().distance(location);
 
@@ -240,6 +243,16 @@ public class SpellTrapRune extends Spell implements Tickable {
             ParticleUtil.drawParticleSquare(this.location, this.size, RUNE_PARTICLE_CONFIG);
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
+        @Override
+        public UUID getOwner() {
+            return owner.getUniqueId();
+        }
+
         void cleanup() {
             // Can add a fade-out particle effect here
         }
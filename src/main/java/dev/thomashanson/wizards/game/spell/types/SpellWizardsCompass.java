@@ -14,47 +14,44 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import dev.thomashanson.wizards.WizardsPlugin;
-import dev.thomashanson.wizards.game.Tickable;
 import dev.thomashanson.wizards.game.mode.GameTeam;
 import dev.thomashanson.wizards.game.spell.Spell;
+import dev.thomashanson.wizards.game.spell.SpellEffect;
+import dev.thomashanson.wizards.game.spell.SpellStat;
 import dev.thomashanson.wizards.hologram.Hologram;
 import dev.thomashanson.wizards.hologram.HologramManager;
 import dev.thomashanson.wizards.hologram.HologramProperties;
 
-public class SpellWizardsCompass extends Spell implements Tickable {
+public class SpellWizardsCompass extends Spell {
 
     private final WizardsPlugin plugin;
-    private final List<CompassInstance> activeCompasses = new ArrayList<>();
+    private final SpellStat particleSpeed;
+    private final SpellStat particleLifespanTicksStat;
 
     public SpellWizardsCompass(@NotNull WizardsPlugin plugin, @NotNull String key, @NotNull ConfigurationSection config) {
         super(plugin, key, config);
         this.plugin = plugin;
+        this.particleSpeed = resolveStat("particle-speed", 0.2);
+        this.particleLifespanTicksStat = resolveStat("particle-lifespan-ticks", 50.0);
     }
 
     @Override
     public boolean cast(Player player, int level) {
-        activeCompasses.add(new CompassInstance(this, player, level));
+        startEffect(new CompassInstance(this, player, level));
         player.playSound(player.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.5F, 1F);
         return true;
     }
 
     @Override
-    public void tick(long gameTick) {
-        if (activeCompasses.isEmpty()) return;
-        activeCompasses.removeIf(CompassInstance::tick);
-    }
-
-    @Override
-    public void cleanup() {
-        activeCompasses.forEach(CompassInstance::cleanup);
-        activeCompasses.clear();
+    public boolean isDeferrable() {
+        return true; // Purely cosmetic particle strands, safe to push back a tick under load
     }
 
     public WizardsPlugin getPlugin() {
         return this.plugin;
     }
 
-    private static class CompassInstance {
+    private static class CompassInstance implements SpellEffect {
         final SpellWizardsCompass parent;
         final Player caster;
         final int level;
@@ -66,7 +63,7 @@ public class SpellWizardsCompass extends Spell implements Tickable {
             this.parent = parent;
             this.caster = caster;
             this.level = level;
-            this.particleLifespan = (int) parent.getStat("particle-lifespan-ticks", level, 50.0);
+            this.particleLifespan = (int) parent.particleLifespanTicksStat.calculate(level);
             initializeStrands();
         }
 
@@ -83,7 +80,8 @@ public class SpellWizardsCompass extends Spell implements Tickable {
                 }));
         }
 
-        boolean tick() {
+        @Override
+        public boolean tick(long gameTick) {
             if (!caster.isOnline() || strands.isEmpty()) {
                 cleanup(); // Ensure holograms are cleaned up if caster logs off
                 return true;
@@ -99,6 +97,11 @@ public class SpellWizardsCompass extends Spell implements Tickable {
             return strands.isEmpty();
         }
 
+        @Override
+        public void cancel() {
+            cleanup();
+        }
+
         void cleanup() {
             strands.forEach(ParticleStrand::cleanup);
         }
@@ -110,6 +113,8 @@ public class SpellWizardsCompass extends Spell implements Tickable {
         final Player target;
         final Color color;
         final int level;
+        /** Read once; the head advances by this much every tick. */
+        final double speed;
         final List<ParticlePoint> points = new ArrayList<>();
         boolean done = false;
 
@@ -131,6 +136,7 @@ public class SpellWizardsCompass extends Spell implements Tickable {
             this.target = target;
             this.color = color;
             this.level = level;
+            this.speed = parent.particleSpeed.calculate(level);
 
             // Start the particle strand at the caster's eyes.
             this.currentHeadLocation = caster.getEyeLocation().clone();
@@ -181,7 +187,6 @@ public class SpellWizardsCompass extends Spell implements Tickable {
             // 3. Logic for the "head" of the strand
             if (!reachedTarget) {
                 
-                double speed = parent.getStat("particle-speed", level, 0.2);
                 double targetDistance = caster.getEyeLocation().distance(target.getEyeLocation());
 
                 // 4. Check if we've arrived at the target
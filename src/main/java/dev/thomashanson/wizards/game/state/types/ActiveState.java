@@ -44,6 +44,9 @@ public class ActiveState extends GameState implements Listener {
 
         AtomicInteger atomicInteger = new AtomicInteger();
         game.getGameManager().startGameLoop();
+
+        // Copy the next game's map in the background while this one is played
+        plugin.getMapManager().prepareNextMap(game.getGameManager().getNextGameMode());
     }
 
     @Override
@@ -4,7 +4,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -119,15 +118,15 @@ public class LobbyState extends GameState {
                 newGame.setCurrentMode(gameManager.getNextGameMode());
 
                 // Select a new random map from the manager
-                List<LocalGameMap> maps = plugin.getMapManager().getAllMaps(newGame.getCurrentMode());
+                // Usually staged in the background during the previous game
+                LocalGameMap randomMap = plugin.getMapManager().chooseNextMap(newGame.getCurrentMode());
 
-                if (maps.isEmpty()) {
+                if (randomMap == null) {
                     Bukkit.getLogger().severe(String.format("No maps found for mode %s! Aborting game start.", newGame.getCurrentMode()));
                     gameManager.setActiveGame(null); // Abort
                     return;
                 }
 
-                LocalGameMap randomMap = maps.get(ThreadLocalRandom.current().nextInt(maps.size()));
                 plugin.getMapManager().setActiveMap(randomMap);
 
                 // Verify that the map actually loaded before continuing
@@ -137,9 +136,12 @@ public class LobbyState extends GameState {
                     return;
                 }
 
+                // Index the chests now; each is filled when first opened, never up front
+                newGame.getLootManager().indexChests(randomMap, newGame.getCurrentMode(), newGame.getSeed());
+
                 newGame.getTeamManager().setupTeams();
                 plugin.getServer().getPluginManager().registerEvents(newGame, plugin);
-                Bukkit.getLogger().info(String.format("New game instance created. Map is '%s'.", randomMap.getName()));
+                Bukkit.getLogger().info(String.format("New game instance created. Map is '%s', seed %d.", randomMap.getName(), newGame.getSeed()));
             }
 
             if (!gameManager.canStart()) {
@@ -15,7 +15,6 @@ import org.bukkit.scheduler.BukkitTask;
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.game.Wizards;
 import dev.thomashanson.wizards.game.kit.WizardsKit;
-import dev.thomashanson.wizards.game.loot.LootManager;
 import dev.thomashanson.wizards.game.manager.LanguageManager;
 import dev.thomashanson.wizards.game.mode.WizardsMode;
 import dev.thomashanson.wizards.game.state.GameState;
@@ -60,8 +59,7 @@ public class PrepareState extends GameState {
         // Randomly assign teams
         game.getTeamManager().assignTeams(game.getPlayers(true));
 
-        LootManager lootManager = game.getLootManager();
-        lootManager.populateMapWithLoot(game.getActiveMap(), mode);
+        // Chests were indexed and spawned in the lobby, and fill themselves on first open
 
         this.actionBarTask = new BukkitRunnable() {
             @Override
@@ -44,7 +44,8 @@ public class ResetState extends GameState {
         // 3. Call the new, centralized reset method in your Wizards game class
         game.reset();
 
-        // 4. Unload the map after the game is fully reset
+        // 4. Let go of the arena's chunks, then unload the map after the game is fully reset
+        plugin.getMapManager().getChunkPreloader().release();
         if (gameMap != null && gameMap.isLoaded()) {
             gameMap.unload();
         }
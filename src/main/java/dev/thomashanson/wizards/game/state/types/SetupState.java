@@ -2,7 +2,6 @@ package dev.thomashanson.wizards.game.state.types;
 
 import java.io.File;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -37,25 +36,18 @@ public class SetupState extends GameState implements Listener {
             gameMapsFolder.mkdirs();
         }
 
-        File[] directories = gameMapsFolder.listFiles(File::isDirectory);
-        if (directories == null || directories.length == 0) {
+        if (plugin.getMapManager().loadMaps(gameMapsFolder) == 0) {
             plugin.getLogger().severe(String.format("Could not locate any game maps within '%s'!", gameMapsFolder.getAbsolutePath()));
             return;
         }
         
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
 
-        for (File mapFile : directories) {
-            plugin.getMapManager().addMap(new LocalGameMap(plugin, gameMapsFolder, mapFile.getName()));
-        }
-
-        List<LocalGameMap> modeSpecificMaps = plugin.getMapManager().getAllMaps(wizardsMode);
-        if (modeSpecificMaps.isEmpty()) {
+        LocalGameMap randomMap = plugin.getMapManager().chooseNextMap(wizardsMode);
+        if (randomMap == null) {
             plugin.getLogger().severe(String.format("No maps found for the configured game mode '%s'.", wizardsMode.name()));
             return;
         }
-
-        LocalGameMap randomMap = modeSpecificMaps.get(ThreadLocalRandom.current().nextInt(modeSpecificMaps.size()));
         
         if (randomMap.load()) {
             plugin.getMapManager().setActiveMap(randomMap);
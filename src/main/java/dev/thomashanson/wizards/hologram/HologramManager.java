@@ -30,6 +30,8 @@ import com.comphenix.protocol.wrappers.WrappedChatComponent;
 import com.comphenix.protocol.wrappers.WrappedDataValue;
 import com.comphenix.protocol.wrappers.WrappedDataWatcher;
 
+import dev.thomashanson.wizards.game.scheduler.TickStagger;
+
 import net.kyori.adventure.text.Component;
 
 /**
@@ -41,6 +43,7 @@ public final class HologramManager implements Listener {
 
     private final JavaPlugin plugin;
     private final ProtocolManager protocolManager;
+    private final TickStagger tickStagger;
 
     // Core data structures
     private final Map<Integer, Hologram> hologramsById = new ConcurrentHashMap<>();
@@ -48,11 +51,15 @@ public final class HologramManager implements Listener {
     private final Map<UUID, Set<Integer>> visibleHolograms = new ConcurrentHashMap<>(); // Player UUID -> Set of visible hologram entity IDs
 
     // Background tasks
+    private static final int PROXIMITY_CHECK_INTERVAL = 20; // Run once per second
+    private static final int ENTITY_TRACKING_INTERVAL = 2; // Run every 2 ticks
+
     private BukkitTask proximityCheckTask;
     private BukkitTask entityTrackingTask;
 
-    public HologramManager(@NotNull JavaPlugin plugin) {
+    public HologramManager(@NotNull JavaPlugin plugin, @NotNull TickStagger tickStagger) {
         this.plugin = plugin;
+        this.tickStagger = tickStagger;
         this.protocolManager = ProtocolLibrary.getProtocolManager();
     }
 
@@ -63,13 +70,21 @@ public final class HologramManager implements Listener {
     public void initialize() {
         Bukkit.getPluginManager().registerEvents(this, plugin);
 
+        // Both tasks are started on a staggered offset so they land on the least busy
+        // ticks instead of lining up with each other and the game loop's periodic jobs.
+
         // This task periodically checks which players should see which public holograms.
         // It runs less frequently as it's less critical than smooth entity tracking.
-        this.proximityCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, this::runProximityCheck, 20L, 20L); // Run once per second
+        this.proximityCheckTask = runStaggered(this::runProximityCheck, PROXIMITY_CHECK_INTERVAL);
 
         // This task updates the position of holograms attached to entities.
         // It runs frequently to ensure smooth movement.
-        this.entityTrackingTask = Bukkit.getScheduler().runTaskTimer(plugin, this::runEntityTracking, 2L, 2L); // Run every 2 ticks
+        this.entityTrackingTask = runStaggered(this::runEntityTracking, ENTITY_TRACKING_INTERVAL);
+    }
+
+    private BukkitTask runStaggered(Runnable task, int interval) {
+        int offset = tickStagger.reserve(interval);
+        return Bukkit.getScheduler().runTaskTimer(plugin, task, tickStagger.getInitialDelay(interval, offset), interval);
     }
 
     /**
@@ -0,0 +1,193 @@
+package dev.thomashanson.wizards.map;
+
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.BoundingBox;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.scheduler.TickTimings;
+
+/**
+ * Loads every chunk inside the active map's bounds ahead of the game and keeps them loaded
+ * until it ends.
+ * <p>
+ * Loading starts as soon as a map becomes active, which is when the lobby countdown begins.
+ * Chunks are requested asynchronously, at most {@code maps.preload.chunks-per-tick} per tick
+ * and never more than {@code maps.preload.max-in-flight} at once. So the countdown absorbs the
+ * load instead of the tick everyone is teleported in. Each loaded chunk gets a plugin chunk
+ * ticket, so disasters, loot and players reaching a far corner never load a chunk mid-game.
+ * The tickets are released when the game is reset or another map becomes active.
+ * <p>
+ * Chunks that were never generated are left alone rather than generated.
+ * <p>
+ * Only used from the main thread; Paper completes async chunk loads there too.
+ */
+public final class ChunkPreloader {
+
+    private final WizardsPlugin plugin;
+    private final int chunksPerTick;
+    private final int maxInFlight;
+
+    /** How long each chunk took from being requested to being loaded. */
+    private final TickTimings loadTimings = new TickTimings();
+
+    private World world;
+    private BukkitTask task;
+
+    /** Bumped on every start and release, so loads finishing late for an old map are ignored. */
+    private int generation;
+
+    private int minChunkX, minChunkZ, chunksWide, totalChunks;
+    private int nextChunk, inFlight, loadedChunks, skippedChunks;
+    private long startNanos, elapsedNanos;
+
+    /**
+     * @param plugin The main plugin instance.
+     */
+    public ChunkPreloader(WizardsPlugin plugin) {
+        this.plugin = plugin;
+        this.chunksPerTick = Math.max(1, plugin.getConfig().getInt("maps.preload.chunks-per-tick", 8));
+        this.maxInFlight = Math.max(1, plugin.getConfig().getInt("maps.preload.max-in-flight", 32));
+    }
+
+    /**
+     * Starts loading every chunk inside a map's bounds, releasing anything held for the
+     * previous map first.
+     *
+     * @param map The map that has just been loaded.
+     */
+    public void start(LocalGameMap map) {
+        release();
+
+        World mapWorld = map.getWorld();
+        if (mapWorld == null) return;
+
+        BoundingBox bounds = map.getBounds();
+        this.world = mapWorld;
+        this.minChunkX = (int) Math.floor(bounds.getMinX()) >> 4;
+        this.minChunkZ = (int) Math.floor(bounds.getMinZ()) >> 4;
+        this.chunksWide = ((int) Math.floor(bounds.getMaxX()) >> 4) - minChunkX + 1;
+        int chunksLong = ((int) Math.floor(bounds.getMaxZ()) >> 4) - minChunkZ + 1;
+        this.totalChunks = chunksWide * chunksLong;
+
+        this.nextChunk = 0;
+        this.inFlight = 0;
+        this.loadedChunks = 0;
+        this.skippedChunks = 0;
+        this.startNanos = System.nanoTime();
+        this.elapsedNanos = -1;
+
+        plugin.getLogger().info(String.format("Preloading %d chunks of map '%s'.", totalChunks, map.getName()));
+
+        int started = generation;
+        this.task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                requestChunks(started);
+
+                if (nextChunk >= totalChunks) {
+                    // Everything is requested; the last loads finish on their own
+                    cancel();
+                    task = null;
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Stops preloading and releases every chunk ticket held for the map.
+     * Safe to call when nothing is held.
+     */
+    public void release() {
+        generation++;
+
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        if (world != null) {
+            // Unloading the world has already dropped its tickets
+            if (Bukkit.getWorld(world.getUID()) != null) {
+                world.removePluginChunkTickets(plugin);
+            }
+            world = null;
+        }
+        inFlight = 0;
+    }
+
+    private void requestChunks(int started) {
+        int requested = 0;
+
+        while (requested < chunksPerTick && inFlight < maxInFlight && nextChunk < totalChunks) {
+            int chunkX = minChunkX + nextChunk % chunksWide;
+            int chunkZ = minChunkZ + nextChunk / chunksWide;
+            nextChunk++;
+            requested++;
+            inFlight++;
+
+            long requestedAt = System.nanoTime();
+            world.getChunkAtAsync(chunkX, chunkZ, false).whenComplete((chunk, error) -> {
+                if (started != generation) return; // Released in the meantime
+
+                inFlight--;
+                if (error != null) {
+                    skippedChunks++;
+                    plugin.getLogger().log(Level.WARNING, String.format("Failed to preload chunk %d, %d.", chunkX, chunkZ), error);
+                } else {
+                    onLoaded(chunk, System.nanoTime() - requestedAt);
+                }
+            });
+        }
+    }
+
+    private void onLoaded(Chunk chunk, long nanos) {
+        if (chunk == null) {
+            skippedChunks++; // Never generated
+        } else {
+            chunk.addPluginChunkTicket(plugin);
+            loadedChunks++;
+            loadTimings.record(nanos);
+        }
+
+        if (loadedChunks + skippedChunks == totalChunks) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            plugin.getLogger().info(String.format("Preloaded %d chunks (%d not generated) in %dms.",
+                    loadedChunks, skippedChunks, elapsedNanos / 1_000_000));
+        }
+    }
+
+    /** @return How long each chunk took from being requested to being loaded. */
+    public TickTimings getLoadTimings() { return loadTimings; }
+
+    public int getTotalChunks() { return totalChunks; }
+
+    /** @return The chunks loaded and held so far. */
+    public int getLoadedChunks() { return loadedChunks; }
+
+    /** @return The chunks that were never generated or failed to load. */
+    public int getSkippedChunks() { return skippedChunks; }
+
+    /** @return Whether every chunk of the current map has been dealt with. */
+    public boolean isDone() {
+        return world != null && loadedChunks + skippedChunks == totalChunks;
+    }
+
+    /** @return Whether chunk tickets are currently held. */
+    public boolean isHolding() {
+        return world != null;
+    }
+
+    /**
+     * @return How long the whole map took to preload, or how long it has been going so far.
+     */
+    public long getElapsedNanos() {
+        if (world == null) return Math.max(0, elapsedNanos);
+        return elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+    }
+}
@@ -3,10 +3,10 @@ package dev.thomashanson.wizards.map;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
@@ -20,6 +20,7 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 import dev.thomashanson.wizards.game.mode.WizardsMode;
@@ -35,61 +36,113 @@ import dev.thomashanson.wizards.util.LocationUtil;
 public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
 
     // Prevent typos by using constants for YAML keys
-    private static final String KEY_CORE = "core";
     private static final String KEY_LOCATIONS = "locations";
-    private static final String KEY_NAME = "name";
-    private static final String KEY_AUTHORS = "authors";
-    private static final String KEY_MODES = "modes";
-    private static final String KEY_MIN = "min";
-    private static final String KEY_MAX = "max";
     private static final String KEY_SPAWNS = "spawns";
     private static final String KEY_SPECTATOR = "spectator";
 
+    /** How often, at most, the data file's modification time is checked. */
+    private static final long MODIFIED_CHECK_INTERVAL_MILLIS = 1000;
+
+    /** Files never copied from a source world: a copy must get its own UID and must not inherit a lock. */
+    private static final Set<String> SKIPPED_WORLD_FILES = Set.of("uid.dat", "session.lock");
+
+    /** Keeps copy folder names unique when two copies are made in the same millisecond. */
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
     private final WizardsPlugin plugin;
     private final File srcWorldFolder;
-    private final YamlConfiguration dataFile;
-    private final Set<WizardsMode> modes = new HashSet<>();
+    private final File dataYmlFile;
+
+    /** What the map catalog knows, used until {@code data.yml} is actually needed. */
+    @Nullable
+    private final MapCatalog.Entry catalogEntry;
+
+    private YamlConfiguration dataFile;
+    private long dataFileModified;
+    private volatile long nextModifiedCheck;
+    private volatile MapMetadata metadata;
 
     private World world;
     private File activeWorldFolder;
 
     public LocalGameMap(WizardsPlugin plugin, File worldFolder, String worldName) {
+        this(plugin, worldFolder, worldName, null);
+    }
+
+    /**
+     * Creates a map whose name, authors and modes come from the map catalog, so the map can
+     * be listed and picked without reading its {@code data.yml}. The file is only read once
+     * anything else is asked for, usually when the map is loaded.
+     *
+     * @param plugin       The main plugin instance.
+     * @param worldFolder  The folder holding the map folders.
+     * @param worldName    The name of this map's folder.
+     * @param catalogEntry The map's catalog entry, or {@code null} to read the file straight away.
+     */
+    public LocalGameMap(WizardsPlugin plugin, File worldFolder, String worldName, @Nullable MapCatalog.Entry catalogEntry) {
         this.plugin = plugin;
         this.srcWorldFolder = new File(worldFolder, worldName);
-        File dataYmlFile = new File(srcWorldFolder, "data.yml");
+        this.dataYmlFile = new File(srcWorldFolder, "data.yml");
+        this.catalogEntry = catalogEntry;
 
         if (!dataYmlFile.exists()) {
             plugin.getLogger().severe("Map data file not found for '" + worldName + "' at: " + dataYmlFile.getAbsolutePath());
-            this.dataFile = new YamlConfiguration(); // Create empty config to prevent NPEs
-            return;
         }
 
-        this.dataFile = YamlConfiguration.loadConfiguration(dataYmlFile);
-        parseModes();
+        if (catalogEntry == null) {
+            readDataFile();
+        }
     }
 
-    private void parseModes() {
-        String modesString = getCoreSection().getString(KEY_MODES);
-        if (modesString == null || modesString.isEmpty()) {
-            return;
+    /**
+     * Loads {@code data.yml} from disk and parses it. A missing file gives an empty config,
+     * so every accessor still has something to return.
+     */
+    private void readDataFile() {
+        this.dataFileModified = dataYmlFile.lastModified();
+        this.dataFile = dataYmlFile.exists() ? YamlConfiguration.loadConfiguration(dataYmlFile) : new YamlConfiguration();
+        this.metadata = MapMetadata.parse(dataFile, plugin.getLogger());
+    }
+
+    /**
+     * Gets the map's parsed {@code data.yml}.
+     * <p>
+     * The file is read on first use, and only read again if its modification time has
+     * changed since it was last read or saved, which is checked at most once a second.
+     *
+     * @return The map's metadata. Never modified; edits to the map replace it.
+     */
+    public MapMetadata getMetadata() {
+        MapMetadata current = metadata;
+        long now = System.currentTimeMillis();
+        if (current == null || now >= nextModifiedCheck) {
+            current = refreshIfModified(now);
         }
+        return current;
+    }
 
-        for (String mode : modesString.split(",")) {
-            try {
-                WizardsMode parsedMode = WizardsMode.valueOf(mode.trim().toUpperCase());
-                this.modes.add(parsedMode);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid mode '" + mode + "' in data.yml for map '" + getName() + "'.");
-            }
+    private synchronized MapMetadata refreshIfModified(long now) {
+        if (metadata == null) {
+            readDataFile();
+        }
+        if (now < nextModifiedCheck) return metadata;
+        nextModifiedCheck = now + MODIFIED_CHECK_INTERVAL_MILLIS;
+
+        if (dataYmlFile.lastModified() != dataFileModified) {
+            plugin.getLogger().info("Reloading changed data.yml for map '" + metadata.name() + "'.");
+            readDataFile();
         }
+        return metadata;
     }
 
     /**
      * Loads the map into a playable state.
      * <p>
-     * <b>Threading Note:</b> This method performs heavy file I/O and should be
-     * called from an asynchronous thread. It will handle dispatching Bukkit API
-     * calls back to the main server thread where required.
+     * A copy staged by the {@link MapInstancePool} is used when there is one, so only the
+     * world itself is created here. Otherwise the world is copied synchronously first.
+     * <p>
+     * <b>Threading Note:</b> This method calls the Bukkit API and must be called from the
+     * main server thread.
      *
      * @return {@code true} if the map was loaded successfully.
      */
@@ -99,20 +152,17 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
             return true;
         }
 
-        // --- ASYNC --- Heavy file I/O should not be on the main thread
-        this.activeWorldFolder = new File(
-            Bukkit.getWorldContainer().getParentFile(),
-            srcWorldFolder.getName() + "_active_" + System.currentTimeMillis()
-        );
+        MapInstancePool pool = plugin.getMapManager().getInstancePool();
+        this.activeWorldFolder = pool.acquire(this);
 
-        try {
-            // Updated to use Path-based FileUtil
-            FileUtil.copy(srcWorldFolder.toPath(), activeWorldFolder.toPath());
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to copy map files for '" + getName() + "'!", e);
-            return false;
+        if (activeWorldFolder == null) {
+            try {
+                this.activeWorldFolder = createInstance();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to copy map files for '" + getName() + "'!", e);
+                return false;
+            }
         }
-        // --- END ASYNC ---
 
         // --- SYNC --- Bukkit API calls must be on the main thread
         WorldCreator worldCreator = new WorldCreator(activeWorldFolder.getName());
@@ -121,11 +171,8 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
         if (world == null) {
             plugin.getLogger().severe("Failed to create Bukkit World for '" + getName() + "'.");
             // Cleanup the copied folder on failure
-            try {
-                FileUtil.delete(activeWorldFolder.toPath());
-            } catch (IOException e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to clean up active world folder after load failure!", e);
-            }
+            pool.release(activeWorldFolder);
+            this.activeWorldFolder = null;
             return false;
         }
 
@@ -134,6 +181,47 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
         return true;
     }
 
+    /**
+     * Copies the source world into a new, uniquely named folder ready to be loaded.
+     *
+     * @return The new folder.
+     * @throws IOException If the copy fails; anything partly copied is removed.
+     */
+    File createInstance() throws IOException {
+        File target = new File(getInstanceDirectory(),
+                srcWorldFolder.getName() + MapInstancePool.INSTANCE_MARKER + System.currentTimeMillis() + "_" + INSTANCE_COUNTER.incrementAndGet());
+
+        try {
+            // Each copy gets its own world UID, and a stale lock must never come along
+            FileUtil.copy(srcWorldFolder.toPath(), target.toPath(),
+                    path -> !SKIPPED_WORLD_FILES.contains(path.getFileName().toString()));
+            return target;
+
+        } catch (IOException e) {
+            try {
+                FileUtil.delete(target.toPath());
+            } catch (IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return The size in bytes of the source world, walked file by file.
+     * @throws IOException If the folder cannot be read.
+     */
+    long measureSource() throws IOException {
+        return FileUtil.size(srcWorldFolder.toPath());
+    }
+
+    /**
+     * @return The directory map copies are made in, which Bukkit loads worlds from by name.
+     */
+    static File getInstanceDirectory() {
+        return Bukkit.getWorldContainer().getAbsoluteFile().getParentFile();
+    }
+
     private void configureWorld() {
         world.setAutoSave(false);
         world.setDifficulty(Difficulty.NORMAL);
@@ -150,8 +238,8 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
     /**
      * Unloads the map, teleporting players out and deleting the temporary world files.
      * <p>
-     * <b>Threading Note:</b> This method dispatches file deletion to an async thread
-     * after handling player teleports on the main thread.
+     * <b>Threading Note:</b> This method hands the folder to the {@link MapInstancePool}
+     * to be deleted in the background after handling player teleports on the main thread.
      */
     @Override
     public void unload() {
@@ -176,12 +264,7 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
         // --- END SYNC ---
 
         // --- ASYNC --- Deleting files should be off the main thread
-        try {
-            // Updated to use Path-based FileUtil and handle IOException
-            FileUtil.delete(activeWorldFolder.toPath());
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to delete active world folder for " + getName(), e);
-        }
+        plugin.getMapManager().getInstancePool().release(activeWorldFolder);
         // --- END ASYNC ---
 
         this.world = null;
@@ -199,73 +282,73 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
     }
 
     public String getName() {
-        return getCoreSection().getString(KEY_NAME, "Unknown Map");
+        MapMetadata current = metadata;
+        return current == null && catalogEntry != null ? catalogEntry.name() : getMetadata().name();
     }
 
     public String getAuthors() {
-        return String.join(", ", getCoreSection().getStringList(KEY_AUTHORS));
+        MapMetadata current = metadata;
+        return String.join(", ", current == null && catalogEntry != null ? catalogEntry.authors() : getMetadata().authors());
     }
 
     public Set<WizardsMode> getModes() {
-        return modes;
+        MapMetadata current = metadata;
+        return current == null && catalogEntry != null ? catalogEntry.modes() : getMetadata().modes();
+    }
+
+    /**
+     * @return The name of this map's folder, which identifies it in the map catalog.
+     */
+    public String getFolderName() {
+        return srcWorldFolder.getName();
     }
 
     public Location getSpectatorLocation() {
-        String spectatorString = getLocations().getString(KEY_SPECTATOR);
-        // Updated to use new LocationUtil method name
-        return spectatorString != null ? LocationUtil.fromString(world, spectatorString) : world.getSpawnLocation();
+        Location spectator = getMetadata().spectator(world);
+        return spectator != null ? spectator : world.getSpawnLocation();
     }
 
-    public void setSpectatorLocation(Location location) {
+    public synchronized void setSpectatorLocation(Location location) {
         // Updated to use constant and new LocationUtil method name
         getLocations().set(KEY_SPECTATOR, LocationUtil.toString(location));
+        reparse();
     }
 
     public List<Location> getSpawnLocations() {
-        List<Location> locations = new ArrayList<>();
         if (!isLoaded()) {
-            return locations;
-        }
-
-        List<String> spawnStrings = getLocations().getStringList(KEY_SPAWNS);
-        for (String locationString : spawnStrings) {
-            Location loc = LocationUtil.fromString(getWorld(), locationString);
-            if (loc != null) {
-                locations.add(loc);
-            }
+            return new ArrayList<>();
         }
-        return locations;
+        return getMetadata().spawns(world);
     }
 
-    public void addSpawnLocation(Location location) {
+    public synchronized void addSpawnLocation(Location location) {
         List<String> spawns = getLocations().getStringList(KEY_SPAWNS);
         // Updated to use constant and new LocationUtil method name
         spawns.add(LocationUtil.toString(location));
         getLocations().set(KEY_SPAWNS, spawns);
-    }
-
-    private ConfigurationSection getCoreSection() {
-        return dataFile.getConfigurationSection(KEY_CORE) != null ? dataFile.getConfigurationSection(KEY_CORE) : dataFile.createSection(KEY_CORE);
+        reparse();
     }
 
     private ConfigurationSection getLocations() {
+        getMetadata(); // Make sure the file has been read
         return dataFile.getConfigurationSection(KEY_LOCATIONS) != null ? dataFile.getConfigurationSection(KEY_LOCATIONS) : dataFile.createSection(KEY_LOCATIONS);
     }
 
-    public BoundingBox getBounds() {
-        ConfigurationSection min = getLocations().getConfigurationSection(KEY_MIN);
-        ConfigurationSection max = getLocations().getConfigurationSection(KEY_MAX);
+    /**
+     * Replaces the metadata after an edit, without going back to the file.
+     */
+    private void reparse() {
+        this.metadata = MapMetadata.parse(dataFile, plugin.getLogger());
+    }
 
-        if (min == null || max == null) {
-            return new BoundingBox(0, 0, 0, 0, 0, 0); // Return empty box on error
-        }
-        return new BoundingBox(
-            min.getDouble("x"), min.getDouble("y"), min.getDouble("z"),
-            max.getDouble("x"), max.getDouble("y"), max.getDouble("z")
-        );
+    /**
+     * @return A copy of the map's playable area.
+     */
+    public BoundingBox getBounds() {
+        return getMetadata().bounds();
     }
 
-    public void setBounds(BoundingBox bounds) {
+    public synchronized void setBounds(BoundingBox bounds) {
         ConfigurationSection locations = getLocations();
         locations.set("min.x", bounds.getMinX());
         locations.set("min.y", bounds.getMinY());
@@ -273,12 +356,18 @@ public class LocalGameMap implements GameMap, Comparable<LocalGameMap> {
         locations.set("max.x", bounds.getMaxX());
         locations.set("max.y", bounds.getMaxY());
         locations.set("max.z", bounds.getMaxZ());
+        reparse();
     }
 
-    public void saveDataFile() {
-        File targetFile = new File(srcWorldFolder, "data.yml");
+    public synchronized void saveDataFile() {
+        if (dataFile == null) {
+            return; // Never read, so never edited
+        }
+
         try {
-            dataFile.save(targetFile);
+            dataFile.save(dataYmlFile);
+            // Our own save is not a change to pick up
+            this.dataFileModified = dataYmlFile.lastModified();
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to save data.yml for map '" + getName() + "'!", e);
         }
@@ -0,0 +1,453 @@
+package dev.thomashanson.wizards.map;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.BlockVector;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+
+/**
+ * Scans a square area of a world for everything a map creator needs to fill in a map's
+ * {@code data.yml}: the extent of the build, which blocks it uses, where its chests and
+ * spawners are, and how its blocks are spread over the height of the world.
+ * <p>
+ * Chunks are only ever touched from the main thread, where a {@link ChunkSnapshot} is taken
+ * of a few of them each tick. The snapshots are scanned on a pool of worker threads. Taking
+ * snapshots pauses whenever too many are waiting to be scanned, so memory use stays bounded
+ * however large the area is. Sections the snapshot reports as empty are skipped without
+ * reading a single block, which rules out most of a typical floating map.
+ * <p>
+ * Chunks that have never been generated are skipped rather than generated.
+ */
+public final class MapAnalyzer {
+
+    /** How many chunks are loaded and snapshotted per tick. */
+    private static final int SNAPSHOTS_PER_TICK = 16;
+
+    /** How often progress is reported while the analysis runs. */
+    private static final long PROGRESS_INTERVAL_MILLIS = 2000;
+
+    private static final Material[] MATERIALS = Material.values();
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Receives updates from a running analysis, always on the main thread.
+     */
+    public interface ProgressListener {
+
+        /**
+         * @param scanned The number of chunks scanned or skipped so far.
+         * @param total   The number of chunks in the area.
+         * @param bounds  The extent of all blocks found so far, or {@code null} if none have been.
+         */
+        void onProgress(int scanned, int total, @Nullable BoundingBox bounds);
+
+        /**
+         * @param report     The finished report.
+         * @param reportFile Where the report was written, or {@code null} if it could not be.
+         */
+        void onComplete(Report report, @Nullable File reportFile);
+    }
+
+    private final WizardsPlugin plugin;
+    private final World world;
+    private final int minChunkX, minChunkZ, chunksWide, totalChunks;
+    private final int minHeight, maxHeight;
+
+    private final ExecutorService workers;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger scanned = new AtomicInteger();
+
+    private final Report report;
+    private int nextChunk;
+
+    /** Completes once the analysis is over, however it ended. */
+    private final CompletableFuture<Report> done = new CompletableFuture<>();
+    private BukkitTask task;
+    private long lastProgress = System.currentTimeMillis();
+    private volatile boolean saving;
+
+    /**
+     * @param plugin  The main plugin instance.
+     * @param world   The world to scan.
+     * @param centerX The block X coordinate at the center of the area.
+     * @param centerZ The block Z coordinate at the center of the area.
+     * @param radius  How far the area reaches from the center, in blocks. Rounded out to whole chunks.
+     */
+    public MapAnalyzer(WizardsPlugin plugin, World world, int centerX, int centerZ, int radius) {
+        this.plugin = plugin;
+        this.world = world;
+
+        this.minChunkX = (centerX - radius) >> 4;
+        this.minChunkZ = (centerZ - radius) >> 4;
+        this.chunksWide = ((centerX + radius) >> 4) - minChunkX + 1;
+        int chunksLong = ((centerZ + radius) >> 4) - minChunkZ + 1;
+        this.totalChunks = chunksWide * chunksLong;
+
+        this.minHeight = world.getMinHeight();
+        this.maxHeight = world.getMaxHeight();
+        this.report = new Report(world.getName(), minHeight, maxHeight);
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.maxInFlight = threads * 4;
+
+        AtomicInteger threadId = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Wizards-Map-Analyze-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the analysis. Must be called from the main thread.
+     *
+     * @param listener Receives progress and the finished report.
+     * @return Completes with the report once it has been delivered, or exceptionally if the
+     * analysis failed or was stopped. Either way the worker threads have been shut down.
+     */
+    public CompletableFuture<Report> start(ProgressListener listener) {
+        long start = System.nanoTime();
+
+        this.task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                try {
+                    tick(listener, start);
+                } catch (RuntimeException e) {
+                    stop(e);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+
+        return done;
+    }
+
+    private void tick(ProgressListener listener, long start) {
+        takeSnapshots();
+
+        long now = System.currentTimeMillis();
+        if (now - lastProgress >= PROGRESS_INTERVAL_MILLIS) {
+            lastProgress = now;
+            listener.onProgress(scanned.get(), totalChunks, report.getBounds());
+        }
+
+        if (nextChunk < totalChunks || inFlight.get() > 0) return;
+
+        saving = true;
+        task.cancel();
+        workers.shutdown();
+        report.finish(System.nanoTime() - start);
+        listener.onProgress(totalChunks, totalChunks, report.getBounds());
+
+        // Writing the report is the last bit of I/O; keep it off the main thread too
+        CompletableFuture.supplyAsync(this::saveReport).thenAccept(file -> {
+            try {
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    try {
+                        listener.onComplete(report, file);
+                        done.complete(report);
+                    } catch (RuntimeException e) {
+                        done.completeExceptionally(e);
+                    }
+                });
+            } catch (IllegalPluginAccessException e) {
+                // The plugin was disabled while the report was being written
+                done.completeExceptionally(new CancellationException(e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * @return Whether the analysis is still going. An analysis whose task was cancelled
+     * from outside, such as by the plugin being disabled, is stopped here.
+     */
+    public boolean isRunning() {
+        if (done.isDone()) return false;
+
+        if (!saving && task != null && task.isCancelled()) {
+            stop(new CancellationException("The analysis task was cancelled"));
+            return false;
+        }
+        return true;
+    }
+
+    private void stop(Throwable cause) {
+        if (task != null) task.cancel();
+        workers.shutdownNow();
+        done.completeExceptionally(cause);
+    }
+
+    /**
+     * Snapshots the next few chunks and hands them to the workers, unless too many are
+     * already waiting.
+     */
+    private void takeSnapshots() {
+        int taken = 0;
+
+        while (taken < SNAPSHOTS_PER_TICK && nextChunk < totalChunks && inFlight.get() < maxInFlight) {
+            int chunkX = minChunkX + nextChunk % chunksWide;
+            int chunkZ = minChunkZ + nextChunk / chunksWide;
+            nextChunk++;
+
+            if (!world.isChunkGenerated(chunkX, chunkZ)) {
+                report.ungeneratedChunks.incrementAndGet();
+                scanned.incrementAndGet();
+                continue;
+            }
+
+            ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+            taken++;
+            inFlight.incrementAndGet();
+
+            workers.execute(() -> {
+                try {
+                    report.merge(scan(snapshot));
+                } catch (RuntimeException e) {
+                    plugin.getLogger().log(Level.WARNING, String.format("Failed to analyze chunk %d, %d.", snapshot.getX(), snapshot.getZ()), e);
+                } finally {
+                    scanned.incrementAndGet();
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Scans one chunk. Runs on a worker thread and only reads the snapshot.
+     */
+    private Report scan(ChunkSnapshot snapshot) {
+        Report chunk = new Report(world.getName(), minHeight, maxHeight);
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+        int sections = (maxHeight - minHeight) >> 4;
+
+        for (int section = 0; section < sections; section++) {
+            // Counted from the bottom of the world, like the snapshot's own sections
+            if (snapshot.isSectionEmpty(section)) {
+                chunk.emptySections++;
+                continue;
+            }
+            chunk.scannedSections++;
+
+            int sectionMinY = minHeight + (section << 4);
+            for (int y = sectionMinY; y < sectionMinY + 16; y++) {
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        Material type = snapshot.getBlockType(x, y, z);
+                        if (type.isAir()) continue;
+
+                        chunk.add(type, baseX + x, y, baseZ + z);
+                    }
+                }
+            }
+        }
+
+        chunk.scannedChunks = 1;
+        return chunk;
+    }
+
+    @Nullable
+    private File saveReport() {
+        File folder = new File(plugin.getDataFolder(), "analysis");
+        File file = new File(folder, String.format("%s-%s.yml", world.getName(), LocalDateTime.now().format(FILE_TIMESTAMP)));
+
+        try {
+            folder.mkdirs();
+            report.toYaml().save(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, String.format("Failed to save map analysis to '%s'.", file.getName()), e);
+            return null;
+        }
+    }
+
+    /**
+     * What an analysis found. While the analysis runs, workers merge their chunks into it
+     * under its lock; once it is finished it is only read.
+     */
+    public static final class Report {
+
+        private static final Comparator<BlockVector> REPORT_ORDER = Comparator
+                .comparingInt(BlockVector::getBlockY)
+                .thenComparingInt(BlockVector::getBlockX)
+                .thenComparingInt(BlockVector::getBlockZ);
+
+        private final String worldName;
+        private final int minHeight;
+
+        private final long[] blockCounts = new long[MATERIALS.length];
+        private final long[] layerCounts;
+        private final List<BlockVector> chests = new ArrayList<>();
+        private final List<BlockVector> spawners = new ArrayList<>();
+
+        private int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+        private int scannedChunks;
+        private final AtomicInteger ungeneratedChunks = new AtomicInteger();
+        private long scannedSections, emptySections;
+        private long elapsedNanos;
+
+        private Report(String worldName, int minHeight, int maxHeight) {
+            this.worldName = worldName;
+            this.minHeight = minHeight;
+            this.layerCounts = new long[maxHeight - minHeight];
+        }
+
+        private void add(Material type, int x, int y, int z) {
+            blockCounts[type.ordinal()]++;
+            layerCounts[y - minHeight]++;
+
+            if (x < minX) minX = x;
+            if (y < minY) minY = y;
+            if (z < minZ) minZ = z;
+            if (x > maxX) maxX = x;
+            if (y > maxY) maxY = y;
+            if (z > maxZ) maxZ = z;
+
+            if (type == Material.CHEST || type == Material.TRAPPED_CHEST) {
+                chests.add(new BlockVector(x, y, z));
+            } else if (type == Material.SPAWNER) {
+                spawners.add(new BlockVector(x, y, z));
+            }
+        }
+
+        private synchronized void merge(Report chunk) {
+            for (int i = 0; i < blockCounts.length; i++) {
+                blockCounts[i] += chunk.blockCounts[i];
+            }
+            for (int i = 0; i < layerCounts.length; i++) {
+                layerCounts[i] += chunk.layerCounts[i];
+            }
+            chests.addAll(chunk.chests);
+            spawners.addAll(chunk.spawners);
+
+            minX = Math.min(minX, chunk.minX);
+            minY = Math.min(minY, chunk.minY);
+            minZ = Math.min(minZ, chunk.minZ);
+            maxX = Math.max(maxX, chunk.maxX);
+            maxY = Math.max(maxY, chunk.maxY);
+            maxZ = Math.max(maxZ, chunk.maxZ);
+
+            scannedChunks += chunk.scannedChunks;
+            scannedSections += chunk.scannedSections;
+            emptySections += chunk.emptySections;
+        }
+
+        private synchronized void finish(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+
+            // Workers finish in any order; sort so reports of the same map compare cleanly
+            chests.sort(REPORT_ORDER);
+            spawners.sort(REPORT_ORDER);
+        }
+
+        /**
+         * @return The extent of every non-air block found, from the lowest to the highest
+         * block corner, or {@code null} if none were found.
+         */
+        @Nullable
+        public synchronized BoundingBox getBounds() {
+            if (minX > maxX) return null;
+            return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+        }
+
+        public synchronized int getScannedChunks() { return scannedChunks; }
+        public int getUngeneratedChunks() { return ungeneratedChunks.get(); }
+        public synchronized long getScannedSections() { return scannedSections; }
+        public synchronized long getEmptySections() { return emptySections; }
+        public synchronized long getElapsedNanos() { return elapsedNanos; }
+
+        public synchronized List<BlockVector> getChests() { return Collections.unmodifiableList(new ArrayList<>(chests)); }
+        public synchronized List<BlockVector> getSpawners() { return Collections.unmodifiableList(new ArrayList<>(spawners)); }
+
+        /**
+         * @return The number of non-air blocks found.
+         */
+        public synchronized long getTotalBlocks() {
+            long total = 0;
+            for (long count : blockCounts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Lays the report out for saving: the scan totals, the bounds, a histogram of block
+         * types from most to least common, the chest and spawner positions, and the number
+         * of blocks on each Y level that has any. Chest positions use the same format as
+         * {@code locations.chests} in {@code data.yml}, so they can be copied straight over.
+         */
+        private synchronized YamlConfiguration toYaml() {
+            YamlConfiguration yaml = new YamlConfiguration();
+            yaml.set("world", worldName);
+            yaml.set("generated", LocalDateTime.now().toString());
+
+            ConfigurationSection scan = yaml.createSection("scan");
+            scan.set("chunks", scannedChunks);
+            scan.set("ungenerated-chunks", ungeneratedChunks.get());
+            scan.set("sections", scannedSections);
+            scan.set("empty-sections", emptySections);
+            scan.set("millis", elapsedNanos / 1_000_000);
+
+            if (minX <= maxX) {
+                yaml.set("bounds.min.x", minX);
+                yaml.set("bounds.min.y", minY);
+                yaml.set("bounds.min.z", minZ);
+                yaml.set("bounds.max.x", maxX);
+                yaml.set("bounds.max.y", maxY);
+                yaml.set("bounds.max.z", maxZ);
+            }
+
+            List<Material> used = new ArrayList<>();
+            for (Material material : MATERIALS) {
+                if (blockCounts[material.ordinal()] > 0) used.add(material);
+            }
+            used.sort((a, b) -> Long.compare(blockCounts[b.ordinal()], blockCounts[a.ordinal()]));
+
+            ConfigurationSection blocks = yaml.createSection("blocks");
+            for (Material material : used) {
+                blocks.set(material.name(), blockCounts[material.ordinal()]);
+            }
+
+            yaml.set("chests", chests.stream().map(Report::format).toList());
+            yaml.set("spawners", spawners.stream().map(Report::format).toList());
+
+            ConfigurationSection heights = yaml.createSection("height-profile");
+            for (int i = 0; i < layerCounts.length; i++) {
+                if (layerCounts[i] > 0) heights.set(String.valueOf(minHeight + i), layerCounts[i]);
+            }
+            return yaml;
+        }
+
+        private static String format(BlockVector position) {
+            return String.format("%d,%d,%d", position.getBlockX(), position.getBlockY(), position.getBlockZ());
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package dev.thomashanson.wizards.map;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.game.mode.WizardsMode;
+
+/**
+ * A compact binary index of every map folder, so maps can be listed, filtered by mode and
+ * picked without opening each map's {@code data.yml}.
+ * <p>
+ * Each entry carries a checksum of its folder, built from the path, size and modification
+ * time of every file in it. On startup only folders whose checksum has changed, and folders
+ * that are new, have their {@code data.yml} parsed again; everything else comes straight
+ * from the index file. Folders that have gone away are dropped.
+ * <p>
+ * The chest count is the number of chests the map lists under {@code locations.chests};
+ * maps that leave chests to be found by scanning count as zero.
+ */
+public final class MapCatalog {
+
+    /** The index file, kept next to the map folders. */
+    public static final String FILE_NAME = "catalog.bin";
+
+    private static final int MAGIC = 0x575A4D43; // "WZMC"
+    private static final int VERSION = 1;
+
+    /**
+     * What the catalog knows about one map folder.
+     *
+     * @param folder     The name of the map's folder.
+     * @param checksum   The folder's checksum when this entry was built.
+     * @param name       The display name of the map.
+     * @param authors    The map's authors.
+     * @param modes      The game modes the map supports.
+     * @param bounds     The playable area.
+     * @param spawnCount The number of player spawn points.
+     * @param chestCount The number of chests listed in {@code data.yml}.
+     */
+    public record Entry(String folder, long checksum, String name, List<String> authors, Set<WizardsMode> modes,
+                        BoundingBox bounds, int spawnCount, int chestCount) {
+
+        public Entry {
+            authors = List.copyOf(authors);
+            modes = Collections.unmodifiableSet(modes.isEmpty() ? EnumSet.noneOf(WizardsMode.class) : EnumSet.copyOf(modes));
+            bounds = bounds.clone();
+        }
+
+        @Override
+        public BoundingBox bounds() {
+            return bounds.clone();
+        }
+    }
+
+    private final File mapsFolder;
+    private final File indexFile;
+    private final Logger logger;
+
+    private List<Entry> entries = List.of();
+    private int rebuilt;
+    private long buildMillis;
+
+    /**
+     * @param mapsFolder The folder holding one sub-folder per map.
+     * @param logger     Where to report parse and I/O problems.
+     */
+    public MapCatalog(File mapsFolder, Logger logger) {
+        this.mapsFolder = mapsFolder;
+        this.indexFile = new File(mapsFolder, FILE_NAME);
+        this.logger = logger;
+    }
+
+    /**
+     * Brings the catalog up to date with the maps folder, re-parsing only changed and new
+     * maps, and writes the index back if anything changed.
+     *
+     * @return Every map in the folder, sorted by folder name.
+     */
+    public List<Entry> refresh() {
+        long start = System.currentTimeMillis();
+
+        Map<String, Entry> cached = read();
+        File[] directories = mapsFolder.listFiles(File::isDirectory);
+        if (directories == null) {
+            directories = new File[0];
+        }
+        Arrays.sort(directories, Comparator.comparing(File::getName));
+
+        List<Entry> refreshed = new ArrayList<>(directories.length);
+        int changed = 0;
+
+        for (File directory : directories) {
+            long checksum;
+            try {
+                checksum = checksum(directory.toPath());
+            } catch (IOException e) {
+                logger.log(Level.WARNING, String.format("Failed to checksum map folder '%s'; skipping it.", directory.getName()), e);
+                continue;
+            }
+
+            Entry entry = cached.get(directory.getName());
+            if (entry == null || entry.checksum() != checksum) {
+                entry = build(directory, checksum);
+                changed++;
+            }
+            refreshed.add(entry);
+        }
+
+        // Dropped folders leave the index stale too
+        if (changed > 0 || refreshed.size() != cached.size()) {
+            write(refreshed);
+        }
+
+        this.entries = List.copyOf(refreshed);
+        this.rebuilt = changed;
+        this.buildMillis = System.currentTimeMillis() - start;
+        return entries;
+    }
+
+    /**
+     * @return Every map from the last {@link #refresh()}.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @param folder The name of a map folder.
+     * @return The map's entry, or {@code null} if the catalog has none.
+     */
+    @Nullable
+    public Entry getEntry(String folder) {
+        for (Entry entry : entries) {
+            if (entry.folder().equals(folder)) return entry;
+        }
+        return null;
+    }
+
+    /** @return How many maps the last refresh had to parse again. */
+    public int getRebuilt() { return rebuilt; }
+
+    /** @return How long the last refresh took, in milliseconds. */
+    public long getBuildMillis() { return buildMillis; }
+
+    private Entry build(File directory, long checksum) {
+        File dataYmlFile = new File(directory, "data.yml");
+        YamlConfiguration data = dataYmlFile.exists() ? YamlConfiguration.loadConfiguration(dataYmlFile) : new YamlConfiguration();
+        MapMetadata metadata = MapMetadata.parse(data, logger);
+
+        return new Entry(directory.getName(), checksum, metadata.name(), metadata.authors(), metadata.modes(),
+                metadata.bounds(), metadata.spawns().size(), metadata.chestHints().size());
+    }
+
+    /**
+     * Checksums a map folder from the path, size and modification time of each file in it.
+     * File contents are never read, so this stays cheap for large worlds.
+     */
+    static long checksum(Path folder) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] longBytes = new byte[Long.BYTES];
+
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile).sorted()::iterator) {
+                crc.update(folder.relativize(path).toString().getBytes(StandardCharsets.UTF_8));
+                update(crc, longBytes, Files.size(path));
+                update(crc, longBytes, Files.getLastModifiedTime(path).toMillis());
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, byte[] buffer, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[i] = (byte) (value >>> (56 - i * 8));
+        }
+        crc.update(buffer);
+    }
+
+    /**
+     * Reads the index file.
+     *
+     * @return The entries by folder name; empty if there is no usable index.
+     */
+    private Map<String, Entry> read() {
+        Map<String, Entry> cached = new HashMap<>();
+        if (!indexFile.isFile()) {
+            return cached;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.info("Map catalog is from an older version; rebuilding it.");
+                return cached;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String folder = in.readUTF();
+                long checksum = in.readLong();
+                String name = in.readUTF();
+
+                int authorCount = in.readInt();
+                List<String> authors = new ArrayList<>(authorCount);
+                for (int a = 0; a < authorCount; a++) {
+                    authors.add(in.readUTF());
+                }
+
+                int modeCount = in.readInt();
+                Set<WizardsMode> modes = EnumSet.noneOf(WizardsMode.class);
+                for (int m = 0; m < modeCount; m++) {
+                    String mode = in.readUTF();
+                    try {
+                        modes.add(WizardsMode.valueOf(mode));
+                    } catch (IllegalArgumentException e) {
+                        // A mode that no longer exists; the map is simply not offered for it
+                    }
+                }
+
+                BoundingBox bounds = new BoundingBox(in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble(), in.readDouble());
+
+                cached.put(folder, new Entry(folder, checksum, name, authors, modes, bounds, in.readInt(), in.readInt()));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read the map catalog; rebuilding it.", e);
+            cached.clear();
+        }
+        return cached;
+    }
+
+    private void write(List<Entry> entries) {
+        Path target = indexFile.toPath();
+        Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+
+                for (Entry entry : entries) {
+                    out.writeUTF(entry.folder());
+                    out.writeLong(entry.checksum());
+                    out.writeUTF(entry.name());
+
+                    out.writeInt(entry.authors().size());
+                    for (String author : entry.authors()) {
+                        out.writeUTF(author);
+                    }
+
+                    // By name, so reordering the enum never shifts a map into the wrong mode
+                    out.writeInt(entry.modes().size());
+                    for (WizardsMode mode : entry.modes()) {
+                        out.writeUTF(mode.name());
+                    }
+
+                    BoundingBox bounds = entry.bounds;
+                    out.writeDouble(bounds.getMinX());
+                    out.writeDouble(bounds.getMinY());
+                    out.writeDouble(bounds.getMinZ());
+                    out.writeDouble(bounds.getMaxX());
+                    out.writeDouble(bounds.getMaxY());
+                    out.writeDouble(bounds.getMaxZ());
+
+                    out.writeInt(entry.spawnCount());
+                    out.writeInt(entry.chestCount());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write the map catalog; it will be rebuilt on the next start.", e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Nothing more to do
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package dev.thomashanson.wizards.map;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+import dev.thomashanson.wizards.game.scheduler.TickTimings;
+import dev.thomashanson.wizards.util.FileUtil;
+
+/**
+ * Keeps ready-to-load copies of map worlds, so starting a game only has to create the world.
+ * <p>
+ * Each map that has been asked for keeps up to {@code maps.pool.copies-per-map} copies,
+ * made on a background I/O thread. Taking a copy refills the pool for that map straight
+ * away. Used copies are handed back once their world is unloaded and deleted on a separate,
+ * low-priority thread, so cleanup never competes with staging or the server itself.
+ * <p>
+ * Every copy this pool knows about, whether pooled, in use or waiting to be deleted, counts
+ * towards {@code maps.pool.max-disk-mb}. A refill that would go over it is put off until
+ * enough old copies have been deleted. Before a map's first copy, its source world is
+ * measured on the copy thread so that copy is budgeted as well.
+ * <p>
+ * Apart from the copy and delete tasks themselves, this class is only used from the main thread.
+ */
+public final class MapInstancePool {
+
+    /** Marks a folder as a map copy. Left-over copies from a previous run are deleted on startup. */
+    static final String INSTANCE_MARKER = "_active_";
+
+    private final WizardsPlugin plugin;
+    private final int copiesPerMap;
+    private final long maxDiskBytes;
+
+    private final ExecutorService copyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Wizards-Map-IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService cleanupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Wizards-Map-Cleanup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private final Map<LocalGameMap, Deque<CompletableFuture<File>>> pools = new HashMap<>();
+
+    /** The last measured size of each map's copy, used to budget the next one. */
+    private final Map<LocalGameMap, Long> mapSizes = new ConcurrentHashMap<>();
+    private final Set<LocalGameMap> measuring = ConcurrentHashMap.newKeySet();
+    private final Map<File, Long> instanceSizes = new ConcurrentHashMap<>();
+    private final AtomicLong diskBytes = new AtomicLong();
+    private volatile boolean refillDeferred;
+
+    private final TickTimings stagingTimings = new TickTimings();
+    private long hits, waits, misses, deferredRefills;
+
+    /**
+     * @param plugin The main plugin instance.
+     */
+    public MapInstancePool(WizardsPlugin plugin) {
+        this.plugin = plugin;
+        this.copiesPerMap = Math.max(0, plugin.getConfig().getInt("maps.pool.copies-per-map", 1));
+        this.maxDiskBytes = plugin.getConfig().getLong("maps.pool.max-disk-mb", 4096) * 1024 * 1024;
+
+        // List them now, so copies made from here on can never be mistaken for left-overs
+        File[] leftovers = LocalGameMap.getInstanceDirectory().listFiles(file ->
+                file.isDirectory() && file.getName().contains(INSTANCE_MARKER) && Bukkit.getWorld(file.getName()) == null);
+
+        if (leftovers != null && leftovers.length > 0) {
+            cleanupExecutor.execute(() -> deleteLeftoverInstances(leftovers));
+        }
+    }
+
+    /**
+     * Tops up a map's pool to {@code maps.pool.copies-per-map} copies in the background.
+     *
+     * @param map The map to stage copies of.
+     */
+    public void fill(LocalGameMap map) {
+        Deque<CompletableFuture<File>> pool = pools.computeIfAbsent(map, k -> new ArrayDeque<>());
+
+        while (pool.size() < copiesPerMap) {
+            Long measured = mapSizes.get(map);
+            if (measured == null) {
+                // The first copy needs a budget too; fill again once the source is measured
+                measureSource(map);
+                return;
+            }
+            long estimate = measured;
+
+            if (maxDiskBytes > 0 && diskBytes.get() + estimate > maxDiskBytes) {
+                // Try again once cleanup has made room
+                deferredRefills++;
+                refillDeferred = true;
+                return;
+            }
+
+            diskBytes.addAndGet(estimate);
+            long start = System.nanoTime();
+
+            pool.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    File folder = map.createInstance();
+                    long bytes = FileUtil.size(folder.toPath());
+
+                    mapSizes.put(map, bytes);
+                    instanceSizes.put(folder, bytes);
+                    diskBytes.addAndGet(bytes - estimate);
+
+                    recordStaging(System.nanoTime() - start);
+                    return folder;
+
+                } catch (IOException e) {
+                    diskBytes.addAndGet(-estimate);
+                    plugin.getLogger().log(Level.WARNING, String.format("Failed to stage a copy of map '%s'.", map.getName()), e);
+                    throw new CompletionException(e);
+                }
+            }, copyExecutor));
+        }
+    }
+
+    /**
+     * Takes a staged copy of a map, waiting for one that is still being copied, and starts
+     * staging a replacement.
+     *
+     * @param map The map to load.
+     * @return The copy's folder, or {@code null} if no copy was staged or staging failed.
+     */
+    @Nullable
+    public File acquire(LocalGameMap map) {
+        Deque<CompletableFuture<File>> pool = pools.get(map);
+        CompletableFuture<File> instance = pool == null ? null : pool.poll();
+
+        File folder = null;
+        if (instance == null) {
+            misses++;
+        } else {
+            if (instance.isDone()) {
+                hits++;
+            } else {
+                waits++;
+                plugin.getLogger().info(String.format("Waiting for a staged copy of '%s' to finish...", map.getName()));
+            }
+
+            try {
+                folder = instance.join();
+            } catch (CompletionException | CancellationException e) {
+                // Already logged by the copy task
+                misses++;
+            }
+        }
+
+        fill(map);
+        return folder;
+    }
+
+    /**
+     * Hands back a used copy once its world has been unloaded. It is deleted on the
+     * low-priority cleanup thread.
+     *
+     * @param folder The copy's folder.
+     */
+    public void release(File folder) {
+        cleanupExecutor.execute(() -> {
+            delete(folder);
+
+            Long bytes = instanceSizes.remove(folder);
+            if (bytes != null) {
+                diskBytes.addAndGet(-bytes);
+            }
+
+            if (refillDeferred && plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, this::retryDeferredRefills);
+            }
+        });
+    }
+
+    /**
+     * Stops staging, deletes every pooled copy and waits for outstanding deletions.
+     * Called once, when the plugin is disabled.
+     */
+    public void shutdown() {
+        copyExecutor.shutdown();
+        await(copyExecutor, "map copies to finish");
+
+        for (Deque<CompletableFuture<File>> pool : pools.values()) {
+            for (CompletableFuture<File> instance : pool) {
+                if (instance.isDone() && !instance.isCompletedExceptionally()) {
+                    release(instance.join());
+                }
+            }
+        }
+        pools.clear();
+
+        cleanupExecutor.shutdown();
+        await(cleanupExecutor, "map copies to be deleted");
+    }
+
+    /**
+     * Measures a map's source world on the copy thread, ahead of its first copy.
+     */
+    private void measureSource(LocalGameMap map) {
+        if (!measuring.add(map)) return;
+
+        copyExecutor.execute(() -> {
+            long bytes = 0;
+            try {
+                bytes = map.measureSource();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, String.format("Failed to measure map '%s'; its first copy is not budgeted.", map.getName()), e);
+            }
+
+            mapSizes.putIfAbsent(map, bytes);
+            measuring.remove(map);
+
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> fill(map));
+            }
+        });
+    }
+
+    private void retryDeferredRefills() {
+        if (!refillDeferred) return;
+        refillDeferred = false;
+
+        for (LocalGameMap map : pools.keySet()) {
+            fill(map);
+        }
+    }
+
+    private void recordStaging(long nanos) {
+        // The timings are main-thread only, like every other TickTimings
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> stagingTimings.record(nanos));
+        }
+    }
+
+    private void deleteLeftoverInstances(File[] leftovers) {
+        for (File leftover : leftovers) {
+            plugin.getLogger().info(String.format("Deleting left-over map copy '%s'.", leftover.getName()));
+            delete(leftover);
+        }
+    }
+
+    private void delete(File folder) {
+        try {
+            FileUtil.delete(folder.toPath());
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, String.format("Failed to delete map copy '%s'.", folder.getName()), e);
+        }
+    }
+
+    private void await(ExecutorService executor, String description) {
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning(String.format("Timed out waiting for %s.", description));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return How long each copy took to stage, from request to ready. */
+    public TickTimings getStagingTimings() { return stagingTimings; }
+
+    /** @return Loads served by a copy that was already staged. */
+    public long getHits() { return hits; }
+
+    /** @return Loads that had to wait for a copy still being staged. */
+    public long getWaits() { return waits; }
+
+    /** @return Loads with no usable staged copy, which copied the map on the spot. */
+    public long getMisses() { return misses; }
+
+    /** @return Refills put off because they would have gone over the disk ceiling. */
+    public long getDeferredRefills() { return deferredRefills; }
+
+    /** @return The fraction of loads served straight from the pool, from 0 to 1. */
+    public double getHitRate() {
+        long total = hits + waits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getDiskBytes() { return diskBytes.get(); }
+    public long getMaxDiskBytes() { return maxDiskBytes; }
+
+    /** @return The number of copies currently pooled or being staged, over all maps. */
+    public int getPooledCopies() {
+        int total = 0;
+        for (Deque<CompletableFuture<File>> pool : pools.values()) {
+            total += pool.size();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,182 @@
+package dev.thomashanson.wizards.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
+
+import dev.thomashanson.wizards.game.mode.WizardsMode;
+import dev.thomashanson.wizards.util.LocationUtil;
+
+/**
+ * Everything read from a map's {@code data.yml}, parsed once.
+ * <p>
+ * Locations are stored without a world, since they are parsed before the map's world
+ * is loaded. Accessors for mutable Bukkit types return copies, so a record can be shared
+ * freely and is only ever replaced, never changed.
+ *
+ * @param name        The display name of the map.
+ * @param authors     The map's authors.
+ * @param modes       The game modes the map supports.
+ * @param bounds      The playable area.
+ * @param graceBounds The playable area expanded by {@link #GRACE_DISTANCE} on every side.
+ * @param spawns      The player spawn points.
+ * @param spectator   The spectator spawn point, or {@code null} if none is set.
+ * @param chestHints  Block positions of pre-placed chests, if the map lists them.
+ */
+public record MapMetadata(String name, List<String> authors, Set<WizardsMode> modes, BoundingBox bounds, BoundingBox graceBounds,
+                          List<Location> spawns, @Nullable Location spectator, List<Vector> chestHints) {
+
+    /** How far outside its bounds a player may go before being sent back. */
+    public static final double GRACE_DISTANCE = 20;
+
+    private static final String KEY_CORE = "core";
+    private static final String KEY_LOCATIONS = "locations";
+    private static final String KEY_NAME = "name";
+    private static final String KEY_AUTHORS = "authors";
+    private static final String KEY_MODES = "modes";
+    private static final String KEY_MIN = "min";
+    private static final String KEY_MAX = "max";
+    private static final String KEY_SPAWNS = "spawns";
+    private static final String KEY_SPECTATOR = "spectator";
+    private static final String KEY_CHESTS = "chests";
+
+    public MapMetadata {
+        authors = List.copyOf(authors);
+        modes = Collections.unmodifiableSet(modes.isEmpty() ? EnumSet.noneOf(WizardsMode.class) : EnumSet.copyOf(modes));
+        bounds = bounds.clone();
+        graceBounds = graceBounds.clone();
+        spawns = spawns.stream().map(Location::clone).toList();
+        spectator = spectator == null ? null : spectator.clone();
+        chestHints = chestHints.stream().map(Vector::clone).toList();
+    }
+
+    /**
+     * Parses the metadata from a loaded {@code data.yml}.
+     *
+     * @param data   The file's contents.
+     * @param logger Where to report invalid values.
+     * @return The parsed metadata. Missing values fall back to empty ones.
+     */
+    public static MapMetadata parse(ConfigurationSection data, Logger logger) {
+        ConfigurationSection core = section(data, KEY_CORE);
+        ConfigurationSection locations = section(data, KEY_LOCATIONS);
+
+        String name = core.getString(KEY_NAME, "Unknown Map");
+
+        Set<WizardsMode> modes = EnumSet.noneOf(WizardsMode.class);
+        String modesString = core.getString(KEY_MODES);
+        if (modesString != null && !modesString.isEmpty()) {
+            for (String mode : modesString.split(",")) {
+                try {
+                    modes.add(WizardsMode.valueOf(mode.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    logger.warning("Invalid mode '" + mode + "' in data.yml for map '" + name + "'.");
+                }
+            }
+        }
+
+        BoundingBox bounds;
+        ConfigurationSection min = locations.getConfigurationSection(KEY_MIN);
+        ConfigurationSection max = locations.getConfigurationSection(KEY_MAX);
+        if (min == null || max == null) {
+            bounds = new BoundingBox(0, 0, 0, 0, 0, 0); // Empty box on error
+        } else {
+            bounds = new BoundingBox(
+                min.getDouble("x"), min.getDouble("y"), min.getDouble("z"),
+                max.getDouble("x"), max.getDouble("y"), max.getDouble("z")
+            );
+        }
+
+        List<Location> spawns = new ArrayList<>();
+        for (String spawn : locations.getStringList(KEY_SPAWNS)) {
+            Location location = LocationUtil.fromString(spawn);
+            if (location != null) {
+                spawns.add(location);
+            }
+        }
+
+        List<Vector> chestHints = new ArrayList<>();
+        for (String chest : locations.getStringList(KEY_CHESTS)) {
+            Location location = LocationUtil.fromString(chest);
+            if (location != null) {
+                chestHints.add(new Vector(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+            }
+        }
+
+        return new MapMetadata(name, core.getStringList(KEY_AUTHORS), modes, bounds, bounds.clone().expand(GRACE_DISTANCE),
+                spawns, LocationUtil.fromString(locations.getString(KEY_SPECTATOR)), chestHints);
+    }
+
+    private static ConfigurationSection section(ConfigurationSection parent, String key) {
+        ConfigurationSection section = parent.getConfigurationSection(key);
+        return section != null ? section : parent.createSection(key);
+    }
+
+    @Override
+    public BoundingBox bounds() {
+        return bounds.clone();
+    }
+
+    @Override
+    public BoundingBox graceBounds() {
+        return graceBounds.clone();
+    }
+
+    @Override
+    public List<Location> spawns() {
+        return spawns.stream().map(Location::clone).toList();
+    }
+
+    @Override
+    @Nullable
+    public Location spectator() {
+        return spectator == null ? null : spectator.clone();
+    }
+
+    @Override
+    public List<Vector> chestHints() {
+        return chestHints.stream().map(Vector::clone).toList();
+    }
+
+    /**
+     * @return {@code true} if the point is inside the bounds plus the grace distance.
+     */
+    public boolean isInsideGrace(double x, double y, double z) {
+        return graceBounds.contains(x, y, z);
+    }
+
+    /**
+     * @return The spawn points placed in a world.
+     */
+    public List<Location> spawns(World world) {
+        List<Location> placed = new ArrayList<>(spawns.size());
+        for (Location spawn : spawns) {
+            Location location = spawn.clone();
+            location.setWorld(world);
+            placed.add(location);
+        }
+        return placed;
+    }
+
+    /**
+     * @return The spectator point placed in a world, or {@code null} if none is set.
+     */
+    @Nullable
+    public Location spectator(World world) {
+        if (spectator == null) return null;
+
+        Location location = spectator.clone();
+        location.setWorld(world);
+        return location;
+    }
+}
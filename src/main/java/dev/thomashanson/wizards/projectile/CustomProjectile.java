@@ -1,6 +1,8 @@
 package dev.thomashanson.wizards.projectile;
 
+import org.bukkit.Location;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.LivingEntity;
 import org.jetbrains.annotations.Nullable;
 
@@ -16,7 +18,9 @@ public interface CustomProjectile {
      *
      * @param hitEntity The entity that was hit, or null.
      * @param hitBlock  The block that was hit, or null.
+     * @param impact    The exact point of impact, or where the projectile was when it expired.
+     * @param face      The face of the block or entity bounding box that was hit, or null if it expired.
      * @param data      The projectile's data object for context.
      */
-    void onCollide(@Nullable LivingEntity hitEntity, @Nullable Block hitBlock, ProjectileData data);
+    void onCollide(@Nullable LivingEntity hitEntity, @Nullable Block hitBlock, Location impact, @Nullable BlockFace face, ProjectileData data);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package dev.thomashanson.wizards.projectile;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Item;
+import org.bukkit.util.Vector;
+
+/**
+ * A projectile backed by a real dropped {@link Item}. The server's own entity physics
+ * moves it and the entity tracker shows it to players, so {@link #advance(Vector)} has
+ * nothing to do.
+ */
+final class ItemProjectileBody implements ProjectileBody {
+
+    private final Item item;
+
+    ItemProjectileBody(Item item) {
+        this.item = item;
+    }
+
+    @Override
+    public UUID getUniqueId() {
+        return item.getUniqueId();
+    }
+
+    @Override
+    public Location getLocation() {
+        return item.getLocation();
+    }
+
+    @Override
+    public Vector getCenter() {
+        return item.getBoundingBox().getCenter();
+    }
+
+    @Override
+    public Vector getNextMotion() {
+        // The item applies gravity to its velocity and then moves by it, later this tick.
+        Vector motion = item.getVelocity();
+        if (item.hasGravity()) {
+            motion.setY(motion.getY() - SweptCollision.ITEM_GRAVITY);
+        }
+        return motion;
+    }
+
+    @Override
+    public boolean isOnGround() {
+        return item.isOnGround();
+    }
+
+    @Override
+    public boolean isValid() {
+        return item.isValid() && !item.isDead();
+    }
+
+    @Override
+    public void advance(Vector motion) {
+        // Moved by the server's entity physics
+    }
+
+    @Override
+    public void remove() {
+        if (item.isValid()) {
+            item.remove();
+        }
+    }
+}
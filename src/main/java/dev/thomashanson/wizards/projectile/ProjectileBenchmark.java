@@ -0,0 +1,140 @@
+package dev.thomashanson.wizards.projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.bukkit.util.BoundingBox;
+
+/**
+ * Compares the swept collision test against the old per-tick sampler on synthetic shots.
+ * <p>
+ * Each trial fires a straight shot at a player-sized box from a random position, aimed
+ * somewhere around it. The true result is the analytic intersection of the whole path with
+ * the box. The old sampler checks the projectile's position once per tick, as
+ * {@code ProjectileManager} used to; the swept test checks each tick's segment. Only the
+ * collision maths is timed; the world queries around it are the same for both.
+ * <p>
+ * Touches nothing in the world, so it can run off the main thread.
+ */
+public final class ProjectileBenchmark {
+
+    /** Projectile speeds tested by default, in blocks per tick. */
+    public static final double[] DEFAULT_SPEEDS = { 0.5, 1.0, 2.0, 3.0, 5.0, 8.0 };
+
+    private static final double PLAYER_WIDTH = 0.6;
+    private static final double PLAYER_HEIGHT = 1.8;
+    private static final double HITBOX_EXPANSION = 0.2;
+    private static final double SHOT_DISTANCE = 24.0;
+    private static final double AIM_SPREAD = 1.0;
+
+    private ProjectileBenchmark() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Runs the benchmark for each speed.
+     *
+     * @param speeds The projectile speeds to test, in blocks per tick.
+     * @param trials The number of shots to fire at each speed.
+     * @param seed   The random seed, so runs can be repeated.
+     * @return One result per speed, in the same order.
+     */
+    public static List<Result> run(double[] speeds, int trials, long seed) {
+        List<Result> results = new ArrayList<>(speeds.length);
+        double inflate = SweptCollision.ITEM_HALF_WIDTH + HITBOX_EXPANSION;
+
+        for (double speed : speeds) {
+            SplittableRandom random = new SplittableRandom(seed);
+            BoundingBox target = new BoundingBox(-PLAYER_WIDTH / 2, 0, -PLAYER_WIDTH / 2, PLAYER_WIDTH / 2, PLAYER_HEIGHT, PLAYER_WIDTH / 2)
+                    .expand(inflate);
+
+            int ticks = (int) Math.ceil(SHOT_DISTANCE * 2 / speed);
+            int trueHits = 0, sampledHits = 0, sweptHits = 0, falseHits = 0;
+            double sampledError = 0, sweptError = 0;
+            long sampledNanos = 0, sweptNanos = 0;
+
+            for (int trial = 0; trial < trials; trial++) {
+                // A random start on a sphere around the target, aimed near its centre
+                double yaw = random.nextDouble(Math.PI * 2);
+                double pitch = random.nextDouble(-0.5, 0.5);
+                double sx = Math.cos(yaw) * Math.cos(pitch) * SHOT_DISTANCE;
+                double sy = PLAYER_HEIGHT / 2 + Math.sin(pitch) * SHOT_DISTANCE;
+                double sz = Math.sin(yaw) * Math.cos(pitch) * SHOT_DISTANCE;
+
+                double ax = random.nextDouble(-AIM_SPREAD, AIM_SPREAD);
+                double ay = PLAYER_HEIGHT / 2 + random.nextDouble(-AIM_SPREAD, AIM_SPREAD);
+                double az = random.nextDouble(-AIM_SPREAD, AIM_SPREAD);
+
+                double dx = ax - sx, dy = ay - sy, dz = az - sz;
+                double scale = speed / Math.sqrt(dx * dx + dy * dy + dz * dz);
+                dx *= scale; dy *= scale; dz *= scale;
+
+                // Ground truth: the whole path at once
+                double truth = SweptCollision.intersect(target, sx, sy, sz, dx * ticks, dy * ticks, dz * ticks);
+                boolean hit = truth >= 0;
+                double trueDistance = truth * ticks * speed;
+                if (hit) trueHits++;
+
+                // Old sampler: one point per tick, after the projectile has moved
+                long begin = System.nanoTime();
+                int sampledTick = -1;
+                for (int tick = 1; tick <= ticks; tick++) {
+                    if (target.contains(sx + dx * tick, sy + dy * tick, sz + dz * tick)) {
+                        sampledTick = tick;
+                        break;
+                    }
+                }
+                sampledNanos += System.nanoTime() - begin;
+
+                // Swept: one segment per tick, before the projectile moves
+                begin = System.nanoTime();
+                double sweptDistance = -1;
+                for (int tick = 0; tick < ticks; tick++) {
+                    double fraction = SweptCollision.intersect(target, sx + dx * tick, sy + dy * tick, sz + dz * tick, dx, dy, dz);
+                    if (fraction >= 0) {
+                        sweptDistance = (tick + fraction) * speed;
+                        break;
+                    }
+                }
+                sweptNanos += System.nanoTime() - begin;
+
+                if (sampledTick > 0) {
+                    if (hit) {
+                        sampledHits++;
+                        sampledError += sampledTick * speed - trueDistance;
+                    } else {
+                        falseHits++;
+                    }
+                }
+                if (sweptDistance >= 0 && hit) {
+                    sweptHits++;
+                    sweptError += Math.abs(sweptDistance - trueDistance);
+                }
+            }
+
+            results.add(new Result(speed, trials, trueHits, sampledHits, sweptHits, falseHits,
+                    sampledHits == 0 ? 0 : sampledError / sampledHits,
+                    sweptHits == 0 ? 0 : sweptError / sweptHits,
+                    sampledNanos, sweptNanos));
+        }
+        return results;
+    }
+
+    /**
+     * The outcome of the benchmark at one projectile speed.
+     *
+     * @param speed        The projectile speed, in blocks per tick.
+     * @param trials       The number of shots fired.
+     * @param trueHits     The shots whose path actually crosses the target.
+     * @param sampledHits  The true hits found by the old per-tick sampler.
+     * @param sweptHits    The true hits found by the swept test.
+     * @param falseHits    Hits reported by the sampler that the path does not have (always 0).
+     * @param sampledError The mean distance, in blocks, between the sampled and true impact points.
+     * @param sweptError   The mean distance, in blocks, between the swept and true impact points.
+     * @param sampledNanos Total time spent in the sampler.
+     * @param sweptNanos   Total time spent in the swept test.
+     */
+    public record Result(double speed, int trials, int trueHits, int sampledHits, int sweptHits, int falseHits,
+                         double sampledError, double sweptError, long sampledNanos, long sweptNanos) {}
+}
@@ -0,0 +1,63 @@
+package dev.thomashanson.wizards.projectile;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+/**
+ * The physical side of a projectile: what moves it, and what players see.
+ * <p>
+ * The {@link ProjectileManager} drives every body the same way each tick: it asks for
+ * the motion the body is about to make, sweeps that segment for collisions, and then
+ * lets the body {@link #advance(Vector) advance}. Spells never see the body; they only
+ * deal with {@link ProjectileData} and {@link CustomProjectile}.
+ *
+ * @see ItemProjectileBody
+ * @see VirtualProjectileBody
+ */
+interface ProjectileBody {
+
+    /**
+     * @return A unique ID for the projectile, used to track it.
+     */
+    UUID getUniqueId();
+
+    /**
+     * @return The projectile's current position (the bottom centre of its bounding box).
+     */
+    Location getLocation();
+
+    /**
+     * @return The centre of the projectile's bounding box.
+     */
+    Vector getCenter();
+
+    /**
+     * @return How far the projectile is about to move this tick, gravity included.
+     */
+    Vector getNextMotion();
+
+    /**
+     * @return {@code true} if the projectile is resting on a block.
+     */
+    boolean isOnGround();
+
+    /**
+     * @return {@code false} once the projectile has been removed by anything.
+     */
+    boolean isValid();
+
+    /**
+     * Moves the projectile along the motion returned by {@link #getNextMotion()}, once
+     * the manager has found nothing in the way.
+     *
+     * @param motion The motion to apply.
+     */
+    void advance(Vector motion);
+
+    /**
+     * Removes the projectile from the world, or from its viewers' screens.
+     */
+    void remove();
+}
@@ -11,17 +11,23 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.Nullable;
 
 import dev.thomashanson.wizards.game.Wizards;
 
 /**
  * A data container holding all state and configuration for a custom projectile.
  * This object is created using its inner Builder class.
+ * <p>
+ * Depending on the projectile backend, the projectile is either a real dropped
+ * {@link Item} or a packet-only virtual projectile, in which case
+ * {@link #getItemEntity()} is {@code null}.
  */
 public class ProjectileData {
 
     private final Wizards game;
     private final Item itemEntity;
+    private final ProjectileBody body;
     private final LivingEntity thrower;
     private final CustomProjectile callback;
 
@@ -43,6 +49,7 @@ public class ProjectileData {
     private ProjectileData(Builder builder) {
         this.game = builder.game;
         this.itemEntity = builder.itemEntity;
+        this.body = builder.body;
         this.thrower = builder.thrower;
         this.callback = builder.callback;
         this.hitPlayer = builder.hitPlayer;
@@ -62,7 +69,10 @@ public class ProjectileData {
 
     // Getters
     public Wizards getGame() { return game; }
+    /** @return The projectile's item entity, or {@code null} for a virtual projectile. */
+    @Nullable
     public Item getItemEntity() { return itemEntity; }
+    ProjectileBody getBody() { return body; }
     public LivingEntity getThrower() { return thrower; }
     public CustomProjectile getCallback() { return callback; }
     public boolean canHitPlayer() { return hitPlayer; }
@@ -90,6 +100,7 @@ public class ProjectileData {
         private final LivingEntity thrower;
         private final CustomProjectile callback;
         private Item itemEntity;
+        private ProjectileBody body;
 
         private boolean hitPlayer = true;
         private boolean hitBlock = true;
@@ -114,6 +125,18 @@ public class ProjectileData {
             return this;
         }
 
+        /**
+         * Sets a non-entity body for the projectile, used by the virtual backend.
+         */
+        Builder body(ProjectileBody body) {
+            this.body = Objects.requireNonNull(body, "Body cannot be null");
+            return this;
+        }
+
+        boolean canHitBlock() {
+            return hitBlock;
+        }
+
         public Builder hitPlayer(boolean hitPlayer) {
             this.hitPlayer = hitPlayer;
             return this;
@@ -157,7 +180,12 @@ public class ProjectileData {
         }
 
         public ProjectileData build() {
+            if (this.body != null) {
+                return new ProjectileData(this);
+            }
+
             Objects.requireNonNull(this.itemEntity, "Item entity must be set before building");
+            this.body = new ItemProjectileBody(this.itemEntity);
             this.itemEntity.setOwner(this.thrower.getUniqueId());
             this.itemEntity.setThrower(this.thrower.getUniqueId());
             this.itemEntity.setPickupDelay(Integer.MAX_VALUE);
@@ -5,12 +5,11 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
-import org.bukkit.GameMode;
 import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
-import org.bukkit.entity.LivingEntity;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
@@ -18,34 +17,57 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
 import dev.thomashanson.wizards.WizardsPlugin;
 
 public class ProjectileManager implements Listener {
 
+    /** How far below a grounded projectile to look for the block it is resting on. */
+    private static final double GROUND_PROBE_DEPTH = 0.05;
+
     private final WizardsPlugin plugin;
     private BukkitTask updateTask;
     private final Map<UUID, ProjectileData> activeProjectiles = new ConcurrentHashMap<>();
 
+    /** Whether projectiles are simulated as packets instead of spawned as items. */
+    private final boolean virtualProjectiles;
+    private final double virtualViewDistance;
+
     public ProjectileManager(WizardsPlugin plugin) {
         this.plugin = plugin;
+        this.virtualProjectiles = "virtual".equalsIgnoreCase(plugin.getConfig().getString("projectiles.backend", "item"));
+        this.virtualViewDistance = plugin.getConfig().getDouble("projectiles.view-distance", 64.0);
         this.plugin.getServer().getPluginManager().registerEvents(this, plugin);
         startUpdates();
     }
 
     /**
      * Launches a projectile.
+     * <p>
+     * With the {@code virtual} projectile backend, no entity is spawned: the projectile is
+     * simulated by this manager and shown to nearby players with packets only.
      *
      * @param spawnLocation The location to spawn the item.
      * @param itemStack     The ItemStack representing the projectile.
      * @param velocity      The initial velocity of the projectile.
      * @param dataBuilder   A pre-configured ProjectileData.Builder.
-     * @return The launched Item entity.
+     * @return The launched Item entity, or null if the projectile is virtual.
      */
+    @Nullable
     public Item launchProjectile(Location spawnLocation, ItemStack itemStack, Vector velocity, ProjectileData.Builder dataBuilder) {
         if (spawnLocation.getWorld() == null) {
             throw new IllegalArgumentException("Spawn location must have a valid world.");
         }
+
+        if (virtualProjectiles) {
+            VirtualProjectileBody body = new VirtualProjectileBody(plugin, spawnLocation, itemStack, velocity,
+                    !dataBuilder.canHitBlock(), virtualViewDistance);
+
+            activeProjectiles.put(body.getUniqueId(), dataBuilder.body(body).build());
+            return null;
+        }
+
         Item item = spawnLocation.getWorld().dropItem(spawnLocation, itemStack);
         item.setVelocity(velocity);
         item.setGravity(true);
@@ -99,53 +121,54 @@ public class ProjectileManager implements Listener {
 
     /**
      * Contains all logic for updating a single projectile for one tick.
-     * This was moved out of the old ProjectileData class.
+     * <p>
+     * The segment the projectile is about to move along this tick is swept against
+     * entities and blocks (see {@link SweptCollision}), so fast projectiles cannot skip
+     * over a target between two ticks, and callbacks get the exact impact point and face.
      * @return True if the projectile hit something or expired and should be removed.
      */
     private boolean tickSingleProjectile(ProjectileData data) {
         data.incrementTicks();
-        Item itemEntity = data.getItemEntity();
-        Location loc = itemEntity.getLocation();
+        ProjectileBody body = data.getBody();
 
-        if (!itemEntity.isValid() || itemEntity.isDead()) {
+        if (!body.isValid()) {
             return true; // Remove if invalid
         }
 
+        Location loc = body.getLocation();
+
         if (data.getTrailParticle() != null) {
             loc.getWorld().spawnParticle(data.getTrailParticle(), loc, 1, 0, 0, 0, 0);
         }
 
-        // Performant entity collision check
-        if (data.canHitPlayer()) {
-            for (LivingEntity nearby : loc.getNearbyLivingEntities(2.0)) {
-                if (data.getIgnoredEntities().contains(nearby.getUniqueId())) continue;
-                if (nearby instanceof Player p && p.getGameMode() == GameMode.SPECTATOR) continue;
-
-                if (nearby.getBoundingBox().expand(data.getHitboxExpansion()).overlaps(itemEntity.getBoundingBox())) {
-                    playImpactEffect(data, nearby.getEyeLocation());
-                    data.getCallback().onCollide(nearby, null, data);
-                    itemEntity.remove();
-                    return true;
-                }
-            }
+        Vector motion = body.getNextMotion();
+        SweptCollision.ProjectileHit hit = SweptCollision.sweep(data, loc.getWorld(), body.getCenter(), motion);
+
+        if (hit != null) {
+            playImpactEffect(data, hit.point());
+            data.getCallback().onCollide(hit.entity(), hit.block(), hit.point(), hit.face(), data);
+            body.remove();
+            return true;
         }
 
-        // Block collision check
-        if (data.canHitBlock() && itemEntity.isOnGround()) {
+        // A projectile already resting on the ground has nothing left to sweep.
+        if (data.canHitBlock() && body.isOnGround()) {
+            Block ground = loc.clone().subtract(0, GROUND_PROBE_DEPTH, 0).getBlock();
             playImpactEffect(data, loc);
-            data.getCallback().onCollide(null, loc.getBlock(), data);
-            itemEntity.remove();
+            data.getCallback().onCollide(null, ground, loc, BlockFace.UP, data);
+            body.remove();
             return true;
         }
 
         // Expiration check
         if (data.getTicksLived() >= data.getMaxTicksLived()) {
             playImpactEffect(data, loc);
-            data.getCallback().onCollide(null, null, data);
-            itemEntity.remove();
+            data.getCallback().onCollide(null, null, loc, null, data);
+            body.remove();
             return true;
         }
 
+        body.advance(motion);
         return false; // Keep projectile alive for next tick
     }
 
@@ -164,9 +187,7 @@ public class ProjectileManager implements Listener {
 
     public void clearAllProjectiles() {
         for (ProjectileData data : activeProjectiles.values()) {
-            if (data.getItemEntity() != null && data.getItemEntity().isValid()) {
-                data.getItemEntity().remove();
-            }
+            data.getBody().remove();
         }
         activeProjectiles.clear();
     }
@@ -0,0 +1,242 @@
+package dev.thomashanson.wizards.projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftReflection;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+
+import dev.thomashanson.wizards.WizardsPlugin;
+
+/**
+ * A projectile that exists only as packets.
+ * <p>
+ * No entity is added to the world: the server simulates the projectile's position and
+ * velocity itself, with the same gravity and drag as a dropped item, and shows it to
+ * nearby players with ProtocolLib spawn, teleport and destroy packets. This skips the
+ * item's merge checks, physics, entity tracking and spawn events entirely.
+ * <p>
+ * Players who come into range while the projectile is in flight are picked up every
+ * {@value #VIEWER_REFRESH_TICKS} ticks.
+ */
+final class VirtualProjectileBody implements ProjectileBody {
+
+    // Counts down from well below the hologram entity IDs, far away from real entities
+    private static final AtomicInteger ID_COUNTER = new AtomicInteger(Integer.MAX_VALUE - 1_000_000);
+
+    /** Entity metadata index of the "no gravity" flag. */
+    private static final int NO_GRAVITY_INDEX = 5;
+
+    /** Entity metadata index of an item entity's stack. */
+    private static final int ITEM_INDEX = 8;
+
+    private static final double ITEM_DRAG = 0.98;
+    private static final int VIEWER_REFRESH_TICKS = 10;
+
+    private final WizardsPlugin plugin;
+    private final ProtocolManager protocolManager;
+
+    private final int entityId = ID_COUNTER.decrementAndGet();
+    private final UUID uniqueId = UUID.randomUUID();
+    private final World world;
+    private final ItemStack itemStack;
+    private final boolean stopsAtBlocks;
+    private final double viewDistanceSquared;
+
+    private final Vector position;
+    private Vector velocity;
+    private boolean onGround;
+    private boolean removed;
+
+    private final List<Player> viewers = new ArrayList<>();
+    private int ticksSinceRefresh;
+
+    /**
+     * @param plugin        The plugin instance.
+     * @param spawnLocation Where the projectile starts.
+     * @param itemStack     The item players see.
+     * @param velocity      The starting velocity, in blocks per tick.
+     * @param stopsAtBlocks Whether blocks should stop the projectile even though it
+     *                      cannot hit them, the way they would stop a real item.
+     * @param viewDistance  How far away players can see the projectile.
+     */
+    VirtualProjectileBody(WizardsPlugin plugin, Location spawnLocation, ItemStack itemStack, Vector velocity,
+                          boolean stopsAtBlocks, double viewDistance) {
+        this.plugin = plugin;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.world = spawnLocation.getWorld();
+        this.itemStack = itemStack.clone();
+        this.position = spawnLocation.toVector();
+        this.velocity = velocity.clone();
+        this.stopsAtBlocks = stopsAtBlocks;
+        this.viewDistanceSquared = viewDistance * viewDistance;
+
+        refreshViewers();
+    }
+
+    @Override
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    @Override
+    public Location getLocation() {
+        return position.toLocation(world);
+    }
+
+    @Override
+    public Vector getCenter() {
+        return position.clone().setY(position.getY() + SweptCollision.ITEM_HALF_WIDTH);
+    }
+
+    @Override
+    public Vector getNextMotion() {
+        return onGround ? new Vector() : velocity.clone().setY(velocity.getY() - SweptCollision.ITEM_GRAVITY);
+    }
+
+    @Override
+    public boolean isOnGround() {
+        return onGround;
+    }
+
+    @Override
+    public boolean isValid() {
+        return !removed;
+    }
+
+    @Override
+    public void advance(Vector motion) {
+        if (removed || onGround) return;
+
+        double length = motion.length();
+        boolean blocked = false;
+
+        if (stopsAtBlocks && length > 0) {
+            Vector center = getCenter();
+            RayTraceResult result = world.rayTraceBlocks(center.toLocation(world), motion.clone().multiply(1.0 / length),
+                    length, FluidCollisionMode.NEVER, true);
+
+            if (result != null) {
+                // Come to rest against the block, like an item would
+                motion = result.getHitPosition().subtract(center);
+                onGround = result.getHitBlockFace() == BlockFace.UP;
+                blocked = true;
+            }
+        }
+
+        position.add(motion);
+        velocity = blocked ? new Vector() : motion.clone().multiply(ITEM_DRAG);
+
+        if (++ticksSinceRefresh >= VIEWER_REFRESH_TICKS) {
+            ticksSinceRefresh = 0;
+            refreshViewers();
+        }
+
+        PacketContainer teleport = createTeleportPacket();
+        for (Player viewer : viewers) {
+            sendPacket(viewer, teleport);
+        }
+    }
+
+    @Override
+    public void remove() {
+        if (removed) return;
+        removed = true;
+
+        PacketContainer destroy = createDestroyPacket();
+        for (Player viewer : viewers) {
+            sendPacket(viewer, destroy);
+        }
+        viewers.clear();
+    }
+
+    private void refreshViewers() {
+        viewers.removeIf(viewer -> !viewer.isOnline() || !viewer.getWorld().equals(world));
+
+        for (Player player : world.getPlayers()) {
+            if (viewers.contains(player)) continue;
+            if (player.getLocation().toVector().distanceSquared(position) > viewDistanceSquared) continue;
+
+            sendPacket(player, createSpawnPacket());
+            sendPacket(player, createMetadataPacket());
+            viewers.add(player);
+        }
+    }
+
+    // --- Packet Creation ---
+
+    private PacketContainer createSpawnPacket() {
+        PacketContainer packet = new PacketContainer(PacketType.Play.Server.SPAWN_ENTITY);
+
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, uniqueId);
+        packet.getEntityTypeModifier().write(0, EntityType.DROPPED_ITEM);
+        packet.getDoubles()
+            .write(0, position.getX())
+            .write(1, position.getY())
+            .write(2, position.getZ());
+
+        return packet;
+    }
+
+    private PacketContainer createMetadataPacket() {
+        PacketContainer packet = new PacketContainer(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+
+        List<WrappedDataValue> dataValues = new ArrayList<>();
+
+        // The server streams every position, so the client must not predict a fall of its own
+        dataValues.add(new WrappedDataValue(NO_GRAVITY_INDEX, WrappedDataWatcher.Registry.get(Boolean.class), true));
+        dataValues.add(new WrappedDataValue(ITEM_INDEX, WrappedDataWatcher.Registry.getItemStackSerializer(false),
+                MinecraftReflection.getMinecraftItemStack(itemStack)));
+
+        packet.getDataValueCollectionModifier().write(0, dataValues);
+        return packet;
+    }
+
+    private PacketContainer createTeleportPacket() {
+        PacketContainer packet = new PacketContainer(PacketType.Play.Server.ENTITY_TELEPORT);
+
+        packet.getIntegers().write(0, entityId);
+        packet.getDoubles()
+            .write(0, position.getX())
+            .write(1, position.getY())
+            .write(2, position.getZ());
+        packet.getBooleans().write(0, onGround);
+
+        return packet;
+    }
+
+    private PacketContainer createDestroyPacket() {
+        PacketContainer packet = new PacketContainer(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntLists().write(0, List.of(entityId));
+        return packet;
+    }
+
+    private void sendPacket(Player player, PacketContainer packet) {
+        if (!player.isOnline()) return;
+        try {
+            protocolManager.sendServerPacket(player, packet);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to send projectile packet to " + player.getName(), e);
+        }
+    }
+}
@@ -9,12 +9,10 @@ import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.util.RayTraceResult;
 
@@ -171,7 +169,7 @@ public final class EntityUtil {
      * @param damage      The initial raw damage amount.
      * @param armorPoints The total armor points of the player.
      * @param toughness   The total armor toughness of the player.
-     * @param epf         The total Enchantment Protection Factor (from Protection enchantments).
+     * @param epf         The total Enchantment Protection Factor, from {@link dev.thomashanson.wizards.damage.ArmorProtectionCache#getEPF}.
      * @return The final damage amount to be dealt.
      */
     public static double calculateDamage(double damage, double armorPoints, double toughness, int epf) {
@@ -180,20 +178,4 @@ public final class EntityUtil {
         // EPF reduces remaining damage by 4% per level, capped at 80% (20 levels)
         return withArmorAndToughness * (1 - (Math.min(20.0, epf) / 25));
     }
-
-    /**
-     * Calculates the total Enchantment Protection Factor (EPF) from a player's armor.
-     *
-     * @param inventory The player's inventory.
-     * @return The total EPF from all equipped armor pieces with the Protection enchantment.
-     */
-    public static int getEPF(PlayerInventory inventory) {
-        int totalEPF = 0;
-        for (ItemStack armorPiece : inventory.getArmorContents()) {
-            if (armorPiece != null) {
-                totalEPF += armorPiece.getEnchantmentLevel(Enchantment.PROTECTION_ENVIRONMENTAL);
-            }
-        }
-        return totalEPF;
-    }
 }
\ No newline at end of file
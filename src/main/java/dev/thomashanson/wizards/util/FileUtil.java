@@ -9,6 +9,8 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Modern utility class for file and directory operations using java.nio.
@@ -27,15 +29,33 @@ public final class FileUtil {
      * @throws IOException If an I/O error occurs.
      */
     public static void copy(Path source, Path target) throws IOException {
+        copy(source, target, path -> true);
+    }
+
+    /**
+     * Recursively copies a file or directory, leaving out anything the filter rejects.
+     *
+     * @param source The source path to copy from.
+     * @param target The destination path to copy to.
+     * @param filter Tests each file and directory below the source; rejected directories are skipped entirely.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static void copy(Path source, Path target, Predicate<Path> filter) throws IOException {
         Files.walkFileTree(source, new SimpleFileVisitor<>() {
             @Override
             public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(source) && !filter.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
                 Files.createDirectories(target.resolve(source.relativize(dir)));
                 return FileVisitResult.CONTINUE;
             }
 
             @Override
             public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!filter.test(file)) {
+                    return FileVisitResult.CONTINUE;
+                }
                 Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
                 return FileVisitResult.CONTINUE;
             }
@@ -67,6 +87,25 @@ public final class FileUtil {
             });
     }
 
+    /**
+     * Totals the size of every file below a path.
+     *
+     * @param path The file or directory to measure.
+     * @return The total size in bytes, or 0 if the path does not exist.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static long size(Path path) throws IOException {
+        if (Files.notExists(path)) {
+            return 0;
+        }
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            return paths.filter(Files::isRegularFile)
+                .mapToLong(p -> p.toFile().length())
+                .sum();
+        }
+    }
+
     /**
      * Convenience overload for {@link #copy(Path, Path)} that accepts {@link File} objects.
      */
@@ -111,25 +111,47 @@ public final class LocationUtil {
      * @return The deserialized {@link Location}, or null if parsing fails.
      */
     public static Location fromString(World world, String input) {
-        if (world == null || input == null || input.isEmpty()) {
+        if (world == null) {
+            return null;
+        }
+
+        Location location = fromString(input);
+        if (location != null) {
+            location.setWorld(world);
+        }
+        return location;
+    }
+
+    /**
+     * Deserializes a location from a string without a world, for coordinates that are
+     * parsed before the world they belong to is loaded.
+     * <p>
+     * A leading world name, as written by {@link #toString(Location)}, is skipped.
+     *
+     * @param input The string from config (format: "x,y,z" or "x,y,z,yaw,pitch", optionally prefixed by "world,").
+     * @return The deserialized {@link Location} with no world set, or null if parsing fails.
+     */
+    public static Location fromString(String input) {
+        if (input == null || input.isEmpty()) {
             return null;
         }
 
         String[] parts = input.split(",");
-        if (parts.length < 3) {
+        int offset = (parts.length == 4 || parts.length == 6) ? 1 : 0;
+        if (parts.length - offset < 3) {
             return null;
         }
 
         try {
-            double x = Double.parseDouble(parts[0]);
-            double y = Double.parseDouble(parts[1]);
-            double z = Double.parseDouble(parts[2]);
+            double x = Double.parseDouble(parts[offset].trim());
+            double y = Double.parseDouble(parts[offset + 1].trim());
+            double z = Double.parseDouble(parts[offset + 2].trim());
 
-            Location location = new Location(world, x, y, z);
+            Location location = new Location(null, x, y, z);
 
-            if (parts.length >= 5) {
-                location.setYaw(Float.parseFloat(parts[3]));
-                location.setPitch(Float.parseFloat(parts[4]));
+            if (parts.length - offset >= 5) {
+                location.setYaw(Float.parseFloat(parts[offset + 3].trim()));
+                location.setPitch(Float.parseFloat(parts[offset + 4].trim()));
             }
             return location;
         } catch (NumberFormatException e) {
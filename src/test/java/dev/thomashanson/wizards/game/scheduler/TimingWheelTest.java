@@ -0,0 +1,103 @@
+package dev.thomashanson.wizards.game.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private long gameTick;
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        gameTick = 0;
+        wheel = new TimingWheel(Logger.getLogger("TimingWheelTest"), () -> gameTick, scheduled -> {});
+    }
+
+    private void advanceTo(long tick) {
+        while (gameTick < tick) {
+            gameTick++;
+            wheel.tick(gameTick);
+        }
+    }
+
+    @Test
+    void callbackCancellingSameSlotSiblingStopsIt() {
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timer[] sibling = new TimingWheel.Timer[1];
+
+        // Each timer goes in at the head of its slot, so the canceller runs first and the
+        // sibling it cancels is the very next timer in the slot
+        wheel.schedule(5, () -> fired.add("other"));
+        sibling[0] = wheel.schedule(5, () -> fired.add("sibling"));
+        wheel.schedule(5, () -> {
+            fired.add("canceller");
+            assertTrue(sibling[0].cancel());
+        });
+        TimingWheel.Timer later = wheel.schedule(10, () -> fired.add("later"));
+
+        assertEquals(4, wheel.getPendingCount());
+        advanceTo(5);
+
+        assertFalse(fired.contains("sibling"));
+        assertTrue(fired.contains("canceller"));
+        assertTrue(fired.contains("other"));
+        assertFalse(sibling[0].isPending());
+        assertEquals(1, wheel.getPendingCount());
+        assertFalse(wheel.isIdle());
+
+        advanceTo(10);
+        assertTrue(fired.contains("later"));
+        assertFalse(later.isPending());
+        assertEquals(0, wheel.getPendingCount());
+        assertTrue(wheel.isIdle());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timer timer = wheel.schedule(3, () -> fired.add("cancelled"));
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        assertEquals(0, wheel.getPendingCount());
+
+        advanceTo(5);
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void timersFireOnTheirDeadlineAcrossLevels() {
+        List<Long> firedAt = new ArrayList<>();
+        long[] delays = { 1, 63, 64, 65, 4095, 4096, 5000 };
+
+        for (long delay : delays) {
+            wheel.schedule(delay, () -> firedAt.add(gameTick));
+        }
+        advanceTo(5000);
+
+        assertEquals(delays.length, firedAt.size());
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(delays[i], firedAt.get(i));
+        }
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void callbackCanScheduleAnotherTimer() {
+        List<Long> firedAt = new ArrayList<>();
+        wheel.schedule(2, () -> wheel.schedule(0, () -> firedAt.add(gameTick)));
+
+        advanceTo(3);
+        assertEquals(List.of(3L), firedAt);
+        assertEquals(0, wheel.getPendingCount());
+    }
+}